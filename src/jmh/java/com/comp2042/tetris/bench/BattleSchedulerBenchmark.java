@@ -0,0 +1,69 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.ai.BotPilot;
+import com.comp2042.tetris.ai.HeuristicEvaluator;
+import com.comp2042.tetris.ai.TetrisBot;
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.multiplayer.BattleScheduler;
+import com.comp2042.tetris.multiplayer.MultiplayerGameManager;
+import com.comp2042.tetris.multiplayer.TargetingMode;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What one shared tick of a bot-played match costs, against the
+ * 16.7 ms a 60 Hz tick is allowed. Bots decide on the same thread, so
+ * this includes their placement searches; a finished match restarts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BattleSchedulerBenchmark {
+
+    @Param({"2", "100"})
+    public int players;
+
+    @Param({"BITBOARD", "MATRIX"})
+    public BoardEngine engine;
+
+    private BattleScheduler scheduler;
+    private long tick;
+
+    @Setup
+    public void setUp() {
+        MultiplayerGameManager match = new MultiplayerGameManager(engine, players, GeneratorType.BAG_7, 42L);
+        scheduler = new BattleScheduler(match, new MediumDifficulty());
+        TetrisBot bot = new TetrisBot(new HeuristicEvaluator());
+        TargetingMode[] modes = TargetingMode.values();
+        for (int player = 1; player <= players; player++) {
+            match.setTargetingMode(player, modes[player % modes.length]);
+            /* 4 ticks an input is a fast human, about 15 inputs a second */
+            scheduler.setPilot(player, new BotPilot(bot, 4));
+        }
+    }
+
+    @Benchmark
+    public long tick() {
+        if (!scheduler.getMatch().isGameInProgress()) {
+            scheduler.restart();
+        }
+        scheduler.onTick(++tick);
+        return scheduler.getLocks();
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.models.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-keypress board work: building the view data (which includes the
+ * ghost) and rotating the live piece, on both engines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixtures.Fill fill;
+
+    @Param({"MATRIX", "BITBOARD"})
+    public BoardEngine engine;
+
+    private TetrisBoard board;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.newBoard(engine);
+        BoardFixtures.load(board, BoardFixtures.cells(fill, 1L));
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public boolean rotateLeftBrick() {
+        /* cycles through the rotations at the spawn point */
+        return board.rotateLeftBrick();
+    }
+}
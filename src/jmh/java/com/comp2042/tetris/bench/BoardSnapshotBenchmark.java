@@ -0,0 +1,68 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.core.BoardState;
+import com.comp2042.tetris.core.TetrisBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and restoring a whole board, as undo, search and rollback do,
+ * against the deep matrix copy it replaces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardSnapshotBenchmark {
+
+    @Param({"MATRIX", "BITBOARD"})
+    public BoardEngine engine;
+
+    private TetrisBoard board;
+    private BoardState state;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.newBoard(engine);
+        BoardFixtures.load(board, BoardFixtures.cells(BoardFixtures.Fill.HALF, 1L));
+        state = board.snapshot();
+    }
+
+    @Benchmark
+    public BoardState snapshotInto() {
+        board.snapshot(state);
+        return state;
+    }
+
+    @Benchmark
+    public BoardState snapshotRestore() {
+        board.snapshot(state);
+        board.restore(state);
+        return state;
+    }
+
+    @Benchmark
+    public int[][] deepCopyMatrix() {
+        int[][] cells = board.getBoardMatrix();
+        int[][] copy = new int[cells.length][];
+        for (int row = 0; row < cells.length; row++) {
+            copy[row] = cells[row].clone();
+        }
+        return copy;
+    }
+}
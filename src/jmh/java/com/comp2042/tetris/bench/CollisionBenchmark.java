@@ -0,0 +1,66 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.collision.CollisionDetector;
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.pieces.RotationTable;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single {@link CollisionDetector#checkCollision} call.
+ *
+ * <p>Each invocation probes the next of 64 precomputed piece positions
+ * so the JIT cannot fold the answer into a constant.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int PROBES = 64;
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixtures.Fill fill;
+
+    private int[][] matrix;
+    private final int[][][] shapes = new int[PROBES][][];
+    private final int[] xs = new int[PROBES];
+    private final int[] ys = new int[PROBES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        matrix = BoardFixtures.cells(fill, 1L);
+        Random random = new Random(2L);
+        TetrominoType[] types = TetrominoType.values();
+        for (int i = 0; i < PROBES; i++) {
+            RotationTable table = TetrominoFactory.createTetromino(types[random.nextInt(types.length)]).getRotationTable();
+            shapes[i] = table.get(random.nextInt(table.size())).getShape();
+            xs[i] = random.nextInt(10) - 1;
+            ys[i] = random.nextInt(21);
+        }
+    }
+
+    @Benchmark
+    public boolean checkCollision() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return CollisionDetector.checkCollision(matrix, shapes[i], xs[i], ys[i]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.events.GameEventBus;
+import com.comp2042.tetris.events.GameEventListener;
+import com.comp2042.tetris.events.GameEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * What publishing a game event costs the game thread, with listeners
+ * that keep up and with ones that stall for a millisecond per batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEventBusBenchmark {
+
+    @Param({"0", "1000000"})
+    public long stallNanos;
+
+    @Param({"1", "4"})
+    public int listeners;
+
+    private GameEventBus bus;
+    private long tick;
+
+    @Setup
+    public void setUp() {
+        bus = new GameEventBus();
+        for (int i = 0; i < listeners; i++) {
+            bus.subscribe("bench-" + i, new GameEventListener() {
+                private long sum;
+
+                @Override
+                public void onEvent(GameEventType type, int player, int value, int detail, long tick) {
+                    sum += value + detail + tick;
+                }
+
+                @Override
+                public void onBatchEnd() {
+                    if (stallNanos > 0) {
+                        LockSupport.parkNanos(stallNanos);
+                    }
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        bus.close();
+    }
+
+    @Benchmark
+    public long publish() {
+        bus.publish(GameEventType.PIECE_LOCKED, 1, 3, 1, tick);
+        return tick++;
+    }
+}
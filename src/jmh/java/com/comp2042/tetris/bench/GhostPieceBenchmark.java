@@ -0,0 +1,79 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.core.BoardStatistics;
+import com.comp2042.tetris.core.GhostPieceCalculator;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.RotationTable;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Point;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ghost landing row: stepping with collision checks versus reading the
+ * surface heights.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostPieceBenchmark {
+
+    private static final int PROBES = 64;
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixtures.Fill fill;
+
+    private int[][] matrix;
+    private BoardStatistics statistics;
+    private final RotationState[] rotations = new RotationState[PROBES];
+    private final Point[] spawns = new Point[PROBES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        TetrisBoard board = BoardFixtures.newBoard(BoardEngine.MATRIX);
+        BoardFixtures.load(board, BoardFixtures.cells(fill, 1L));
+        matrix = board.getBoardMatrix();
+        statistics = board.getStatistics();
+
+        Random random = new Random(3L);
+        TetrominoType[] types = TetrominoType.values();
+        for (int i = 0; i < PROBES; i++) {
+            RotationTable table = TetrominoFactory.createTetromino(types[random.nextInt(types.length)]).getRotationTable();
+            rotations[i] = table.get(random.nextInt(table.size()));
+            /* spawn row, anywhere the whole piece fits horizontally */
+            spawns[i] = new Point(random.nextInt(7), 2);
+        }
+    }
+
+    @Benchmark
+    public int calculateGhostY() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return GhostPieceCalculator.calculateGhostY(matrix, rotations[i].getShape(), spawns[i]);
+    }
+
+    @Benchmark
+    public int calculateLandingY() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return GhostPieceCalculator.calculateLandingY(statistics, rotations[i], spawns[i].x, spawns[i].y);
+    }
+}
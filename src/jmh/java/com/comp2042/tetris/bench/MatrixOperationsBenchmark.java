@@ -0,0 +1,83 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import com.comp2042.tetris.utils.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merge and line-clear primitives, copying versus in-place.
+ *
+ * <p>The fixtures never contain a full row, so the clear benchmarks
+ * measure the scan every lock pays; actual clears are covered by
+ * {@link PieceLifecycleBenchmark}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixtures.Fill fill;
+
+    private int[][] matrix;
+    private RotationState piece;
+    private int pieceX;
+    private int pieceY;
+    private final int[] clearedRows = new int[BoardFixtures.ROWS];
+
+    @Setup
+    public void setUp() {
+        matrix = BoardFixtures.cells(fill, 1L);
+        piece = TetrominoFactory.createTetromino(TetrominoType.T_PIECE).getRotationTable().get(0);
+        /* sits in the free rows above every fixture */
+        pieceX = 3;
+        pieceY = 1;
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, piece.getShape(), pieceX, pieceY);
+    }
+
+    @Benchmark
+    public int mergeInPlace() {
+        MatrixOperations.mergeInPlace(matrix, piece.getShape(), pieceX, pieceY);
+        /* undo so every invocation sees the same board */
+        int[] rows = piece.getCellRows();
+        int[] cols = piece.getCellCols();
+        for (int cell = 0; cell < rows.length; cell++) {
+            matrix[pieceY + rows[cell]][pieceX + cols[cell]] = 0;
+        }
+        return matrix[pieceY + rows[0]][pieceX + cols[0]];
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int clearFullRows() {
+        /* the four rows a piece locked at the bottom would touch */
+        return MatrixOperations.clearFullRows(matrix, BoardFixtures.ROWS - 4, BoardFixtures.ROWS - 1, clearedRows);
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.models.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One piece from spawn to lock: spawn, a few moves with the view data a
+ * renderer would ask for after each, then a hard drop with its clear.
+ *
+ * <p>The board is reloaded before every invocation so the fill level
+ * stays fixed; the reload is not part of the measurement.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceLifecycleBenchmark {
+
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixtures.Fill fill;
+
+    @Param({"MATRIX", "BITBOARD"})
+    public BoardEngine engine;
+
+    private TetrisBoard board;
+    private int[][] cells;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        board = BoardFixtures.newBoard(engine);
+        cells = BoardFixtures.cells(fill, 1L);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBoard() {
+        BoardFixtures.load(board, cells);
+    }
+
+    @Benchmark
+    public ClearRow spawnToLock() {
+        board.createNewBrick();
+        board.getViewData();
+        board.rotateLeftBrick();
+        board.getViewData();
+        board.moveBrickLeft();
+        board.getViewData();
+        board.moveBrickDown();
+        board.getViewData();
+        return board.hardDrop();
+    }
+}
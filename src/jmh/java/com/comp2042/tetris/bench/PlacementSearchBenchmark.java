@@ -0,0 +1,104 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.ai.BotState;
+import com.comp2042.tetris.ai.HeuristicEvaluator;
+import com.comp2042.tetris.ai.PlacementSearch;
+import com.comp2042.tetris.ai.SearchBoard;
+import com.comp2042.tetris.ai.TetrisBot;
+import com.comp2042.tetris.core.BoardFixtures;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.RotationTable;
+import com.comp2042.tetris.pieces.Tetromino;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bot search: raw placement enumeration, a single-piece decision and a
+ * one-piece lookahead with and without the fork-join pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementSearchBenchmark {
+
+    private static final int PROBES = 64;
+
+    @Param({"EMPTY", "HALF"})
+    public BoardFixtures.Fill fill;
+
+    private SearchBoard board;
+    private final RotationTable[] pieces = new RotationTable[PROBES];
+    private final BotState[] states = new BotState[PROBES];
+    private final PlacementSearch search = new PlacementSearch();
+    private TetrisBot greedyBot;
+    private TetrisBot sequentialBot;
+    private TetrisBot parallelBot;
+    private ForkJoinPool pool;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        board = SearchBoard.of(BoardFixtures.cells(fill, 1L));
+        TetrominoType[] types = TetrominoType.values();
+        for (int i = 0; i < PROBES; i++) {
+            Tetromino current = TetrominoFactory.createTetromino(types[i % types.length]);
+            Tetromino next = TetrominoFactory.createTetromino(types[(i * 3 + 1) % types.length]);
+            pieces[i] = current.getRotationTable();
+            states[i] = new BotState(board, current, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y,
+                null, true, List.of(next));
+        }
+
+        pool = new ForkJoinPool();
+        greedyBot = new TetrisBot(new HeuristicEvaluator());
+        sequentialBot = new TetrisBot(new HeuristicEvaluator(), 1, null);
+        parallelBot = new TetrisBot(new HeuristicEvaluator(), 1, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int enumeratePlacements() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return search.search(board, pieces[i], 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y, (rotation, x, y) -> { });
+    }
+
+    @Benchmark
+    public Object decideGreedy() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return greedyBot.decide(states[i]);
+    }
+
+    @Benchmark
+    public Object decideLookaheadSequential() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return sequentialBot.decide(states[i]);
+    }
+
+    @Benchmark
+    public Object decideLookaheadForkJoin() {
+        int i = cursor = (cursor + 1) & (PROBES - 1);
+        return parallelBot.decide(states[i]);
+    }
+}
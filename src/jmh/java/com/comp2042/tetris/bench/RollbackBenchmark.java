@@ -0,0 +1,96 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.multiplayer.MatchState;
+import com.comp2042.tetris.multiplayer.PlayerInputHandler.PlayerAction;
+import com.comp2042.tetris.net.LockstepMatch;
+import com.comp2042.tetris.net.LockstepProtocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One rollback of a two-board versus match: restore the state saved
+ * {@code depth} ticks ago and run those ticks again, saving each one as
+ * a rollback session does. The frames press a key on one tick in four
+ * and end with a hard drop on both boards, so the re-run includes locks.
+ * Budget: well under a millisecond for 8 ticks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollbackBenchmark {
+
+    /* far enough in that both boards have a stack and a score; random
+     * presses top out in about 150 ticks or more
+     */
+    private static final int SETUP_TICKS = 120;
+
+    @Param({"1", "8"})
+    public int depth;
+
+    private LockstepMatch match;
+    private MatchState[] states;
+    private byte[][] frames;
+    private long startTick;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7L);
+        match = new LockstepMatch(7L);
+        for (int tick = 0; tick < SETUP_TICKS; tick++) {
+            match.step(randomFrame(random), randomFrame(random));
+        }
+        if (!match.getMatch().isGameInProgress()) {
+            throw new IllegalStateException("Setup topped out; pick another seed");
+        }
+        states = new MatchState[depth];
+        frames = new byte[2][depth];
+        for (int i = 0; i < depth; i++) {
+            states[i] = match.newState();
+            frames[0][i] = randomFrame(random);
+            frames[1][i] = randomFrame(random);
+        }
+        byte drop = LockstepProtocol.add((byte) 0, PlayerAction.HARD_DROP);
+        frames[0][depth - 1] = drop;
+        frames[1][depth - 1] = drop;
+        startTick = match.getTicks();
+        match.snapshot(states[0]);
+    }
+
+    @Benchmark
+    public long snapshot() {
+        match.snapshot(states[0]);
+        return match.getTicks();
+    }
+
+    @Benchmark
+    public long rollback() {
+        match.restore(states[0], startTick);
+        match.step(frames[0][0], frames[1][0]);
+        for (int i = 1; i < depth; i++) {
+            match.snapshot(states[i]);
+            match.step(frames[0][i], frames[1][i]);
+        }
+        return match.getTicks();
+    }
+
+    private static byte randomFrame(SplittableRandom random) {
+        return random.nextInt(4) != 0 ? 0
+            : LockstepProtocol.add((byte) 0,
+                LockstepProtocol.APPLY_ORDER[random.nextInt(LockstepProtocol.APPLY_ORDER.length)]);
+    }
+}
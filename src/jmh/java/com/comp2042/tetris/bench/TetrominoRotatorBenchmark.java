@@ -0,0 +1,60 @@
+package com.comp2042.tetris.bench;
+
+import com.comp2042.tetris.controllers.TetrominoRotator;
+import com.comp2042.tetris.models.NextShapeInfo;
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rotation lookups. The rotator never touches the board, so these run
+ * per piece type rather than per board fill; rotating on a filled board
+ * is measured in {@link BoardBenchmark#rotateLeftBrick}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TetrominoRotatorBenchmark {
+
+    @Param({"I_PIECE", "O_PIECE", "T_PIECE"})
+    public TetrominoType type;
+
+    private TetrominoRotator rotator;
+
+    @Setup
+    public void setUp() {
+        rotator = new TetrominoRotator();
+        rotator.setBrick(TetrominoFactory.createTetromino(type));
+    }
+
+    @Benchmark
+    public NextShapeInfo getNextShape() {
+        return rotator.getNextShape();
+    }
+
+    @Benchmark
+    public RotationState getNextRotation() {
+        return rotator.getNextRotation();
+    }
+
+    @Benchmark
+    public int[][] getCurrentShape() {
+        return rotator.getCurrentShape();
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.tetris.core;
+
+import java.util.Random;
+
+/**
+ * Reproducible board states for the benchmarks.
+ *
+ * <p>Lives in the core package so it can load cells straight into a
+ * board and recount its statistics, which normal game code never needs
+ * to do.</p>
+ */
+public final class BoardFixtures {
+
+    public static final int ROWS = 24;
+    public static final int COLUMNS = 10;
+
+    /**
+     * How much of the board is filled before a benchmark starts.
+     */
+    public enum Fill {
+        EMPTY(0),
+        HALF(12),
+        /* leaves the four spawn rows and a little headroom free */
+        NEAR_TOP(18);
+
+        private final int filledRows;
+
+        Fill(int filledRows) {
+            this.filledRows = filledRows;
+        }
+
+        public int getFilledRows() {
+            return filledRows;
+        }
+    }
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Builds a board matrix with the bottom rows about 70% filled.
+     *
+     * <p>Every filled row keeps at least one hole so nothing clears on
+     * its own; the same seed always gives the same board.</p>
+     *
+     * @param fill how many rows to fill
+     * @param seed random seed for the cell pattern
+     * @return a new [row][col] matrix
+     */
+    public static int[][] cells(Fill fill, long seed) {
+        Random random = new Random(seed);
+        int[][] cells = new int[ROWS][COLUMNS];
+        for (int row = ROWS - fill.getFilledRows(); row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                if (random.nextInt(10) < 7) {
+                    cells[row][col] = 1 + random.nextInt(7);
+                }
+            }
+            cells[row][random.nextInt(COLUMNS)] = 0;
+        }
+        return cells;
+    }
+
+    /**
+     * Creates a board on the given engine with a fresh piece spawned.
+     *
+     * @param engine board engine to benchmark
+     * @return a board ready to load cells into
+     */
+    public static TetrisBoard newBoard(BoardEngine engine) {
+        TetrisBoard board = engine.create(ROWS, COLUMNS);
+        board.newGame();
+        return board;
+    }
+
+    /**
+     * Overwrites the board's cells and brings its derived state up to date.
+     *
+     * @param board board to load
+     * @param cells matrix from {@link #cells}
+     */
+    public static void load(TetrisBoard board, int[][] cells) {
+        int[][] target = board.getBoardMatrix();
+        for (int row = 0; row < cells.length; row++) {
+            System.arraycopy(cells[row], 0, target[row], 0, cells[row].length);
+        }
+        if (board instanceof BitboardTetrisBoard bitboard) {
+            bitboard.rebuildRowMasks();
+        } else {
+            board.rebuildStatistics();
+        }
+    }
+}
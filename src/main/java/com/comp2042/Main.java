@@ -95,7 +95,7 @@ public class Main extends Application {
             primaryStage.setMinHeight(500);
 
             root.requestFocus();
-            new GameController(c, difficulty);
+            new GameController(c, difficulty).start();
         } catch (Exception e) {
             e.printStackTrace();
         }
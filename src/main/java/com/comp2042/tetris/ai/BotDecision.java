@@ -0,0 +1,55 @@
+package com.comp2042.tetris.ai;
+
+import java.util.List;
+
+/**
+ * What the bot chose to do with the current piece.
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public final class BotDecision {
+
+    private final Placement placement;
+    private final boolean useHold;
+    private final double score;
+    private final List<BotMove> path;
+
+    public BotDecision(Placement placement, boolean useHold, double score, List<BotMove> path) {
+        this.placement = placement;
+        this.useHold = useHold;
+        this.score = score;
+        this.path = List.copyOf(path);
+    }
+
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Whether to hold before moving.
+     *
+     * @return true if the placement is for the piece hold swaps in
+     */
+    public boolean isUseHold() {
+        return useHold;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the moves that take the piece to its placement.
+     *
+     * <p>Starts with {@link BotMove#HOLD} when {@link #isUseHold()} is set.
+     * The piece still has to be locked after the last move, with a hard
+     * drop or by letting gravity do it.</p>
+     *
+     * @return moves in order
+     */
+    public List<BotMove> getPath() {
+        return path;
+    }
+}
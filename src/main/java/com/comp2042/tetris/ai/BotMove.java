@@ -0,0 +1,71 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.Board;
+import com.comp2042.tetris.events.EventType;
+
+/**
+ * One input the bot can send, matching the board's move methods.
+ *
+ * <p>A path found by {@link PlacementSearch} is a list of these, ending
+ * with the piece resting at its placement. The caller then locks it,
+ * usually with a hard drop of zero rows.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public enum BotMove {
+    LEFT(EventType.LEFT) {
+        @Override
+        public boolean applyTo(Board board) {
+            return board.moveBrickLeft();
+        }
+    },
+    RIGHT(EventType.RIGHT) {
+        @Override
+        public boolean applyTo(Board board) {
+            return board.moveBrickRight();
+        }
+    },
+    DOWN(EventType.DOWN) {
+        @Override
+        public boolean applyTo(Board board) {
+            return board.moveBrickDown();
+        }
+    },
+    ROTATE(EventType.ROTATE) {
+        @Override
+        public boolean applyTo(Board board) {
+            return board.rotateLeftBrick();
+        }
+    },
+    HOLD(EventType.HOLD) {
+        @Override
+        public boolean applyTo(Board board) {
+            return board.holdCurrentPiece();
+        }
+    };
+
+    /**
+     * Sends this input to a board.
+     *
+     * @param board board to move the piece on
+     * @return true if the board accepted the move
+     */
+    public abstract boolean applyTo(Board board);
+
+    private final EventType eventType;
+
+    BotMove(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets the input event a player would send for this move.
+     *
+     * @return the matching event type
+     */
+    public EventType getEventType() {
+        return eventType;
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.multiplayer.BattlePilot;
+
+import java.util.List;
+
+/**
+ * Lets the bot play one board of a live match.
+ *
+ * <p>Where {@link SelfPlayGame} plays a whole game in one call, this
+ * hands the bot's path out one input at a time, so the bot shares the
+ * scheduler's ticks with every other board. It decides when a new
+ * piece appears, sends one input every {@code ticksPerMove} ticks and
+ * finishes with a hard drop. If gravity locks the piece first, it
+ * decides again for the next one.</p>
+ *
+ * <p>One pilot per board; the bot itself may be shared, as long as it
+ * has no thread pool of its own that other threads also use.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class BotPilot implements BattlePilot {
+
+    private final TetrisBot bot;
+    private final int ticksPerMove;
+
+    /* the planned inputs for the current piece, or null before deciding */
+    private List<BotMove> path;
+    private int next;
+    private int wait;
+
+    /**
+     * Creates a pilot.
+     *
+     * @param bot bot that picks the placements
+     * @param ticksPerMove ticks between inputs, at least 1
+     */
+    public BotPilot(TetrisBot bot, int ticksPerMove) {
+        if (ticksPerMove <= 0) {
+            throw new IllegalArgumentException("Ticks per move must be positive: " + ticksPerMove);
+        }
+        this.bot = bot;
+        this.ticksPerMove = ticksPerMove;
+    }
+
+    @Override
+    public EventType nextMove(long tick, TetrisBoard board) {
+        if (--wait > 0) {
+            return null;
+        }
+        wait = ticksPerMove;
+        if (path == null) {
+            path = bot.decide(BotState.capture(board)).map(BotDecision::getPath).orElse(List.of());
+            next = 0;
+            /* trailing steps down are left to the hard drop */
+            int end = path.size();
+            while (end > 0 && path.get(end - 1) == BotMove.DOWN) {
+                end--;
+            }
+            path = path.subList(0, end);
+        }
+        return next < path.size() ? path.get(next++).getEventType() : EventType.HARD_DROP;
+    }
+
+    @Override
+    public void pieceLocked() {
+        path = null;
+    }
+}
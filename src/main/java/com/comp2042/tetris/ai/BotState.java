@@ -0,0 +1,118 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.controllers.TetrominoRotator;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.Tetromino;
+import com.comp2042.tetris.pieces.TetrominoGenerator;
+
+import java.awt.Point;
+import java.util.List;
+
+/**
+ * Everything the bot needs to know to pick a move.
+ *
+ * <p>A value snapshot, so the search can run off the game thread while
+ * the real board carries on. {@link #capture} takes one from a live
+ * {@link TetrisBoard}; tests and the self-play tools can also build
+ * one directly.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public final class BotState {
+
+    private final SearchBoard board;
+    private final Tetromino current;
+    private final int rotationIndex;
+    private final int x;
+    private final int y;
+    private final Tetromino held;
+    private final boolean canHold;
+    private final List<Tetromino> preview;
+
+    /**
+     * Creates a state.
+     *
+     * @param board occupancy of the board, without the falling piece
+     * @param current the falling piece
+     * @param rotationIndex its rotation
+     * @param x its column
+     * @param y its row
+     * @param held the held piece, or null if nothing is held
+     * @param canHold whether hold is still available this turn
+     * @param preview upcoming pieces, next first
+     */
+    public BotState(SearchBoard board, Tetromino current, int rotationIndex, int x, int y,
+                    Tetromino held, boolean canHold, List<Tetromino> preview) {
+        this.board = board;
+        this.current = current;
+        this.rotationIndex = rotationIndex;
+        this.x = x;
+        this.y = y;
+        this.held = held;
+        this.canHold = canHold;
+        this.preview = List.copyOf(preview);
+    }
+
+    /**
+     * Takes a snapshot of a live board.
+     *
+     * @param board the game board
+     * @return the state the bot would see right now
+     */
+    public static BotState capture(TetrisBoard board) {
+        TetrominoRotator rotator = board.getTetrominoRotator();
+        Point position = board.getPiecePosition();
+        return new BotState(
+            SearchBoard.of(board.getBoardMatrix()),
+            rotator.getTetromino(),
+            rotator.getCurrentRotationIndex(),
+            position.x,
+            position.y,
+            board.getHeldPiece().orElse(null),
+            board.getHoldPieceManager().canHold(),
+            preview(board.getTetrominoGenerator()));
+    }
+
+    /* everything the generator lets the player see, next first */
+    private static List<Tetromino> preview(TetrominoGenerator generator) {
+        Tetromino[] pieces = new Tetromino[generator.getPreviewSize()];
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = generator.peek(i);
+        }
+        return List.of(pieces);
+    }
+
+    public SearchBoard getBoard() {
+        return board;
+    }
+
+    public Tetromino getCurrent() {
+        return current;
+    }
+
+    public int getRotationIndex() {
+        return rotationIndex;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public Tetromino getHeld() {
+        return held;
+    }
+
+    public boolean canHold() {
+        return canHold;
+    }
+
+    public List<Tetromino> getPreview() {
+        return preview;
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.GameClock;
+
+/**
+ * How one self-play game went.
+ *
+ * <p>Times are in game ticks, not wall time, so a result says the same
+ * thing however fast the machine that produced it was.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-30
+ */
+public final class GameResult {
+
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int pieces;
+    private final long ticks;
+    private final boolean toppedOut;
+    private final double gravity;
+
+    public GameResult(int score, int lines, int level, int pieces, long ticks, boolean toppedOut,
+                      double gravity) {
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.pieces = pieces;
+        this.ticks = ticks;
+        this.toppedOut = toppedOut;
+        this.gravity = gravity;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets how many pieces were locked.
+     *
+     * <p>For a game that topped out this is the piece count at which it
+     * ended.</p>
+     *
+     * @return pieces locked
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Whether the game ended because a piece could not spawn.
+     *
+     * @return false if the game ran to its piece limit
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
+    /**
+     * Gets the speed the game ended at.
+     *
+     * <p>The difficulty's own speed until the first level up, then the
+     * level's, as in the real game.</p>
+     *
+     * @return cells per tick
+     */
+    public double getGravity() {
+        return gravity;
+    }
+
+    /**
+     * Gets the placement rate in game time.
+     *
+     * @return pieces per second at {@link GameClock#TICKS_PER_SECOND}
+     */
+    public double getPiecesPerSecond() {
+        return ticks == 0 ? 0 : pieces * (double) GameClock.TICKS_PER_SECOND / ticks;
+    }
+
+    @Override
+    public String toString() {
+        return "GameResult[score=" + score + ", lines=" + lines + ", pieces=" + pieces
+            + ", toppedOut=" + toppedOut + "]";
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.BoardStatistics;
+
+/**
+ * The classic four-feature linear evaluator.
+ *
+ * <p>Weights aggregate height, cleared lines, holes and bumpiness. The
+ * default weights are the well-known genetically tuned set that clears
+ * lines more or less indefinitely on a standard board with no
+ * lookahead at all, which makes it a good baseline for trying new
+ * evaluators against.</p>
+ *
+ * <p>Boards whose stack reaches the hidden spawn rows are scored as
+ * far worse than anything else, since the next spawn would end the
+ * game.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public final class HeuristicEvaluator implements PlacementEvaluator {
+
+    private static final double DEFAULT_HEIGHT_WEIGHT = -0.510066;
+    private static final double DEFAULT_LINES_WEIGHT = 0.760666;
+    private static final double DEFAULT_HOLES_WEIGHT = -0.35663;
+    private static final double DEFAULT_BUMPINESS_WEIGHT = -0.184483;
+
+    /* the two rows above the visible board where pieces spawn */
+    private static final int HIDDEN_ROWS = 2;
+    private static final double TOP_OUT_SCORE = -1.0e9;
+
+    private final double heightWeight;
+    private final double linesWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+
+    public HeuristicEvaluator() {
+        this(DEFAULT_HEIGHT_WEIGHT, DEFAULT_LINES_WEIGHT, DEFAULT_HOLES_WEIGHT, DEFAULT_BUMPINESS_WEIGHT);
+    }
+
+    public HeuristicEvaluator(double heightWeight, double linesWeight, double holesWeight, double bumpinessWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+    }
+
+    @Override
+    public double evaluate(BoardStatistics board, int linesCleared) {
+        if (board.getMaxHeight() > board.getRowCount() - HIDDEN_ROWS) {
+            return TOP_OUT_SCORE;
+        }
+        return heightWeight * board.getAggregateHeight()
+            + linesWeight * linesCleared
+            + holesWeight * board.getHoleCount()
+            + bumpinessWeight * board.getBumpiness();
+    }
+}
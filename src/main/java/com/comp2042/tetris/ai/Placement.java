@@ -0,0 +1,67 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.Tetromino;
+
+/**
+ * A final resting position for a piece: where it would lock.
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public final class Placement {
+
+    private final Tetromino piece;
+    private final RotationState rotation;
+    private final int x;
+    private final int y;
+
+    public Placement(Tetromino piece, RotationState rotation, int x, int y) {
+        this.piece = piece;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+    }
+
+    public Tetromino getPiece() {
+        return piece;
+    }
+
+    public RotationState getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column of the piece's shape origin.
+     *
+     * @return x as used by the board's piece position
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row of the piece's shape origin.
+     *
+     * @return y as used by the board's piece position
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Places this on a board.
+     *
+     * @param board board to place on; must be the one this was found on
+     * @return the board after the lock and any line clears
+     */
+    public SearchBoard applyTo(SearchBoard board) {
+        return board.place(rotation, x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[rotation=" + rotation.getIndex() + ", x=" + x + ", y=" + y + "]";
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.BoardStatistics;
+
+/**
+ * Scores a board the bot might leave behind. Higher is better.
+ *
+ * <p>Kept to a single method so a tuned or learned evaluator can be
+ * dropped into {@link TetrisBot} as a lambda. Implementations are
+ * called from several threads at once during a lookahead search, so
+ * they must not keep mutable state.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+@FunctionalInterface
+public interface PlacementEvaluator {
+
+    /**
+     * Scores a board.
+     *
+     * @param board surface features of the board after the placement
+     * @param linesCleared lines cleared on the way to this board
+     * @return score, higher is better
+     */
+    double evaluate(BoardStatistics board, int linesCleared);
+}
@@ -0,0 +1,300 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.BoardStatistics;
+import com.comp2042.tetris.core.Zobrist;
+import com.comp2042.tetris.pieces.RotationState;
+
+/**
+ * Immutable board snapshot the bot searches on.
+ *
+ * <p>The search asks "does this piece fit here" hundreds of times per
+ * piece and builds a new board for every placement it scores, so it
+ * cannot use {@code TetrisBoard} with its colours, score and managers.
+ * This is just occupancy: one {@code int} per row with bit {@code c}
+ * set when column {@code c} is filled, the same layout
+ * {@code BitboardTetrisBoard} uses.</p>
+ *
+ * <h2>Statistics</h2>
+ * <p>Implements {@link BoardStatistics} so an evaluator scores a search
+ * board and a live board the same way. The numbers are worked out in a
+ * single pass over the rows the first time any of them is asked for,
+ * then cached; placements that are never scored never pay for them.</p>
+ *
+ * <h2>Hash</h2>
+ * <p>Each board carries the same {@link Zobrist} hash
+ * {@code TetrisBoard.getZobristHash()} gives for the same cells. A
+ * placement XORs in its four cells; only a line clear, which moves
+ * rows, rehashes the board.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public final class SearchBoard implements BoardStatistics {
+
+    /* one int per row, bit 31 stays clear */
+    static final int MAX_COLUMNS = Integer.SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] rowMasks;
+    private final int linesCleared;
+    private final long hash;
+
+    /* filled in by computeStatistics on first use */
+    private int[] heights;
+    private int holes;
+    private int aggregateHeight;
+    private int bumpiness;
+    private int maxHeight;
+    private int filledCells;
+
+    private SearchBoard(int rows, int columns, int[] rowMasks, int linesCleared, long hash) {
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.rowMasks = rowMasks;
+        this.linesCleared = linesCleared;
+        this.hash = hash;
+    }
+
+    /**
+     * Builds a search board from a game matrix.
+     *
+     * @param matrix board cells in [row][col], non-zero when filled
+     * @return snapshot of the occupancy
+     * @throws IllegalArgumentException if the board is wider than 31 columns
+     */
+    public static SearchBoard of(int[][] matrix) {
+        int columns = matrix[0].length;
+        if (columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Search board supports at most " + MAX_COLUMNS + " columns: " + columns);
+        }
+        int[] masks = new int[matrix.length];
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (matrix[row][col] != 0) {
+                    masks[row] |= 1 << col;
+                }
+            }
+        }
+        return new SearchBoard(matrix.length, columns, masks, 0, Zobrist.of(masks));
+    }
+
+    /**
+     * Creates an empty search board.
+     *
+     * @param rows board rows
+     * @param columns board columns, at most 31
+     * @return empty board
+     */
+    public static SearchBoard empty(int rows, int columns) {
+        return of(new int[rows][columns]);
+    }
+
+    /**
+     * Checks whether a piece fits at a position without leaving the
+     * board or overlapping a filled cell.
+     *
+     * @param rotation piece rotation
+     * @param x column of the piece's shape origin
+     * @param y row of the piece's shape origin
+     * @return true if every cell of the piece is free
+     */
+    public boolean fits(RotationState rotation, int x, int y) {
+        int[] pieceMasks = rotation.getRowMasks();
+        for (int pieceRow = rotation.getMinRow(); pieceRow <= rotation.getMaxRow(); pieceRow++) {
+            int pieceMask = pieceMasks[pieceRow];
+            if (pieceMask == 0) {
+                continue;
+            }
+            int boardRow = y + pieceRow;
+            if (boardRow < 0 || boardRow >= rows) {
+                return false;
+            }
+            int shifted = shift(pieceMask, x);
+            if (shifted == -1 || (rowMasks[boardRow] & shifted) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Places a piece and clears any rows it completes.
+     *
+     * <p>The piece must fit; see {@link #fits}. This board is left
+     * untouched.</p>
+     *
+     * @param rotation piece rotation
+     * @param x column of the piece's shape origin
+     * @param y row of the piece's shape origin
+     * @return the resulting board, with {@link #getLinesCleared()} set
+     */
+    public SearchBoard place(RotationState rotation, int x, int y) {
+        int[] masks = rowMasks.clone();
+        int[] pieceMasks = rotation.getRowMasks();
+        long placedHash = hash;
+        for (int pieceRow = rotation.getMinRow(); pieceRow <= rotation.getMaxRow(); pieceRow++) {
+            if (pieceMasks[pieceRow] != 0) {
+                int placed = shift(pieceMasks[pieceRow], x);
+                masks[y + pieceRow] |= placed;
+                placedHash ^= Zobrist.row(y + pieceRow, placed);
+            }
+        }
+
+        /* compact from the bottom, skipping full rows */
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (masks[read] != fullRowMask) {
+                masks[write--] = masks[read];
+            }
+        }
+        int cleared = write + 1;
+        for (int row = write; row >= 0; row--) {
+            masks[row] = 0;
+        }
+        return new SearchBoard(rows, columns, masks, cleared, cleared == 0 ? placedHash : Zobrist.of(masks));
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupancy.
+     *
+     * @return the same hash a live board with these cells reports
+     */
+    public long getZobristHash() {
+        return hash;
+    }
+
+    /**
+     * Gets how many rows the placement that produced this board cleared.
+     *
+     * @return lines cleared, 0 for a board built with {@link #of}
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the packed occupancy of a row.
+     *
+     * @param row row index
+     * @return bitmask with bit {@code c} set when column {@code c} is filled
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns;
+    }
+
+    @Override
+    public int getColumnHeight(int column) {
+        computeStatistics();
+        return heights[column];
+    }
+
+    @Override
+    public int getRowFillCount(int row) {
+        return Integer.bitCount(rowMasks[row]);
+    }
+
+    @Override
+    public int getHoleCount() {
+        computeStatistics();
+        return holes;
+    }
+
+    @Override
+    public int getAggregateHeight() {
+        computeStatistics();
+        return aggregateHeight;
+    }
+
+    @Override
+    public int getBumpiness() {
+        computeStatistics();
+        return bumpiness;
+    }
+
+    @Override
+    public int getMaxHeight() {
+        computeStatistics();
+        return maxHeight;
+    }
+
+    @Override
+    public int getFilledCellCount() {
+        computeStatistics();
+        return filledCells;
+    }
+
+    /* one top-down pass: a column's height is fixed the first time one of
+     * its bits shows up, and every empty bit under an already seen column
+     * is a hole
+     */
+    private void computeStatistics() {
+        if (heights != null) {
+            return;
+        }
+        int[] columnHeights = new int[columns];
+        int seen = 0;
+        int holeCount = 0;
+        int filled = 0;
+        for (int row = 0; row < rows; row++) {
+            int mask = rowMasks[row];
+            holeCount += Integer.bitCount(seen & ~mask);
+            filled += Integer.bitCount(mask);
+            int fresh = mask & ~seen;
+            while (fresh != 0) {
+                int col = Integer.numberOfTrailingZeros(fresh);
+                columnHeights[col] = rows - row;
+                fresh &= fresh - 1;
+            }
+            seen |= mask;
+        }
+
+        int aggregate = 0;
+        int bumps = 0;
+        int tallest = 0;
+        for (int col = 0; col < columns; col++) {
+            aggregate += columnHeights[col];
+            tallest = Math.max(tallest, columnHeights[col]);
+            if (col > 0) {
+                bumps += Math.abs(columnHeights[col] - columnHeights[col - 1]);
+            }
+        }
+
+        holes = holeCount;
+        filledCells = filled;
+        aggregateHeight = aggregate;
+        bumpiness = bumps;
+        maxHeight = tallest;
+        heights = columnHeights;
+    }
+
+    /* returns the piece mask moved to column x, or -1 when
+     * any occupied cell would fall outside the side walls
+     */
+    private int shift(int pieceMask, int x) {
+        if (x >= columns || x <= -Integer.SIZE) {
+            return -1;
+        }
+        if (x < 0) {
+            if ((pieceMask & ((1 << -x) - 1)) != 0) {
+                return -1;
+            }
+            return pieceMask >>> -x;
+        }
+        int shifted = pieceMask << x;
+        return (shifted & ~fullRowMask) != 0 ? -1 : shifted;
+    }
+}
@@ -0,0 +1,197 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.controllers.GameSession;
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.Gravity;
+import com.comp2042.tetris.core.LevelManager;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.events.MoveEvent;
+import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+import com.comp2042.tetris.pieces.RandomTetrominoGenerator;
+import com.comp2042.tetris.pieces.TetrominoGenerator;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One complete game played by a bot, with no window and no timers.
+ *
+ * <p>Time is counted in {@link com.comp2042.tetris.core.GameClock}
+ * ticks instead of waiting for them. Each bot input costs a fixed
+ * number of ticks, and gravity is applied over those ticks exactly as
+ * the game loop would apply it. At low gravity the bot gets every move
+ * it planned; once gravity outruns its inputs the piece is pushed down
+ * and locks early, and the board fills up. That is what makes the
+ * difficulty and level gravity curves show up in the results.</p>
+ *
+ * <h2>Scoring</h2>
+ * <p>Every input goes through a {@link GameSession}, the same rules the
+ * real game runs on, so scores, levels and top-outs match a human
+ * game played with the same inputs.</p>
+ *
+ * <p>A game owns its board, so separate games can be played on
+ * separate threads; the bot may be shared.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-30
+ */
+public final class SelfPlayGame {
+
+    public static final int BOARD_ROWS = 24;
+    public static final int BOARD_COLUMNS = 10;
+
+    /* the bot plays as a user, so its drops score like a player's */
+    private static final MoveEvent[] BOT_EVENTS = createBotEvents();
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final TetrisBot bot;
+    private final DifficultyStrategy difficulty;
+    private final BoardEngine engine;
+    private final TetrominoGenerator generator;
+    private final int maxPieces;
+    private final int ticksPerMove;
+
+    /**
+     * Sets up a game.
+     *
+     * @param bot bot that plays it
+     * @param difficulty difficulty to play at
+     * @param engine board engine to play on
+     * @param maxPieces pieces after which the game stops if it has not topped out
+     * @param ticksPerMove game ticks each bot input takes, at least 1
+     */
+    public SelfPlayGame(TetrisBot bot, DifficultyStrategy difficulty, BoardEngine engine,
+                        int maxPieces, int ticksPerMove) {
+        this(bot, difficulty, engine, new RandomTetrominoGenerator(), maxPieces, ticksPerMove);
+    }
+
+    /**
+     * Sets up a game with a given piece sequence.
+     *
+     * <p>With a seeded generator the game is fully reproducible: the bot
+     * is deterministic, so the same seed plays out the same way.</p>
+     *
+     * @param bot bot that plays it
+     * @param difficulty difficulty to play at
+     * @param engine board engine to play on
+     * @param generator where the pieces come from; used by this game only
+     * @param maxPieces pieces after which the game stops if it has not topped out
+     * @param ticksPerMove game ticks each bot input takes, at least 1
+     */
+    public SelfPlayGame(TetrisBot bot, DifficultyStrategy difficulty, BoardEngine engine,
+                        TetrominoGenerator generator, int maxPieces, int ticksPerMove) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("Piece limit must be positive: " + maxPieces);
+        }
+        if (ticksPerMove <= 0) {
+            throw new IllegalArgumentException("Ticks per move must be positive: " + ticksPerMove);
+        }
+        this.bot = bot;
+        this.difficulty = difficulty;
+        this.engine = engine;
+        this.generator = generator;
+        this.maxPieces = maxPieces;
+        this.ticksPerMove = ticksPerMove;
+    }
+
+    /**
+     * Plays the game to a top-out or the piece limit.
+     *
+     * @return how it went
+     */
+    public GameResult play() {
+        TetrisBoard board = engine.create(BOARD_ROWS, BOARD_COLUMNS, generator);
+        GameSession session = new GameSession(board, difficulty);
+        LevelManager levels = board.getLevelManager();
+        /* the difficulty sets the speed until the first level up */
+        Gravity gravity = new Gravity(difficulty.getGravity());
+        int gravityLevel = levels.getCurrentLevel();
+
+        long ticks = 0;
+        int pieces = 0;
+        /* no legal placement left is a top-out too */
+        boolean stuck = false;
+
+        while (pieces < maxPieces && !session.isGameOver()) {
+            Optional<BotDecision> decision = bot.decide(BotState.capture(board));
+            if (decision.isEmpty()) {
+                stuck = true;
+                break;
+            }
+
+            /* each input waits its ticks, and gravity may lock the
+             * piece before the bot gets to the end of its path
+             * the final drop is a hard drop, the way a player would do it
+             */
+            List<BotMove> path = decision.get().getPath();
+            ClearRow clearRow = null;
+            for (BotMove move : path.subList(0, lastSteeringMove(path) + 1)) {
+                ticks += ticksPerMove;
+                clearRow = applyGravity(session, gravity, ticksPerMove);
+                if (clearRow != null) {
+                    break;
+                }
+                /* a step down onto the stack locks, just like a player's */
+                clearRow = session.apply(BOT_EVENTS[move.ordinal()]);
+                if (clearRow != null) {
+                    break;
+                }
+            }
+            if (clearRow == null) {
+                ticks++;
+                clearRow = session.apply(HARD_DROP);
+            }
+            pieces++;
+
+            /* as in GameController, the speed only follows the level once it changes */
+            if (levels.getCurrentLevel() != gravityLevel) {
+                gravityLevel = levels.getCurrentLevel();
+                gravity.setCellsPerTick(levels.getGravity());
+            }
+            gravity.reset();
+        }
+
+        /* the last allowed piece can top out too, so ask the session */
+        boolean toppedOut = session.isGameOver() || stuck;
+        return new GameResult(board.getScore().getValue(), levels.getTotalLinesCleared(),
+            levels.getCurrentLevel(), pieces, ticks, toppedOut, gravity.getCellsPerTick());
+    }
+
+    /* index of the last move that is not a plain step down */
+    private static int lastSteeringMove(List<BotMove> path) {
+        int last = path.size() - 1;
+        while (last >= 0 && path.get(last) == BotMove.DOWN) {
+            last--;
+        }
+        return last;
+    }
+
+    /* runs gravity for a number of ticks
+     * returns the lock result if the piece could not fall any further
+     */
+    private static ClearRow applyGravity(GameSession session, Gravity gravity, int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int row = gravity.tick(); row > 0; row--) {
+                ClearRow clearRow = session.apply(GRAVITY);
+                if (clearRow != null) {
+                    return clearRow;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MoveEvent[] createBotEvents() {
+        BotMove[] moves = BotMove.values();
+        MoveEvent[] events = new MoveEvent[moves.length];
+        for (BotMove move : moves) {
+            events[move.ordinal()] = new MoveEvent(move.getEventType(), EventSource.USER);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+import com.comp2042.tetris.patterns.EasyDifficulty;
+import com.comp2042.tetris.patterns.HardDifficulty;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Plays batches of bot games in parallel, as fast as the CPU allows.
+ *
+ * <p>Used to tune difficulty and level gravity curves: run a few
+ * thousand games per setting and compare the averages. Each game is a
+ * single task with its own board. Nothing is shared between tasks
+ * apart from the bot, which keeps its search buffers per thread, so
+ * games per second should grow in line with the number of workers up
+ * to the number of cores.</p>
+ *
+ * <h2>Running</h2>
+ * <pre>
+ * java -cp target/classes com.comp2042.tetris.ai.SelfPlayRunner [games] [workers] [easy|medium|hard] [fixed|virtual] [random|bag_7|bag_14|tgm]
+ * </pre>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-30
+ */
+public final class SelfPlayRunner {
+
+    private static final int DEFAULT_GAMES = 1000;
+    private static final int DEFAULT_MAX_PIECES = 1000;
+    /* 20 inputs a second, a quick but human-like bot */
+    private static final int DEFAULT_TICKS_PER_MOVE = 3;
+
+    private final WorkerPool pool;
+    private final int workers;
+
+    /**
+     * Creates a runner.
+     *
+     * @param pool kind of threads to run games on
+     * @param workers number of threads for a fixed pool
+     */
+    public SelfPlayRunner(WorkerPool pool, int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workers);
+        }
+        this.pool = pool;
+        this.workers = workers;
+    }
+
+    /**
+     * Plays a batch of games and waits for all of them.
+     *
+     * @param games number of games to play
+     * @param gameFactory makes a fresh game for each task, called on this thread
+     * @return aggregated results, in the order the games were submitted
+     * @throws IllegalStateException if a game throws
+     */
+    public TournamentResult run(int games, Supplier<SelfPlayGame> gameFactory) {
+        List<GameResult> results = new ArrayList<>(games);
+        long start = System.nanoTime();
+        try (ExecutorService executor = pool.create(workers)) {
+            List<Future<GameResult>> futures = new ArrayList<>(games);
+            /* games are made here, in order, so a factory that hands
+             * out seeds gives game i the same seed on every run
+             */
+            for (int i = 0; i < games; i++) {
+                futures.add(executor.submit(gameFactory.get()::play));
+            }
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Self-play interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play game failed", e.getCause());
+        }
+        return new TournamentResult(results, System.nanoTime() - start, workers);
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        DifficultyStrategy difficulty = args.length > 2 ? difficultyFor(args[2]) : new MediumDifficulty();
+        WorkerPool pool = args.length > 3 ? WorkerPool.valueOf(args[3].toUpperCase(Locale.ROOT)) : WorkerPool.FIXED;
+        GeneratorType pieces = args.length > 4 ? GeneratorType.valueOf(args[4].toUpperCase(Locale.ROOT)) : GeneratorType.BAG_7;
+
+        /* game n is always dealt from seed n, so two runs of the
+         * same settings play exactly the same games
+         */
+        AtomicLong seeds = new AtomicLong();
+        TetrisBot bot = new TetrisBot(new HeuristicEvaluator());
+        SelfPlayRunner runner = new SelfPlayRunner(pool, workers);
+        TournamentResult result = runner.run(games, () -> new SelfPlayGame(
+            bot, difficulty, BoardEngine.BITBOARD, pieces.create(seeds.getAndIncrement()),
+            DEFAULT_MAX_PIECES, DEFAULT_TICKS_PER_MOVE));
+
+        System.out.println(difficulty.getDifficultyName() + " with " + pieces + " pieces on " + pool + " pool");
+        System.out.println(result);
+    }
+
+    private static DifficultyStrategy difficultyFor(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "easy" -> new EasyDifficulty();
+            case "hard" -> new HardDifficulty();
+            case "medium" -> new MediumDifficulty();
+            default -> throw new IllegalArgumentException("Unknown difficulty: " + name);
+        };
+    }
+}
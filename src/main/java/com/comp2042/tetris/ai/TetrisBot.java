@@ -0,0 +1,296 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.core.Zobrist;
+import com.comp2042.tetris.pieces.Tetromino;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless bot that picks where to put the current piece.
+ *
+ * <p>Given a {@link BotState} it enumerates every placement the current
+ * piece can reach, and every placement the hold piece can reach if hold
+ * is available, then scores each resulting board with a
+ * {@link PlacementEvaluator}. Nothing here touches JavaFX, so it runs
+ * just as well from a test, a benchmark or a self-play loop as it does
+ * next to the game.</p>
+ *
+ * <h2>Lookahead</h2>
+ * <p>With a lookahead of {@code n} each candidate is scored by the best
+ * board reachable after also placing the next {@code n} preview pieces.
+ * The tree grows by a factor of about 30 per ply, so the top-level
+ * candidates are handed to a {@link ForkJoinPool} when one is given;
+ * each worker uses its own {@link PlacementSearch} buffers. Hold is only
+ * considered for the piece being decided, not in the deeper plies.</p>
+ *
+ * <h2>Transpositions</h2>
+ * <p>Every node of the lookahead is scored at most once per table
+ * entry: its score is stored in a {@link TranspositionTable} under the
+ * board's Zobrist hash combined with the lines cleared so far and the
+ * queue pieces still to place. Two pieces of the same type placed in
+ * either order, or placements a line clear makes identical, then share
+ * one subtree. The key names the queue pieces rather than the turn, so
+ * entries stay valid from one decision to the next.</p>
+ *
+ * <p>Apart from the per-thread buffers and that table the bot keeps no
+ * state, so one instance can serve several boards.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-29
+ */
+public final class TetrisBot {
+
+    /* key slots for the non-queue parts of a position key */
+    private static final int LINES_SLOT = -1;
+    private static final int DEPTH_SLOT = -2;
+
+    private final PlacementEvaluator evaluator;
+    private final int lookahead;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final ThreadLocal<PlacementSearch> searches = ThreadLocal.withInitial(PlacementSearch::new);
+
+    /**
+     * Creates a bot that only looks at the current piece.
+     *
+     * @param evaluator scores boards
+     */
+    public TetrisBot(PlacementEvaluator evaluator) {
+        this(evaluator, 0, null);
+    }
+
+    /**
+     * Creates a bot that looks ahead into the preview queue, caching
+     * scores in a default-sized transposition table.
+     *
+     * @param evaluator scores boards; called from several threads when a pool is given
+     * @param lookahead how many preview pieces to place after the current one
+     * @param pool pool to spread the search over, or null to search on the calling thread
+     */
+    public TetrisBot(PlacementEvaluator evaluator, int lookahead, ForkJoinPool pool) {
+        this(evaluator, lookahead, pool, lookahead > 0 ? new TranspositionTable() : null);
+    }
+
+    /**
+     * Creates a bot that looks ahead with a given transposition table.
+     *
+     * @param evaluator scores boards; called from several threads when a pool is given
+     * @param lookahead how many preview pieces to place after the current one
+     * @param pool pool to spread the search over, or null to search on the calling thread
+     * @param table where to cache scores, or null to search without one
+     */
+    public TetrisBot(PlacementEvaluator evaluator, int lookahead, ForkJoinPool pool, TranspositionTable table) {
+        if (lookahead < 0) {
+            throw new IllegalArgumentException("Lookahead cannot be negative: " + lookahead);
+        }
+        this.evaluator = evaluator;
+        this.lookahead = lookahead;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Picks the best placement for the current piece.
+     *
+     * @param state what the board looks like now
+     * @return the decision, or empty if the piece has nowhere to go
+     */
+    public Optional<BotDecision> decide(BotState state) {
+        List<Candidate> candidates = new ArrayList<>();
+        PlacementSearch search = searches.get();
+        SearchBoard board = state.getBoard();
+
+        for (Placement placement : search.enumerate(board, state.getCurrent(),
+                state.getRotationIndex(), state.getX(), state.getY())) {
+            candidates.add(new Candidate(placement, false, state.getPreview()));
+        }
+
+        if (state.canHold()) {
+            /* holding with an empty slot pulls the next piece out of
+             * the queue, so the queue after it is one shorter
+             */
+            Tetromino swapIn = state.getHeld();
+            List<Tetromino> queue = state.getPreview();
+            if (swapIn == null && !queue.isEmpty()) {
+                swapIn = queue.get(0);
+                queue = queue.subList(1, queue.size());
+            }
+            if (swapIn != null) {
+                for (Placement placement : search.enumerate(board, swapIn, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y)) {
+                    candidates.add(new Candidate(placement, true, queue));
+                }
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        double[] scores = scoreAll(board, candidates);
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+
+        Candidate chosen = candidates.get(best);
+        List<BotMove> path = new ArrayList<>();
+        if (chosen.useHold) {
+            path.add(BotMove.HOLD);
+            path.addAll(search.findPath(board, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y, chosen.placement));
+        } else {
+            path.addAll(search.findPath(board, state.getRotationIndex(), state.getX(), state.getY(), chosen.placement));
+        }
+        return Optional.of(new BotDecision(chosen.placement, chosen.useHold, scores[best], path));
+    }
+
+    /**
+     * Picks a placement and plays it on a live board.
+     *
+     * <p>Runs the moves the decision lists and leaves the piece resting
+     * on its placement. Locking it is left to the caller, since that is
+     * where scoring, spawning and game-over handling live.</p>
+     *
+     * @param board the game board
+     * @return the decision that was played, or empty if there was none
+     */
+    public Optional<BotDecision> play(TetrisBoard board) {
+        Optional<BotDecision> decision = decide(BotState.capture(board));
+        decision.ifPresent(d -> {
+            for (BotMove move : d.getPath()) {
+                move.applyTo(board);
+            }
+        });
+        return decision;
+    }
+
+    private double[] scoreAll(SearchBoard board, List<Candidate> candidates) {
+        double[] scores = new double[candidates.size()];
+        if (pool == null || lookahead == 0) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = scoreCandidate(board, candidates.get(i));
+            }
+            return scores;
+        }
+
+        List<ScoreTask> tasks = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            tasks.add(new ScoreTask(board, candidate));
+        }
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = tasks.get(i).join();
+        }
+        return scores;
+    }
+
+    private double scoreCandidate(SearchBoard board, Candidate candidate) {
+        SearchBoard after = candidate.placement.applyTo(board);
+        return scoreBoard(after, after.getLinesCleared(), candidate.queue, lookahead);
+    }
+
+    /* best score reachable from this board with the pieces left in the
+     * queue, down to the given depth; a spawn that does not fit is a
+     * lost game and scores below everything
+     */
+    private double scoreBoard(SearchBoard board, int linesCleared, List<Tetromino> queue, int depth) {
+        /* a leaf is one evaluation, cheaper than the table lookup
+         * that could save it, so only subtrees are cached
+         */
+        int pieces = Math.min(depth, queue.size());
+        if (table == null || pieces == 0) {
+            return searchBoard(board, linesCleared, queue, depth);
+        }
+        long key = positionKey(board, linesCleared, queue, pieces);
+        double cached = table.get(key);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+        double score = searchBoard(board, linesCleared, queue, depth);
+        table.put(key, pieces, score);
+        return score;
+    }
+
+    private double searchBoard(SearchBoard board, int linesCleared, List<Tetromino> queue, int depth) {
+        if (depth == 0 || queue.isEmpty()) {
+            return evaluator.evaluate(board, linesCleared);
+        }
+
+        /* enumerate into a list first, the recursion reuses the
+         * same per-thread search buffers
+         */
+        List<Placement> placements = searches.get().enumerate(board, queue.get(0), 0,
+            TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y);
+        if (placements.isEmpty()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        List<Tetromino> rest = queue.subList(1, queue.size());
+        double best = Double.NEGATIVE_INFINITY;
+        for (Placement placement : placements) {
+            SearchBoard after = placement.applyTo(board);
+            best = Math.max(best, scoreBoard(after, linesCleared + after.getLinesCleared(), rest, depth - 1));
+        }
+        return best;
+    }
+
+    /* the score depends on the cells, the lines so far and the pieces
+     * still to be placed, and on nothing else
+     */
+    private static long positionKey(SearchBoard board, int linesCleared, List<Tetromino> queue, int pieces) {
+        long key = board.getZobristHash()
+            ^ Zobrist.piece(LINES_SLOT, linesCleared)
+            ^ Zobrist.piece(DEPTH_SLOT, pieces);
+        for (int i = 0; i < pieces; i++) {
+            key ^= Zobrist.piece(i, queue.get(i).getType().ordinal());
+        }
+        return key;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    private static final class Candidate {
+        private final Placement placement;
+        private final boolean useHold;
+        private final List<Tetromino> queue;
+
+        private Candidate(Placement placement, boolean useHold, List<Tetromino> queue) {
+            this.placement = placement;
+            this.useHold = useHold;
+            this.queue = queue;
+        }
+    }
+
+    /* ForkJoinTask is Serializable, but a task never leaves the pool */
+    @SuppressWarnings("serial")
+    private final class ScoreTask extends RecursiveTask<Double> {
+        private final SearchBoard board;
+        private final Candidate candidate;
+
+        private ScoreTask(SearchBoard board, Candidate candidate) {
+            this.board = board;
+            this.candidate = candidate;
+        }
+
+        @Override
+        protected Double compute() {
+            return scoreCandidate(board, candidate);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.comp2042.tetris.ai;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Totals and averages over a batch of self-play games.
+ *
+ * <p>Score, lines and pieces per second describe how the bot played and
+ * are in game time. Games per second describes how fast the runner got
+ * through them and is in wall time; that is the number to watch when
+ * checking the runner scales with cores.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-30
+ */
+public final class TournamentResult {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final List<GameResult> games;
+    private final long elapsedNanos;
+    private final int workers;
+
+    private final double meanScore;
+    private final int maxScore;
+    private final double meanLines;
+    private final double meanPiecesPerSecond;
+    private final long totalPieces;
+    private final int topOuts;
+    private final double meanTopOutPieces;
+
+    public TournamentResult(List<GameResult> games, long elapsedNanos, int workers) {
+        this.games = List.copyOf(games);
+        this.elapsedNanos = elapsedNanos;
+        this.workers = workers;
+
+        long scoreSum = 0;
+        int best = 0;
+        long lineSum = 0;
+        double ppsSum = 0;
+        long pieceSum = 0;
+        int toppedOut = 0;
+        long topOutPieceSum = 0;
+        for (GameResult game : games) {
+            scoreSum += game.getScore();
+            best = Math.max(best, game.getScore());
+            lineSum += game.getLines();
+            ppsSum += game.getPiecesPerSecond();
+            pieceSum += game.getPieces();
+            if (game.isToppedOut()) {
+                toppedOut++;
+                topOutPieceSum += game.getPieces();
+            }
+        }
+
+        int count = Math.max(1, games.size());
+        this.meanScore = (double) scoreSum / count;
+        this.maxScore = best;
+        this.meanLines = (double) lineSum / count;
+        this.meanPiecesPerSecond = ppsSum / count;
+        this.totalPieces = pieceSum;
+        this.topOuts = toppedOut;
+        this.meanTopOutPieces = toppedOut == 0 ? 0 : (double) topOutPieceSum / toppedOut;
+    }
+
+    public List<GameResult> getGames() {
+        return games;
+    }
+
+    public int getGameCount() {
+        return games.size();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public double getMeanScore() {
+        return meanScore;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    public double getMeanLines() {
+        return meanLines;
+    }
+
+    /**
+     * Gets the average placement rate in game time.
+     *
+     * @return mean of each game's pieces per second
+     */
+    public double getMeanPiecesPerSecond() {
+        return meanPiecesPerSecond;
+    }
+
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /**
+     * Gets how many games ended by topping out.
+     *
+     * @return games that did not reach the piece limit
+     */
+    public int getTopOutCount() {
+        return topOuts;
+    }
+
+    /**
+     * Gets how long games that topped out lasted on average.
+     *
+     * @return mean piece count at top-out, 0 if no game topped out
+     */
+    public double getMeanTopOutPieces() {
+        return meanTopOutPieces;
+    }
+
+    /**
+     * Gets how fast the runner got through the games.
+     *
+     * @return games finished per second of wall time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games.size() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Gets how fast the runner placed pieces across all workers.
+     *
+     * @return pieces per second of wall time
+     */
+    public double getSimulatedPiecesPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalPieces * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "games=%d workers=%d elapsed=%.2fs games/s=%.1f pieces/s=%.0f%n"
+                + "score mean=%.1f max=%d  lines mean=%.1f  pps mean=%.2f%n"
+                + "top-outs=%d mean top-out piece=%.1f",
+            games.size(), workers, elapsedNanos / NANOS_PER_SECOND, getGamesPerSecond(),
+            getSimulatedPiecesPerSecond(), meanScore, maxScore, meanLines, meanPiecesPerSecond,
+            topOuts, meanTopOutPieces);
+    }
+}
@@ -0,0 +1,154 @@
+package com.comp2042.tetris.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size cache of search scores keyed on a Zobrist hash.
+ *
+ * <p>The bot's lookahead often reaches the same board more than once,
+ * for example when two pieces of the same type swap places, or when a
+ * line clear wipes out the difference between two placements. Scoring
+ * such a board again would repeat the whole subtree below it, so
+ * {@link TetrisBot} stores each score here and looks it up first.</p>
+ *
+ * <h2>Eviction</h2>
+ * <p>The table never grows. Each hash maps to a bucket of two slots:
+ * the first keeps whichever entry has the most search depth under it,
+ * since that is the most expensive to redo, and the second takes
+ * whatever the first turns away, including an entry the first has just
+ * replaced. Deep results survive a flood of shallow ones and recent
+ * shallow ones still get a place.</p>
+ *
+ * <h2>Threads</h2>
+ * <p>Fork-join workers read and write without locks. Each slot stores
+ * the key XORed with the score bits next to the score itself, so a slot
+ * half written by another thread no longer matches its key and reads
+ * as a miss instead of a wrong score.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class TranspositionTable {
+
+    /* two slots of 17 bytes each per bucket, about 2MB */
+    public static final int DEFAULT_BUCKETS = 1 << 16;
+
+    private static final int SLOTS_PER_BUCKET = 2;
+
+    /* depths are stored plus one, so zero marks a slot never written */
+    private static final byte EMPTY = 0;
+
+    private final long[] checks;
+    private final long[] values;
+    private final byte[] depths;
+    private final int bucketMask;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Creates a table with the default number of buckets.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Creates an empty table.
+     *
+     * @param buckets number of two-entry buckets, a power of two
+     */
+    public TranspositionTable(int buckets) {
+        if (buckets < 1 || Integer.bitCount(buckets) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a power of two: " + buckets);
+        }
+        this.checks = new long[buckets * SLOTS_PER_BUCKET];
+        this.values = new long[buckets * SLOTS_PER_BUCKET];
+        this.depths = new byte[buckets * SLOTS_PER_BUCKET];
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Looks up a score.
+     *
+     * @param key position hash
+     * @return the stored score, or {@code NaN} if there is none
+     */
+    public double get(long key) {
+        probes.increment();
+        int slot = firstSlot(key);
+        for (int i = slot; i < slot + SLOTS_PER_BUCKET; i++) {
+            long bits = values[i];
+            if ((checks[i] ^ bits) == key && depths[i] != EMPTY) {
+                hits.increment();
+                return Double.longBitsToDouble(bits);
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Stores a score.
+     *
+     * @param key position hash
+     * @param depth how many plies were searched below the position
+     * @param score the score; never {@code NaN}
+     */
+    public void put(long key, int depth, double score) {
+        long bits = Double.doubleToRawLongBits(score);
+        int slot = firstSlot(key);
+        int target = slot + 1;
+        if ((checks[slot] ^ values[slot]) == key) {
+            target = slot;
+        } else if (depth + 1 >= depths[slot]) {
+            /* the old deep entry drops to the second slot rather than vanishing */
+            values[slot + 1] = values[slot];
+            checks[slot + 1] = checks[slot];
+            depths[slot + 1] = depths[slot];
+            target = slot;
+        }
+        values[target] = bits;
+        checks[target] = key ^ bits;
+        depths[target] = (byte) (Math.min(depth, Byte.MAX_VALUE - 1) + 1);
+    }
+
+    /**
+     * Empties the table and resets the counters.
+     */
+    public void clear() {
+        Arrays.fill(checks, 0L);
+        Arrays.fill(values, 0L);
+        Arrays.fill(depths, (byte) 0);
+        probes.reset();
+        hits.reset();
+    }
+
+    public int getCapacity() {
+        return checks.length;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that found a score.
+     *
+     * @return hits over probes, 0 before the first lookup
+     */
+    public double getHitRate() {
+        long total = probes.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    private int firstSlot(long key) {
+        /* the low bits of a Zobrist hash are as random as the high ones */
+        return ((int) key & bucketMask) * SLOTS_PER_BUCKET;
+    }
+}
@@ -0,0 +1,31 @@
+package com.comp2042.tetris.ai;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Selects what the self-play runner runs its games on.
+ *
+ * <p>Games are pure CPU work with no blocking, so {@link #FIXED} with
+ * one thread per core is normally the one to use. {@link #VIRTUAL}
+ * starts one virtual thread per game and lets the JVM's carrier pool
+ * share them out; handy when a game is wrapped in something that does
+ * block, such as writing a replay.</p>
+ */
+public enum WorkerPool {
+    FIXED,
+    VIRTUAL;
+
+    /**
+     * Creates an executor of this kind.
+     *
+     * @param workers number of threads for {@link #FIXED}; ignored for {@link #VIRTUAL}
+     * @return a new executor, to be closed by the caller
+     */
+    public ExecutorService create(int workers) {
+        return switch (this) {
+            case FIXED -> Executors.newFixedThreadPool(workers);
+            case VIRTUAL -> Executors.newVirtualThreadPerTaskExecutor();
+        };
+    }
+}
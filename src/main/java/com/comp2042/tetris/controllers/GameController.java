@@ -1,135 +1,172 @@
 package com.comp2042.tetris.controllers;
 
 import com.comp2042.tetris.core.Board;
+import com.comp2042.tetris.core.BoardEngine;
 import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.GameEventBus;
 import com.comp2042.tetris.ui.GuiController;
+import com.comp2042.tetris.ui.HudEventListener;
 import com.comp2042.tetris.events.InputEventListener;
 import com.comp2042.tetris.events.MoveEvent;
-import com.comp2042.tetris.events.EventSource;
 import com.comp2042.tetris.models.DownData;
 import com.comp2042.tetris.models.ViewData;
-import com.comp2042.tetris.models.ClearRow;
 import com.comp2042.tetris.patterns.DifficultyStrategy;
 import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import com.comp2042.tetris.replay.RecordingInputListener;
+import com.comp2042.tetris.replay.ReplayHeader;
+import com.comp2042.tetris.replay.ReplayWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GameController implements InputEventListener {
 
     private static final int BOARD_WIDTH = 24;
     private static final int BOARD_HEIGHT = 10;
-    private static final int SOFT_DROP_SCORE = 1;
 
-    private final Board board;
+    /* set to a directory to record every game there */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replay.dir";
+    private static final DateTimeFormatter REPLAY_NAME = DateTimeFormatter.ofPattern("'replay-'yyyyMMdd-HHmmss'.trpl'");
+
+    private final TetrisBoard board;
+    private final GameSession session;
     private final GuiController guiController;
     private final DifficultyStrategy difficulty;
+    private final GameEventBus eventBus = new GameEventBus();
+    /* a known seed is what lets a replay deal the same pieces */
+    private final long seed;
+    /* the level the view's gravity was last set for */
+    private int gravityLevel;
 
     public GameController(GuiController guiController) {
         this(guiController, new MediumDifficulty());
     }
 
     public GameController(GuiController guiController, DifficultyStrategy difficulty) {
-        this.board = new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT);
+        this(guiController, difficulty, BoardEngine.MATRIX);
+    }
+
+    public GameController(GuiController guiController, DifficultyStrategy difficulty, BoardEngine engine) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        this.board = engine.create(BOARD_WIDTH, BOARD_HEIGHT, GeneratorType.RANDOM.create(seed));
+        this.session = new GameSession(board, difficulty);
         this.guiController = guiController;
         this.difficulty = difficulty;
-        initializeGame();
+        this.seed = seed;
     }
 
-    private void initializeGame() {
-        board.createNewBrick();
-        guiController.setEventListener(this);
+    /**
+     * Hands this controller to the view and starts the first game.
+     *
+     * <p>Kept out of the constructor so the view and the replay recorder
+     * never see a controller that is still being built.</p>
+     *
+     * @return this controller
+     */
+    public GameController start() {
+        /* level, lines and combo reach the labels through the bus,
+         * so the tick never waits on the scene graph
+         */
+        session.publishTo(eventBus, 1, guiController::getTickCount);
+        eventBus.subscribe("hud", new HudEventListener(guiController));
+        guiController.setOnLeaveGame(eventBus::close);
+        guiController.setEventListener(recordIfEnabled());
         guiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        guiController.bindScore(board.getScore().scoreProperty());
-        /* Apply difficulty settings - set initial drop speed */
-        guiController.updateDropSpeed(difficulty.getDropSpeed());
+        guiController.bindScore(board.getScore());
+        resetGravity();
+        return this;
+    }
+
+    /* the difficulty sets the speed until the first level up */
+    private void resetGravity() {
+        gravityLevel = board.getLevelManager().getCurrentLevel();
+        guiController.updateGravity(difficulty.getGravity());
+    }
+
+    /* wraps this controller in a recorder when a replay directory is set
+     * the recorder stamps events with the view's game clock tick
+     */
+    private InputEventListener recordIfEnabled() {
+        String directory = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return this;
+        }
+        Path path = Path.of(directory, LocalDateTime.now().format(REPLAY_NAME));
+        ReplayWriter writer = ReplayWriter.open(path, ReplayHeader.of(BOARD_WIDTH, BOARD_HEIGHT,
+            GeneratorType.RANDOM, seed, difficulty));
+        guiController.setOnLeaveGame(() -> {
+            eventBus.close();
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Could not write replay " + path + ": " + e.getMessage());
+            }
+        });
+        return new RecordingInputListener(this, writer, guiController::getTickCount,
+            session, RecordingInputListener.DEFAULT_KEYFRAME_INTERVAL);
     }
 
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-
-        if (!canMove) {
-            clearRow = handleTetrominoLocked();
-        } else {
-            handleSoftDrop(event);
+        DownData downData = session.onDownEvent(event);
+        if (downData.getClearRow() != null) {
+            handleLockResult();
         }
+        return downData;
+    }
 
-        return new DownData(clearRow, board.getViewData());
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        DownData downData = session.onHardDropEvent(event);
+        handleLockResult();
+        return downData;
     }
 
-    private ClearRow handleTetrominoLocked() {
-        board.mergeBrickToBackground();
-        ClearRow clearRow = board.clearRows();
-
-        if (clearRow.getLinesRemoved() > 0) {
-            TetrisBoard tetrisBoard = (TetrisBoard) board;
-
-            /* update level manager with cleared lines */
-            tetrisBoard.getLevelManager().addClearedLines(clearRow.getLinesRemoved());
-
-            /* calculate base score with level and difficulty multipliers */
-            int scoreBonus = clearRow.getScoreBonus() 
-                * tetrisBoard.getLevelManager().getScoreMultiplier()
-                * difficulty.getScoreMultiplier();
-
-            /* add combo bonus for consecutive clears
-             * this rewards skilled play and makes the game more exciting
-             */
-            int comboBonus = tetrisBoard.getComboManager().getComboBonus();
-            int totalScore = scoreBonus + comboBonus;
-
-            board.getScore().add(totalScore);
-            
-            /* Update UI with level, lines, and drop speed */
-            guiController.updateLevel(tetrisBoard.getLevelManager().getCurrentLevel());
-            guiController.updateLines(tetrisBoard.getLevelManager().getTotalLinesCleared());
-            guiController.updateDropSpeed(tetrisBoard.getLevelManager().getDropSpeed());
+    /* the session has already scored the lock, spawned the next piece
+     * and published its events; the speed follows the level here, on the
+     * tick, and the board is redrawn
+     */
+    private void handleLockResult() {
+        int level = board.getLevelManager().getCurrentLevel();
+        if (level != gravityLevel) {
+            gravityLevel = level;
+            guiController.updateGravity(board.getLevelManager().getGravity());
         }
-
-        if (board.createNewBrick()) {
+        if (session.isGameOver()) {
             guiController.gameOver();
         }
 
         guiController.refreshGameBackground(board.getBoardMatrix());
-        return clearRow;
-    }
-
-    private void handleSoftDrop(MoveEvent event) {
-        if (event.getEventSource() == EventSource.USER) {
-            board.getScore().add(SOFT_DROP_SCORE);
-        }
     }
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        return session.onLeftEvent(event);
     }
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        return session.onRightEvent(event);
     }
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        return session.onRotateEvent(event);
     }
 
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        /* attempt to hold the current piece
-         * this allows strategic storage for later use
-         * the hold operation may fail if already used this turn
-         */
-        board.holdCurrentPiece();
-        return board.getViewData();
+        return session.onHoldEvent(event);
     }
 
     @Override
     public void createNewGame() {
-        board.newGame();
+        session.createNewGame();
+        resetGravity();
         guiController.refreshGameBackground(board.getBoardMatrix());
     }
 
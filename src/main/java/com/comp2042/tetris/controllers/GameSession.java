@@ -0,0 +1,320 @@
+package com.comp2042.tetris.controllers;
+
+import com.comp2042.tetris.core.Board;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.GameEventBus;
+import com.comp2042.tetris.events.GameEventType;
+import com.comp2042.tetris.events.InputEventListener;
+import com.comp2042.tetris.events.MoveEvent;
+import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.models.DownData;
+import com.comp2042.tetris.models.ViewData;
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The rules of a single-player game, with no screen attached.
+ *
+ * <p>Turns input events into board moves, locks, scoring and spawning.
+ * {@link GameController} puts this behind the JavaFX view; the bot
+ * self-play and replay playback drive it directly, so a replayed or
+ * simulated game scores exactly like one played by hand.</p>
+ *
+ * <h2>Game Over</h2>
+ * <p>When a new piece cannot spawn the session is over; the caller
+ * checks {@link #isGameOver()} after any event that can lock a piece.
+ * {@link #createNewGame()} starts again on the same board.</p>
+ *
+ * <h2>Events</h2>
+ * <p>After {@link #publishTo} every lock is also published to a
+ * {@link GameEventBus}, together with the clear, level and combo
+ * changes it caused, for listeners such as the HUD that should not
+ * run on the game thread.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public class GameSession implements InputEventListener {
+
+    private static final int SOFT_DROP_SCORE = 1;
+
+    private final Board board;
+    private final DifficultyStrategy difficulty;
+    private boolean gameOver;
+
+    private GameEventBus eventBus;
+    private int player;
+    private LongSupplier clock;
+    /* last values published, so only changes go out */
+    private int publishedLevel;
+    private int publishedCombo;
+
+    /**
+     * Starts a session on a board.
+     *
+     * <p>Spawns the first piece, so the board must be empty and have
+     * no piece yet.</p>
+     *
+     * @param board board to play on
+     * @param difficulty difficulty whose score multiplier applies
+     */
+    public GameSession(Board board, DifficultyStrategy difficulty) {
+        this.board = board;
+        this.difficulty = difficulty;
+        this.gameOver = board.createNewBrick();
+    }
+
+    /* wraps a board whose piece is already in play */
+    private GameSession(Board board, DifficultyStrategy difficulty, boolean gameOver) {
+        this.board = board;
+        this.difficulty = difficulty;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Carries on a game from a restored board.
+     *
+     * <p>Unlike the constructor this spawns nothing: the board already
+     * has its falling piece, for example one loaded from a replay
+     * keyframe.</p>
+     *
+     * @param board board with a piece in play
+     * @param difficulty difficulty whose score multiplier applies
+     * @param gameOver whether the saved game had already been lost
+     * @return a session picking up where the saved one stopped
+     */
+    public static GameSession resume(Board board, DifficultyStrategy difficulty, boolean gameOver) {
+        return new GameSession(board, difficulty, gameOver);
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        return new DownData(moveDown(event), board.getViewData());
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        return new DownData(hardDrop(event), board.getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        /* attempt to hold the current piece
+         * this allows strategic storage for later use
+         * the hold operation may fail if already used this turn
+         */
+        board.holdCurrentPiece();
+        return board.getViewData();
+    }
+
+    @Override
+    public void createNewGame() {
+        board.newGame();
+        gameOver = false;
+        rememberPublished();
+        if (eventBus != null && board instanceof TetrisBoard tetrisBoard) {
+            /* listeners may still be drawing the last game; these come after it */
+            long tick = clock.getAsLong();
+            eventBus.publish(GameEventType.LEVEL_CHANGED, player, publishedLevel,
+                tetrisBoard.getLevelManager().getTotalLinesCleared(), tick);
+            eventBus.publish(GameEventType.COMBO, player, publishedCombo,
+                tetrisBoard.getComboManager().getComboBonus(), tick);
+        }
+    }
+
+    /**
+     * Publishes the events of every lock from now on.
+     *
+     * @param bus bus to publish to, from the thread that plays this session
+     * @param player player number carried by the events
+     * @param clock game clock tick to stamp the events with
+     */
+    public void publishTo(GameEventBus bus, int player, LongSupplier clock) {
+        this.eventBus = bus;
+        this.player = player;
+        this.clock = clock;
+        rememberPublished();
+    }
+
+    /**
+     * Plays an event without building view data.
+     *
+     * <p>For callers with no screen, such as replay playback and bot
+     * self-play, which send thousands of events a second and never
+     * draw them.</p>
+     *
+     * @param event the input
+     * @return the lock result if the event locked the piece, otherwise null
+     */
+    public ClearRow apply(MoveEvent event) {
+        return switch (event.getEventType()) {
+            case DOWN -> moveDown(event);
+            case HARD_DROP -> hardDrop(event);
+            case LEFT -> {
+                board.moveBrickLeft();
+                yield null;
+            }
+            case RIGHT -> {
+                board.moveBrickRight();
+                yield null;
+            }
+            case ROTATE -> {
+                board.rotateLeftBrick();
+                yield null;
+            }
+            case HOLD -> {
+                board.holdCurrentPiece();
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * Whether the last lock left no room for the next piece.
+     *
+     * @return true once the game has been lost
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Sets whether the game is lost, after its board has been restored.
+     *
+     * <p>A board snapshot puts back the cells and the piece but not this
+     * flag, which lives in the session. Rollback restores boards every
+     * few ticks and keeps its sessions, so it puts the flag back here
+     * rather than building a new session with {@link #resume}.</p>
+     *
+     * @param gameOver the flag as {@link #isGameOver()} gave it at the snapshot
+     */
+    public void restoreGameOver(boolean gameOver) {
+        this.gameOver = gameOver;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public DifficultyStrategy getDifficulty() {
+        return difficulty;
+    }
+
+    /* null unless the piece could not move and locked */
+    private ClearRow moveDown(MoveEvent event) {
+        boolean canMove = board.moveBrickDown();
+        ClearRow clearRow = null;
+
+        if (!canMove) {
+            clearRow = handleTetrominoLocked();
+        } else {
+            handleSoftDrop(event);
+        }
+        return clearRow;
+    }
+
+    private ClearRow hardDrop(MoveEvent event) {
+        ClearRow clearRow = board.hardDrop();
+
+        /* hard drop scores like a soft drop over the same distance */
+        if (event.getEventSource() == EventSource.USER) {
+            board.getScore().add(SOFT_DROP_SCORE * ((TetrisBoard) board).getLastDropDistance());
+        }
+
+        handleLockResult(clearRow);
+        return clearRow;
+    }
+
+    private ClearRow handleTetrominoLocked() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        handleLockResult(clearRow);
+        return clearRow;
+    }
+
+    private void handleLockResult(ClearRow clearRow) {
+        if (clearRow.getLinesRemoved() > 0) {
+            /* clearRows has already counted the lines towards the level */
+            TetrisBoard tetrisBoard = (TetrisBoard) board;
+
+            /* calculate base score with level and difficulty multipliers */
+            int scoreBonus = clearRow.getScoreBonus()
+                * tetrisBoard.getLevelManager().getScoreMultiplier()
+                * difficulty.getScoreMultiplier();
+
+            /* add combo bonus for consecutive clears
+             * this rewards skilled play and makes the game more exciting
+             */
+            int comboBonus = tetrisBoard.getComboManager().getComboBonus();
+            int totalScore = scoreBonus + comboBonus;
+
+            board.getScore().add(totalScore);
+        }
+
+        if (eventBus != null) {
+            publishLock(clearRow.getLinesRemoved());
+        }
+
+        if (board.createNewBrick()) {
+            gameOver = true;
+        }
+    }
+
+    /* runs before the next piece spawns, so the rotator still holds
+     * the piece that locked
+     */
+    private void publishLock(int lines) {
+        TetrisBoard tetrisBoard = (TetrisBoard) board;
+        long tick = clock.getAsLong();
+        int totalLines = tetrisBoard.getLevelManager().getTotalLinesCleared();
+        eventBus.publish(GameEventType.PIECE_LOCKED, player,
+            tetrisBoard.getTetrominoRotator().getTetromino().getType().ordinal(), lines, tick);
+        if (lines > 0) {
+            eventBus.publish(GameEventType.LINES_CLEARED, player, lines, totalLines, tick);
+        }
+        int level = tetrisBoard.getLevelManager().getCurrentLevel();
+        if (level != publishedLevel) {
+            eventBus.publish(GameEventType.LEVEL_CHANGED, player, level, totalLines, tick);
+            publishedLevel = level;
+        }
+        int combo = tetrisBoard.getComboManager().getCurrentCombo();
+        if (combo != publishedCombo) {
+            eventBus.publish(GameEventType.COMBO, player, combo, tetrisBoard.getComboManager().getComboBonus(), tick);
+            publishedCombo = combo;
+        }
+    }
+
+    private void rememberPublished() {
+        if (board instanceof TetrisBoard tetrisBoard) {
+            publishedLevel = tetrisBoard.getLevelManager().getCurrentLevel();
+            publishedCombo = tetrisBoard.getComboManager().getCurrentCombo();
+        }
+    }
+
+    private void handleSoftDrop(MoveEvent event) {
+        if (event.getEventSource() == EventSource.USER) {
+            board.getScore().add(SOFT_DROP_SCORE);
+        }
+    }
+}
@@ -1,34 +1,41 @@
 package com.comp2042.tetris.controllers;
 
 import com.comp2042.tetris.models.NextShapeInfo;
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.RotationTable;
 import com.comp2042.tetris.pieces.Tetromino;
 
 public class TetrominoRotator {
 
     private Tetromino tetromino;
+    private RotationTable rotations;
     private int currentRotationIndex = 0;
 
     public NextShapeInfo getNextShape() {
-        if (tetromino == null) {
-            throw new IllegalStateException("Tetromino not set. Call setBrick() first.");
-        }
-
-        int nextRotation = (currentRotationIndex + 1) % tetromino.getShapeMatrix().size();
-        return new NextShapeInfo(tetromino.getShapeMatrix().get(nextRotation), nextRotation);
+        RotationState next = getNextRotation();
+        return new NextShapeInfo(next.getShape(), next.getIndex());
     }
 
+    /* shapes come straight from the shared rotation table
+     * so callers must not modify the returned matrix
+     */
     public int[][] getCurrentShape() {
-        if (tetromino == null) {
-            throw new IllegalStateException("Tetromino not set. Call setBrick() first.");
-        }
-        return tetromino.getShapeMatrix().get(currentRotationIndex);
+        return getCurrentRotation().getShape();
+    }
+
+    public RotationState getCurrentRotation() {
+        ensureTetrominoSet();
+        return rotations.get(currentRotationIndex);
+    }
+
+    public RotationState getNextRotation() {
+        ensureTetrominoSet();
+        return rotations.next(currentRotationIndex);
     }
 
     public void setCurrentShape(int rotationIndex) {
-        if (tetromino == null) {
-            throw new IllegalStateException("Tetromino not set. Call setBrick() first.");
-        }
-        if (rotationIndex < 0 || rotationIndex >= tetromino.getShapeMatrix().size()) {
+        ensureTetrominoSet();
+        if (rotationIndex < 0 || rotationIndex >= rotations.size()) {
             throw new IllegalArgumentException("Invalid rotation index: " + rotationIndex);
         }
         this.currentRotationIndex = rotationIndex;
@@ -39,6 +46,7 @@ public class TetrominoRotator {
             throw new IllegalArgumentException("Tetromino cannot be null");
         }
         this.tetromino = tetromino;
+        this.rotations = tetromino.getRotationTable();
         this.currentRotationIndex = 0;
     }
 
@@ -49,4 +57,10 @@ public class TetrominoRotator {
     public int getCurrentRotationIndex() {
         return currentRotationIndex;
     }
+
+    private void ensureTetrominoSet() {
+        if (tetromino == null) {
+            throw new IllegalStateException("Tetromino not set. Call setBrick() first.");
+        }
+    }
 }
@@ -0,0 +1,220 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.pieces.RandomTetrominoGenerator;
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.TetrominoGenerator;
+import com.comp2042.tetris.utils.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Board engine that stores occupancy as one packed bitmask per row.
+ *
+ * <p>{@link TetrisBoard} answers every collision question by walking the
+ * piece matrix against the {@code int[][]} board cell by cell. That is
+ * fine for a human player, but bots and simulations ask millions of
+ * these questions per second. Here each row is a single {@code int}
+ * where bit {@code c} is set when column {@code c} is filled, so
+ * collision, full-row detection and merging become a handful of AND/OR
+ * operations per piece row.</p>
+ *
+ * <h2>Two Planes</h2>
+ * <p>Occupancy lives in {@code rowMasks}. Piece colours still live in the
+ * familiar {@code int[][]} matrix returned by {@link #getBoardMatrix()},
+ * so the renderers do not need to know which engine they are drawing.
+ * The colour plane is only written on merge and clear, never read on
+ * the hot path.</p>
+ *
+ * <p>All the piece, hold, combo and level logic is inherited from
+ * {@link TetrisBoard}; this class only replaces the storage hooks.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class BitboardTetrisBoard extends TetrisBoard {
+
+    /* one int per row caps the board at 31 columns
+     * a standard board is 10 wide so this is plenty
+     */
+    private static final int MAX_COLUMNS = Integer.SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] rowMasks;
+
+    public BitboardTetrisBoard(int width, int height) {
+        this(width, height, new RandomTetrominoGenerator());
+    }
+
+    public BitboardTetrisBoard(int width, int height, TetrominoGenerator tetrominoGenerator) {
+        super(width, height, tetrominoGenerator);
+        if (height > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Bitboard supports at most " + MAX_COLUMNS + " columns: " + height);
+        }
+        this.rows = width;
+        this.columns = height;
+        this.fullRowMask = (1 << columns) - 1;
+        this.rowMasks = new int[rows];
+    }
+
+    @Override
+    protected boolean collides(RotationState rotation, int x, int y) {
+        int[] pieceMasks = rotation.getRowMasks();
+        for (int pieceRow = rotation.getMinRow(); pieceRow <= rotation.getMaxRow(); pieceRow++) {
+            int pieceMask = pieceMasks[pieceRow];
+            if (pieceMask == 0) {
+                continue;
+            }
+
+            int boardRow = y + pieceRow;
+            if (boardRow < 0 || boardRow >= rows) {
+                return true;
+            }
+
+            int shifted = shiftToColumn(pieceMask, x);
+            if (shifted == -1 || (rowMasks[boardRow] & shifted) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected int stepToLandingRow(RotationState rotation, int x, int y) {
+        /* same walk as GhostPieceCalculator but each step is
+         * a few mask tests instead of a full cell scan
+         */
+        int landingY = y;
+        while (!collides(rotation, x, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    @Override
+    protected void mergeCells(RotationState rotation, int x, int y) {
+        int[][] colours = getBoardMatrix();
+        int[] cellRows = rotation.getCellRows();
+        int[] cellCols = rotation.getCellCols();
+
+        for (int cell = 0; cell < cellRows.length; cell++) {
+            int boardRow = y + cellRows[cell];
+            int boardCol = x + cellCols[cell];
+            if (boardRow >= 0 && boardRow < rows && boardCol >= 0 && boardCol < columns) {
+                rowMasks[boardRow] |= 1 << boardCol;
+                colours[boardRow][boardCol] = rotation.getColorId();
+            }
+        }
+    }
+
+    @Override
+    protected int removeCompletedRows(int fromRow, int toRow, int[] clearedRows) {
+        int first = Math.max(0, fromRow);
+        int last = Math.min(rows - 1, toRow);
+        int cleared = 0;
+
+        for (int row = first; row <= last; row++) {
+            if (rowMasks[row] == fullRowMask) {
+                clearedRows[cleared++] = row;
+            }
+        }
+        if (cleared == 0) {
+            return 0;
+        }
+
+        /* shift the masks the same way compactRows shifts the colour rows */
+        int writeRow = clearedRows[cleared - 1];
+        int nextCleared = cleared - 1;
+        for (int readRow = writeRow; readRow >= 0; readRow--) {
+            if (nextCleared >= 0 && readRow == clearedRows[nextCleared]) {
+                nextCleared--;
+                continue;
+            }
+            rowMasks[writeRow--] = rowMasks[readRow];
+        }
+        for (int row = writeRow; row >= 0; row--) {
+            rowMasks[row] = 0;
+        }
+
+        MatrixOperations.compactRows(getBoardMatrix(), clearedRows, cleared);
+        return cleared;
+    }
+
+    @Override
+    protected void insertRows(int count, int holeColumn, int colour) {
+        System.arraycopy(rowMasks, count, rowMasks, 0, rows - count);
+        Arrays.fill(rowMasks, rows - count, rows, fullRowMask & ~(1 << holeColumn));
+        super.insertRows(count, holeColumn, colour);
+    }
+
+    @Override
+    protected void resetCells() {
+        super.resetCells();
+        Arrays.fill(rowMasks, 0);
+    }
+
+    @Override
+    protected void onCellsLoaded() {
+        recomputeRowMasks();
+        super.onCellsLoaded();
+    }
+
+    @Override
+    protected void onRowRestored(int row, int occupied) {
+        rowMasks[row] = occupied;
+    }
+
+    /**
+     * Gets the packed occupancy mask of a row.
+     *
+     * @param row board row index
+     * @return bitmask with bit {@code c} set when column {@code c} is filled
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /* re-derives every row mask from the colour plane
+     * only needed when the colour plane was written directly
+     */
+    void rebuildRowMasks() {
+        recomputeRowMasks();
+        rebuildStatistics();
+    }
+
+    private void recomputeRowMasks() {
+        int[][] colours = getBoardMatrix();
+        for (int row = 0; row < rows; row++) {
+            rowMasks[row] = rowMask(colours[row]);
+        }
+    }
+
+    private static int rowMask(int[] colourRow) {
+        int mask = 0;
+        for (int col = 0; col < colourRow.length; col++) {
+            if (colourRow[col] != 0) {
+                mask |= 1 << col;
+            }
+        }
+        return mask;
+    }
+
+    /* returns the piece mask moved to column x, or -1 when
+     * any occupied cell would fall outside the side walls
+     */
+    private int shiftToColumn(int pieceMask, int x) {
+        if (x >= columns || x <= -Integer.SIZE) {
+            return -1;
+        }
+        if (x < 0) {
+            if ((pieceMask & ((1 << -x) - 1)) != 0) {
+                return -1;
+            }
+            return pieceMask >>> -x;
+        }
+        int shifted = pieceMask << x;
+        return (shifted & ~fullRowMask) != 0 ? -1 : shifted;
+    }
+}
@@ -4,6 +4,7 @@ package com.comp2042.tetris.core;
 import com.comp2042.tetris.models.ViewData;
 
 import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.models.DirtyRegion;
 import com.comp2042.tetris.pieces.Tetromino;
 
 import java.util.Optional;
@@ -28,8 +29,23 @@ public interface Board {
 
     ClearRow clearRows();
 
+    /* moves the piece to its landing row, locks it and clears rows
+     * in one call instead of looping moveBrickDown()
+     */
+    ClearRow hardDrop();
+
     Score getScore();
 
+    /* surface features kept up to date as pieces lock
+     * read these instead of rescanning getBoardMatrix()
+     */
+    BoardStatistics getStatistics();
+
+    /* cells changed since the renderer last caught up
+     * lets the UI repaint a handful of cells instead of the board
+     */
+    DirtyRegion getDirtyRegion();
+
     void newGame();
 
     /* hold piece functionality for strategic gameplay
@@ -38,4 +54,12 @@ public interface Board {
     boolean holdCurrentPiece();
 
     Optional<Tetromino> getHeldPiece();
+
+    /* the whole position, cheap enough for undo and search */
+    BoardState snapshot();
+
+    /* same as snapshot() but fills a state the caller keeps */
+    void snapshot(BoardState state);
+
+    void restore(BoardState state);
 }
@@ -0,0 +1,45 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.pieces.TetrominoGenerator;
+
+/**
+ * Selects which board storage engine a game runs on.
+ *
+ * <p>Both engines play exactly the same game. {@link #MATRIX} is the
+ * original cell-by-cell {@link TetrisBoard}; {@link #BITBOARD} packs each
+ * row into a bitmask and is the one to pick for bots and simulations
+ * where collision checks dominate the run time.</p>
+ */
+public enum BoardEngine {
+    MATRIX,
+    BITBOARD;
+
+    /**
+     * Creates a board backed by this engine.
+     *
+     * @param width number of rows (matches the {@link TetrisBoard} constructor)
+     * @param height number of columns
+     * @return a new board ready for {@code newGame()} or {@code createNewBrick()}
+     */
+    public TetrisBoard create(int width, int height) {
+        return switch (this) {
+            case MATRIX -> new TetrisBoard(width, height);
+            case BITBOARD -> new BitboardTetrisBoard(width, height);
+        };
+    }
+
+    /**
+     * Creates a board backed by this engine that deals from a given generator.
+     *
+     * @param width number of rows
+     * @param height number of columns
+     * @param generator where the pieces come from, usually seeded
+     * @return a new board ready for {@code newGame()} or {@code createNewBrick()}
+     */
+    public TetrisBoard create(int width, int height, TetrominoGenerator generator) {
+        return switch (this) {
+            case MATRIX -> new TetrisBoard(width, height, generator);
+            case BITBOARD -> new BitboardTetrisBoard(width, height, generator);
+        };
+    }
+}
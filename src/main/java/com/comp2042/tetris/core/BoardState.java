@@ -0,0 +1,305 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.pieces.Tetromino;
+import com.comp2042.tetris.pieces.TetrominoType;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A saved board position that can be put back with {@link Board#restore}.
+ *
+ * <p>Holds everything that decides how the game carries on: the locked
+ * cells, the falling piece with its rotation and offset, the hold slot,
+ * combo, cleared lines, score and how far the piece generator has
+ * dealt. Undo, AI search and rollback all take thousands of these a
+ * second, so they are built to be cheap.</p>
+ *
+ * <h2>Packed Rows</h2>
+ * <p>Cells are stored as 4-bit colour ids, sixteen to a {@code long},
+ * so a standard 10 wide row is one {@code long}. The board keeps its
+ * own packed copy up to date as pieces lock and rows clear, so a
+ * snapshot is one array copy of a word per row rather than a deep copy
+ * of the {@code int[][]}. Pieces are shared flyweights and are stored
+ * by reference.</p>
+ *
+ * <h2>Derived Data</h2>
+ * <p>A snapshot also keeps what the board works out from its cells:
+ * the Zobrist hash and the surface statistics. Restoring puts those
+ * back as they are and unpacks only the rows that differ from the
+ * board's, so winding back a few moves touches a few rows. A state
+ * built from saved values, such as a replay keyframe, has only the
+ * cells, and restoring it recounts everything.</p>
+ *
+ * <h2>Reuse</h2>
+ * <p>A state is mutable so a caller can keep one per search depth or
+ * per frame and pass it to {@link Board#snapshot(BoardState)} again and
+ * again; taking a snapshot that way allocates nothing.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-03
+ */
+public final class BoardState {
+
+    /* a colour id fits four bits; there are nine, 0 to 8, garbage included */
+    public static final int CELL_BITS = 4;
+    public static final int CELLS_PER_WORD = Long.SIZE / CELL_BITS;
+    static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+    private final int rows;
+    private final int columns;
+    private final int wordsPerRow;
+    final long[] packedRows;
+
+    Tetromino piece;
+    int rotation;
+    int x;
+    int y;
+    Tetromino heldPiece;
+    boolean canHold;
+    int combo;
+    int linesCleared;
+    int score;
+    long drawCount;
+
+    /* worked out from the cells; only valid when statisticsSaved */
+    boolean statisticsSaved;
+    long zobristHash;
+    final int[] columnHeights;
+    final int[] rowFillCounts;
+    int aggregateHeight;
+    int bumpiness;
+    int filledCells;
+
+    /**
+     * Creates an empty state for a board of the given size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     */
+    public BoardState(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.wordsPerRow = wordsPerRow(columns);
+        this.packedRows = new long[rows * wordsPerRow];
+        this.columnHeights = new int[columns];
+        this.rowFillCounts = new int[rows];
+    }
+
+    /**
+     * Creates a state from saved values, for example a replay keyframe.
+     *
+     * @param columns board columns
+     * @param packedRows cells as {@link #getPackedWord} returns them; copied
+     * @param piece the falling piece
+     * @param rotation its rotation index
+     * @param x column of the piece's shape origin
+     * @param y row of the piece's shape origin
+     * @param heldPiece the held piece, or null
+     * @param canHold whether hold is still available this turn
+     * @param combo combo count, -1 for none
+     * @param linesCleared total lines cleared
+     * @param score score value
+     * @param drawCount pieces the generator had dealt
+     */
+    public BoardState(int columns, long[] packedRows, Tetromino piece, int rotation, int x, int y,
+                      Tetromino heldPiece, boolean canHold, int combo, int linesCleared, int score,
+                      long drawCount) {
+        this(packedRows.length / wordsPerRow(columns), columns);
+        System.arraycopy(packedRows, 0, this.packedRows, 0, this.packedRows.length);
+        this.piece = piece;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldPiece = heldPiece;
+        this.canHold = canHold;
+        this.combo = combo;
+        this.linesCleared = linesCleared;
+        this.score = score;
+        this.drawCount = drawCount;
+    }
+
+    /**
+     * Gets how many words hold one row of a board this wide.
+     *
+     * @param columns board columns
+     * @return longs per row
+     */
+    public static int wordsPerRow(int columns) {
+        return (columns + CELLS_PER_WORD - 1) / CELLS_PER_WORD;
+    }
+
+    /* writes one row back as colour ids; returns its occupancy bitmask */
+    int unpackRow(int row, int[] cells) {
+        int base = row * wordsPerRow;
+        int occupied = 0;
+        for (int word = 0; word < wordsPerRow; word++) {
+            int first = word * CELLS_PER_WORD;
+            long packed = packedRows[base + word];
+            for (int col = first; col < Math.min(columns, first + CELLS_PER_WORD); col++) {
+                int colour = (int) (packed & CELL_MASK);
+                cells[col] = colour;
+                if (colour != 0) {
+                    occupied |= 1 << col;
+                }
+                packed >>>= CELL_BITS;
+            }
+        }
+        return occupied;
+    }
+
+    /**
+     * Copies another state into this one without allocating.
+     *
+     * @param other state for a board of the same size
+     */
+    public void copyFrom(BoardState other) {
+        checkSize(other.rows, other.columns);
+        System.arraycopy(other.packedRows, 0, packedRows, 0, packedRows.length);
+        piece = other.piece;
+        rotation = other.rotation;
+        x = other.x;
+        y = other.y;
+        heldPiece = other.heldPiece;
+        canHold = other.canHold;
+        combo = other.combo;
+        linesCleared = other.linesCleared;
+        score = other.score;
+        drawCount = other.drawCount;
+        statisticsSaved = other.statisticsSaved;
+        zobristHash = other.zobristHash;
+        System.arraycopy(other.columnHeights, 0, columnHeights, 0, columnHeights.length);
+        System.arraycopy(other.rowFillCounts, 0, rowFillCounts, 0, rowFillCounts.length);
+        aggregateHeight = other.aggregateHeight;
+        bumpiness = other.bumpiness;
+        filledCells = other.filledCells;
+    }
+
+    /* true when the row's words match the board's packed copy */
+    boolean rowMatches(int row, long[] boardWords) {
+        int base = row * wordsPerRow;
+        for (int word = base; word < base + wordsPerRow; word++) {
+            if (packedRows[word] != boardWords[word]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void checkSize(int expectedRows, int expectedColumns) {
+        if (expectedRows != rows || expectedColumns != columns) {
+            throw new IllegalArgumentException("State is " + rows + "x" + columns
+                + ", board is " + expectedRows + "x" + expectedColumns);
+        }
+    }
+
+    /**
+     * Gets the colour of one cell.
+     *
+     * @param row board row
+     * @param col board column
+     * @return colour id, 0 for empty
+     */
+    public int getCell(int row, int col) {
+        long word = packedRows[row * wordsPerRow + col / CELLS_PER_WORD];
+        return (int) (word >>> (col % CELLS_PER_WORD * CELL_BITS) & CELL_MASK);
+    }
+
+    /**
+     * Gets one packed word of cells.
+     *
+     * @param index word index, {@code row * wordsPerRow(columns) + word}
+     * @return sixteen 4-bit colour ids, lowest column in the lowest bits
+     */
+    public long getPackedWord(int index) {
+        return packedRows[index];
+    }
+
+    public int getPackedWordCount() {
+        return packedRows.length;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public Tetromino getPiece() {
+        return piece;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public Tetromino getHeldPiece() {
+        return heldPiece;
+    }
+
+    public boolean canHold() {
+        return canHold;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Compares the whole position, cells and all.
+     *
+     * @param o other object
+     * @return true for the same position
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardState other)) {
+            return false;
+        }
+        return columns == other.columns && Arrays.equals(packedRows, other.packedRows)
+            && typeOf(piece) == typeOf(other.piece) && rotation == other.rotation && x == other.x && y == other.y
+            && typeOf(heldPiece) == typeOf(other.heldPiece) && canHold == other.canHold && combo == other.combo
+            && linesCleared == other.linesCleared && score == other.score && drawCount == other.drawCount;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(packedRows);
+        result = 31 * result + Objects.hashCode(typeOf(piece));
+        result = 31 * result + rotation;
+        result = 31 * result + x;
+        result = 31 * result + y;
+        return 31 * result + Long.hashCode(drawCount);
+    }
+
+    /* pieces compare by type, so shared and freshly made pieces match */
+    private static TetrominoType typeOf(Tetromino tetromino) {
+        return tetromino == null ? null : tetromino.getType();
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.tetris.core;
+
+/**
+ * Read-only view of the board's surface features.
+ *
+ * <p>The board keeps these numbers up to date as pieces lock and rows
+ * clear, so reading them never rescans the matrix. Heights are counted
+ * from the bottom of the board: an empty column has height 0 and a
+ * column whose top block sits in row {@code r} has height
+ * {@code rows - r}.</p>
+ *
+ * <p>Bots and evaluators should read from here instead of walking
+ * {@code getBoardMatrix()} themselves.</p>
+ */
+public interface BoardStatistics {
+
+    int getRowCount();
+
+    int getColumnCount();
+
+    /**
+     * Gets the height of a column.
+     *
+     * @param column column index
+     * @return rows from the floor up to and including the highest block
+     */
+    int getColumnHeight(int column);
+
+    /**
+     * Gets how many cells of a row are filled.
+     *
+     * @param row row index ([row][col] board layout)
+     * @return filled cell count, equal to the column count when the row is full
+     */
+    int getRowFillCount(int row);
+
+    /**
+     * Gets the number of empty cells that have a block somewhere above them.
+     *
+     * @return total hole count
+     */
+    int getHoleCount();
+
+    /**
+     * Gets the sum of all column heights.
+     *
+     * @return aggregate height
+     */
+    int getAggregateHeight();
+
+    /**
+     * Gets the sum of height differences between neighbouring columns.
+     *
+     * @return bumpiness of the surface
+     */
+    int getBumpiness();
+
+    /**
+     * Gets the tallest column height.
+     *
+     * @return maximum column height
+     */
+    int getMaxHeight();
+
+    /**
+     * Gets the total number of filled cells on the board.
+     *
+     * @return filled cell count
+     */
+    int getFilledCellCount();
+}
@@ -97,6 +97,15 @@ public class ComboManager {
         currentCombo = -1;
     }
 
+    /**
+     * Puts back a combo count saved earlier.
+     *
+     * @param combo the value {@link #getCurrentCombo()} returned
+     */
+    public void restore(int combo) {
+        currentCombo = combo;
+    }
+
     /**
      * Gets a friendly description of the current combo for display.
      *
@@ -0,0 +1,120 @@
+package com.comp2042.tetris.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-timestep clock that turns wall time into game logic ticks.
+ *
+ * <p>Gravity used to come from one JavaFX {@code Timeline} per board.
+ * Each level change threw the timeline away and built a new one, and
+ * multiplayer ran two timelines that drifted apart. This clock is fed
+ * nanosecond timestamps and fires exactly {@value #TICKS_PER_SECOND}
+ * logic ticks per second, however unevenly the timestamps arrive. One
+ * clock can drive every board on screen.</p>
+ *
+ * <h2>Accumulator</h2>
+ * <p>Elapsed time builds up in an accumulator, and a tick fires for
+ * every whole {@link #TICK_NANOS} in it. The leftover carries over to
+ * the next call, so a 144 Hz monitor and a 50 Hz one both see the same
+ * tick rate. After a long stall (a window drag, a GC pause) at most
+ * {@value #MAX_TICKS_PER_ADVANCE} ticks are replayed and the rest of
+ * the backlog is dropped, rather than freezing while it catches up.</p>
+ *
+ * <p>The clock knows nothing about JavaFX. The UI feeds it from an
+ * {@code AnimationTimer}; a simulation can feed it {@code System.nanoTime()}
+ * or plain made-up numbers.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-28
+ */
+public final class GameClock {
+
+    /**
+     * Called once per logic tick.
+     */
+    @FunctionalInterface
+    public interface TickListener {
+        void onTick(long tick);
+    }
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /* about a sixth of a second of catch-up before giving up */
+    static final int MAX_TICKS_PER_ADVANCE = 10;
+
+    private final List<TickListener> listeners = new ArrayList<>();
+    private long lastNanos;
+    private boolean started;
+    private long accumulatedNanos;
+    private long tickCount;
+
+    public void addListener(TickListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(TickListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Moves the clock to a new timestamp and fires the ticks that are due.
+     *
+     * <p>The first call after construction or {@link #resync()} only
+     * records the timestamp.</p>
+     *
+     * @param nowNanos current time in nanoseconds, from any monotonic source
+     * @return number of ticks fired
+     */
+    public int advance(long nowNanos) {
+        if (!started) {
+            started = true;
+            lastNanos = nowNanos;
+            return 0;
+        }
+
+        accumulatedNanos += Math.max(0, nowNanos - lastNanos);
+        lastNanos = nowNanos;
+
+        int fired = 0;
+        while (accumulatedNanos >= TICK_NANOS && fired < MAX_TICKS_PER_ADVANCE) {
+            accumulatedNanos -= TICK_NANOS;
+            tickCount++;
+            fired++;
+            for (TickListener listener : listeners) {
+                listener.onTick(tickCount);
+            }
+        }
+        if (fired == MAX_TICKS_PER_ADVANCE) {
+            accumulatedNanos %= TICK_NANOS;
+        }
+        return fired;
+    }
+
+    /**
+     * Forgets the last timestamp so the next {@link #advance} starts fresh.
+     *
+     * <p>Call this when resuming from pause, otherwise the whole pause
+     * would be treated as elapsed game time.</p>
+     */
+    public void resync() {
+        started = false;
+        accumulatedNanos = 0;
+    }
+
+    /**
+     * Gets how far the clock is into the next tick, for renderers that
+     * want to interpolate.
+     *
+     * @return fraction of a tick between 0 inclusive and 1 exclusive
+     */
+    public double getTickProgress() {
+        return (double) accumulatedNanos / TICK_NANOS;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042.tetris.core;
 
 import com.comp2042.tetris.collision.CollisionDetector;
+import com.comp2042.tetris.pieces.RotationState;
 
 import java.awt.Point;
 
@@ -18,7 +19,9 @@ import java.awt.Point;
  * and modify independently.</p>
  *
  * <h2>Algorithm</h2>
- * <p>The calculator simulates dropping the piece row by row until
+ * <p>When the board's column heights are available the landing row is
+ * read straight off the surface using the piece's bottom profile.
+ * Otherwise the calculator simulates dropping the piece row by row until
  * it collides with the board bottom or other pieces. The final
  * position before collision is returned as the ghost position.</p>
  *
@@ -28,6 +31,51 @@ import java.awt.Point;
  */
 public class GhostPieceCalculator {
 
+    /* returned by calculateLandingY when the surface alone cannot answer */
+    public static final int NO_SHORTCUT = Integer.MIN_VALUE;
+
+    /**
+     * Finds the landing row directly from column heights.
+     *
+     * <p>For every column the piece covers, the lowest piece cell must stop
+     * one row above that column's top block. The landing row is the
+     * smallest of those limits, so no stepping or collision checks are
+     * needed. This only holds while the piece is above the surface in
+     * every column it covers; when it has been tucked under an overhang
+     * the method returns {@link #NO_SHORTCUT} and the caller should step
+     * down with {@link #calculateGhostY} instead.</p>
+     *
+     * @param stats live surface statistics of the board
+     * @param rotation the current rotation of the piece
+     * @param x column of the piece's shape origin
+     * @param y row of the piece's shape origin
+     * @return landing row for the shape origin, or {@link #NO_SHORTCUT}
+     */
+    public static int calculateLandingY(BoardStatistics stats, RotationState rotation, int x, int y) {
+        int[] bottoms = rotation.getColumnBottoms();
+        int rows = stats.getRowCount();
+        int landingY = Integer.MAX_VALUE;
+
+        for (int pieceCol = 0; pieceCol < bottoms.length; pieceCol++) {
+            if (bottoms[pieceCol] < 0) {
+                continue;
+            }
+            int boardCol = x + pieceCol;
+            if (boardCol < 0 || boardCol >= stats.getColumnCount()) {
+                return NO_SHORTCUT;
+            }
+
+            /* first filled row of this column, or the floor */
+            int surfaceRow = rows - stats.getColumnHeight(boardCol);
+            if (y + bottoms[pieceCol] >= surfaceRow) {
+                return NO_SHORTCUT;
+            }
+            landingY = Math.min(landingY, surfaceRow - 1 - bottoms[pieceCol]);
+        }
+
+        return landingY == Integer.MAX_VALUE ? NO_SHORTCUT : landingY;
+    }
+
     /**
      * Calculates the Y position where the ghost piece should appear.
      *
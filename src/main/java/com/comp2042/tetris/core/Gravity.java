@@ -0,0 +1,92 @@
+package com.comp2042.tetris.core;
+
+/**
+ * Fractional gravity for one board, in cells per {@link GameClock} tick.
+ *
+ * <p>A drop interval in milliseconds only describes speeds of up to one
+ * row per frame. Guideline games go all the way to 20G, twenty rows per
+ * frame, which means the piece appears on the floor. Here gravity is a
+ * fraction of a cell per tick. It builds up over ticks, and each tick
+ * reports how many whole rows the piece should fall.</p>
+ *
+ * <p>For example, 800 ms per row at 60 ticks per second is about 0.0208
+ * cells per tick, so a row is released every 48 ticks. The leftover
+ * fraction carries over, so no time is lost to rounding.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-28
+ */
+public final class Gravity {
+
+    /* 20G: the whole visible board in a single frame */
+    public static final double MAX_CELLS_PER_TICK = 20.0;
+
+    private static final double TICK_MILLIS = 1000.0 / GameClock.TICKS_PER_SECOND;
+
+    private double cellsPerTick;
+    private double accumulated;
+
+    public Gravity(double cellsPerTick) {
+        setCellsPerTick(cellsPerTick);
+    }
+
+    /**
+     * Converts a classic drop interval to gravity.
+     *
+     * @param dropIntervalMillis milliseconds per row
+     * @return cells per tick, capped at {@link #MAX_CELLS_PER_TICK}
+     */
+    public static double fromDropInterval(int dropIntervalMillis) {
+        if (dropIntervalMillis <= 0) {
+            return MAX_CELLS_PER_TICK;
+        }
+        return Math.min(MAX_CELLS_PER_TICK, TICK_MILLIS / dropIntervalMillis);
+    }
+
+    /**
+     * Changes the speed without losing the progress towards the next row.
+     *
+     * @param cellsPerTick new gravity, clamped to 0..{@link #MAX_CELLS_PER_TICK}
+     */
+    public void setCellsPerTick(double cellsPerTick) {
+        this.cellsPerTick = Math.max(0, Math.min(MAX_CELLS_PER_TICK, cellsPerTick));
+    }
+
+    public double getCellsPerTick() {
+        return cellsPerTick;
+    }
+
+    /**
+     * Advances one tick.
+     *
+     * @return whole rows the piece should fall this tick
+     */
+    public int tick() {
+        accumulated += cellsPerTick;
+        int rows = (int) accumulated;
+        accumulated -= rows;
+        return rows;
+    }
+
+    /**
+     * Gets the progress towards the next row, as a fraction of a cell.
+     */
+    public double getProgress() {
+        return accumulated;
+    }
+
+    /**
+     * Puts back progress saved with {@link #getProgress()}.
+     */
+    public void restoreProgress(double progress) {
+        this.accumulated = progress;
+    }
+
+    /**
+     * Drops any partial progress, for example when a new piece spawns.
+     */
+    public void reset() {
+        accumulated = 0;
+    }
+}
@@ -125,4 +125,15 @@ public class HoldPieceManager {
         heldPiece = null;
         holdUsedThisTurn = false;
     }
+
+    /**
+     * Puts back a hold state saved earlier.
+     *
+     * @param heldPiece the held piece, or null if nothing is held
+     * @param canHold whether hold is still available this turn
+     */
+    public void restore(Tetromino heldPiece, boolean canHold) {
+        this.heldPiece = heldPiece;
+        this.holdUsedThisTurn = !canHold;
+    }
 }
@@ -0,0 +1,26 @@
+package com.comp2042.tetris.core;
+
+/**
+ * Callback for a plain {@code int} value that changed.
+ *
+ * <p>The game model used to expose JavaFX {@code IntegerProperty}
+ * objects, which meant nothing in core could even be loaded without
+ * the JavaFX runtime. Model classes now hold primitives and report
+ * changes through this interface; the UI controllers turn them back
+ * into properties on their side.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-25
+ */
+@FunctionalInterface
+public interface IntValueListener {
+
+    /**
+     * Called after the value has changed.
+     *
+     * @param oldValue value before the change
+     * @param newValue value after the change
+     */
+    void changed(int oldValue, int newValue);
+}
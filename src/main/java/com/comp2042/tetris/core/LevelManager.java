@@ -36,10 +36,24 @@ public class LevelManager {
     }
 
     public int getDropSpeed() {
-        int speed = BASE_DROP_SPEED - ((currentLevel - 1) * SPEED_DECREASE_PER_LEVEL);
+        return dropSpeedForLevel(currentLevel);
+    }
+
+    /* the same speed as getDropSpeed in cells per GameClock tick */
+    public double getGravity() {
+        return gravityForLevel(currentLevel);
+    }
+
+    /* for listeners that only hear the level, e.g. from a GameEventBus */
+    public static int dropSpeedForLevel(int level) {
+        int speed = BASE_DROP_SPEED - ((level - 1) * SPEED_DECREASE_PER_LEVEL);
         return Math.max(speed, MIN_DROP_SPEED);
     }
 
+    public static double gravityForLevel(int level) {
+        return Gravity.fromDropInterval(dropSpeedForLevel(level));
+    }
+
     public int getLinesUntilNextLevel() {
         return LINES_PER_LEVEL - (totalLinesCleared % LINES_PER_LEVEL);
     }
@@ -49,6 +63,12 @@ public class LevelManager {
         totalLinesCleared = 0;
     }
 
+    /* puts the count back, e.g. when a replay jumps to a keyframe */
+    public void restore(int totalLinesCleared) {
+        this.totalLinesCleared = totalLinesCleared;
+        updateLevel();
+    }
+
     public int getScoreMultiplier() {
         return currentLevel;
     }
@@ -1,21 +1,75 @@
 package com.comp2042.tetris.core;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Running score for one game.
+ *
+ * <p>Plain {@code int} plus listeners so the board can run headless;
+ * {@link com.comp2042.tetris.ui.GuiController} adapts it to a JavaFX
+ * property for the score label.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-25
+ */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int value;
+    private final List<IntValueListener> listeners = new ArrayList<>();
 
-    public IntegerProperty scoreProperty() {
-        return score;
+    /**
+     * Gets the current score.
+     *
+     * @return score value
+     */
+    public int getValue() {
+        return value;
     }
 
-    public void add(int i){
-        score.setValue(score.getValue() + i);
+    public void add(int i) {
+        set(value + i);
     }
 
     public void reset() {
-        score.setValue(0);
+        set(0);
+    }
+
+    /* puts back a value saved earlier, telling listeners once */
+    public void restore(int savedValue) {
+        set(savedValue);
+    }
+
+    /**
+     * Registers a listener that is told about every score change.
+     *
+     * @param listener listener to add
+     */
+    public void addListener(IntValueListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener}.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(IntValueListener listener) {
+        listeners.remove(listener);
+    }
+
+    /* adding 0 does not count as a change
+     * same as a JavaFX property would behave
+     */
+    private void set(int newValue) {
+        int oldValue = value;
+        if (oldValue == newValue) {
+            return;
+        }
+        value = newValue;
+        for (IntValueListener listener : listeners) {
+            listener.changed(oldValue, newValue);
+        }
     }
 }
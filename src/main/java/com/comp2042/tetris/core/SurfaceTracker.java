@@ -0,0 +1,233 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.pieces.RotationState;
+
+import java.util.Arrays;
+
+/**
+ * Keeps {@link BoardStatistics} current as pieces lock and rows clear.
+ *
+ * <p>Locking a piece only touches the four columns and rows under its
+ * cells. Clearing rows shifts the row counts down and lowers every
+ * column by the number of rows removed; only a column whose top block
+ * sat in a cleared row needs a short scan to find its new top.</p>
+ *
+ * <p>Holes are not tracked cell by cell. Every cell under a column's top
+ * is either filled or a hole, so the hole count is simply the aggregate
+ * height minus the filled cell count.</p>
+ */
+final class SurfaceTracker implements BoardStatistics {
+
+    private final int rows;
+    private final int columns;
+    private final int[] columnHeights;
+    private final int[] rowFillCounts;
+    private int aggregateHeight;
+    private int bumpiness;
+    private int filledCells;
+
+    SurfaceTracker(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.columnHeights = new int[columns];
+        this.rowFillCounts = new int[rows];
+    }
+
+    /* must be called before the cells are written so that
+     * cells already filled are not counted twice
+     */
+    void onMerge(int[][] matrix, RotationState rotation, int x, int y) {
+        int[] cellRows = rotation.getCellRows();
+        int[] cellCols = rotation.getCellCols();
+
+        for (int cell = 0; cell < cellRows.length; cell++) {
+            int row = y + cellRows[cell];
+            int col = x + cellCols[cell];
+            if (row < 0 || row >= rows || col < 0 || col >= columns || matrix[row][col] != 0) {
+                continue;
+            }
+            rowFillCounts[row]++;
+            filledCells++;
+            int height = rows - row;
+            if (height > columnHeights[col]) {
+                setColumnHeight(col, height);
+            }
+        }
+    }
+
+    /* called after the matrix has been compacted */
+    void onRowsCleared(int[][] matrix, int[] clearedRows, int count) {
+        if (count == 0) {
+            return;
+        }
+        int topCleared = clearedRows[0];
+
+        /* shift the fill counts exactly like the rows were shifted */
+        int writeRow = clearedRows[count - 1];
+        int nextCleared = count - 1;
+        for (int readRow = writeRow; readRow >= 0; readRow--) {
+            if (nextCleared >= 0 && readRow == clearedRows[nextCleared]) {
+                nextCleared--;
+                continue;
+            }
+            rowFillCounts[writeRow--] = rowFillCounts[readRow];
+        }
+        for (int row = writeRow; row >= 0; row--) {
+            rowFillCounts[row] = 0;
+        }
+        filledCells -= count * columns;
+
+        for (int col = 0; col < columns; col++) {
+            int oldTop = rows - columnHeights[col];
+            if (oldTop < topCleared) {
+                /* blocks above every cleared row just drop down */
+                setColumnHeight(col, columnHeights[col] - count);
+            } else {
+                /* the top block was cleared, look for the next one down */
+                setColumnHeight(col, scanHeight(matrix, col, oldTop + count));
+            }
+        }
+    }
+
+    /* called after count garbage rows, each with a hole in holeColumn,
+     * were pushed in under the stack
+     */
+    void onRowsInserted(int[][] matrix, int count, int holeColumn) {
+        /* the cells pushed off the top are gone */
+        for (int row = 0; row < count; row++) {
+            filledCells -= rowFillCounts[row];
+        }
+        System.arraycopy(rowFillCounts, count, rowFillCounts, 0, rows - count);
+        Arrays.fill(rowFillCounts, rows - count, rows, columns - 1);
+        filledCells += count * (columns - 1);
+
+        for (int col = 0; col < columns; col++) {
+            if (columnHeights[col] + count > rows) {
+                /* the top was pushed off the board, find what is left */
+                setColumnHeight(col, scanHeight(matrix, col, 0));
+            } else if (columnHeights[col] > 0) {
+                setColumnHeight(col, columnHeights[col] + count);
+            } else if (col != holeColumn) {
+                setColumnHeight(col, count);
+            } else {
+                /* the hole runs through every new row */
+                setColumnHeight(col, 0);
+            }
+        }
+    }
+
+    void reset() {
+        Arrays.fill(columnHeights, 0);
+        Arrays.fill(rowFillCounts, 0);
+        aggregateHeight = 0;
+        bumpiness = 0;
+        filledCells = 0;
+    }
+
+    /* full recount, used after the matrix was replaced wholesale */
+    void rebuild(int[][] matrix) {
+        reset();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (matrix[row][col] != 0) {
+                    rowFillCounts[row]++;
+                    filledCells++;
+                }
+            }
+        }
+        for (int col = 0; col < columns; col++) {
+            setColumnHeight(col, scanHeight(matrix, col, 0));
+        }
+    }
+
+    void saveTo(BoardState state) {
+        System.arraycopy(columnHeights, 0, state.columnHeights, 0, columns);
+        System.arraycopy(rowFillCounts, 0, state.rowFillCounts, 0, rows);
+        state.aggregateHeight = aggregateHeight;
+        state.bumpiness = bumpiness;
+        state.filledCells = filledCells;
+    }
+
+    /* puts back counts saved with the cells they were counted from */
+    void restoreFrom(BoardState state) {
+        System.arraycopy(state.columnHeights, 0, columnHeights, 0, columns);
+        System.arraycopy(state.rowFillCounts, 0, rowFillCounts, 0, rows);
+        aggregateHeight = state.aggregateHeight;
+        bumpiness = state.bumpiness;
+        filledCells = state.filledCells;
+    }
+
+    private int scanHeight(int[][] matrix, int col, int fromRow) {
+        for (int row = Math.max(0, fromRow); row < rows; row++) {
+            if (matrix[row][col] != 0) {
+                return rows - row;
+            }
+        }
+        return 0;
+    }
+
+    private void setColumnHeight(int col, int height) {
+        int old = columnHeights[col];
+        if (old == height) {
+            return;
+        }
+        if (col > 0) {
+            bumpiness += Math.abs(height - columnHeights[col - 1]) - Math.abs(old - columnHeights[col - 1]);
+        }
+        if (col < columns - 1) {
+            bumpiness += Math.abs(height - columnHeights[col + 1]) - Math.abs(old - columnHeights[col + 1]);
+        }
+        aggregateHeight += height - old;
+        columnHeights[col] = height;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns;
+    }
+
+    @Override
+    public int getColumnHeight(int column) {
+        return columnHeights[column];
+    }
+
+    @Override
+    public int getRowFillCount(int row) {
+        return rowFillCounts[row];
+    }
+
+    @Override
+    public int getHoleCount() {
+        return aggregateHeight - filledCells;
+    }
+
+    @Override
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    @Override
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    @Override
+    public int getMaxHeight() {
+        /* ten columns, cheaper than keeping a sorted structure */
+        int max = 0;
+        for (int height : columnHeights) {
+            max = Math.max(max, height);
+        }
+        return max;
+    }
+
+    @Override
+    public int getFilledCellCount() {
+        return filledCells;
+    }
+}
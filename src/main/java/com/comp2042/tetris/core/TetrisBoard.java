@@ -7,10 +7,18 @@ import com.comp2042.tetris.models.*;
 import com.comp2042.tetris.collision.CollisionDetector;
 
 import java.awt.*;
+import java.util.Arrays;
 import java.util.Optional;
 
 public class TetrisBoard implements Board {
 
+    /* spawn at column 4 (centered), row 2 (first visible row) */
+    public static final int SPAWN_X = 4;
+    public static final int SPAWN_Y = 2;
+
+    /* colour id of the rows an opponent's attack pushes up */
+    public static final int GARBAGE_COLOR = 8;
+
     private final int width;
     private final int height;
     private final TetrominoGenerator tetrominoGenerator;
@@ -21,17 +29,63 @@ public class TetrisBoard implements Board {
     private final LevelManager levelManager;
     private final HoldPieceManager holdPieceManager;
     private final ComboManager comboManager;
+    private final SurfaceTracker surfaceTracker;
+
+    /* the cells again as 4-bit colours, kept in step on every lock
+     * and clear so a snapshot is a single array copy
+     */
+    private final int wordsPerRow;
+    private final long[] packedCells;
+
+    /* Zobrist hash of the occupancy, XORed as cells fill and empty */
+    private long zobristHash;
+
+    /* rows touched by the last locked piece
+     * only these can have become full, so only these are checked
+     */
+    private int lockedTopRow;
+    private int lockedBottomRow;
+
+    /* indices of the rows removed by the last clear
+     * kept as primitives so a lock allocates nothing
+     */
+    private final int[] lastClearedRows;
+    private int lastClearedCount;
+    private int lastDropDistance;
+
+    /* cells changed since the renderer last drew
+     * plus where the piece and ghost were when it last looked
+     * so the old footprint can be marked once the piece moves
+     */
+    private final DirtyRegion dirtyRegion;
+    private RotationState shownRotation;
+    private int shownX;
+    private int shownY;
+    private int shownGhostY;
 
     public TetrisBoard(int width, int height) {
+        this(width, height, new RandomTetrominoGenerator());
+    }
+
+    /* pass a seeded generator to get the same pieces every game */
+    public TetrisBoard(int width, int height, TetrominoGenerator tetrominoGenerator) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        tetrominoGenerator = new RandomTetrominoGenerator();
+        this.tetrominoGenerator = tetrominoGenerator;
         tetrominoRotator = new TetrominoRotator();
         score = new Score();
         levelManager = new LevelManager();
         holdPieceManager = new HoldPieceManager();
         comboManager = new ComboManager();
+        surfaceTracker = new SurfaceTracker(width, height);
+        wordsPerRow = BoardState.wordsPerRow(height);
+        packedCells = new long[width * wordsPerRow];
+        lastClearedRows = new int[width];
+        lockedTopRow = 0;
+        lockedBottomRow = width - 1;
+        dirtyRegion = new DirtyRegion(width, height);
+        dirtyRegion.markAll();
     }
 
     @Override
@@ -39,7 +93,7 @@ public class TetrisBoard implements Board {
         Point newPosition = new Point(currentOffset);
         newPosition.translate(0, 1);
 
-        if (CollisionDetector.canMoveDown(currentGameMatrix, tetrominoRotator.getCurrentShape(), currentOffset)) {
+        if (!collides(tetrominoRotator.getCurrentRotation(), newPosition.x, newPosition.y)) {
             currentOffset = newPosition;
             return true;
         }
@@ -52,7 +106,7 @@ public class TetrisBoard implements Board {
         Point newPosition = new Point(currentOffset);
         newPosition.translate(-1, 0);
 
-        if (CollisionDetector.canMoveLeft(currentGameMatrix, tetrominoRotator.getCurrentShape(), currentOffset)) {
+        if (!collides(tetrominoRotator.getCurrentRotation(), newPosition.x, newPosition.y)) {
             currentOffset = newPosition;
             return true;
         }
@@ -64,7 +118,7 @@ public class TetrisBoard implements Board {
         Point newPosition = new Point(currentOffset);
         newPosition.translate(1, 0);
 
-        if (CollisionDetector.canMoveRight(currentGameMatrix, tetrominoRotator.getCurrentShape(), currentOffset)) {
+        if (!collides(tetrominoRotator.getCurrentRotation(), newPosition.x, newPosition.y)) {
             currentOffset = newPosition;
             return true;
         }
@@ -73,10 +127,10 @@ public class TetrisBoard implements Board {
 
     @Override
     public boolean rotateLeftBrick() {
-        NextShapeInfo nextShape = tetrominoRotator.getNextShape();
+        RotationState nextRotation = tetrominoRotator.getNextRotation();
 
-        if (CollisionDetector.canRotate(currentGameMatrix, nextShape.getShape(), currentOffset)) {
-            tetrominoRotator.setCurrentShape(nextShape.getPosition());
+        if (!collides(nextRotation, currentOffset.x, currentOffset.y)) {
+            tetrominoRotator.setCurrentShape(nextRotation.getIndex());
             return true;
         }
         return false;
@@ -86,14 +140,14 @@ public class TetrisBoard implements Board {
     public boolean createNewBrick() {
         Tetromino currentTetromino = tetrominoGenerator.getTetromino();
         tetrominoRotator.setBrick(currentTetromino);
-        currentOffset = new Point(4, 2); /* spawn at column 4 (centered), row 2 (visible) */
+        currentOffset = new Point(SPAWN_X, SPAWN_Y);
 
         /* reset hold lock when a new piece spawns naturally
          * this allows the player to use hold again for the new piece
          */
         holdPieceManager.resetHoldLock();
 
-        return CollisionDetector.checkCollision(currentGameMatrix, tetrominoRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        return collides(tetrominoRotator.getCurrentRotation(), currentOffset.x, currentOffset.y);
     }
 
     @Override
@@ -106,30 +160,78 @@ public class TetrisBoard implements Board {
         /* calculate ghost piece position for visual guidance
          * this shows the player where the piece will land
          */
-        int ghostY = GhostPieceCalculator.calculateGhostY(
-            currentGameMatrix,
-            tetrominoRotator.getCurrentShape(),
-            currentOffset
+        RotationState rotation = tetrominoRotator.getCurrentRotation();
+        int ghostY = findLandingRow(
+            rotation,
+            currentOffset.x,
+            currentOffset.y
         );
+        markPieceMoved(rotation, ghostY);
 
         return new ViewData(
             tetrominoRotator.getCurrentShape(),
             (int) currentOffset.getX(),
             (int) currentOffset.getY(),
-            tetrominoGenerator.getNextTetromino().getShapeMatrix().get(0),
-            ghostY
+            tetrominoGenerator.getNextTetromino().getRotationTable().get(0).getShape(),
+            ghostY,
+            dirtyRegion
         );
     }
 
+    /* the last view showed the piece and ghost somewhere else
+     * so both the old and the new cells need repainting
+     */
+    private void markPieceMoved(RotationState rotation, int ghostY) {
+        if (shownRotation != null) {
+            markCells(shownRotation, shownX, shownY);
+            markCells(shownRotation, shownX, shownGhostY);
+        }
+        markCells(rotation, currentOffset.x, currentOffset.y);
+        markCells(rotation, currentOffset.x, ghostY);
+        shownRotation = rotation;
+        shownX = currentOffset.x;
+        shownY = currentOffset.y;
+        shownGhostY = ghostY;
+    }
+
+    private void markCells(RotationState rotation, int x, int y) {
+        int[] cellRows = rotation.getCellRows();
+        int[] cellCols = rotation.getCellCols();
+        for (int cell = 0; cell < cellRows.length; cell++) {
+            dirtyRegion.mark(y + cellRows[cell], x + cellCols[cell]);
+        }
+    }
+
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, tetrominoRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        RotationState rotation = tetrominoRotator.getCurrentRotation();
+        surfaceTracker.onMerge(getBoardMatrix(), rotation, currentOffset.x, currentOffset.y);
+        trackMergedCells(rotation, currentOffset.x, currentOffset.y);
+        mergeCells(rotation, currentOffset.x, currentOffset.y);
+        markCells(rotation, currentOffset.x, currentOffset.y);
+        lockedTopRow = currentOffset.y + rotation.getMinRow();
+        lockedBottomRow = currentOffset.y + rotation.getMaxRow();
     }
 
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
+        lastClearedCount = 0;
+        if (hasFullRow(lockedTopRow, lockedBottomRow)) {
+            /* every row down to the lowest cleared one changes, and
+             * none below the locked piece does
+             */
+            int lastChanged = Math.min(width - 1, lockedBottomRow);
+            zobristHash ^= hashRows(lastChanged);
+            lastClearedCount = removeCompletedRows(lockedTopRow, lockedBottomRow, lastClearedRows);
+            zobristHash ^= hashRows(lastChanged);
+        }
+        surfaceTracker.onRowsCleared(getBoardMatrix(), lastClearedRows, lastClearedCount);
+        if (lastClearedCount > 0) {
+            compactPackedRows(lastClearedRows, lastClearedCount);
+            /* everything above the lowest cleared row moved down */
+            dirtyRegion.markRows(0, lastClearedRows[lastClearedCount - 1]);
+        }
+        ClearRow clearRow = ClearRow.forLines(lastClearedCount);
 
         /* update combo based on whether lines were cleared
          * this tracks consecutive successful clears
@@ -143,6 +245,330 @@ public class TetrisBoard implements Board {
         return clearRow;
     }
 
+    /* keeps the packed copy and the hash in step with a merge; runs
+     * before the cells are written, because a piece that spawned into
+     * the stack on top out lands on cells that are already filled and
+     * XORing those again would empty them in the hash
+     */
+    private void trackMergedCells(RotationState rotation, int x, int y) {
+        int[] cellRows = rotation.getCellRows();
+        int[] cellCols = rotation.getCellCols();
+        long colour = rotation.getColorId() & BoardState.CELL_MASK;
+        for (int cell = 0; cell < cellRows.length; cell++) {
+            int row = y + cellRows[cell];
+            int col = x + cellCols[cell];
+            if (row >= 0 && row < width && col >= 0 && col < height) {
+                int word = row * wordsPerRow + col / BoardState.CELLS_PER_WORD;
+                int shift = col % BoardState.CELLS_PER_WORD * BoardState.CELL_BITS;
+                packedCells[word] = packedCells[word] & ~(BoardState.CELL_MASK << shift) | colour << shift;
+                if (currentGameMatrix[row][col] == 0) {
+                    zobristHash ^= Zobrist.cell(row, col);
+                }
+            }
+        }
+    }
+
+    /* the same shift compactRows does on the colour rows, a word per row */
+    private void compactPackedRows(int[] clearedRows, int cleared) {
+        int writeRow = clearedRows[cleared - 1];
+        int nextCleared = cleared - 1;
+        for (int readRow = writeRow; readRow >= 0; readRow--) {
+            if (nextCleared >= 0 && readRow == clearedRows[nextCleared]) {
+                nextCleared--;
+                continue;
+            }
+            System.arraycopy(packedCells, readRow * wordsPerRow, packedCells, writeRow * wordsPerRow, wordsPerRow);
+            writeRow--;
+        }
+        Arrays.fill(packedCells, 0, (writeRow + 1) * wordsPerRow, 0L);
+    }
+
+    /**
+     * Pushes garbage rows up from the bottom of the board.
+     *
+     * <p>Each new row is full except for one hole. The stack moves up by
+     * {@code count} rows; the row arrays are moved rather than copied
+     * (see {@link MatrixOperations#insertRowsAtBottom}), so only the new
+     * rows' cells are written. The statistics shift the same way, and
+     * the hash is rebuilt from the top of the stack down, since its keys
+     * depend on the row.</p>
+     *
+     * <p>If the falling piece now overlaps the stack it is pushed up
+     * with it, as far as it has to go.</p>
+     *
+     * @param count number of rows, at most the board height
+     * @param holeColumn the empty column in every new row
+     * @return true if blocks were pushed off the top or the piece had
+     *         nowhere to go, which is a top out
+     */
+    public boolean addGarbageRows(int count, int holeColumn) {
+        if (count <= 0) {
+            return false;
+        }
+        if (count > width || holeColumn < 0 || holeColumn >= height) {
+            throw new IllegalArgumentException("Bad garbage: " + count + " rows, hole at " + holeColumn);
+        }
+        boolean toppedOut = false;
+        for (int row = 0; row < count; row++) {
+            toppedOut |= surfaceTracker.getRowFillCount(row) > 0;
+        }
+
+        int oldTop = width - surfaceTracker.getMaxHeight();
+        zobristHash ^= hashRows(Math.max(0, oldTop), width - 1);
+        insertRows(count, holeColumn, GARBAGE_COLOR);
+        insertPackedRows(count, holeColumn);
+        surfaceTracker.onRowsInserted(getBoardMatrix(), count, holeColumn);
+        zobristHash ^= hashRows(Math.max(0, oldTop - count), width - 1);
+        dirtyRegion.markAll();
+
+        if (currentOffset != null) {
+            RotationState rotation = tetrominoRotator.getCurrentRotation();
+            int lift = 0;
+            while (lift <= count && collides(rotation, currentOffset.x, currentOffset.y - lift)) {
+                lift++;
+            }
+            if (lift > count) {
+                toppedOut = true;
+            } else if (lift > 0) {
+                currentOffset = new Point(currentOffset.x, currentOffset.y - lift);
+            }
+        }
+        return toppedOut;
+    }
+
+    /* the same push up on the packed copy */
+    private void insertPackedRows(int count, int holeColumn) {
+        int moved = (width - count) * wordsPerRow;
+        System.arraycopy(packedCells, count * wordsPerRow, packedCells, 0, moved);
+        Arrays.fill(packedCells, moved, packedCells.length, 0L);
+        for (int row = width - count; row < width; row++) {
+            for (int col = 0; col < height; col++) {
+                if (col != holeColumn) {
+                    int word = row * wordsPerRow + col / BoardState.CELLS_PER_WORD;
+                    int shift = col % BoardState.CELLS_PER_WORD * BoardState.CELL_BITS;
+                    packedCells[word] |= (long) GARBAGE_COLOR << shift;
+                }
+            }
+        }
+    }
+
+    /* the hash of rows 0 to lastRow as the cells are right now */
+    private long hashRows(int lastRow) {
+        return hashRows(0, lastRow);
+    }
+
+    private long hashRows(int firstRow, int lastRow) {
+        long hash = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            int mask = 0;
+            for (int col = 0; col < height; col++) {
+                if (currentGameMatrix[row][col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            hash ^= Zobrist.row(row, mask);
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the Zobrist hash of the locked cells.
+     *
+     * <p>Kept up to date as pieces lock and rows clear, so reading it is
+     * free. Equal boards always have equal hashes, whichever order the
+     * pieces went in; colours are ignored. The falling piece is not part
+     * of it.</p>
+     *
+     * @return 64-bit hash of the occupancy
+     * @see Zobrist
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /* re-derives the packed copy after the colour plane was replaced */
+    private void repackCells() {
+        Arrays.fill(packedCells, 0L);
+        int[][] cells = getBoardMatrix();
+        for (int row = 0; row < width; row++) {
+            for (int col = 0; col < height; col++) {
+                int word = row * wordsPerRow + col / BoardState.CELLS_PER_WORD;
+                int shift = col % BoardState.CELLS_PER_WORD * BoardState.CELL_BITS;
+                packedCells[word] |= (cells[row][col] & BoardState.CELL_MASK) << shift;
+            }
+        }
+    }
+
+    /* the column heights answer almost every landing query directly
+     * stepping down is only needed when the piece sits under an overhang
+     */
+    private int findLandingRow(RotationState rotation, int x, int y) {
+        int landingY = GhostPieceCalculator.calculateLandingY(surfaceTracker, rotation, x, y);
+        if (landingY != GhostPieceCalculator.NO_SHORTCUT) {
+            return landingY;
+        }
+        return stepToLandingRow(rotation, x, y);
+    }
+
+    /* the fill counts are already known so most locks
+     * can skip the clear without looking at a single cell
+     */
+    private boolean hasFullRow(int fromRow, int toRow) {
+        for (int row = Math.max(0, fromRow); row <= Math.min(width - 1, toRow); row++) {
+            if (surfaceTracker.getRowFillCount(row) == height) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the current piece straight to its landing row, locks it and
+     * clears any completed rows.
+     *
+     * <p>This replaces calling {@link #moveBrickDown()} in a loop: the
+     * landing row comes from the surface heights, so the whole drop costs
+     * one query, one merge and one clear. No new piece is spawned; call
+     * {@link #createNewBrick()} afterwards as with any other lock.</p>
+     *
+     * @return the result of the row clear
+     */
+    @Override
+    public ClearRow hardDrop() {
+        RotationState rotation = tetrominoRotator.getCurrentRotation();
+        int landingY = findLandingRow(rotation, currentOffset.x, currentOffset.y);
+        lastDropDistance = landingY - currentOffset.y;
+        currentOffset = new Point(currentOffset.x, landingY);
+        mergeBrickToBackground();
+        return clearRows();
+    }
+
+    /**
+     * Gets how many rows the last {@link #hardDrop()} moved the piece.
+     *
+     * @return rows dropped, used for hard drop scoring
+     */
+    public int getLastDropDistance() {
+        return lastDropDistance;
+    }
+
+    /* storage hooks
+     * everything that reads or writes the cells goes through these
+     * so another engine (see BitboardTetrisBoard) can swap the
+     * representation without touching the piece and hold logic above
+     */
+
+    protected boolean collides(RotationState rotation, int x, int y) {
+        return CollisionDetector.checkCollision(currentGameMatrix, rotation.getShape(), x, y);
+    }
+
+    protected int stepToLandingRow(RotationState rotation, int x, int y) {
+        return GhostPieceCalculator.calculateGhostY(currentGameMatrix, rotation.getShape(), new Point(x, y));
+    }
+
+    protected void mergeCells(RotationState rotation, int x, int y) {
+        MatrixOperations.mergeInPlace(currentGameMatrix, rotation.getShape(), x, y);
+    }
+
+    /* fills the cleared row buffer and returns how many rows went */
+    protected int removeCompletedRows(int fromRow, int toRow, int[] clearedRows) {
+        return MatrixOperations.clearFullRows(currentGameMatrix, fromRow, toRow, clearedRows);
+    }
+
+    /* pushes the stack up and writes count rows of garbage under it */
+    protected void insertRows(int count, int holeColumn, int colour) {
+        MatrixOperations.insertRowsAtBottom(currentGameMatrix, count, holeColumn, colour);
+    }
+
+    protected void resetCells() {
+        currentGameMatrix = new int[width][height];
+    }
+
+    /* called after loadCells replaced the colour plane
+     * an engine with its own copy of the cells rebuilds it here
+     */
+    protected void onCellsLoaded() {
+        refreshStatistics();
+    }
+
+    /* called after restore rewrote one row of the colour plane
+     * occupied has bit c set for each filled column c
+     */
+    protected void onRowRestored(int row, int occupied) {
+    }
+
+    protected RotationState getCurrentRotation() {
+        return tetrominoRotator.getCurrentRotation();
+    }
+
+    protected Point getCurrentOffset() {
+        return currentOffset;
+    }
+
+    /**
+     * Gets how many rows the last {@link #clearRows()} removed.
+     *
+     * @return number of rows cleared by the last clear
+     */
+    public int getLastClearedRowCount() {
+        return lastClearedCount;
+    }
+
+    /**
+     * Gets the index of a row removed by the last clear.
+     *
+     * <p>Indices are in ascending order and refer to the board as it was
+     * before the rows above were shifted down.</p>
+     *
+     * @param i position between 0 and {@code getLastClearedRowCount() - 1}
+     * @return the board row that was cleared
+     */
+    public int getLastClearedRow(int i) {
+        if (i < 0 || i >= lastClearedCount) {
+            throw new IndexOutOfBoundsException("Cleared row " + i + " of " + lastClearedCount);
+        }
+        return lastClearedRows[i];
+    }
+
+    /**
+     * Gets the incrementally maintained surface statistics.
+     *
+     * <p>The returned view is live: it reflects the board as it is when
+     * each getter is called and costs nothing to read.</p>
+     *
+     * @return read-only statistics for this board
+     */
+    @Override
+    public BoardStatistics getStatistics() {
+        return surfaceTracker;
+    }
+
+    /* recounts the statistics from scratch
+     * only needed when cells were written directly into the matrix
+     */
+    void rebuildStatistics() {
+        repackCells();
+        refreshStatistics();
+    }
+
+    private void refreshStatistics() {
+        zobristHash = hashRows(width - 1);
+        surfaceTracker.rebuild(getBoardMatrix());
+        dirtyRegion.markAll();
+    }
+
+    /**
+     * Gets the cells that changed since a renderer last cleared them.
+     *
+     * <p>The same live region is attached to every {@link ViewData}.</p>
+     *
+     * @return this board's dirty region
+     */
+    @Override
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+
     @Override
     public Score getScore() {
         return score;
@@ -154,7 +580,14 @@ public class TetrisBoard implements Board {
 
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        resetCells();
+        Arrays.fill(packedCells, 0L);
+        zobristHash = 0;
+        surfaceTracker.reset();
+        dirtyRegion.markAll();
+        lockedTopRow = 0;
+        lockedBottomRow = width - 1;
+        lastClearedCount = 0;
         score.reset();
         levelManager.reset();
         holdPieceManager.reset();
@@ -162,6 +595,146 @@ public class TetrisBoard implements Board {
         createNewBrick();
     }
 
+    /**
+     * Replaces every locked cell with a copy of saved cells.
+     *
+     * <p>Used to jump straight to a saved position, for example a replay
+     * keyframe, instead of playing every move that led to it. The row
+     * masks and surface statistics are rebuilt, so this costs a pass
+     * over the board; the falling piece is left alone.</p>
+     *
+     * @param cells colour ids, {@code [row][column]}, the size of the board
+     */
+    public void loadCells(int[][] cells) {
+        if (cells.length != width) {
+            throw new IllegalArgumentException("Expected " + width + " rows: " + cells.length);
+        }
+        for (int row = 0; row < width; row++) {
+            System.arraycopy(cells[row], 0, currentGameMatrix[row], 0, height);
+        }
+        repackCells();
+        cellsReplaced();
+    }
+
+    private void cellsReplaced() {
+        lockedTopRow = 0;
+        lockedBottomRow = width - 1;
+        lastClearedCount = 0;
+        shownRotation = null;
+        onCellsLoaded();
+    }
+
+    /**
+     * Saves the whole position into a new state.
+     *
+     * @return a snapshot that {@link #restore} can put back
+     */
+    @Override
+    public BoardState snapshot() {
+        BoardState state = new BoardState(width, height);
+        snapshot(state);
+        return state;
+    }
+
+    /**
+     * Saves the whole position into an existing state, allocating nothing.
+     *
+     * <p>Copies one packed word per row and a handful of fields.</p>
+     *
+     * @param state state for a board of this size, overwritten
+     */
+    @Override
+    public void snapshot(BoardState state) {
+        state.checkSize(width, height);
+        System.arraycopy(packedCells, 0, state.packedRows, 0, packedCells.length);
+        state.piece = tetrominoRotator.getTetromino();
+        state.rotation = tetrominoRotator.getCurrentRotationIndex();
+        /* a board that has not spawned yet has no offset */
+        state.x = currentOffset == null ? SPAWN_X : currentOffset.x;
+        state.y = currentOffset == null ? SPAWN_Y : currentOffset.y;
+        state.heldPiece = holdPieceManager.getHeldPiece().orElse(null);
+        state.canHold = holdPieceManager.canHold();
+        state.combo = comboManager.getCurrentCombo();
+        state.linesCleared = levelManager.getTotalLinesCleared();
+        state.score = score.getValue();
+        state.drawCount = tetrominoGenerator.getDrawCount();
+        state.statisticsSaved = true;
+        state.zobristHash = zobristHash;
+        surfaceTracker.saveTo(state);
+    }
+
+    /**
+     * Puts back a position saved by {@link #snapshot}.
+     *
+     * <p>Only rows whose packed words differ from the board's are copied
+     * and unpacked, and the hash and statistics saved with the snapshot
+     * are put back as they were, so winding back a few moves costs a
+     * compare per row plus the rows that changed. A state that came
+     * without them, such as a replay keyframe, is unpacked in full and
+     * recounted. The generator is moved back to where it was, so the
+     * same pieces come next.</p>
+     *
+     * @param state a snapshot of a board this size
+     */
+    @Override
+    public void restore(BoardState state) {
+        state.checkSize(width, height);
+        if (state.statisticsSaved) {
+            restoreChangedRows(state);
+            zobristHash = state.zobristHash;
+            surfaceTracker.restoreFrom(state);
+            lockedTopRow = 0;
+            lockedBottomRow = width - 1;
+            lastClearedCount = 0;
+        } else {
+            System.arraycopy(state.packedRows, 0, packedCells, 0, packedCells.length);
+            for (int row = 0; row < width; row++) {
+                state.unpackRow(row, currentGameMatrix[row]);
+            }
+            cellsReplaced();
+        }
+        if (state.piece != null) {
+            placePiece(state.piece, state.rotation, state.x, state.y);
+        }
+        holdPieceManager.restore(state.heldPiece, state.canHold);
+        comboManager.restore(state.combo);
+        levelManager.restore(state.linesCleared);
+        score.restore(state.score);
+        tetrominoGenerator.restoreDrawCount(state.drawCount);
+    }
+
+    /* the piece's old footprint is still marked by the next view,
+     * so only the rewritten rows need repainting here
+     */
+    private void restoreChangedRows(BoardState state) {
+        for (int row = 0; row < width; row++) {
+            if (state.rowMatches(row, packedCells)) {
+                continue;
+            }
+            int base = row * wordsPerRow;
+            System.arraycopy(state.packedRows, base, packedCells, base, wordsPerRow);
+            onRowRestored(row, state.unpackRow(row, currentGameMatrix[row]));
+            dirtyRegion.markRows(row, row);
+        }
+    }
+
+    /**
+     * Puts a falling piece at a saved position.
+     *
+     * <p>No collision check is made; the position is trusted to have come
+     * from a real game.</p>
+     *
+     * @param tetromino the falling piece
+     * @param rotationIndex its rotation
+     * @param x column of the shape origin
+     * @param y row of the shape origin
+     */
+    public void placePiece(Tetromino tetromino, int rotationIndex, int x, int y) {
+        tetrominoRotator.setBrick(tetromino);
+        tetrominoRotator.setCurrentShape(rotationIndex);
+        currentOffset = new Point(x, y);
+    }
+
     /**
      * Holds the current piece and swaps with previously held piece.
      *
@@ -199,7 +772,7 @@ public class TetrisBoard implements Board {
         /* reset position for the swapped piece
          * this ensures consistent spawn position
          */
-        currentOffset = new Point(4, 2); /* spawn at column 4 (centered), row 2 (visible) */
+        currentOffset = new Point(SPAWN_X, SPAWN_Y);
         return true;
     }
 
@@ -208,6 +781,37 @@ public class TetrisBoard implements Board {
         return holdPieceManager.getHeldPiece();
     }
 
+    /**
+     * Gets the rotator holding the falling piece and its rotation.
+     *
+     * @return the live rotator; read it, do not drive it
+     */
+    public TetrominoRotator getTetrominoRotator() {
+        return tetrominoRotator;
+    }
+
+    /**
+     * Gets where the falling piece currently is.
+     *
+     * @return a copy of the piece's shape origin on the board
+     */
+    public Point getPiecePosition() {
+        return new Point(currentOffset);
+    }
+
+    /**
+     * Peeks at the piece that will spawn next without taking it.
+     *
+     * @return the next tetromino in the queue
+     */
+    public Tetromino getNextTetromino() {
+        return tetrominoGenerator.getNextTetromino();
+    }
+
+    public TetrominoGenerator getTetrominoGenerator() {
+        return tetrominoGenerator;
+    }
+
     public HoldPieceManager getHoldPieceManager() {
         return holdPieceManager;
     }
@@ -0,0 +1,92 @@
+package com.comp2042.tetris.core;
+
+/**
+ * Zobrist keys for hashing board positions.
+ *
+ * <p>Every filled cell contributes its own random 64-bit key and a
+ * position's hash is the XOR of them all. XOR undoes itself, so filling
+ * or emptying a cell is a single XOR and a board can keep its hash up to
+ * date as pieces lock instead of rehashing every cell. Two different
+ * positions collide with probability about 2<sup>-64</sup>, which is
+ * why the bot's transposition table can trust a matching hash.</p>
+ *
+ * <h2>Keys</h2>
+ * <p>Keys are not stored in a table. Each one is the SplitMix64 finaliser
+ * applied to the cell's coordinates, so any board size works, every run
+ * and every machine gets the same keys, and computing one costs a few
+ * multiplies. Only occupancy is hashed; colours never change what a
+ * position can become.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-04
+ */
+public final class Zobrist {
+
+    /* separate streams so a cell key never equals a piece key */
+    private static final long CELL_SALT = 0x243F6A8885A308D3L;
+    private static final long PIECE_SALT = 0x13198A2E03707344L;
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of one filled cell.
+     *
+     * @param row board row
+     * @param col board column
+     * @return the cell's key
+     */
+    public static long cell(int row, int col) {
+        return mix(((long) row << Integer.SIZE | col) ^ CELL_SALT);
+    }
+
+    /**
+     * Gets the combined key of every filled cell in a row.
+     *
+     * @param row board row
+     * @param mask occupancy, bit {@code c} set when column {@code c} is filled
+     * @return XOR of the filled cells' keys
+     */
+    public static long row(int row, int mask) {
+        long hash = 0;
+        while (mask != 0) {
+            hash ^= cell(row, Integer.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole board from its row masks.
+     *
+     * @param rowMasks occupancy of each row
+     * @return XOR of every filled cell's key
+     */
+    public static long of(int[] rowMasks) {
+        long hash = 0;
+        for (int row = 0; row < rowMasks.length; row++) {
+            hash ^= row(row, rowMasks[row]);
+        }
+        return hash;
+    }
+
+    /**
+     * Gets a key for something that is not a cell, such as a piece
+     * waiting in the queue.
+     *
+     * @param slot where it is, for example its place in the queue
+     * @param value what it is, for example the piece type's ordinal
+     * @return a key independent of every cell key
+     */
+    public static long piece(int slot, int value) {
+        return mix(((long) slot << Integer.SIZE | value) ^ PIECE_SALT);
+    }
+
+    /* SplitMix64's finaliser: every input bit flips about half the output */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
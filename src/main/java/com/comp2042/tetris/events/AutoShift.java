@@ -0,0 +1,162 @@
+package com.comp2042.tetris.events;
+
+/**
+ * Turns key presses and releases into moves, repeating held keys on the
+ * logic tick.
+ *
+ * <p>Movement used to ride on the operating system's key repeat: the
+ * first repeat came after whatever delay the OS was set to, and then at
+ * whatever rate it liked, so the same player slid pieces at different
+ * speeds on different machines. This class ignores those repeats. It
+ * remembers which keys are down from the press and release events and
+ * generates the repeats itself from {@link #tick()}, with the timings
+ * in an {@link AutoShiftConfig}.</p>
+ *
+ * <h2>Left and Right</h2>
+ * <p>A press moves the piece at once. If the key is still held after
+ * DAS ticks the piece moves again, and then every ARR ticks; with ARR 0
+ * it slides as far as it can every tick instead. When both directions
+ * are held the newest wins, and letting go of it hands over to the
+ * other one with a fresh DAS, as most modern games do.</p>
+ *
+ * <h2>Other Keys</h2>
+ * <p>Soft drop moves a row on the press and then every soft drop
+ * interval. Rotate, hold and hard drop act once per press, however long
+ * the key is held.</p>
+ *
+ * <p>Not thread-safe; the FX thread feeds it keys and ticks.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public final class AutoShift {
+
+    /**
+     * Applies a move to the game.
+     */
+    @FunctionalInterface
+    public interface MoveSink {
+
+        /**
+         * Applies one move.
+         *
+         * @param type what to do
+         * @param inputNanos when its key arrived, 0 for generated repeats
+         * @return true if the piece moved; false stops a wall slide, and
+         *         for soft drop means the piece locked
+         */
+        boolean apply(EventType type, long inputNanos);
+    }
+
+    /* far more than any board is wide; only guards a sink that never says no */
+    private static final int MAX_SLIDE = 64;
+
+    private final AutoShiftConfig config;
+    private final MoveSink sink;
+
+    /* bit per EventType ordinal */
+    private int held;
+    /* LEFT, RIGHT or null */
+    private EventType direction;
+    private int dasTicks;
+    private int arrTicks;
+    private int softDropTicks;
+
+    public AutoShift(AutoShiftConfig config, MoveSink sink) {
+        this.config = config;
+        this.sink = sink;
+    }
+
+    /**
+     * Handles a key going down.
+     *
+     * @param type the key's move
+     * @param inputNanos when the key arrived, for latency tracking
+     * @return true for a real press, false for an OS repeat of a held key
+     */
+    public boolean press(EventType type, long inputNanos) {
+        int bit = 1 << type.ordinal();
+        if ((held & bit) != 0) {
+            return false;
+        }
+        held |= bit;
+        switch (type) {
+            case LEFT, RIGHT -> {
+                direction = type;
+                dasTicks = 0;
+                arrTicks = 0;
+            }
+            case DOWN -> softDropTicks = 0;
+            default -> {
+                /* acts once, nothing to time */
+            }
+        }
+        sink.apply(type, inputNanos);
+        return true;
+    }
+
+    /**
+     * Handles a key coming up.
+     *
+     * @param type the key's move
+     */
+    public void release(EventType type) {
+        held &= ~(1 << type.ordinal());
+        if (type == direction) {
+            EventType other = type == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+            direction = isHeld(other) ? other : null;
+            dasTicks = 0;
+            arrTicks = 0;
+        }
+    }
+
+    /**
+     * Forgets every held key, for pause, game over or losing focus, when
+     * the releases may never arrive.
+     */
+    public void releaseAll() {
+        held = 0;
+        direction = null;
+    }
+
+    /**
+     * Generates the repeats due on one logic tick.
+     */
+    public void tick() {
+        if (direction != null) {
+            shift();
+        }
+        if (isHeld(EventType.DOWN) && ++softDropTicks >= config.getSoftDrop()) {
+            softDropTicks = 0;
+            sink.apply(EventType.DOWN, 0L);
+        }
+    }
+
+    private void shift() {
+        if (dasTicks < config.getDas()) {
+            if (++dasTicks < config.getDas()) {
+                return;
+            }
+            /* DAS has just charged: the first repeat happens now */
+        } else if (config.getArr() > 0 && ++arrTicks < config.getArr()) {
+            return;
+        }
+        arrTicks = 0;
+        if (config.getArr() == 0) {
+            for (int moves = 0; moves < MAX_SLIDE && sink.apply(direction, 0L); moves++) {
+                /* slide until the wall or the stack stops it */
+            }
+        } else {
+            sink.apply(direction, 0L);
+        }
+    }
+
+    public boolean isHeld(EventType type) {
+        return (held & 1 << type.ordinal()) != 0;
+    }
+
+    public AutoShiftConfig getConfig() {
+        return config;
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.tetris.events;
+
+import com.comp2042.tetris.core.GameClock;
+
+/**
+ * How fast held movement keys repeat, in logic ticks.
+ *
+ * <ul>
+ *   <li><b>DAS</b> (delayed auto shift): ticks a left or right key must
+ *       be held before the piece starts moving on its own</li>
+ *   <li><b>ARR</b> (auto repeat rate): ticks between those moves once
+ *       they start; 0 slides the piece straight to the wall</li>
+ *   <li><b>Soft drop</b>: ticks between rows while down is held</li>
+ * </ul>
+ *
+ * <p>There are {@value GameClock#TICKS_PER_SECOND} ticks a second, so
+ * the defaults of 10 and 2 are the usual 167 ms DAS and 33 ms ARR.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-07
+ */
+public final class AutoShiftConfig {
+
+    public static final String DAS_PROPERTY = "tetris.input.das";
+    public static final String ARR_PROPERTY = "tetris.input.arr";
+    public static final String SOFT_DROP_PROPERTY = "tetris.input.softdrop";
+
+    public static final int DEFAULT_DAS = 10;
+    public static final int DEFAULT_ARR = 2;
+    public static final int DEFAULT_SOFT_DROP = 2;
+
+    private final int das;
+    private final int arr;
+    private final int softDrop;
+
+    /**
+     * Creates a config.
+     *
+     * @param das ticks before a held key repeats, at least 0
+     * @param arr ticks between repeats, 0 for an instant slide
+     * @param softDrop ticks between soft drop rows, at least 1
+     */
+    public AutoShiftConfig(int das, int arr, int softDrop) {
+        if (das < 0 || arr < 0 || softDrop < 1) {
+            throw new IllegalArgumentException("Bad DAS/ARR/soft drop: " + das + "/" + arr + "/" + softDrop);
+        }
+        this.das = das;
+        this.arr = arr;
+        this.softDrop = softDrop;
+    }
+
+    public static AutoShiftConfig standard() {
+        return new AutoShiftConfig(DEFAULT_DAS, DEFAULT_ARR, DEFAULT_SOFT_DROP);
+    }
+
+    /**
+     * Reads the config from system properties, tick counts each, falling
+     * back to the defaults.
+     *
+     * @return the configured timings
+     */
+    public static AutoShiftConfig fromSystemProperties() {
+        return new AutoShiftConfig(readTicks(DAS_PROPERTY, DEFAULT_DAS, 0),
+            readTicks(ARR_PROPERTY, DEFAULT_ARR, 0), readTicks(SOFT_DROP_PROPERTY, DEFAULT_SOFT_DROP, 1));
+    }
+
+    private static int readTicks(String property, int fallback, int minimum) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            int ticks = Integer.parseInt(value.trim());
+            if (ticks >= minimum) {
+                return ticks;
+            }
+        } catch (NumberFormatException e) {
+            /* falls through to the warning */
+        }
+        System.err.println("Ignoring " + property + "=" + value + ": expected a tick count of at least " + minimum);
+        return fallback;
+    }
+
+    public int getDas() {
+        return das;
+    }
+
+    public int getArr() {
+        return arr;
+    }
+
+    public int getSoftDrop() {
+        return softDrop;
+    }
+
+    @Override
+    public String toString() {
+        return "DAS " + das + " ARR " + arr + " SDF " + softDrop;
+    }
+}
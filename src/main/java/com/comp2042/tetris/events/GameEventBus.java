@@ -0,0 +1,227 @@
+package com.comp2042.tetris.events;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands game events from the game thread to any number of listeners,
+ * each on its own thread.
+ *
+ * <p>The game publishes an event per lock, clear, level up, combo and
+ * attack. The HUD, stats or a network link each want them, but none of
+ * them should run on the tick: a label update or a socket write that
+ * stalls would stall the game with it. So {@link #publish} only writes
+ * two {@code long}s into a preallocated ring and moves a counter on.
+ * Each listener has a daemon thread that wakes up, takes everything
+ * published since it last looked, and goes back to sleep.</p>
+ *
+ * <h2>Slow Listeners</h2>
+ * <p>The game never waits for a listener. The ring holds the last
+ * {@code capacity} events; a listener that falls further behind than
+ * that has its oldest unread events overwritten. It notices, is told
+ * how many it missed through
+ * {@link GameEventListener#onEventsMissed(long)}, and carries on half a
+ * ring behind the game. A listener that has to see every event, like a
+ * replay file, should use its own queue (see
+ * {@link com.comp2042.tetris.replay.ReplayWriter}).</p>
+ *
+ * <h2>Threads</h2>
+ * <p>There is one producer: all {@code publish} calls for a bus must
+ * come from the same thread, as the game loop's do. Each slot carries
+ * a stamp, the sequence number written into it, which the producer
+ * clears before it overwrites the slot and sets again afterwards. A
+ * listener reads the stamp, the event, then the stamp again; if either
+ * read does not match, the producer has lapped it and the event is
+ * thrown away rather than read half old and half new.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-05
+ */
+public class GameEventBus implements AutoCloseable {
+
+    /* a few minutes of locks even at high gravity */
+    public static final int DEFAULT_CAPACITY = 1 << 12;
+
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    /* header: tick, then type, then player, one byte each at the bottom */
+    private static final int TICK_SHIFT = 16;
+    private static final int TYPE_SHIFT = 8;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] headers;
+    private final long[] payloads;
+    private final AtomicLongArray stamps;
+    private final AtomicLong published = new AtomicLong();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /* owned by the producer thread */
+    private long nextSequence;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a bus with the default capacity.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bus.
+     *
+     * @param capacity events a listener can fall behind by before it
+     *                 misses some, a power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.headers = new long[capacity];
+        this.payloads = new long[capacity];
+        this.stamps = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Starts delivering events to a listener on a new daemon thread.
+     *
+     * <p>The listener sees every event published after this call.</p>
+     *
+     * @param name used in the thread name
+     * @param listener receives the events
+     */
+    public void subscribe(String name, GameEventListener listener) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        Subscriber subscriber = new Subscriber(listener, published.get());
+        subscribers.add(subscriber);
+        subscriber.thread = new Thread(subscriber, "events-" + name);
+        subscriber.thread.setDaemon(true);
+        subscriber.thread.start();
+    }
+
+    /**
+     * Publishes an event. Never blocks.
+     *
+     * @param type what happened
+     * @param player player it happened to, 0 to 255
+     * @param value first field, see {@link GameEventType}
+     * @param detail second field, see {@link GameEventType}
+     * @param tick game clock tick it happened on
+     */
+    public void publish(GameEventType type, int player, int value, int detail, long tick) {
+        long sequence = nextSequence++;
+        int slot = (int) sequence & mask;
+
+        /* invalidate first so a lapped reader cannot accept the mix */
+        stamps.setOpaque(slot, 0L);
+        VarHandle.storeStoreFence();
+        headers[slot] = tick << TICK_SHIFT | (long) type.ordinal() << TYPE_SHIFT | (player & BYTE_MASK);
+        payloads[slot] = (long) value << Integer.SIZE | (detail & 0xFFFFFFFFL);
+        stamps.setRelease(slot, sequence + 1);
+        published.setRelease(sequence + 1);
+    }
+
+    /**
+     * Delivers everything already published, then stops the listener
+     * threads and waits for them.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Subscriber subscriber : subscribers) {
+            LockSupport.unpark(subscriber.thread);
+        }
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    /* one listener and how far it has read */
+    private final class Subscriber implements Runnable {
+
+        private final GameEventListener listener;
+        private long sequence;
+        private Thread thread;
+
+        private Subscriber(GameEventListener listener, long start) {
+            this.listener = listener;
+            this.sequence = start;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                /* read the flag before the counter, so everything
+                 * published before close is drained on the last pass
+                 */
+                boolean finishing = closed;
+                long end = published.getAcquire();
+                if (end != sequence) {
+                    drain(end);
+                    listener.onBatchEnd();
+                } else if (finishing) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        }
+
+        private void drain(long end) {
+            while (sequence < end) {
+                if (end - sequence > capacity) {
+                    end = skipAhead();
+                    continue;
+                }
+                int slot = (int) sequence & mask;
+                long stamp = stamps.getAcquire(slot);
+                long header = headers[slot];
+                long payload = payloads[slot];
+                VarHandle.loadLoadFence();
+                if (stamp != sequence + 1 || stamps.getOpaque(slot) != stamp) {
+                    end = skipAhead();
+                    continue;
+                }
+                listener.onEvent(GameEventType.fromOrdinal((int) (header >>> TYPE_SHIFT) & BYTE_MASK),
+                    (int) header & BYTE_MASK, (int) (payload >>> Integer.SIZE), (int) payload,
+                    header >>> TICK_SHIFT);
+                sequence++;
+            }
+        }
+
+        /* lapped: jump to half a ring behind the producer, so it does
+         * not lap us again straight away; returns the new batch end
+         */
+        private long skipAhead() {
+            long latest = published.getAcquire();
+            long resume = Math.max(sequence + 1, latest - capacity / 2);
+            listener.onEventsMissed(resume - sequence);
+            sequence = resume;
+            return latest;
+        }
+    }
+}
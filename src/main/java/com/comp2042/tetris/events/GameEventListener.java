@@ -0,0 +1,39 @@
+package com.comp2042.tetris.events;
+
+/**
+ * Receives game events from a {@link GameEventBus} on its own thread.
+ *
+ * <p>Events arrive in batches: everything published since the last
+ * batch is passed to {@link #onEvent} in order, then
+ * {@link #onBatchEnd()} is called once. A listener that only needs the
+ * latest value, such as a HUD label, can remember it in {@code onEvent}
+ * and do the expensive part once per batch.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-05
+ */
+public interface GameEventListener {
+
+    /**
+     * Handles one event.
+     *
+     * @param type what happened
+     * @param player player it happened to, 1 in single player
+     * @param value first field, see {@link GameEventType}
+     * @param detail second field, see {@link GameEventType}
+     * @param tick game clock tick it happened on
+     */
+    void onEvent(GameEventType type, int player, int value, int detail, long tick);
+
+    /* called after each batch, on the listener's thread */
+    default void onBatchEnd() {
+    }
+
+    /* called when the listener fell a whole ring behind and the game
+     * overwrote events it had not read yet; it carries on from the
+     * oldest event still in the ring
+     */
+    default void onEventsMissed(long count) {
+    }
+}
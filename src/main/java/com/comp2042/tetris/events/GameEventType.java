@@ -0,0 +1,34 @@
+package com.comp2042.tetris.events;
+
+/**
+ * What happened in the game, as carried by {@link GameEventBus}.
+ *
+ * <p>Every event has two int fields, a value and a detail; what they
+ * mean depends on the type:</p>
+ * <ul>
+ *   <li>{@link #PIECE_LOCKED}: the piece type's ordinal, lines it cleared</li>
+ *   <li>{@link #LINES_CLEARED}: lines this lock cleared, total lines so far</li>
+ *   <li>{@link #LEVEL_CHANGED}: the new level, total lines so far</li>
+ *   <li>{@link #COMBO}: the combo count (-1 when broken), its score bonus</li>
+ *   <li>{@link #ATTACK}: damage dealt, the player it hit</li>
+ * </ul>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-05
+ */
+public enum GameEventType {
+    PIECE_LOCKED, LINES_CLEARED, LEVEL_CHANGED, COMBO, ATTACK;
+
+    private static final GameEventType[] VALUES = values();
+
+    /**
+     * Gets a type from its ordinal without copying {@code values()}.
+     *
+     * @param ordinal the type's ordinal
+     * @return the type
+     */
+    public static GameEventType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -10,6 +10,11 @@ public interface InputEventListener {
 
     DownData onDownEvent(MoveEvent event);
 
+    /* drops, locks and clears in one step
+     * the returned clear row is never null
+     */
+    DownData onHardDropEvent(MoveEvent event);
+
     ViewData onLeftEvent(MoveEvent event);
 
     ViewData onRightEvent(MoveEvent event);
@@ -0,0 +1,163 @@
+package com.comp2042.tetris.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts durations in log-linear buckets so percentiles can be read at
+ * any time without storing every sample.
+ *
+ * <p>Recording happens on the FX thread every frame and every input,
+ * while the overlay and the periodic log read from wherever they run.
+ * Recording is one atomic increment and, rarely, a compare-and-set for
+ * the maximum; nothing locks, allocates or grows.</p>
+ *
+ * <h2>Buckets</h2>
+ * <p>Values below {@value #SUB_BUCKETS} ns get a bucket each. Above
+ * that, every power of two is split into {@value #SUB_BUCKETS} equal
+ * buckets, so a reported percentile is within about 6% of the real
+ * one whether it is 40 &micro;s or 4 s, and the whole {@code long}
+ * range fits in under a thousand counters. The maximum is tracked
+ * exactly.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-06
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKETS = 16;
+    private static final int SUB_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration; negative values count as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Reads the counts as they are now.
+     *
+     * <p>Samples recorded while this runs may or may not be included,
+     * but every percentile comes from the same copy of the counts.</p>
+     *
+     * @return count, median, 99th percentile and maximum
+     */
+    public Summary summarize() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            copy[bucket] = counts.get(bucket);
+            total += copy[bucket];
+        }
+        long largest = max.get();
+        return new Summary(total, percentile(copy, total, 0.50, largest),
+            percentile(copy, total, 0.99, largest), largest);
+    }
+
+    /**
+     * Forgets every sample, for example after the periodic log read them.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        max.set(0);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /* the largest value that lands in a bucket */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+
+    /* the bucket holding the rank, reported by its upper bound but
+     * never above the real maximum
+     */
+    private static long percentile(long[] counts, long total, double fraction, long largest) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), largest);
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Percentiles read at one moment.
+     */
+    public static final class Summary {
+
+        private final long count;
+        private final long p50;
+        private final long p99;
+        private final long max;
+
+        Summary(long count, long p50, long p99, long max) {
+            this.count = count;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Formats the percentiles in milliseconds.
+         *
+         * @return text like {@code p50 4.1 p99 9.8 max 16.7 ms (n=120)}
+         */
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "p50 %.1f p99 %.1f max %.1f ms (n=%d)",
+                p50 / 1e6, p99 / 1e6, max / 1e6, count);
+        }
+    }
+}
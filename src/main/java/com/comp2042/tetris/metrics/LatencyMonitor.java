@@ -0,0 +1,189 @@
+package com.comp2042.tetris.metrics;
+
+import com.comp2042.tetris.core.GameClock;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures how long a key press takes to reach the screen, how evenly
+ * frames arrive and how long each logic tick takes.
+ *
+ * <p>A key handler stamps {@link System#nanoTime()} as the key arrives
+ * and hands it to {@link com.comp2042.tetris.events.AutoShift} with the
+ * move. Once the engine has applied a real press, not an OS repeat,
+ * {@link #inputApplied} queues the stamp, and the next pulse's
+ * {@link #frameRendered} records the time from the key to the end of
+ * that frame's drawing. JavaFX shows the frame at the end of the same
+ * pulse, so the real input-to-photon time is this plus the wait for
+ * vsync and the display's own lag, which no code can see.</p>
+ *
+ * <h2>Threads</h2>
+ * <p>Everything except {@link #summary()} and the log must be called on
+ * the FX thread, apart from the listener {@link #timeTicks} returns,
+ * which may run on a simulation thread of its own as long as it is the
+ * only one. The histograms are lock-free, so the log thread reads them
+ * while the game keeps recording.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-06
+ */
+public final class LatencyMonitor {
+
+    /* set to a number of seconds to print the percentiles that often */
+    public static final String LOG_PROPERTY = "tetris.latency.log";
+
+    /* inputs between two frames; more than this in one frame is mashing */
+    private static final int MAX_PENDING_INPUTS = 64;
+
+    private final LatencyHistogram inputToRender = new LatencyHistogram();
+    private final LatencyHistogram frameTime = new LatencyHistogram();
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+
+    /* owned by the FX thread */
+    private final long[] pendingInputs = new long[MAX_PENDING_INPUTS];
+    private int pendingCount;
+    private long lastPulseNanos;
+
+    private ScheduledExecutorService logger;
+
+    /**
+     * Notes that the engine has applied an input.
+     *
+     * @param inputNanos when the key arrived, 0 for moves with no key
+     *                   such as gravity
+     */
+    public void inputApplied(long inputNanos) {
+        if (inputNanos != 0 && pendingCount < MAX_PENDING_INPUTS) {
+            pendingInputs[pendingCount++] = inputNanos;
+        }
+    }
+
+    /**
+     * Notes the start of a pulse, for the frame time.
+     *
+     * @param pulseNanos the pulse timestamp, on the {@code nanoTime} clock
+     */
+    public void pulse(long pulseNanos) {
+        if (lastPulseNanos != 0) {
+            frameTime.record(pulseNanos - lastPulseNanos);
+        }
+        lastPulseNanos = pulseNanos;
+    }
+
+    /**
+     * Notes that the frame showing every applied input has been drawn.
+     *
+     * @param nowNanos current time on the {@code nanoTime} clock
+     */
+    public void frameRendered(long nowNanos) {
+        for (int i = 0; i < pendingCount; i++) {
+            inputToRender.record(nowNanos - pendingInputs[i]);
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Wraps a tick listener so each tick's run time is recorded.
+     *
+     * @param listener the game logic run per tick
+     * @return a listener to add to the clock instead
+     */
+    public GameClock.TickListener timeTicks(GameClock.TickListener listener) {
+        return tick -> {
+            long start = System.nanoTime();
+            listener.onTick(tick);
+            tickTime.record(System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * Prints {@link #summary()} periodically on a daemon thread.
+     *
+     * @param periodSeconds seconds between lines
+     * @param sink where each line goes
+     */
+    public synchronized void startLogging(long periodSeconds, Consumer<String> sink) {
+        stopLogging();
+        logger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(() -> sink.accept(summary()), periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts the log if the {@value #LOG_PROPERTY} property asks for it.
+     *
+     * @param sink where each line goes
+     */
+    public void startLoggingIfEnabled(Consumer<String> sink) {
+        String value = System.getProperty(LOG_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        try {
+            long seconds = Long.parseLong(value.trim());
+            if (seconds > 0) {
+                startLogging(seconds, sink);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring " + LOG_PROPERTY + "=" + value + ": not a number of seconds");
+        }
+    }
+
+    public synchronized void stopLogging() {
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+    }
+
+    /**
+     * Forgets every sample, for a new game.
+     */
+    public void reset() {
+        inputToRender.reset();
+        frameTime.reset();
+        tickTime.reset();
+        pendingCount = 0;
+        lastPulseNanos = 0;
+    }
+
+    /**
+     * Formats all three histograms on one line, for the log.
+     *
+     * @return the percentiles of input to render, frame and tick time
+     */
+    public String summary() {
+        return summary(" | ");
+    }
+
+    /**
+     * Formats all three histograms.
+     *
+     * @param separator put between them, e.g. a newline for the overlay
+     * @return the percentiles of input to render, frame and tick time
+     */
+    public String summary(String separator) {
+        return "input " + inputToRender.summarize()
+            + separator + "frame " + frameTime.summarize()
+            + separator + "tick " + tickTime.summarize();
+    }
+
+    public LatencyHistogram getInputToRender() {
+        return inputToRender;
+    }
+
+    public LatencyHistogram getFrameTime() {
+        return frameTime;
+    }
+
+    public LatencyHistogram getTickTime() {
+        return tickTime;
+    }
+}
@@ -4,6 +4,20 @@ package com.comp2042.tetris.models;
 import com.comp2042.tetris.utils.MatrixOperations;
 public final class ClearRow {
 
+    /* points for clearing n lines at once is 50 * n * n */
+    private static final int LINE_BONUS = 50;
+
+    /* results for the in-place clear path are shared
+     * a piece can complete at most four rows so this covers every lock
+     */
+    private static final ClearRow[] SHARED = {
+        new ClearRow(0, null, scoreBonusFor(0)),
+        new ClearRow(1, null, scoreBonusFor(1)),
+        new ClearRow(2, null, scoreBonusFor(2)),
+        new ClearRow(3, null, scoreBonusFor(3)),
+        new ClearRow(4, null, scoreBonusFor(4))
+    };
+
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
@@ -14,12 +28,34 @@ public final class ClearRow {
         this.scoreBonus = scoreBonus;
     }
 
+    /**
+     * Gets the result for a clear that was done in place on the board.
+     *
+     * <p>These results carry no matrix of their own, so
+     * {@link #getNewMatrix()} returns null; read the board instead.
+     * The common cases are cached so a piece lock allocates nothing.</p>
+     *
+     * @param linesRemoved number of rows cleared
+     * @return a shared result for that line count
+     */
+    public static ClearRow forLines(int linesRemoved) {
+        if (linesRemoved >= 0 && linesRemoved < SHARED.length) {
+            return SHARED[linesRemoved];
+        }
+        return new ClearRow(linesRemoved, null, scoreBonusFor(linesRemoved));
+    }
+
+    public static int scoreBonusFor(int linesRemoved) {
+        return LINE_BONUS * linesRemoved * linesRemoved;
+    }
+
     public int getLinesRemoved() {
         return linesRemoved;
     }
 
+    /* null when the rows were cleared in place, see forLines() */
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return newMatrix == null ? null : MatrixOperations.copy(newMatrix);
     }
 
     public int getScoreBonus() {
@@ -0,0 +1,137 @@
+package com.comp2042.tetris.models;
+
+import java.util.BitSet;
+
+/**
+ * The set of board cells that changed since a renderer last drew.
+ *
+ * <p>Repainting every cell after each move is wasteful when a typical
+ * move only changes the eight cells of the old and new piece. The board
+ * marks cells here as they change: merged piece cells, rows shifted by
+ * a clear, and the old and new footprints of the falling piece and its
+ * ghost. A renderer repaints just those cells and then calls
+ * {@link #clear()}.</p>
+ *
+ * <h2>Ownership</h2>
+ * <p>Each board has one region and hands the same live object out with
+ * every {@link ViewData}. Marks keep piling up until somebody clears
+ * them, so it does not matter how many view updates happen between two
+ * frames. That also means only one renderer should draw a given
+ * board.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-27
+ */
+public final class DirtyRegion {
+
+    /**
+     * Receives the coordinates of each dirty cell.
+     */
+    @FunctionalInterface
+    public interface CellConsumer {
+        void accept(int row, int col);
+    }
+
+    private final int rows;
+    private final int columns;
+
+    /* cell (row, col) is bit row * columns + col */
+    private final BitSet cells;
+
+    public DirtyRegion(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new BitSet(rows * columns);
+    }
+
+    /**
+     * Marks one cell. Cells outside the board are ignored, so piece cells
+     * can be marked without clipping them first.
+     *
+     * @param row board row
+     * @param col board column
+     */
+    public void mark(int row, int col) {
+        if (row >= 0 && row < rows && col >= 0 && col < columns) {
+            cells.set(row * columns + col);
+        }
+    }
+
+    /**
+     * Marks every cell in a range of rows.
+     *
+     * @param fromRow first row, inclusive
+     * @param toRow last row, inclusive
+     */
+    public void markRows(int fromRow, int toRow) {
+        int first = Math.max(0, fromRow);
+        int last = Math.min(rows - 1, toRow);
+        if (first <= last) {
+            cells.set(first * columns, (last + 1) * columns);
+        }
+    }
+
+    /**
+     * Marks the whole board, for a new game or anything else that
+     * rewrites the cells wholesale.
+     */
+    public void markAll() {
+        cells.set(0, rows * columns);
+    }
+
+    public boolean isDirty(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < columns && cells.get(row * columns + col);
+    }
+
+    public boolean isEmpty() {
+        return cells.isEmpty();
+    }
+
+    /**
+     * Counts the dirty cells.
+     *
+     * @return number of cells a renderer would repaint
+     */
+    public int size() {
+        return cells.cardinality();
+    }
+
+    /**
+     * Visits every dirty cell in row-major order.
+     *
+     * @param consumer called once per dirty cell
+     */
+    public void forEach(CellConsumer consumer) {
+        for (int bit = cells.nextSetBit(0); bit >= 0; bit = cells.nextSetBit(bit + 1)) {
+            consumer.accept(bit / columns, bit % columns);
+        }
+    }
+
+    /**
+     * Marks every cell another region of the same size has marked.
+     *
+     * @param other region to take the marks from; left as it is
+     */
+    public void add(DirtyRegion other) {
+        cells.or(other.cells);
+    }
+
+    /**
+     * Replaces the marks with another region's, which must be the same
+     * size. Nothing is allocated, so a copy can be taken every tick.
+     *
+     * @param other region to copy; left as it is
+     */
+    public void copyFrom(DirtyRegion other) {
+        cells.clear();
+        cells.or(other.cells);
+    }
+
+    /**
+     * Forgets all marks, once the renderer has caught up.
+     */
+    public void clear() {
+        cells.clear();
+    }
+}
@@ -14,12 +14,21 @@ public final class ViewData {
      */
     private final int ghostYPosition;
 
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition) {
+    /* the board's live dirty set, null when the sender does not track one */
+    private final DirtyRegion dirtyRegion;
+
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition,
+                    DirtyRegion dirtyRegion) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
         this.ghostYPosition = ghostYPosition;
+        this.dirtyRegion = dirtyRegion;
+    }
+
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition) {
+        this(brickData, xPosition, yPosition, nextBrickData, ghostYPosition, null);
     }
 
     /* convenience constructor for backwards compatibility
@@ -56,4 +65,16 @@ public final class ViewData {
     public int getGhostYPosition() {
         return ghostYPosition;
     }
+
+    /**
+     * Gets the cells that changed since the renderer last caught up.
+     *
+     * <p>This is the board's live region, not a copy. Renderers repaint
+     * what it holds and then clear it; see {@link DirtyRegion}.</p>
+     *
+     * @return the dirty region, or null when every cell should be repainted
+     */
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
 }
@@ -17,6 +17,11 @@ package com.comp2042.tetris.multiplayer;
  *
  * <p>Combos multiply damage, so a 3x combo Tetris is brutal.</p>
  *
+ * <h2>Garbage Lines</h2>
+ * <p>Besides HP, a clear sends garbage rows to the target's board:
+ * none for a single, 1 for a double, 2 for a triple and 4 for a Tetris,
+ * with extra rows for long combos, as in the guideline games.</p>
+ *
  * @author Shahjalal
  * @version 1.0
  * @since 2025-11-16
@@ -29,6 +34,10 @@ public class AttackCalculator {
      */
     private static final int[] BASE_DAMAGE = {0, 1, 3, 5, 8};
 
+    /* garbage rows per clear size, and the extra rows per combo level */
+    private static final int[] BASE_GARBAGE = {0, 0, 1, 2, 4};
+    private static final int[] COMBO_GARBAGE = {0, 1, 1, 2, 2, 3, 3, 4, 4, 4, 5};
+
     /**
      * Calculates damage from a line clear.
      *
@@ -52,6 +61,21 @@ public class AttackCalculator {
         return (int) Math.ceil(baseDamage * comboBonus);
     }
 
+    /**
+     * Calculates how many garbage rows a clear sends.
+     *
+     * @param linesCleared number of lines cleared (1-4)
+     * @param comboLevel current combo level (0 = first clear in a row)
+     * @return rows to push onto the target's board, before cancelling
+     */
+    public static int calculateGarbageLines(int linesCleared, int comboLevel) {
+        if (linesCleared <= 0 || linesCleared > 4) {
+            return 0;
+        }
+        int combo = Math.min(Math.max(0, comboLevel), COMBO_GARBAGE.length - 1);
+        return BASE_GARBAGE[linesCleared] + COMBO_GARBAGE[combo];
+    }
+
     /**
      * Calculates damage without combo bonus.
      *
@@ -0,0 +1,36 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventType;
+
+/**
+ * Plays one board of a match, one input per tick at most.
+ *
+ * <p>{@link BattleScheduler} asks every player's pilot for its input
+ * each tick. Bots implement this directly; a human player needs no
+ * pilot, since their keys go in through
+ * {@link BattleScheduler#apply(int, EventType)}.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-08
+ */
+@FunctionalInterface
+public interface BattlePilot {
+
+    /**
+     * Picks this tick's input.
+     *
+     * @param tick the scheduler's tick count
+     * @param board the player's board, to read but not move
+     * @return the input, or null to do nothing this tick
+     */
+    EventType nextMove(long tick, TetrisBoard board);
+
+    /**
+     * Called after the player's piece locks and the next one spawns,
+     * by any input or by gravity.
+     */
+    default void pieceLocked() {
+    }
+}
@@ -0,0 +1,265 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.controllers.GameSession;
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.core.Gravity;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.events.MoveEvent;
+import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+
+/**
+ * Advances every board of a match from one logic tick.
+ *
+ * <p>A match of up to 100 boards runs off a single {@link GameClock}:
+ * each tick this loops over the players still in, gives each one its
+ * pilot's input and its gravity, and settles any locks, attacks,
+ * garbage and knockouts they cause. No board has a timer of its own, so none can
+ * drift, and the order inside a tick is always player 1 first, which
+ * keeps a seeded match reproducible.</p>
+ *
+ * <h2>Cost</h2>
+ * <p>The loop walks plain arrays and sends preallocated events, so a
+ * tick allocates nothing unless a bot is deciding. Every board plays
+ * through a {@link GameSession}, the same rules as single player, so
+ * scores and level gravity match.</p>
+ *
+ * <h2>Rollback</h2>
+ * <p>{@link #snapshot} and {@link #restore} cover the match and this
+ * scheduler's own gravity, game-over flags and counters, so a restored
+ * match plays on exactly as it did the first time given the same
+ * inputs. Pilots keep their own state and are not rewound, so a match
+ * that is rolled back should be driven through {@link #apply} only.</p>
+ *
+ * <p>Not thread-safe: ticks and {@link #apply} come from the thread
+ * that drives the clock.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class BattleScheduler implements GameClock.TickListener {
+
+    /* player moves score like a player's, gravity like the timer's */
+    private static final MoveEvent[] USER_EVENTS = createUserEvents();
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final MultiplayerGameManager match;
+    private final DifficultyStrategy difficulty;
+    private final int playerCount;
+    /* index 0 is unused, as in the match */
+    private final GameSession[] sessions;
+    private final Gravity[] gravities;
+    /* the level each player's gravity was last set for */
+    private final int[] gravityLevels;
+    private final BattlePilot[] pilots;
+
+    private long ticks;
+    private long locks;
+
+    /**
+     * Starts a new game on the match and takes over its boards.
+     *
+     * @param match the match to run
+     * @param difficulty starting gravity and score multiplier for every board
+     */
+    public BattleScheduler(MultiplayerGameManager match, DifficultyStrategy difficulty) {
+        this.match = match;
+        this.difficulty = difficulty;
+        this.playerCount = match.getPlayerCount();
+        this.sessions = new GameSession[playerCount + 1];
+        this.gravities = new Gravity[playerCount + 1];
+        this.gravityLevels = new int[playerCount + 1];
+        this.pilots = new BattlePilot[playerCount + 1];
+        restart();
+    }
+
+    /**
+     * Starts the match again from empty boards, keeping the pilots.
+     */
+    public void restart() {
+        match.startNewGame();
+        for (int player = 1; player <= playerCount; player++) {
+            /* startNewGame has already spawned each board's first piece */
+            sessions[player] = GameSession.resume(match.getBoard(player), difficulty, false);
+            /* the difficulty sets the speed until the first level up */
+            gravities[player] = new Gravity(difficulty.getGravity());
+            gravityLevels[player] = match.getBoard(player).getLevelManager().getCurrentLevel();
+            if (pilots[player] != null) {
+                pilots[player].pieceLocked();
+            }
+        }
+        ticks = 0;
+        locks = 0;
+    }
+
+    /**
+     * Hands a player's board to a pilot, such as a bot.
+     *
+     * @param player player number
+     * @param pilot pilot, or null for a player whose input comes through {@link #apply}
+     */
+    public void setPilot(int player, BattlePilot pilot) {
+        pilots[player] = pilot;
+    }
+
+    @Override
+    public void onTick(long tick) {
+        if (!match.isGameInProgress()) {
+            return;
+        }
+        ticks++;
+        for (int player = 1; player <= playerCount && match.isGameInProgress(); player++) {
+            if (!match.isAlive(player)) {
+                continue;
+            }
+            BattlePilot pilot = pilots[player];
+            if (pilot != null) {
+                EventType move = pilot.nextMove(ticks, match.getBoard(player));
+                if (move != null) {
+                    apply(player, move);
+                }
+            }
+            /* the input may have topped this player out or ended the match */
+            if (match.isAlive(player) && match.isGameInProgress()) {
+                applyGravity(player);
+            }
+        }
+    }
+
+    /**
+     * Applies one input to a player's board.
+     *
+     * @param player player number
+     * @param type the input
+     * @return true if the piece moved, false if the move was blocked or
+     *         the piece locked, which also ends a wall slide
+     */
+    public boolean apply(int player, EventType type) {
+        if (!match.isGameInProgress() || !match.isAlive(player)) {
+            return false;
+        }
+        TetrisBoard board = match.getBoard(player);
+        return switch (type) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE -> board.rotateLeftBrick();
+            case HOLD -> board.holdCurrentPiece();
+            case DOWN, HARD_DROP -> {
+                ClearRow clearRow = sessions[player].apply(USER_EVENTS[type.ordinal()]);
+                if (clearRow != null) {
+                    locked(player, clearRow);
+                }
+                yield clearRow == null;
+            }
+        };
+    }
+
+    /* one tick of gravity, stopping at a lock so the next piece starts from rest */
+    private void applyGravity(int player) {
+        Gravity gravity = gravities[player];
+        for (int rows = gravity.tick(); rows > 0; rows--) {
+            ClearRow clearRow = sessions[player].apply(GRAVITY);
+            if (clearRow != null) {
+                locked(player, clearRow);
+                return;
+            }
+        }
+    }
+
+    private void locked(int player, ClearRow clearRow) {
+        locks++;
+        TetrisBoard board = match.getBoard(player);
+        Gravity gravity = gravities[player];
+        gravity.reset();
+        if (clearRow.getLinesRemoved() > 0) {
+            match.onLinesClear(player, clearRow.getLinesRemoved(),
+                Math.max(0, board.getComboManager().getCurrentCombo()));
+            /* as in single player, the speed only follows the level once it changes */
+            int level = board.getLevelManager().getCurrentLevel();
+            if (level != gravityLevels[player]) {
+                gravityLevels[player] = level;
+                gravity.setCellsPerTick(board.getLevelManager().getGravity());
+            }
+        }
+        match.onPieceLocked(player, clearRow.getLinesRemoved());
+        if (sessions[player].isGameOver()) {
+            match.eliminate(player);
+        }
+        if (pilots[player] != null) {
+            pilots[player].pieceLocked();
+        }
+    }
+
+    /**
+     * Saves the match and the scheduler into an existing state.
+     *
+     * @param state state made for this scheduler's match, overwritten
+     */
+    public void snapshot(MatchState state) {
+        match.snapshot(state);
+        for (int player = 1; player <= playerCount; player++) {
+            state.gameOver[player] = sessions[player].isGameOver();
+            state.gravity[player] = gravities[player].getCellsPerTick();
+            state.gravityLevel[player] = gravityLevels[player];
+            state.gravityProgress[player] = gravities[player].getProgress();
+        }
+        state.ticks = ticks;
+        state.locks = locks;
+    }
+
+    /**
+     * Puts back a match and scheduler saved by {@link #snapshot}.
+     *
+     * @param state a snapshot of this scheduler's match
+     */
+    public void restore(MatchState state) {
+        match.restore(state);
+        for (int player = 1; player <= playerCount; player++) {
+            sessions[player].restoreGameOver(state.gameOver[player]);
+            gravities[player].setCellsPerTick(state.gravity[player]);
+            gravityLevels[player] = state.gravityLevel[player];
+            gravities[player].restoreProgress(state.gravityProgress[player]);
+        }
+        ticks = state.ticks;
+        locks = state.locks;
+    }
+
+    public MultiplayerGameManager getMatch() {
+        return match;
+    }
+
+    /**
+     * Gets how many ticks this match has run.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets how many pieces have locked across all boards.
+     */
+    public long getLocks() {
+        return locks;
+    }
+
+    /**
+     * Gets how many cells a player's piece falls each tick.
+     *
+     * @param player player number
+     */
+    public double getCellsPerTick(int player) {
+        return gravities[player].getCellsPerTick();
+    }
+
+    private static MoveEvent[] createUserEvents() {
+        EventType[] types = EventType.values();
+        MoveEvent[] events = new MoveEvent[types.length];
+        for (EventType type : types) {
+            events[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+        return events;
+    }
+}
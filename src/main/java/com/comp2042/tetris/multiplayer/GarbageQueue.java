@@ -0,0 +1,131 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.TetrisBoard;
+
+/**
+ * Garbage sent to one player that has not reached their board yet.
+ *
+ * <p>Incoming attacks wait here instead of landing straight away, which
+ * gives the player a chance to fight back: when they clear lines their
+ * own attack first cancels what is waiting, oldest rows first, and
+ * only the rest goes on to the opponent. The queue lands on the board
+ * after a lock that clears nothing, up to a cap per lock so one huge
+ * spike cannot end the game in a single piece.</p>
+ *
+ * <h2>Holes</h2>
+ * <p>Every attack keeps its own hole column, so a Tetris arrives as a
+ * clean four-row well that can be dug out in one go, while separate
+ * attacks are staggered.</p>
+ *
+ * <p>Attacks are stored in a ring of primitives; nothing allocates once
+ * the queue is built. Not thread-safe: the match thread owns it.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-09
+ */
+public final class GarbageQueue {
+
+    /* rows that can land after one lock, as in the guideline games */
+    public static final int DEFAULT_MAX_PER_LOCK = 8;
+
+    private static final int CAPACITY = 64;
+
+    private final int[] lines = new int[CAPACITY];
+    private final int[] holes = new int[CAPACITY];
+    private int head;
+    private int size;
+    private int pending;
+
+    /**
+     * Queues an attack.
+     *
+     * <p>If the queue is full the rows join the newest attack, so none
+     * are lost.</p>
+     *
+     * @param count rows sent
+     * @param holeColumn the hole in every one of them
+     */
+    public void add(int count, int holeColumn) {
+        if (count <= 0) {
+            return;
+        }
+        pending += count;
+        if (size == CAPACITY) {
+            lines[(head + size - 1) % CAPACITY] += count;
+            return;
+        }
+        int slot = (head + size++) % CAPACITY;
+        lines[slot] = count;
+        holes[slot] = holeColumn;
+    }
+
+    /**
+     * Cancels waiting rows against an outgoing attack.
+     *
+     * @param outgoing rows the player is about to send
+     * @return rows left to send once the queue has taken its share
+     */
+    public int cancel(int outgoing) {
+        while (outgoing > 0 && size > 0) {
+            int taken = Math.min(outgoing, lines[head]);
+            lines[head] -= taken;
+            pending -= taken;
+            outgoing -= taken;
+            if (lines[head] == 0) {
+                head = (head + 1) % CAPACITY;
+                size--;
+            }
+        }
+        return outgoing;
+    }
+
+    /**
+     * Pushes waiting rows onto a board, oldest attack first.
+     *
+     * @param board the player's board
+     * @param maxRows most rows to land now; the rest keep waiting
+     * @return true if the garbage topped the player out
+     */
+    public boolean landOn(TetrisBoard board, int maxRows) {
+        boolean toppedOut = false;
+        while (maxRows > 0 && size > 0) {
+            int count = Math.min(maxRows, lines[head]);
+            toppedOut |= board.addGarbageRows(count, holes[head]);
+            lines[head] -= count;
+            pending -= count;
+            maxRows -= count;
+            if (lines[head] == 0) {
+                head = (head + 1) % CAPACITY;
+                size--;
+            }
+        }
+        return toppedOut;
+    }
+
+    /**
+     * Makes this queue a copy of another, for match snapshots.
+     *
+     * @param other queue whose rows and holes to copy
+     */
+    void copyFrom(GarbageQueue other) {
+        System.arraycopy(other.lines, 0, lines, 0, CAPACITY);
+        System.arraycopy(other.holes, 0, holes, 0, CAPACITY);
+        head = other.head;
+        size = other.size;
+        pending = other.pending;
+    }
+
+    /**
+     * Gets how many rows are waiting, for the warning meter.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        pending = 0;
+    }
+}
@@ -0,0 +1,246 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.models.DirtyRegion;
+import com.comp2042.tetris.models.ViewData;
+
+/**
+ * Everything the screen needs to draw one moment of a match.
+ *
+ * <p>{@link MatchSimulation} copies this out of the live boards at the
+ * end of a tick and hands it to the FX thread, so the renderer never
+ * touches a {@link TetrisBoard} the simulation might be changing under
+ * it. Three frames are recycled through a
+ * {@link com.comp2042.tetris.utils.TripleBuffer}; a frame the reader
+ * holds is not written again until it hands it back, so to the reader it
+ * is a fixed snapshot. The cell arrays it returns are the frame's own
+ * and must not be changed.</p>
+ *
+ * <h2>Dirty Cells</h2>
+ * <p>Each view carries the frame's own {@link DirtyRegion}: the cells
+ * that changed since the newest frame the reader had taken when this
+ * one was captured, so frames the reader skipped are covered too. The
+ * renderer may clear it, as it does a board's. The simulation keeps the
+ * last few frames' changes in {@code changes}; a reader further behind
+ * than that gets the whole board marked.</p>
+ *
+ * <h2>Input Stamps</h2>
+ * <p>A frame also carries the arrival time of every key press it is the
+ * first to show, and of presses from earlier frames the UI may have
+ * skipped, each tagged with the frame that first showed it. That is how
+ * the key-to-screen latency still covers frames the UI never drew.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-10
+ */
+public final class MatchFrame {
+
+    /* matches LatencyMonitor's pending inputs */
+    static final int MAX_STAMPS = 64;
+    /* frames of changes the simulation keeps; a power of two */
+    static final int CHANGE_HISTORY = 8;
+
+    private final int playerCount;
+    /* index 0 is unused, as in the match */
+    private final int[][][] cells;
+    private final ViewData[] views;
+    private final DirtyRegion[] dirty;
+    /* what the view was built from, so an unchanged piece keeps its view */
+    private final int[][][] shownShapes;
+    private final int[][][] shownNext;
+    private final int[] hp;
+    private final int[] maxHp;
+    private final int[] score;
+    private final int[] lines;
+    private final int[] pendingGarbage;
+    private final int[] lastAttacker;
+    private final boolean[] alive;
+
+    private final long[] stampNanos = new long[MAX_STAMPS];
+    private final long[] stampFrames = new long[MAX_STAMPS];
+    private int stampCount;
+
+    private long sequence;
+    private long tick;
+    private boolean inProgress;
+    private int winner;
+
+    MatchFrame(int playerCount, int rows, int cols) {
+        this.playerCount = playerCount;
+        this.cells = new int[playerCount + 1][rows][cols];
+        this.views = new ViewData[playerCount + 1];
+        this.dirty = new DirtyRegion[playerCount + 1];
+        for (int player = 1; player <= playerCount; player++) {
+            dirty[player] = new DirtyRegion(rows, cols);
+        }
+        this.shownShapes = new int[playerCount + 1][][];
+        this.shownNext = new int[playerCount + 1][][];
+        this.hp = new int[playerCount + 1];
+        this.maxHp = new int[playerCount + 1];
+        this.score = new int[playerCount + 1];
+        this.lines = new int[playerCount + 1];
+        this.pendingGarbage = new int[playerCount + 1];
+        this.lastAttacker = new int[playerCount + 1];
+        this.alive = new boolean[playerCount + 1];
+    }
+
+    /* called on the simulation thread, only while this frame is its back buffer
+     * changes[sequence % CHANGE_HISTORY][player] is filled here and read back
+     * by later frames; taken is the newest frame the reader has
+     */
+    void capture(long sequence, long tick, long taken, MultiplayerGameManager match, DirtyRegion[][] changes,
+                 long[] nanos, long[] frames, int count) {
+        this.sequence = sequence;
+        this.tick = tick;
+        this.inProgress = match.isGameInProgress();
+        this.winner = match.getWinner();
+        for (int player = 1; player <= playerCount; player++) {
+            TetrisBoard board = match.getBoard(player);
+            int[][] matrix = board.getBoardMatrix();
+            for (int row = 0; row < matrix.length; row++) {
+                System.arraycopy(matrix[row], 0, cells[player][row], 0, matrix[row].length);
+            }
+            /* building the view marks the piece's old and new cells; the
+             * live region then moves into the history and starts again
+             */
+            ViewData live = board.getViewData();
+            DirtyRegion change = changes[(int) (sequence & (CHANGE_HISTORY - 1))][player];
+            change.copyFrom(board.getDirtyRegion());
+            board.getDirtyRegion().clear();
+            collectChanges(player, sequence, taken, changes);
+            captureView(player, board, live);
+            PlayerHealth health = match.getHealth(player);
+            hp[player] = health.getCurrentHp();
+            maxHp[player] = health.getMaxHp();
+            score[player] = board.getScore().getValue();
+            lines[player] = board.getLevelManager().getTotalLinesCleared();
+            pendingGarbage[player] = match.getGarbage(player).getPending();
+            lastAttacker[player] = match.getLastAttacker(player);
+            alive[player] = match.isAlive(player);
+        }
+        System.arraycopy(nanos, 0, stampNanos, 0, count);
+        System.arraycopy(frames, 0, stampFrames, 0, count);
+        stampCount = count;
+    }
+
+    /* everything since the reader's frame, in case it skips the ones between */
+    private void collectChanges(int player, long sequence, long taken, DirtyRegion[][] changes) {
+        DirtyRegion region = dirty[player];
+        if (sequence - taken > CHANGE_HISTORY) {
+            region.markAll();
+            return;
+        }
+        region.clear();
+        for (long frame = taken + 1; frame <= sequence; frame++) {
+            region.add(changes[(int) (frame & (CHANGE_HISTORY - 1))][player]);
+        }
+    }
+
+    /* most ticks the piece has not moved, so the last view is still right */
+    private void captureView(int player, TetrisBoard board, ViewData live) {
+        int[][] shape = board.getTetrominoRotator().getCurrentShape();
+        int[][] next = board.getNextTetromino().getRotationTable().get(0).getShape();
+        ViewData view = views[player];
+        if (view != null && shape == shownShapes[player] && next == shownNext[player]
+                && view.getxPosition() == live.getxPosition() && view.getyPosition() == live.getyPosition()
+                && view.getGhostYPosition() == live.getGhostYPosition()) {
+            return;
+        }
+        shownShapes[player] = shape;
+        shownNext[player] = next;
+        views[player] = new ViewData(shape, live.getxPosition(), live.getyPosition(), next,
+            live.getGhostYPosition(), dirty[player]);
+    }
+
+    /**
+     * Gets this frame's number; every published frame has a higher one
+     * than the last.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the logic tick this frame was taken after.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public boolean isGameInProgress() {
+        return inProgress;
+    }
+
+    /**
+     * Gets the winner (0 = no winner yet, otherwise the player number).
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets a player's locked cells; read only.
+     */
+    public int[][] getCells(int player) {
+        return cells[player];
+    }
+
+    /**
+     * Gets a player's falling piece, ghost and next piece, with the
+     * frame's own dirty region.
+     */
+    public ViewData getView(int player) {
+        return views[player];
+    }
+
+    public int getHp(int player) {
+        return hp[player];
+    }
+
+    public int getMaxHp(int player) {
+        return maxHp[player];
+    }
+
+    public int getScore(int player) {
+        return score[player];
+    }
+
+    public int getLines(int player) {
+        return lines[player];
+    }
+
+    /**
+     * Gets the garbage rows waiting to rise into a player's board.
+     */
+    public int getPendingGarbage(int player) {
+        return pendingGarbage[player];
+    }
+
+    /**
+     * Gets who last attacked a player, 0 if nobody has yet.
+     */
+    public int getLastAttacker(int player) {
+        return lastAttacker[player];
+    }
+
+    public boolean isAlive(int player) {
+        return alive[player];
+    }
+
+    int getStampCount() {
+        return stampCount;
+    }
+
+    long getStampNanos(int i) {
+        return stampNanos[i];
+    }
+
+    long getStampFrame(int i) {
+        return stampFrames[i];
+    }
+}
@@ -0,0 +1,356 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.events.AutoShift;
+import com.comp2042.tetris.events.AutoShiftConfig;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.metrics.LatencyMonitor;
+import com.comp2042.tetris.models.DirtyRegion;
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+import com.comp2042.tetris.utils.TripleBuffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a match on its own thread, the only thread that ever touches its
+ * boards.
+ *
+ * <p>The multiplayer screen used to run gravity, input and the battle
+ * rules inside JavaFX pulses, so a slow frame or a GC pause on the FX
+ * thread held the game up with it. Now this thread owns the
+ * {@link MultiplayerGameManager} and its {@link BattleScheduler}, and
+ * keeps its own {@link GameClock} at {@value GameClock#TICKS_PER_SECOND}
+ * ticks a second whatever the screen is doing. The UI talks to it
+ * through two one-way channels and never waits on either.</p>
+ *
+ * <h2>Input</h2>
+ * <p>{@link #press}, {@link #release} and {@link #releaseAll} write the
+ * key into a preallocated ring and wake the thread, which applies it at
+ * once rather than at the next tick. Each human player has an
+ * {@link AutoShift} on this thread, so held keys repeat on the
+ * simulation's ticks.</p>
+ *
+ * <h2>Frames</h2>
+ * <p>After every tick, and after any input that arrived between ticks,
+ * the thread copies the match into a {@link MatchFrame} and publishes it
+ * through a {@link TripleBuffer}. {@link #pollFrame()} gives the FX
+ * thread the newest one. If the screen falls behind, the frames in
+ * between are dropped, not queued, and the game carries on.</p>
+ *
+ * <p>For tests and headless runs, {@link #advance(long)} does one round
+ * of the thread's work on the caller's thread; do not mix the two.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-10
+ */
+public final class MatchSimulation {
+
+    private static final String THREAD_NAME = "match-simulation";
+
+    /* far more keys than two hands can press in a tick; a power of two */
+    private static final int INPUT_CAPACITY = 256;
+    private static final int INPUT_MASK = INPUT_CAPACITY - 1;
+
+    /* input code: the action in the low bits, then the move, then the player */
+    private static final int PRESS = 1;
+    private static final int RELEASE = 2;
+    private static final int RELEASE_ALL = 3;
+    private static final int ACTION_MASK = 3;
+    private static final int TYPE_SHIFT = 2;
+    private static final int TYPE_MASK = 0xF;
+    private static final int PLAYER_SHIFT = 6;
+    private static final EventType[] TYPES = EventType.values();
+
+    private final MultiplayerGameManager match;
+    private final BattleScheduler scheduler;
+    /* index 0 is unused, as in the match */
+    private final AutoShift[] autoShifts;
+    private final GameClock clock = new GameClock();
+    private final TripleBuffer<MatchFrame> frames;
+    private final LatencyMonitor latencyMonitor;
+
+    /* the key ring: the FX thread writes, the simulation thread reads */
+    private final int[] inputCodes = new int[INPUT_CAPACITY];
+    private final long[] inputNanos = new long[INPUT_CAPACITY];
+    private final AtomicLong inputsWritten = new AtomicLong();
+    private final AtomicLong inputsRead = new AtomicLong();
+
+    /* key stamps not yet in a frame the UI has taken, owned by the simulation thread */
+    private final long[] stampNanos = new long[MatchFrame.MAX_STAMPS];
+    private final long[] stampFrames = new long[MatchFrame.MAX_STAMPS];
+    private int stampCount;
+    private long frameSequence;
+    /* each board's changes in the last few frames, owned by the simulation thread */
+    private final DirtyRegion[][] changes;
+
+    /* the newest frame the UI has taken, written by the FX thread */
+    private final AtomicLong framesTaken = new AtomicLong();
+    private long lastTaken;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    /**
+     * Creates a simulation with every player human and no latency
+     * recording.
+     *
+     * @param match the match to run; from now on only this simulation may touch it
+     * @param difficulty starting gravity and score multiplier for every board
+     * @param autoShift DAS, ARR and soft drop timings for every player
+     */
+    public MatchSimulation(MultiplayerGameManager match, DifficultyStrategy difficulty, AutoShiftConfig autoShift) {
+        this(match, difficulty, autoShift, null);
+    }
+
+    /**
+     * Creates a simulation with every player human.
+     *
+     * @param match the match to run; from now on only this simulation may touch it
+     * @param difficulty starting gravity and score multiplier for every board
+     * @param autoShift DAS, ARR and soft drop timings for every player
+     * @param latencyMonitor records tick times here and key-to-frame times
+     *                       through {@link #pollFrame()}, or null
+     */
+    public MatchSimulation(MultiplayerGameManager match, DifficultyStrategy difficulty, AutoShiftConfig autoShift,
+                           LatencyMonitor latencyMonitor) {
+        this.match = match;
+        this.scheduler = new BattleScheduler(match, difficulty);
+        this.latencyMonitor = latencyMonitor;
+        int players = match.getPlayerCount();
+        this.autoShifts = new AutoShift[players + 1];
+        for (int player = 1; player <= players; player++) {
+            int owner = player;
+            autoShifts[player] = new AutoShift(autoShift, (type, nanos) -> scheduler.apply(owner, type));
+        }
+        int[][] matrix = match.getBoard(1).getBoardMatrix();
+        this.changes = new DirtyRegion[MatchFrame.CHANGE_HISTORY][players + 1];
+        for (DirtyRegion[] frameChanges : changes) {
+            for (int player = 1; player <= players; player++) {
+                frameChanges[player] = new DirtyRegion(matrix.length, matrix[0].length);
+            }
+        }
+        this.frames = new TripleBuffer<>(() -> new MatchFrame(players, matrix.length, matrix[0].length));
+
+        GameClock.TickListener tick = this::tick;
+        clock.addListener(latencyMonitor != null ? latencyMonitor.timeTicks(tick) : tick);
+        publish();
+    }
+
+    /**
+     * Starts the simulation thread, which begins ticking straight away.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        clock.resync();
+        Thread simulation = new Thread(this::run, THREAD_NAME);
+        simulation.setDaemon(true);
+        thread = simulation;
+        simulation.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for it to finish its tick.
+     */
+    public synchronized void stop() {
+        Thread simulation = thread;
+        running = false;
+        thread = null;
+        if (simulation == null) {
+            return;
+        }
+        LockSupport.unpark(simulation);
+        try {
+            simulation.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            advance(System.nanoTime());
+            /* sleep until the next tick is due, or an input wakes us */
+            long untilTick = (long) ((1.0 - clock.getTickProgress()) * GameClock.TICK_NANOS);
+            LockSupport.parkNanos(this, untilTick);
+        }
+    }
+
+    /**
+     * Applies the inputs that have arrived, runs the ticks that are due
+     * and publishes a frame if anything happened.
+     *
+     * <p>The thread calls this in its loop. Call it directly only when
+     * the thread is not running.</p>
+     *
+     * @param nowNanos current time, on the {@code nanoTime} clock
+     * @return number of ticks run
+     */
+    public int advance(long nowNanos) {
+        boolean inputs = drainInputs();
+        int ticks = clock.advance(nowNanos);
+        if (inputs || ticks > 0) {
+            publish();
+        }
+        return ticks;
+    }
+
+    /* held keys repeat, then every board gets its gravity */
+    private void tick(long tick) {
+        for (int player = 1; player < autoShifts.length; player++) {
+            autoShifts[player].tick();
+        }
+        scheduler.onTick(tick);
+    }
+
+    /**
+     * Queues a key press for a player. FX thread only.
+     *
+     * @param player player number
+     * @param type the move the key makes
+     * @param inputNanos when the key arrived
+     * @return false if the queue was full and the press was dropped
+     */
+    public boolean press(int player, EventType type, long inputNanos) {
+        return post(player << PLAYER_SHIFT | type.ordinal() << TYPE_SHIFT | PRESS, inputNanos);
+    }
+
+    /**
+     * Queues a key release for a player. FX thread only.
+     */
+    public boolean release(int player, EventType type) {
+        return post(player << PLAYER_SHIFT | type.ordinal() << TYPE_SHIFT | RELEASE, 0);
+    }
+
+    /**
+     * Queues a release of every held key, for losing focus or leaving the
+     * screen. FX thread only.
+     */
+    public boolean releaseAll() {
+        return post(RELEASE_ALL, 0);
+    }
+
+    private boolean post(int code, long nanos) {
+        long written = inputsWritten.get();
+        if (written - inputsRead.getAcquire() == INPUT_CAPACITY) {
+            return false;
+        }
+        int slot = (int) written & INPUT_MASK;
+        inputCodes[slot] = code;
+        inputNanos[slot] = nanos;
+        inputsWritten.setRelease(written + 1);
+        Thread simulation = thread;
+        if (simulation != null) {
+            LockSupport.unpark(simulation);
+        }
+        return true;
+    }
+
+    /* applies every queued key; true if there were any */
+    private boolean drainInputs() {
+        long read = inputsRead.get();
+        long written = inputsWritten.getAcquire();
+        if (read == written) {
+            return false;
+        }
+        for (; read < written; read++) {
+            int slot = (int) read & INPUT_MASK;
+            int code = inputCodes[slot];
+            int action = code & ACTION_MASK;
+            if (action == RELEASE_ALL) {
+                for (int player = 1; player < autoShifts.length; player++) {
+                    autoShifts[player].releaseAll();
+                }
+                continue;
+            }
+            AutoShift autoShift = autoShifts[code >>> PLAYER_SHIFT];
+            EventType type = TYPES[code >>> TYPE_SHIFT & TYPE_MASK];
+            if (action == RELEASE) {
+                autoShift.release(type);
+            } else if (autoShift.press(type, inputNanos[slot]) && match.isGameInProgress()) {
+                /* OS repeats of a held key come back false and are not inputs */
+                stamp(inputNanos[slot]);
+            }
+        }
+        inputsRead.setRelease(read);
+        return true;
+    }
+
+    private void stamp(long nanos) {
+        if (stampCount < MatchFrame.MAX_STAMPS) {
+            stampNanos[stampCount] = nanos;
+            stampFrames[stampCount] = frameSequence + 1;
+            stampCount++;
+        }
+    }
+
+    private void publish() {
+        /* stamps in a frame the UI has taken are done with */
+        long taken = framesTaken.getAcquire();
+        int kept = 0;
+        for (int i = 0; i < stampCount; i++) {
+            if (stampFrames[i] > taken) {
+                stampNanos[kept] = stampNanos[i];
+                stampFrames[kept] = stampFrames[i];
+                kept++;
+            }
+        }
+        stampCount = kept;
+
+        frameSequence++;
+        frames.back().capture(frameSequence, clock.getTickCount(), taken, match, changes,
+            stampNanos, stampFrames, stampCount);
+        frames.publish();
+    }
+
+    /**
+     * Takes the newest frame, if one has been published since the last
+     * call. FX thread only.
+     *
+     * <p>The key presses the frame is the first taken frame to show are
+     * handed to the latency monitor, ready for its
+     * {@link LatencyMonitor#frameRendered} once the frame is drawn.</p>
+     *
+     * @return the frame to draw, or null if nothing has changed
+     */
+    public MatchFrame pollFrame() {
+        if (!frames.update()) {
+            return null;
+        }
+        MatchFrame frame = frames.front();
+        if (latencyMonitor != null) {
+            for (int i = 0; i < frame.getStampCount(); i++) {
+                if (frame.getStampFrame(i) > lastTaken) {
+                    latencyMonitor.inputApplied(frame.getStampNanos(i));
+                }
+            }
+        }
+        lastTaken = frame.getSequence();
+        framesTaken.setRelease(lastTaken);
+        return frame;
+    }
+
+    /**
+     * Gets the match. Only safe to read from the simulation thread, or
+     * while it is stopped.
+     */
+    public MultiplayerGameManager getMatch() {
+        return match;
+    }
+
+    /**
+     * Gets the scheduler, to hand boards to bots. Same rule as
+     * {@link #getMatch()}.
+     */
+    public BattleScheduler getScheduler() {
+        return scheduler;
+    }
+}
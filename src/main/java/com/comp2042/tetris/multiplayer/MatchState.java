@@ -0,0 +1,76 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.BoardState;
+
+/**
+ * A saved match that can be put back with {@link BattleScheduler#restore}.
+ *
+ * <p>A {@link BoardState} per player plus everything around the boards
+ * that decides how the match carries on: HP, waiting garbage, who hit
+ * whom, who is still in, the targeting random generator's position, and
+ * the scheduler's gravity, the level it was set for, and game-over
+ * flags.</p>
+ *
+ * <h2>Reuse</h2>
+ * <p>Like a board state it is mutable and sized once, so a rollback
+ * keeps a ring of them, one per tick, and snapshots into them over and
+ * over without allocating. A state fits only matches with the same
+ * number of players and board size as the one it was made for.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-12
+ */
+public final class MatchState {
+
+    /* index 0 is unused, as in the match */
+    final BoardState[] boards;
+    final GarbageQueue[] garbage;
+    final int[] hp;
+    final int[] lastAttacker;
+    final int[] knockouts;
+    final boolean[] alive;
+    int aliveCount;
+    boolean gameInProgress;
+    int winner;
+    long randomState;
+
+    /* the scheduler's part */
+    final boolean[] gameOver;
+    final double[] gravity;
+    final int[] gravityLevel;
+    final double[] gravityProgress;
+    long ticks;
+    long locks;
+
+    /**
+     * Creates a state sized for a match.
+     *
+     * @param match the match it will hold snapshots of
+     */
+    public MatchState(MultiplayerGameManager match) {
+        int slots = match.getPlayerCount() + 1;
+        this.boards = new BoardState[slots];
+        this.garbage = new GarbageQueue[slots];
+        for (int player = 1; player < slots; player++) {
+            boards[player] = match.getBoard(player).snapshot();
+            garbage[player] = new GarbageQueue();
+        }
+        this.hp = new int[slots];
+        this.lastAttacker = new int[slots];
+        this.knockouts = new int[slots];
+        this.alive = new boolean[slots];
+        this.gameOver = new boolean[slots];
+        this.gravity = new double[slots];
+        this.gravityLevel = new int[slots];
+        this.gravityProgress = new double[slots];
+    }
+
+    /* a state from another match would restore part of the players */
+    void checkSize(int playerCount) {
+        if (boards.length != playerCount + 1) {
+            throw new IllegalArgumentException("State is for " + (boards.length - 1)
+                + " players, match has " + playerCount);
+        }
+    }
+}
@@ -1,12 +1,10 @@
 package com.comp2042.tetris.multiplayer;
 
-import com.comp2042.tetris.core.TetrisBoard;
-import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.AutoShiftConfig;
 import com.comp2042.tetris.events.EventType;
-import com.comp2042.tetris.events.MoveEvent;
-import com.comp2042.tetris.models.ClearRow;
-import com.comp2042.tetris.models.DownData;
+import com.comp2042.tetris.metrics.LatencyMonitor;
 import com.comp2042.tetris.models.ViewData;
+import com.comp2042.tetris.patterns.MediumDifficulty;
 
 import javafx.scene.input.KeyCode;
 
@@ -20,6 +18,10 @@ import javafx.scene.input.KeyCode;
  * <p>It's basically like running two single-player games at once,
  * but with the added twist that line clears damage your opponent.</p>
  *
+ * <p>Moves, locks and gravity all go through a {@link BattleScheduler},
+ * the same rules {@link MatchSimulation} runs for the multiplayer
+ * screen, so there is one place that decides scores and attacks.</p>
+ *
  * @author Shahjalal
  * @version 1.0
  * @since 2025-11-19
@@ -27,6 +29,7 @@ import javafx.scene.input.KeyCode;
 public class MultiplayerController {
 
     private final MultiplayerGameManager gameManager;
+    private final BattleScheduler scheduler;
     private final PlayerInputHandler player1Input;
     private final PlayerInputHandler player2Input;
 
@@ -34,40 +37,64 @@ public class MultiplayerController {
     private Runnable onPlayer1Update;
     private Runnable onPlayer2Update;
     private Runnable onGameEnd;
+    private boolean endReported;
+
+    /* told about every handled key; the view that draws reports the frames */
+    private LatencyMonitor latencyMonitor;
 
     public MultiplayerController() {
+        this(AutoShiftConfig.fromSystemProperties());
+    }
+
+    /**
+     * Creates a controller whose held keys repeat at the given timings.
+     *
+     * @param autoShift DAS, ARR and soft drop timings for both players
+     */
+    public MultiplayerController(AutoShiftConfig autoShift) {
         this.gameManager = new MultiplayerGameManager();
-        this.player1Input = new PlayerInputHandler(1);
-        this.player2Input = new PlayerInputHandler(2);
+        this.scheduler = new BattleScheduler(gameManager, new MediumDifficulty());
+        this.player1Input = new PlayerInputHandler(1, autoShift, (type, inputNanos) -> handlePlayerAction(1, type));
+        this.player2Input = new PlayerInputHandler(2, autoShift, (type, inputNanos) -> handlePlayerAction(2, type));
     }
 
     /**
      * Starts a new multiplayer match.
      */
     public void startNewGame() {
-        gameManager.startNewGame();
+        scheduler.restart();
+        endReported = false;
     }
 
     /**
      * Processes a key press and routes it to the correct player.
      *
+     * <p>OS repeats of a held key are handled but do nothing; the
+     * player's {@link PlayerInputHandler} repeats it on {@link #tick()}
+     * instead.</p>
+     *
      * @param keyCode the key that was pressed
      * @return true if the key was handled
      */
     public boolean handleKeyPress(KeyCode keyCode) {
+        long inputNanos = System.nanoTime();
         if (!gameManager.isGameInProgress()) {
             return false;
         }
 
         /* check if player 1 owns this key */
         if (player1Input.isMyKey(keyCode)) {
-            handlePlayerAction(1, player1Input.getAction(keyCode));
+            if (player1Input.keyPressed(keyCode, inputNanos)) {
+                inputApplied(inputNanos);
+            }
             return true;
         }
 
         /* check if player 2 owns this key */
         if (player2Input.isMyKey(keyCode)) {
-            handlePlayerAction(2, player2Input.getAction(keyCode));
+            if (player2Input.keyPressed(keyCode, inputNanos)) {
+                inputApplied(inputNanos);
+            }
             return true;
         }
 
@@ -75,83 +102,63 @@ public class MultiplayerController {
     }
 
     /**
-     * Executes an action for a specific player.
+     * Processes a key release, even between matches, so no key stays
+     * held.
+     *
+     * @param keyCode the key that was released
+     * @return true if a player owns the key
      */
-    private void handlePlayerAction(int playerNumber, PlayerInputHandler.PlayerAction action) {
-        TetrisBoard board = (playerNumber == 1) 
-            ? gameManager.getPlayer1Board() 
-            : gameManager.getPlayer2Board();
-
-        switch (action) {
-            case MOVE_LEFT -> board.moveBrickLeft();
-            case MOVE_RIGHT -> board.moveBrickRight();
-            case ROTATE -> board.rotateLeftBrick();
-            case HOLD -> board.holdCurrentPiece();
-            case SOFT_DROP -> handleSoftDrop(playerNumber, board);
-            case HARD_DROP -> handleHardDrop(playerNumber, board);
-            default -> { /* do nothing */ }
-        }
-
-        /* notify UI to update */
-        notifyPlayerUpdate(playerNumber);
+    public boolean handleKeyRelease(KeyCode keyCode) {
+        return player1Input.keyReleased(keyCode) || player2Input.keyReleased(keyCode);
     }
 
     /**
-     * Handles soft drop (one row down).
+     * Runs one logic tick: both players' held-key repeats, then their
+     * gravity.
      */
-    private void handleSoftDrop(int playerNumber, TetrisBoard board) {
-        boolean moved = board.moveBrickDown();
-
-        if (!moved) {
-            /* piece locked - process it */
-            handlePieceLocked(playerNumber, board);
+    public void tick() {
+        if (gameManager.isGameInProgress()) {
+            player1Input.tick();
+            player2Input.tick();
+            scheduler.onTick(scheduler.getTicks() + 1);
+            notifyPlayerUpdate(1);
+            notifyPlayerUpdate(2);
+            checkGameEnd();
         }
     }
 
-    /**
-     * Handles hard drop (instant drop to bottom).
-     */
-    private void handleHardDrop(int playerNumber, TetrisBoard board) {
-        /* drop until we can't anymore */
-        while (board.moveBrickDown()) {
-            /* keep dropping */
+    private void inputApplied(long inputNanos) {
+        if (latencyMonitor != null) {
+            latencyMonitor.inputApplied(inputNanos);
         }
-        handlePieceLocked(playerNumber, board);
     }
 
     /**
-     * Processes a piece locking into place.
+     * Executes an action for a specific player.
      *
-     * <p>This is where the attack happens - clearing lines damages
-     * the opponent!</p>
+     * @return true if the piece moved, which keeps a wall slide going
      */
-    private void handlePieceLocked(int playerNumber, TetrisBoard board) {
-        board.mergeBrickToBackground();
-        ClearRow clearRow = board.clearRows();
-
-        if (clearRow.getLinesRemoved() > 0) {
-            /* attack the opponent! */
-            int comboLevel = board.getComboManager().getCurrentCombo();
-            gameManager.onLinesClear(playerNumber, clearRow.getLinesRemoved(), Math.max(0, comboLevel));
+    private boolean handlePlayerAction(int playerNumber, EventType type) {
+        if (!gameManager.isGameInProgress()) {
+            return false;
         }
+        /* the scheduler settles any lock, attack, garbage and top out */
+        boolean moved = scheduler.apply(playerNumber, type);
 
-        /* spawn new piece - check for game over (top out) */
-        boolean gameOver = board.createNewBrick();
-
-        if (gameOver) {
-            /* this player topped out - other player wins */
-            int winner = (playerNumber == 1) ? 2 : 1;
-            gameManager.declareWinner(winner);
+        /* notify UI to update */
+        notifyPlayerUpdate(playerNumber);
+        checkGameEnd();
+        return moved;
+    }
 
+    /* the lock, or an attack it sent, may have decided the match */
+    private void checkGameEnd() {
+        if (!gameManager.isGameInProgress() && !endReported) {
+            endReported = true;
             if (onGameEnd != null) {
                 onGameEnd.run();
             }
         }
-
-        /* check if opponent was defeated by the attack */
-        if (!gameManager.isGameInProgress() && onGameEnd != null) {
-            onGameEnd.run();
-        }
     }
 
     /**
@@ -200,4 +207,13 @@ public class MultiplayerController {
     public void setOnGameEnd(Runnable callback) {
         this.onGameEnd = callback;
     }
+
+    /**
+     * Measures key-to-frame latency for this controller's input.
+     *
+     * @param latencyMonitor monitor whose frames the view reports, or null
+     */
+    public void setLatencyMonitor(LatencyMonitor latencyMonitor) {
+        this.latencyMonitor = latencyMonitor;
+    }
 }
@@ -1,23 +1,51 @@
 package com.comp2042.tetris.multiplayer;
 
+import com.comp2042.tetris.core.BoardEngine;
 import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.GameEventBus;
+import com.comp2042.tetris.events.GameEventType;
+import com.comp2042.tetris.pieces.GeneratorType;
+import com.comp2042.tetris.utils.SplitMix64;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
 
 /**
- * Manages a two-player multiplayer Tetris battle.
+ * Manages a multiplayer Tetris battle between 2 and 100 players.
  *
- * <p>This is the heart of the multiplayer mode. I orchestrate two
- * separate game boards, track each player's HP, and handle the
+ * <p>This is the heart of the multiplayer mode. I orchestrate the
+ * players' game boards, track each player's HP, and handle the
  * attack system when lines are cleared.</p>
  *
  * <h2>How It Works</h2>
- * <p>Each player has their own TetrisBoard and HP. When player 1
- * clears lines, player 2 takes damage (and vice versa). The first
- * player to reach 0 HP loses the match.</p>
+ * <p>Each player has their own TetrisBoard and HP. When a player
+ * clears lines, one opponent takes damage, picked by the attacker's
+ * {@link TargetingMode}. A player is out when their HP reaches 0 or
+ * their board tops out, and the last player left wins. With two
+ * players this is the original head-to-head match.</p>
+ *
+ * <h2>Garbage</h2>
+ * <p>An attack also sends garbage rows. They wait in the target's
+ * {@link GarbageQueue}, where the target's own attacks can cancel them,
+ * and rise into the board after the target's next lock that clears
+ * nothing. Call {@link #onPieceLocked} after every lock for that.</p>
+ *
+ * <h2>Snapshots</h2>
+ * <p>{@link #snapshot} and {@link #restore} save and put back the whole
+ * match, boards included, through a reusable {@link MatchState}, so a
+ * rollback can rewind a seeded match and play it again. Restoring does
+ * not undo attacks already published to an event bus.</p>
+ *
+ * <h2>Players</h2>
+ * <p>Players are numbered from 1, as in the two-player API. The state
+ * is kept in plain arrays indexed by that number, so a tick over 100
+ * boards in {@link BattleScheduler} never allocates.</p>
  *
  * <h2>Controls</h2>
+ * <p>As bound by {@link com.comp2042.tetris.ui.MultiplayerGuiController}:</p>
  * <ul>
- *   <li>Player 1: WASD (W=rotate, A=left, S=down, D=right), Shift=hold</li>
- *   <li>Player 2: Arrow keys (Up=rotate), Ctrl=hold</li>
+ *   <li>Player 1: WASD (W=rotate, A=left, S=down, D=right), C=hold, Space=hard drop</li>
+ *   <li>Player 2: Arrow keys (Up=rotate), /=hold, Enter=hard drop</li>
  * </ul>
  *
  * @author Shahjalal
@@ -26,22 +54,90 @@ import com.comp2042.tetris.core.TetrisBoard;
  */
 public class MultiplayerGameManager {
 
-    private static final int BOARD_WIDTH = 25;
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 100;
+
+    /* the same board as single player, which the multiplayer screen is laid out for */
+    private static final int BOARD_WIDTH = 24;
     private static final int BOARD_HEIGHT = 10;
 
-    private final TetrisBoard player1Board;
-    private final TetrisBoard player2Board;
-    private final PlayerHealth player1Health;
-    private final PlayerHealth player2Health;
+    /* index 0 is unused so player numbers index directly */
+    private final TetrisBoard[] boards;
+    private final PlayerHealth[] healths;
+    private final TargetingMode[] targeting;
+    private final int[] lastAttacker;
+    private final int[] knockouts;
+    private final boolean[] alive;
+    private final GarbageQueue[] garbage;
+    private final int playerCount;
+    private int aliveCount;
+
+    /* a generator whose position can be saved, so rollback redraws the same targets */
+    private final SplitMix64 random;
 
     private boolean gameInProgress;
-    private int winner; /* 0 = none, 1 = player1, 2 = player2 */
+    private int winner; /* 0 = none, otherwise the winning player */
+
+    private GameEventBus eventBus;
+    private LongSupplier clock;
 
     public MultiplayerGameManager() {
-        this.player1Board = new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT);
-        this.player2Board = new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT);
-        this.player1Health = new PlayerHealth();
-        this.player2Health = new PlayerHealth();
+        this(BoardEngine.MATRIX);
+    }
+
+    /**
+     * Creates a two-player match whose boards run on the given storage engine.
+     *
+     * @param engine board engine used for both players
+     */
+    public MultiplayerGameManager(BoardEngine engine) {
+        this(engine, MIN_PLAYERS);
+    }
+
+    /**
+     * Creates a match with random pieces and random targeting.
+     *
+     * @param engine board engine used for every player
+     * @param playerCount number of players, 2 to 100
+     */
+    public MultiplayerGameManager(BoardEngine engine, int playerCount) {
+        this(engine, playerCount, null, System.nanoTime());
+    }
+
+    /**
+     * Creates a reproducible match.
+     *
+     * <p>Every player is dealt the same sequence from the seed, so no one
+     * gets luckier pieces, and targeting draws from the same seed, so a
+     * match driven by the same inputs plays out the same way.</p>
+     *
+     * @param engine board engine used for every player
+     * @param playerCount number of players, 2 to 100
+     * @param generator how the pieces are dealt, or null for each board's default
+     * @param seed seed for the pieces and the targeting
+     */
+    public MultiplayerGameManager(BoardEngine engine, int playerCount, GeneratorType generator, long seed) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players must be " + MIN_PLAYERS + " to " + MAX_PLAYERS
+                + ": " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.boards = new TetrisBoard[playerCount + 1];
+        this.healths = new PlayerHealth[playerCount + 1];
+        this.targeting = new TargetingMode[playerCount + 1];
+        this.lastAttacker = new int[playerCount + 1];
+        this.knockouts = new int[playerCount + 1];
+        this.alive = new boolean[playerCount + 1];
+        this.garbage = new GarbageQueue[playerCount + 1];
+        for (int player = 1; player <= playerCount; player++) {
+            boards[player] = generator == null
+                ? engine.create(BOARD_WIDTH, BOARD_HEIGHT)
+                : engine.create(BOARD_WIDTH, BOARD_HEIGHT, generator.create(seed));
+            healths[player] = new PlayerHealth();
+            garbage[player] = new GarbageQueue();
+            targeting[player] = TargetingMode.RANDOM;
+        }
+        this.random = new SplitMix64(seed);
         this.gameInProgress = false;
         this.winner = 0;
     }
@@ -50,68 +146,258 @@ public class MultiplayerGameManager {
      * Starts a new multiplayer match.
      */
     public void startNewGame() {
-        player1Board.newGame();
-        player2Board.newGame();
-        player1Health.reset();
-        player2Health.reset();
+        for (int player = 1; player <= playerCount; player++) {
+            boards[player].newGame();
+            healths[player].reset();
+            garbage[player].clear();
+        }
+        Arrays.fill(lastAttacker, 0);
+        Arrays.fill(knockouts, 0);
+        Arrays.fill(alive, 1, playerCount + 1, true);
+        aliveCount = playerCount;
         gameInProgress = true;
         winner = 0;
     }
 
+    /**
+     * Publishes every attack to an event bus from now on.
+     *
+     * @param bus bus to publish to, from the thread that runs the match
+     * @param clock game clock tick to stamp the events with
+     */
+    public void publishTo(GameEventBus bus, LongSupplier clock) {
+        this.eventBus = bus;
+        this.clock = clock;
+    }
+
     /**
      * Called when a player clears lines.
      *
-     * <p>This is where the attack happens - the opponent takes damage
+     * <p>This is where the attack happens - an opponent takes damage
      * based on how many lines were cleared and the current combo.</p>
      *
-     * @param playerNumber which player cleared lines (1 or 2)
+     * @param playerNumber which player cleared lines
      * @param linesCleared number of lines cleared
      * @param comboLevel current combo level
+     * @return the player who was hit, or 0 if the clear sent no attack
      */
-    public void onLinesClear(int playerNumber, int linesCleared, int comboLevel) {
-        if (!gameInProgress || linesCleared == 0) {
-            return;
+    public int onLinesClear(int playerNumber, int linesCleared, int comboLevel) {
+        if (!gameInProgress || linesCleared == 0 || !alive[playerNumber]) {
+            return 0;
         }
 
         int damage = AttackCalculator.calculateDamage(linesCleared, comboLevel);
+        int targetPlayer = targeting[playerNumber].chooseTarget(this, playerNumber, random);
+        lastAttacker[targetPlayer] = playerNumber;
 
-        /* player 1 attacks player 2 and vice versa */
-        PlayerHealth targetHealth = (playerNumber == 1) ? player2Health : player1Health;
-        boolean stillAlive = targetHealth.takeDamage(damage);
+        /* the attacker's own waiting garbage soaks up the rows first */
+        int rows = garbage[playerNumber].cancel(AttackCalculator.calculateGarbageLines(linesCleared, comboLevel));
+        if (rows > 0) {
+            garbage[targetPlayer].add(rows, random.nextInt(BOARD_HEIGHT));
+        }
+
+        boolean stillAlive = healths[targetPlayer].takeDamage(damage);
+        if (eventBus != null) {
+            eventBus.publish(GameEventType.ATTACK, playerNumber, damage, targetPlayer, clock.getAsLong());
+        }
 
         if (!stillAlive) {
             /* target player is defeated */
-            gameInProgress = false;
-            winner = playerNumber;
+            eliminate(targetPlayer);
+        }
+        return targetPlayer;
+    }
+
+    /**
+     * Called after every lock, once any clear has been handed to
+     * {@link #onLinesClear}.
+     *
+     * <p>A lock that clears nothing lets the player's waiting garbage
+     * rise, up to {@value GarbageQueue#DEFAULT_MAX_PER_LOCK} rows. If
+     * that pushes the stack out of the top the player is eliminated.</p>
+     *
+     * @param playerNumber the player whose piece locked
+     * @param linesCleared lines that lock cleared
+     * @return true if the garbage knocked the player out
+     */
+    public boolean onPieceLocked(int playerNumber, int linesCleared) {
+        if (!gameInProgress || !alive[playerNumber] || linesCleared > 0) {
+            return false;
+        }
+        if (garbage[playerNumber].landOn(boards[playerNumber], GarbageQueue.DEFAULT_MAX_PER_LOCK)) {
+            eliminate(playerNumber);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Knocks a player out of the match, by damage or by topping out.
+     *
+     * <p>Whoever hit them last is credited with the knockout. When only
+     * one player is left they win.</p>
+     *
+     * @param playerNumber the player who is out
+     */
+    public void eliminate(int playerNumber) {
+        if (!gameInProgress || !alive[playerNumber]) {
+            return;
+        }
+        alive[playerNumber] = false;
+        aliveCount--;
+        int attacker = lastAttacker[playerNumber];
+        if (attacker != 0) {
+            knockouts[attacker]++;
         }
+        if (aliveCount == 1) {
+            for (int player = 1; player <= playerCount; player++) {
+                if (alive[player]) {
+                    declareWinner(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves the whole match into an existing state, allocating nothing.
+     *
+     * @param state state made for this match, overwritten
+     */
+    public void snapshot(MatchState state) {
+        state.checkSize(playerCount);
+        for (int player = 1; player <= playerCount; player++) {
+            boards[player].snapshot(state.boards[player]);
+            state.garbage[player].copyFrom(garbage[player]);
+            state.hp[player] = healths[player].getCurrentHp();
+        }
+        System.arraycopy(lastAttacker, 0, state.lastAttacker, 0, lastAttacker.length);
+        System.arraycopy(knockouts, 0, state.knockouts, 0, knockouts.length);
+        System.arraycopy(alive, 0, state.alive, 0, alive.length);
+        state.aliveCount = aliveCount;
+        state.gameInProgress = gameInProgress;
+        state.winner = winner;
+        state.randomState = random.getState();
+    }
+
+    /**
+     * Puts back a match saved by {@link #snapshot}.
+     *
+     * <p>Targeting modes are settings, not state, and are left as they are.</p>
+     *
+     * @param state a snapshot of this match
+     */
+    public void restore(MatchState state) {
+        state.checkSize(playerCount);
+        for (int player = 1; player <= playerCount; player++) {
+            boards[player].restore(state.boards[player]);
+            garbage[player].copyFrom(state.garbage[player]);
+            healths[player].restore(state.hp[player]);
+        }
+        System.arraycopy(state.lastAttacker, 0, lastAttacker, 0, lastAttacker.length);
+        System.arraycopy(state.knockouts, 0, knockouts, 0, knockouts.length);
+        System.arraycopy(state.alive, 0, alive, 0, alive.length);
+        aliveCount = state.aliveCount;
+        gameInProgress = state.gameInProgress;
+        winner = state.winner;
+        random.setState(state.randomState);
+    }
+
+    /**
+     * Gets a player's game board.
+     *
+     * @param playerNumber player from 1 to {@link #getPlayerCount()}
+     */
+    public TetrisBoard getBoard(int playerNumber) {
+        return boards[playerNumber];
+    }
+
+    /**
+     * Gets a player's health tracker.
+     *
+     * @param playerNumber player from 1 to {@link #getPlayerCount()}
+     */
+    public PlayerHealth getHealth(int playerNumber) {
+        return healths[playerNumber];
+    }
+
+    /**
+     * Gets the garbage waiting for a player.
+     *
+     * @param playerNumber player from 1 to {@link #getPlayerCount()}
+     */
+    public GarbageQueue getGarbage(int playerNumber) {
+        return garbage[playerNumber];
     }
 
     /**
      * Gets player 1's game board.
      */
     public TetrisBoard getPlayer1Board() {
-        return player1Board;
+        return boards[1];
     }
 
     /**
      * Gets player 2's game board.
      */
     public TetrisBoard getPlayer2Board() {
-        return player2Board;
+        return boards[2];
     }
 
     /**
      * Gets player 1's health tracker.
      */
     public PlayerHealth getPlayer1Health() {
-        return player1Health;
+        return healths[1];
     }
 
     /**
      * Gets player 2's health tracker.
      */
     public PlayerHealth getPlayer2Health() {
-        return player2Health;
+        return healths[2];
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Checks if a player is still in the match.
+     */
+    public boolean isAlive(int playerNumber) {
+        return alive[playerNumber];
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public TargetingMode getTargetingMode(int playerNumber) {
+        return targeting[playerNumber];
+    }
+
+    /**
+     * Changes how a player's attacks choose their target; takes effect
+     * from their next attack.
+     */
+    public void setTargetingMode(int playerNumber, TargetingMode mode) {
+        targeting[playerNumber] = mode;
+    }
+
+    /**
+     * Gets who last attacked a player.
+     *
+     * @return player number, or 0 if nobody has yet
+     */
+    public int getLastAttacker(int playerNumber) {
+        return lastAttacker[playerNumber];
+    }
+
+    /**
+     * Gets how many opponents a player has knocked out.
+     */
+    public int getKnockouts(int playerNumber) {
+        return knockouts[playerNumber];
     }
 
     /**
@@ -122,7 +408,7 @@ public class MultiplayerGameManager {
     }
 
     /**
-     * Gets the winner (0 = no winner yet, 1 = player 1, 2 = player 2).
+     * Gets the winner (0 = no winner yet, otherwise the player number).
      */
     public int getWinner() {
         return winner;
@@ -131,7 +417,8 @@ public class MultiplayerGameManager {
     /**
      * Ends the game with a specific winner.
      *
-     * <p>Called when a player tops out (board fills up).</p>
+     * <p>Called when the match is decided, for example when one of two
+     * players tops out (board fills up).</p>
      */
     public void declareWinner(int winningPlayer) {
         gameInProgress = false;
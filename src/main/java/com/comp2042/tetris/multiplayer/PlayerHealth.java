@@ -1,7 +1,9 @@
 package com.comp2042.tetris.multiplayer;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import com.comp2042.tetris.core.IntValueListener;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tracks a player's health points in multiplayer mode.
@@ -29,7 +31,8 @@ public class PlayerHealth {
     private static final int DEFAULT_MAX_HP = 100;
 
     private final int maxHp;
-    private final IntegerProperty currentHp;
+    private int currentHp;
+    private final List<IntValueListener> listeners = new ArrayList<>();
 
     public PlayerHealth() {
         this(DEFAULT_MAX_HP);
@@ -37,7 +40,7 @@ public class PlayerHealth {
 
     public PlayerHealth(int maxHp) {
         this.maxHp = maxHp;
-        this.currentHp = new SimpleIntegerProperty(maxHp);
+        this.currentHp = maxHp;
     }
 
     /**
@@ -49,8 +52,8 @@ public class PlayerHealth {
      * @return true if player is still alive, false if defeated
      */
     public boolean takeDamage(int damage) {
-        int newHp = Math.max(0, currentHp.get() - damage);
-        currentHp.set(newHp);
+        int newHp = Math.max(0, currentHp - damage);
+        setCurrentHp(newHp);
         return newHp > 0;
     }
 
@@ -62,8 +65,7 @@ public class PlayerHealth {
      * @param amount HP to restore
      */
     public void heal(int amount) {
-        int newHp = Math.min(maxHp, currentHp.get() + amount);
-        currentHp.set(newHp);
+        setCurrentHp(Math.min(maxHp, currentHp + amount));
     }
 
     /**
@@ -72,7 +74,7 @@ public class PlayerHealth {
      * @return true if HP is 0 or less
      */
     public boolean isDefeated() {
-        return currentHp.get() <= 0;
+        return currentHp <= 0;
     }
 
     /**
@@ -81,7 +83,7 @@ public class PlayerHealth {
      * @return current HP value
      */
     public int getCurrentHp() {
-        return currentHp.get();
+        return currentHp;
     }
 
     /**
@@ -99,22 +101,54 @@ public class PlayerHealth {
      * @return HP percentage (0.0 to 1.0)
      */
     public double getHpPercentage() {
-        return (double) currentHp.get() / maxHp;
+        return (double) currentHp / maxHp;
     }
 
     /**
-     * Gets the HP property for JavaFX binding.
+     * Registers a listener that is told about every HP change.
      *
-     * @return observable HP property
+     * <p>The multiplayer UI uses this to drive its HP bars; the model
+     * itself stays free of JavaFX.</p>
+     *
+     * @param listener listener to add
      */
-    public IntegerProperty currentHpProperty() {
-        return currentHp;
+    public void addListener(IntValueListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener}.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(IntValueListener listener) {
+        listeners.remove(listener);
     }
 
     /**
      * Resets HP to maximum for a new game.
      */
     public void reset() {
-        currentHp.set(maxHp);
+        setCurrentHp(maxHp);
+    }
+
+    /**
+     * Puts back HP saved earlier, telling listeners once.
+     *
+     * @param savedHp HP from {@link #getCurrentHp()}
+     */
+    public void restore(int savedHp) {
+        setCurrentHp(savedHp);
+    }
+
+    private void setCurrentHp(int newHp) {
+        int oldHp = currentHp;
+        if (oldHp == newHp) {
+            return;
+        }
+        currentHp = newHp;
+        for (IntValueListener listener : listeners) {
+            listener.changed(oldHp, newHp);
+        }
     }
 }
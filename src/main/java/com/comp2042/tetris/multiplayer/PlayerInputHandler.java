@@ -1,5 +1,9 @@
 package com.comp2042.tetris.multiplayer;
 
+import com.comp2042.tetris.events.AutoShift;
+import com.comp2042.tetris.events.AutoShiftConfig;
+import com.comp2042.tetris.events.EventType;
+
 import javafx.scene.input.KeyCode;
 
 import java.util.Set;
@@ -32,6 +36,13 @@ import java.util.Set;
  *   <li>Numpad 0 - Hard Drop</li>
  * </ul>
  *
+ * <h2>Held Keys</h2>
+ * <p>Presses and releases go through {@link #keyPressed} and
+ * {@link #keyReleased} into this player's own {@link AutoShift}, which
+ * repeats held keys on the logic tick. The OS key repeat is ignored, so
+ * both players slide at the configured DAS and ARR whatever machine
+ * they are on, and one player holding a key never slows the other.</p>
+ *
  * @author Shahjalal
  * @version 1.0
  * @since 2025-11-17
@@ -58,14 +69,28 @@ public class PlayerInputHandler {
     private final Set<KeyCode> rotateKeys;
     private final Set<KeyCode> holdKeys;
     private final Set<KeyCode> hardDropKeys;
+    private final AutoShift autoShift;
 
     /**
-     * Creates an input handler for the specified player.
+     * Creates an input handler for the specified player that only maps
+     * keys; held keys go nowhere.
      *
      * @param playerNumber 1 for player 1, 2 for player 2
      */
     public PlayerInputHandler(int playerNumber) {
+        this(playerNumber, AutoShiftConfig.standard(), (type, inputNanos) -> false);
+    }
+
+    /**
+     * Creates an input handler for the specified player.
+     *
+     * @param playerNumber 1 for player 1, 2 for player 2
+     * @param config DAS, ARR and soft drop timings
+     * @param sink applies this player's moves to their board
+     */
+    public PlayerInputHandler(int playerNumber, AutoShiftConfig config, AutoShift.MoveSink sink) {
         this.playerNumber = playerNumber;
+        this.autoShift = new AutoShift(config, sink);
 
         if (playerNumber == 1) {
             /* Player 1 uses WASD layout
@@ -113,6 +138,66 @@ public class PlayerInputHandler {
         return PlayerAction.NONE;
     }
 
+    /**
+     * Maps an action to the move vocabulary the engine uses.
+     *
+     * @param action the player action
+     * @return the matching move, or null for NONE
+     */
+    public static EventType toEventType(PlayerAction action) {
+        return switch (action) {
+            case MOVE_LEFT -> EventType.LEFT;
+            case MOVE_RIGHT -> EventType.RIGHT;
+            case SOFT_DROP -> EventType.DOWN;
+            case HARD_DROP -> EventType.HARD_DROP;
+            case ROTATE -> EventType.ROTATE;
+            case HOLD -> EventType.HOLD;
+            case NONE -> null;
+        };
+    }
+
+    /**
+     * Feeds a key press to this player's auto shift.
+     *
+     * @param keyCode the key that went down
+     * @param inputNanos when it arrived
+     * @return true for a new press of one of this player's keys, false
+     *         for other keys and for OS repeats of a held key
+     */
+    public boolean keyPressed(KeyCode keyCode, long inputNanos) {
+        EventType type = toEventType(getAction(keyCode));
+        return type != null && autoShift.press(type, inputNanos);
+    }
+
+    /**
+     * Feeds a key release to this player's auto shift.
+     *
+     * @param keyCode the key that came up
+     * @return true if it was one of this player's keys
+     */
+    public boolean keyReleased(KeyCode keyCode) {
+        EventType type = toEventType(getAction(keyCode));
+        if (type == null) {
+            return false;
+        }
+        autoShift.release(type);
+        return true;
+    }
+
+    /**
+     * Runs this player's held-key repeats for one logic tick.
+     */
+    public void tick() {
+        autoShift.tick();
+    }
+
+    /**
+     * Forgets held keys, for the end of a match or losing focus.
+     */
+    public void releaseAll() {
+        autoShift.releaseAll();
+    }
+
     /**
      * Checks if a key belongs to this player.
      *
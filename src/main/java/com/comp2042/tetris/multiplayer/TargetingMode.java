@@ -0,0 +1,91 @@
+package com.comp2042.tetris.multiplayer;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * How a player's attacks pick who to hit in a match of more than two.
+ *
+ * <p>With two players every mode hits the only opponent. With more,
+ * each player picks a mode and every attack they send chooses again,
+ * so a target that is knocked out is replaced straight away.</p>
+ *
+ * <ul>
+ *   <li>{@link #RANDOM}: any opponent still in the match</li>
+ *   <li>{@link #KO}: the opponent with the least HP, to finish them off</li>
+ *   <li>{@link #ATTACKER}: whoever hit this player last, else random</li>
+ * </ul>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public enum TargetingMode {
+    RANDOM,
+    KO,
+    ATTACKER;
+
+    /**
+     * Looks a mode up by name, ignoring case.
+     *
+     * @param name e.g. {@code "ko"}
+     * @return the mode
+     * @throws IllegalArgumentException if no mode has that name
+     */
+    public static TargetingMode fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Picks the target of one attack.
+     *
+     * @param match the match, with at least two players alive
+     * @param attacker player number sending the attack
+     * @param random source of the random picks, owned by the match
+     * @return player number to hit, never the attacker
+     */
+    public int chooseTarget(MultiplayerGameManager match, int attacker, RandomGenerator random) {
+        return switch (this) {
+            case RANDOM -> randomOpponent(match, attacker, random);
+            case KO -> weakestOpponent(match, attacker, random);
+            case ATTACKER -> {
+                int last = match.getLastAttacker(attacker);
+                yield last != 0 && match.isAlive(last) ? last : randomOpponent(match, attacker, random);
+            }
+        };
+    }
+
+    /* picks the n-th living opponent, so no list is built per attack */
+    private static int randomOpponent(MultiplayerGameManager match, int attacker, RandomGenerator random) {
+        int skip = random.nextInt(match.getAliveCount() - 1);
+        for (int player = 1; player <= match.getPlayerCount(); player++) {
+            if (player != attacker && match.isAlive(player) && skip-- == 0) {
+                return player;
+            }
+        }
+        throw new IllegalStateException("No opponent left for player " + attacker);
+    }
+
+    /* lowest HP wins; ties go to a random one of them, so a crowd of
+     * KO hunters does not all pile onto the lowest player number
+     */
+    private static int weakestOpponent(MultiplayerGameManager match, int attacker, RandomGenerator random) {
+        int target = 0;
+        int lowest = Integer.MAX_VALUE;
+        int ties = 0;
+        for (int player = 1; player <= match.getPlayerCount(); player++) {
+            if (player == attacker || !match.isAlive(player)) {
+                continue;
+            }
+            int hp = match.getHealth(player).getCurrentHp();
+            if (hp < lowest) {
+                lowest = hp;
+                target = player;
+                ties = 1;
+            } else if (hp == lowest && random.nextInt(++ties) == 0) {
+                target = player;
+            }
+        }
+        return target;
+    }
+}
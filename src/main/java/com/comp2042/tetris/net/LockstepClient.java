@@ -0,0 +1,420 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays lockstep matches against a {@link LockstepServer}.
+ *
+ * <p>One client thread drives any number of {@link Session}s, each a
+ * connection with its own {@link LockstepMatch}. A game screen uses one
+ * session; the load test puts hundreds on a thread.</p>
+ *
+ * <h2>Lockstep</h2>
+ * <p>On each tick of its clock a session sends its player's frame for
+ * the tick {@code inputDelay} ahead, then runs every tick whose pair of
+ * frames the server has confirmed, up to the current one. A press
+ * therefore lands {@code inputDelay} ticks after it is made, on both
+ * machines at once. As long as the round trip to the server is shorter
+ * than that delay the confirmation is already there when it is needed
+ * and the game never waits. When it is late the session stalls: it
+ * holds its clock and sends nothing new until the tick arrives, and
+ * {@link Session#getStalls()} counts the ticks lost.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-11
+ */
+public final class LockstepClient implements AutoCloseable {
+
+    /**
+     * Decides a player's input, one tick at a time.
+     */
+    @FunctionalInterface
+    public interface InputSource {
+
+        /**
+         * Gets what a player does on a tick.
+         *
+         * @param player player number, 1 or 2
+         * @param tick the tick the frame will land on
+         * @return the frame, built with {@link LockstepProtocol#add}
+         */
+        byte nextFrame(int player, int tick);
+    }
+
+    private static final String THREAD_NAME = "lockstep-client";
+    private static final int READ_CAPACITY = 4096;
+    private static final int WRITE_CAPACITY = 4096;
+    private static final int WINDOW_MASK = LockstepServer.WINDOW - 1;
+    /* the same catch-up limit as the game clock after a stall */
+    private static final int MAX_TICKS_PER_WAKEUP = 10;
+
+    private final Selector selector;
+    private final long tickNanos;
+    private final LatencyHistogram roundTrip;
+    private final Thread thread;
+    private final Queue<Session> connecting = new ConcurrentLinkedQueue<>();
+
+    /* owned by the client thread */
+    private final List<Session> sessions = new ArrayList<>();
+
+    private volatile boolean running;
+
+    /**
+     * Creates a client that ticks at the game's rate.
+     *
+     * @param roundTrip records the time from sending each input to its
+     *                  confirmation; may be shared between clients
+     * @throws IOException if the selector cannot be opened
+     */
+    public LockstepClient(LatencyHistogram roundTrip) throws IOException {
+        this(GameClock.TICK_NANOS, roundTrip);
+    }
+
+    /**
+     * Creates a client with its own tick length, for fast tests.
+     *
+     * @param tickNanos length of a tick
+     * @param roundTrip records input round trips; may be shared between clients
+     * @throws IOException if the selector cannot be opened
+     */
+    public LockstepClient(long tickNanos, LatencyHistogram roundTrip) throws IOException {
+        this.tickNanos = tickNanos;
+        this.roundTrip = roundTrip;
+        this.selector = Selector.open();
+        this.thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the client thread.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Connects a new session; it starts playing when the server has
+     * found it an opponent.
+     *
+     * @param server the server's address
+     * @param input where this player's frames come from
+     * @param tickLimit ticks to play before the session finishes
+     * @return the session
+     * @throws IOException if the connection fails
+     */
+    public Session connect(InetSocketAddress server, InputSource input, int tickLimit) throws IOException {
+        SocketChannel channel = SocketChannel.open(server);
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Session session = new Session(channel, input, tickLimit);
+        connecting.add(session);
+        selector.wakeup();
+        return session;
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        if (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        for (Session session : connecting) {
+            session.channel.close();
+        }
+        selector.close();
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime() + tickNanos;
+        try {
+            while (running) {
+                Session session;
+                while ((session = connecting.poll()) != null) {
+                    session.key = session.channel.register(selector, SelectionKey.OP_READ, session);
+                    sessions.add(session);
+                }
+
+                long wait = nextTick - System.nanoTime();
+                if (wait >= TimeUnit.MILLISECONDS.toNanos(1)) {
+                    selector.select(TimeUnit.NANOSECONDS.toMillis(wait));
+                } else {
+                    selector.selectNow();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid()) {
+                        ((Session) key.attachment()).onReady(key);
+                    }
+                }
+
+                long now = System.nanoTime();
+                for (int fired = 0; now >= nextTick; fired++) {
+                    if (fired == MAX_TICKS_PER_WAKEUP) {
+                        nextTick = now + tickNanos;
+                        break;
+                    }
+                    for (int i = 0; i < sessions.size(); i++) {
+                        sessions.get(i).onClockTick();
+                    }
+                    nextTick += tickNanos;
+                }
+                for (int i = 0; i < sessions.size(); i++) {
+                    sessions.get(i).flush();
+                }
+                sessions.removeIf(Session::isClosed);
+            }
+        } catch (IOException e) {
+            if (running) {
+                throw new IllegalStateException("Lockstep client failed", e);
+            }
+        }
+    }
+
+    /**
+     * One player's connection and their copy of the match.
+     *
+     * <p>The getters may be read from any thread; the results are final
+     * once {@link #isFinished()} is true.</p>
+     */
+    public final class Session {
+
+        private final SocketChannel channel;
+        private final InputSource input;
+        private final int tickLimit;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_CAPACITY);
+        private final ByteBuffer out = ByteBuffer.allocate(WRITE_CAPACITY);
+        private SelectionKey key;
+
+        /* owned by the client thread */
+        private final byte[][] frames = new byte[LockstepProtocol.PLAYERS][LockstepServer.WINDOW];
+        private final long[] sentNanos = new long[LockstepServer.WINDOW];
+        private LockstepMatch match;
+        private int inputDelay;
+        /* ticks the clock has reached, confirmed by the server and run */
+        private int clockTicks;
+        private int confirmed;
+        private int simulated;
+
+        private volatile int matchId = -1;
+        private volatile int player;
+        private volatile long seed;
+        private volatile long stalls;
+        private volatile long checksum;
+        private volatile boolean finished;
+        private volatile boolean closed;
+
+        Session(SocketChannel channel, InputSource input, int tickLimit) {
+            this.channel = channel;
+            this.input = input;
+            this.tickLimit = tickLimit;
+        }
+
+        void onReady(SelectionKey readyKey) throws IOException {
+            if (readyKey.isWritable()) {
+                flush();
+            }
+            if (!readyKey.isValid() || !readyKey.isReadable()) {
+                return;
+            }
+            int count;
+            try {
+                count = channel.read(in);
+            } catch (IOException e) {
+                count = -1;
+            }
+            if (count < 0) {
+                disconnect();
+                return;
+            }
+            in.flip();
+            while (in.hasRemaining()) {
+                byte type = in.get(in.position());
+                int size = LockstepProtocol.sizeOf(type);
+                if (size < 0 || type == LockstepProtocol.INPUT) {
+                    disconnect();
+                    return;
+                }
+                if (in.remaining() < size) {
+                    break;
+                }
+                in.get();
+                if (type == LockstepProtocol.START) {
+                    onStart(in.getInt(), in.getLong(), in.get(), in.get());
+                } else {
+                    onTick(in.getInt(), in.get(), in.get());
+                }
+            }
+            in.compact();
+        }
+
+        private void onStart(int id, long matchSeed, int playerNumber, int delay) {
+            seed = matchSeed;
+            player = playerNumber;
+            inputDelay = delay;
+            match = new LockstepMatch(matchSeed);
+            matchId = id;
+            /* the first ticks land before anyone could have pressed anything */
+            for (int tick = 0; tick < delay && tick < tickLimit; tick++) {
+                send(tick, (byte) 0);
+            }
+        }
+
+        private void onTick(int tick, byte frame1, byte frame2) {
+            if (tick != confirmed) {
+                disconnect();
+                return;
+            }
+            int slot = tick & WINDOW_MASK;
+            frames[0][slot] = frame1;
+            frames[1][slot] = frame2;
+            confirmed++;
+            roundTrip.record(System.nanoTime() - sentNanos[slot]);
+            catchUp();
+        }
+
+        void onClockTick() {
+            if (match == null || finished) {
+                return;
+            }
+            if (simulated < clockTicks) {
+                /* still waiting on the server; hold the clock */
+                stalls++;
+                return;
+            }
+            int tick = clockTicks + inputDelay;
+            if (tick < tickLimit) {
+                send(tick, input.nextFrame(player, tick));
+            }
+            clockTicks++;
+            catchUp();
+        }
+
+        /* runs every confirmed tick the clock has reached */
+        private void catchUp() {
+            while (simulated < clockTicks && simulated < confirmed) {
+                int slot = simulated & WINDOW_MASK;
+                match.step(frames[0][slot], frames[1][slot]);
+                simulated++;
+                if (simulated == tickLimit) {
+                    checksum = match.checksum();
+                    finished = true;
+                    return;
+                }
+            }
+        }
+
+        private void send(int tick, byte frame) {
+            if (out.remaining() < LockstepProtocol.INPUT_SIZE) {
+                /* the server has stopped reading */
+                disconnect();
+                return;
+            }
+            sentNanos[tick & WINDOW_MASK] = System.nanoTime();
+            LockstepProtocol.putInput(out, tick, frame);
+        }
+
+        void flush() throws IOException {
+            if (closed || out.position() == 0 && (key.interestOps() & SelectionKey.OP_WRITE) == 0) {
+                return;
+            }
+            out.flip();
+            try {
+                channel.write(out);
+            } catch (IOException e) {
+                out.clear();
+                disconnect();
+                return;
+            }
+            out.compact();
+            key.interestOps(out.position() > 0
+                ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                : SelectionKey.OP_READ);
+        }
+
+        private void disconnect() {
+            closed = true;
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                /* already gone */
+            }
+        }
+
+        /**
+         * Gets the server's number for this match, -1 until it starts.
+         */
+        public int getMatchId() {
+            return matchId;
+        }
+
+        /**
+         * Gets which player this session is, 1 or 2, once the match starts.
+         */
+        public int getPlayer() {
+            return player;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Gets how many clock ticks were lost waiting for the server.
+         */
+        public long getStalls() {
+            return stalls;
+        }
+
+        /**
+         * Checks whether the session has run all its ticks.
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Checks whether the connection has gone, by either side.
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Gets {@link LockstepMatch#checksum()} after the last tick; 0
+         * until the session has finished.
+         */
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Plays many lockstep matches at once over loopback and reports what
+ * they cost.
+ *
+ * <p>A server and a few client threads run in this JVM. Every match has
+ * two sessions with random, human-paced input, and the two are put on
+ * different client threads. Once every match has started, the run
+ * measures for a fixed number of ticks and reports:</p>
+ * <ul>
+ *   <li>input round trip, from a client sending a frame to the server
+ *   confirming it, and how many ticks clients stalled for it</li>
+ *   <li>bytes on the wire per match per second, both directions</li>
+ *   <li>server CPU time per match per second of play</li>
+ *   <li>desyncs: matches whose two clients ended on different checksums</li>
+ * </ul>
+ * <p>The clients share the machine with the server, so the latency
+ * includes the wait for a client thread to get a core, and when the
+ * clients cannot keep up every match slows down. The CPU and bandwidth
+ * are therefore also given per confirmed tick, scaled to a match running
+ * at the full {@value GameClock#TICKS_PER_SECOND} ticks a second. Run it
+ * with fewer matches to see the network path on its own.</p>
+ *
+ * <h2>Running</h2>
+ * <pre>
+ * java -cp target/classes com.comp2042.tetris.net.LockstepLoadRunner [matches] [seconds] [client threads] [input delay]
+ * </pre>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-11
+ */
+public final class LockstepLoadRunner {
+
+    private static final int DEFAULT_MATCHES = 1000;
+    private static final int DEFAULT_SECONDS = 20;
+    /* 50 ms, enough to hide a round trip across a city */
+    private static final int DEFAULT_INPUT_DELAY = 3;
+    /* a frame with a press on one tick in four, about 15 a second */
+    private static final int IDLE_ODDS = 4;
+    private static final long START_TIMEOUT_NANOS = 30_000_000_000L;
+
+    private final int matches;
+    private final int clientThreads;
+    private final int inputDelay;
+
+    /**
+     * Creates a runner.
+     *
+     * @param matches matches to play at once
+     * @param clientThreads threads the client sessions are spread over
+     * @param inputDelay ticks of input delay the server hands out
+     */
+    public LockstepLoadRunner(int matches, int clientThreads, int inputDelay) {
+        if (matches <= 0 || clientThreads <= 0) {
+            throw new IllegalArgumentException("Matches and client threads must be positive");
+        }
+        this.matches = matches;
+        this.clientThreads = clientThreads;
+        this.inputDelay = inputDelay;
+    }
+
+    /**
+     * Plays every match for a number of ticks and waits for them.
+     *
+     * @param ticks ticks each match plays
+     * @return the measurements
+     * @throws IOException if a socket fails
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Result run(int ticks) throws IOException, InterruptedException {
+        LatencyHistogram roundTrip = new LatencyHistogram();
+        List<LockstepClient> clients = new ArrayList<>(clientThreads);
+        List<LockstepClient.Session> sessions = new ArrayList<>(matches * LockstepProtocol.PLAYERS);
+        InetSocketAddress loopback = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        try (LockstepServer server = new LockstepServer(loopback, 0, inputDelay)) {
+            server.start();
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            for (int i = 0; i < clientThreads; i++) {
+                LockstepClient client = new LockstepClient(roundTrip);
+                client.start();
+                clients.add(client);
+            }
+            /* neighbouring connections are paired, so each match spans two client threads */
+            for (int i = 0; i < matches * LockstepProtocol.PLAYERS; i++) {
+                sessions.add(clients.get(i % clientThreads).connect(address, randomInputs(i), ticks));
+            }
+
+            long deadline = System.nanoTime() + START_TIMEOUT_NANOS;
+            while (!allStarted(sessions) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            long startNanos = System.nanoTime();
+            long startCpu = server.getCpuNanos();
+            long startBytes = server.getBytesIn() + server.getBytesOut();
+            long startTicks = server.getTicksRelayed();
+
+            /* twice the play time, then whatever has not finished counts as lost */
+            deadline = startNanos + 2L * ticks * GameClock.TICK_NANOS + START_TIMEOUT_NANOS;
+            while (!allDone(sessions) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            long elapsed = System.nanoTime() - startNanos;
+            long cpu = server.getCpuNanos() - startCpu;
+            long bytes = server.getBytesIn() + server.getBytesOut() - startBytes;
+            long relayed = server.getTicksRelayed() - startTicks;
+            return new Result(matches, ticks, elapsed, cpu, bytes, relayed, roundTrip.summarize(), sessions);
+        } finally {
+            for (LockstepClient client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    private static boolean allStarted(List<LockstepClient.Session> sessions) {
+        for (LockstepClient.Session session : sessions) {
+            if (session.getMatchId() < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allDone(List<LockstepClient.Session> sessions) {
+        for (LockstepClient.Session session : sessions) {
+            if (!session.isFinished() && !session.isClosed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* session n presses keys from seed n, so runs are comparable */
+    private static LockstepClient.InputSource randomInputs(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return (player, tick) -> random.nextInt(IDLE_ODDS) != 0 ? 0
+            : LockstepProtocol.add((byte) 0,
+                LockstepProtocol.APPLY_ORDER[random.nextInt(LockstepProtocol.APPLY_ORDER.length)]);
+    }
+
+    /**
+     * What a load run measured.
+     */
+    public static final class Result {
+
+        private final int matches;
+        private final double seconds;
+        private final double cpuMicrosPerMatchSecond;
+        private final double serverCoreShare;
+        private final double bytesPerMatchSecond;
+        private final double tickRate;
+        private final double fullSpeedCpuMicros;
+        private final double fullSpeedBytes;
+        private final LatencyHistogram.Summary roundTrip;
+        private final double stallShare;
+        private final int unfinished;
+        private final int desyncs;
+
+        Result(int matches, int ticks, long elapsedNanos, long cpuNanos, long bytes, long relayed,
+               LatencyHistogram.Summary roundTrip, List<LockstepClient.Session> sessions) {
+            this.matches = matches;
+            this.seconds = elapsedNanos / 1e9;
+            this.cpuMicrosPerMatchSecond = cpuNanos / 1e3 / matches / seconds;
+            this.serverCoreShare = cpuNanos / (double) elapsedNanos;
+            this.bytesPerMatchSecond = bytes / (double) matches / seconds;
+            this.tickRate = relayed / (double) matches / seconds;
+            /* seconds of play the confirmed ticks add up to, at the full rate */
+            double matchSeconds = Math.max(1, relayed) / (double) GameClock.TICKS_PER_SECOND;
+            this.fullSpeedCpuMicros = cpuNanos / 1e3 / matchSeconds;
+            this.fullSpeedBytes = bytes / matchSeconds;
+            this.roundTrip = roundTrip;
+
+            long stalls = 0;
+            int notFinished = 0;
+            Map<Integer, Long> checksums = new HashMap<>();
+            int mismatched = 0;
+            for (LockstepClient.Session session : sessions) {
+                stalls += session.getStalls();
+                if (!session.isFinished()) {
+                    notFinished++;
+                    continue;
+                }
+                Long other = checksums.putIfAbsent(session.getMatchId(), session.getChecksum());
+                if (other != null && other != session.getChecksum()) {
+                    mismatched++;
+                }
+            }
+            this.stallShare = stalls / ((double) sessions.size() * ticks);
+            this.unfinished = notFinished;
+            this.desyncs = mismatched;
+        }
+
+        /**
+         * Gets the server thread's CPU time for one match per second of play.
+         */
+        public double getCpuMicrosPerMatchSecond() {
+            return cpuMicrosPerMatchSecond;
+        }
+
+        /**
+         * Gets the server CPU time for one match per second at the full
+         * tick rate.
+         */
+        public double getFullSpeedCpuMicros() {
+            return fullSpeedCpuMicros;
+        }
+
+        /**
+         * Gets the bytes both ways for one match per second at the full
+         * tick rate.
+         */
+        public double getFullSpeedBytes() {
+            return fullSpeedBytes;
+        }
+
+        /**
+         * Gets the bytes both ways for one match per second of play.
+         */
+        public double getBytesPerMatchSecond() {
+            return bytesPerMatchSecond;
+        }
+
+        public LatencyHistogram.Summary getRoundTrip() {
+            return roundTrip;
+        }
+
+        /**
+         * Gets the share of client ticks lost waiting for the server.
+         */
+        public double getStallShare() {
+            return stallShare;
+        }
+
+        public int getUnfinished() {
+            return unfinished;
+        }
+
+        public int getDesyncs() {
+            return desyncs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                "%d matches for %.1f s at %.1f ticks/s each%n"
+                    + "round trip: %s%n"
+                    + "stalled ticks: %.2f%%%n"
+                    + "bandwidth per match: %.0f B/s both ways, %.0f B/s (%.1f kbit/s) at full speed%n"
+                    + "server CPU per match: %.1f us/s, %.1f us/s at full speed, %.1f%% of a core in total%n"
+                    + "unfinished sessions: %d, desynced matches: %d",
+                matches, seconds, tickRate, roundTrip, stallShare * 100,
+                bytesPerMatchSecond, fullSpeedBytes, fullSpeedBytes * 8 / 1000,
+                cpuMicrosPerMatchSecond, fullSpeedCpuMicros, serverCoreShare * 100, unfinished, desyncs);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MATCHES;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int delay = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_INPUT_DELAY;
+
+        LockstepLoadRunner runner = new LockstepLoadRunner(matches, threads, delay);
+        System.out.println("Input delay " + delay + " ticks, " + threads + " client threads, "
+            + Runtime.getRuntime().availableProcessors() + " cores");
+        System.out.println(runner.run(seconds * GameClock.TICKS_PER_SECOND));
+    }
+}
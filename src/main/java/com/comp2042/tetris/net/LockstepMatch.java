@@ -0,0 +1,146 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.models.ViewData;
+import com.comp2042.tetris.multiplayer.BattleScheduler;
+import com.comp2042.tetris.multiplayer.MatchState;
+import com.comp2042.tetris.multiplayer.MultiplayerGameManager;
+import com.comp2042.tetris.multiplayer.PlayerInputHandler;
+import com.comp2042.tetris.multiplayer.PlayerInputHandler.PlayerAction;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+
+/**
+ * One client's copy of a lockstep match.
+ *
+ * <p>This is a {@link MultiplayerGameManager} run by a
+ * {@link BattleScheduler}, the same rules as local versus, dealt from a
+ * seed the server hands out. The only way in is {@link #step} with both
+ * players' frames for the next tick. A seeded match depends only on
+ * its inputs, so every client that steps through the same frames ends
+ * up with the same boards, which {@link #checksum()} lets them compare.</p>
+ *
+ * <p>{@link #snapshot} and {@link #restore} wind the match back to an
+ * earlier tick, which is how {@link RollbackSession} corrects a wrong
+ * guess at the other player's input.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-11
+ */
+public final class LockstepMatch {
+
+    private final MultiplayerGameManager match;
+    private final BattleScheduler scheduler;
+    private final boolean rematch;
+    private long ticks;
+
+    /**
+     * Creates a match dealt from a seed that stops once it is won.
+     *
+     * @param seed the seed from the server's START message
+     */
+    public LockstepMatch(long seed) {
+        this(seed, false);
+    }
+
+    /**
+     * Creates a match dealt from a seed.
+     *
+     * <p>With rematches a won match starts again on the next tick, the
+     * pieces carrying on from the same seed, so a long session keeps
+     * playing. Every machine sees the win on the same tick, so they all
+     * start the rematch together.</p>
+     *
+     * @param seed the seed from the server's START message
+     * @param rematch whether a won match starts over
+     */
+    public LockstepMatch(long seed, boolean rematch) {
+        this.match = new MultiplayerGameManager(BoardEngine.BITBOARD, LockstepProtocol.PLAYERS,
+            GeneratorType.BAG_7, seed);
+        this.scheduler = new BattleScheduler(match, new MediumDifficulty());
+        this.rematch = rematch;
+    }
+
+    /**
+     * Runs one tick: both players' inputs, then gravity.
+     *
+     * @param frame1 player 1's frame for the tick
+     * @param frame2 player 2's frame for the tick
+     */
+    public void step(byte frame1, byte frame2) {
+        if (rematch && !match.isGameInProgress()) {
+            scheduler.restart();
+        }
+        apply(1, frame1);
+        apply(2, frame2);
+        scheduler.onTick(++ticks);
+    }
+
+    private void apply(int player, byte frame) {
+        if (frame == 0) {
+            return;
+        }
+        for (PlayerAction action : LockstepProtocol.APPLY_ORDER) {
+            if (LockstepProtocol.contains(frame, action)) {
+                scheduler.apply(player, PlayerInputHandler.toEventType(action));
+            }
+        }
+    }
+
+    /**
+     * Creates a state this match can be saved into.
+     */
+    public MatchState newState() {
+        return new MatchState(match);
+    }
+
+    /**
+     * Saves the match before its next tick, allocating nothing.
+     *
+     * @param state a state from {@link #newState()}, overwritten
+     */
+    public void snapshot(MatchState state) {
+        scheduler.snapshot(state);
+    }
+
+    /**
+     * Winds the match back to a saved tick.
+     *
+     * @param state a state saved by {@link #snapshot}
+     * @param tick what {@link #getTicks()} was when it was saved
+     */
+    public void restore(MatchState state, long tick) {
+        scheduler.restore(state);
+        ticks = tick;
+    }
+
+    /**
+     * Sums up the state of the match, to check that two clients agree.
+     */
+    public long checksum() {
+        long hash = ticks;
+        for (int player = 1; player <= LockstepProtocol.PLAYERS; player++) {
+            TetrisBoard board = match.getBoard(player);
+            ViewData piece = board.getViewData();
+            hash = hash * 31 + board.getZobristHash();
+            hash = hash * 31 + piece.getxPosition() * 64 + piece.getyPosition();
+            hash = hash * 31 + board.getScore().getValue();
+            hash = hash * 31 + match.getHealth(player).getCurrentHp();
+            hash = hash * 31 + match.getGarbage(player).getPending();
+        }
+        return hash * 31 + match.getWinner();
+    }
+
+    /**
+     * Gets how many ticks have run.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public MultiplayerGameManager getMatch() {
+        return match;
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.multiplayer.PlayerInputHandler.PlayerAction;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The wire format of a lockstep versus match.
+ *
+ * <p>A lockstep match never sends boards. Both clients run the same
+ * seeded simulation, so all they have to agree on is what each player
+ * pressed on each tick. A client sends its input for a tick, the server
+ * waits until it has both players' inputs for that tick and sends the
+ * pair back to both, and each client then runs the tick. Every message
+ * has a fixed size, so a reader knows from the first byte how many more
+ * to wait for.</p>
+ *
+ * <h2>Messages</h2>
+ * <table>
+ *   <caption>All numbers big-endian</caption>
+ *   <tr><th>Message</th><th>Direction</th><th>Bytes</th></tr>
+ *   <tr><td>START: match id, seed, player number, input delay</td><td>server to client</td><td>15</td></tr>
+ *   <tr><td>INPUT: tick, frame</td><td>client to server</td><td>6</td></tr>
+ *   <tr><td>TICK: tick, player 1's frame, player 2's frame</td><td>server to client</td><td>7</td></tr>
+ * </table>
+ *
+ * <h2>Frames</h2>
+ * <p>A frame is everything one player did in one tick, packed into a
+ * byte: bit {@code n} is set when the {@link PlayerAction} with ordinal
+ * {@code n} happened. {@code NONE} has no bit, so an idle tick is 0.
+ * The actions of a frame are applied in {@link #APPLY_ORDER}, the same
+ * on every machine.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-11
+ */
+public final class LockstepProtocol {
+
+    public static final byte START = 1;
+    public static final byte INPUT = 2;
+    public static final byte TICK = 3;
+
+    public static final int START_SIZE = 1 + Integer.BYTES + Long.BYTES + 2;
+    public static final int INPUT_SIZE = 1 + Integer.BYTES + 1;
+    public static final int TICK_SIZE = 1 + Integer.BYTES + 2;
+
+    /* a lockstep match is one against one */
+    public static final int PLAYERS = 2;
+
+    /**
+     * The order a frame's actions are applied in: hold and rotate
+     * before the piece moves, drops last.
+     */
+    public static final PlayerAction[] APPLY_ORDER = {
+        PlayerAction.HOLD, PlayerAction.ROTATE, PlayerAction.MOVE_LEFT,
+        PlayerAction.MOVE_RIGHT, PlayerAction.SOFT_DROP, PlayerAction.HARD_DROP
+    };
+
+    private LockstepProtocol() {
+    }
+
+    /**
+     * Adds an action to a frame.
+     *
+     * @param frame the frame so far, 0 for none
+     * @param action the action; {@code NONE} leaves the frame as it is
+     * @return the frame with the action set
+     */
+    public static byte add(byte frame, PlayerAction action) {
+        if (action == PlayerAction.NONE) {
+            return frame;
+        }
+        return (byte) (frame | 1 << action.ordinal());
+    }
+
+    /**
+     * Checks whether a frame holds an action.
+     */
+    public static boolean contains(byte frame, PlayerAction action) {
+        return action != PlayerAction.NONE && (frame & 1 << action.ordinal()) != 0;
+    }
+
+    /**
+     * Gets the size of a message from its first byte.
+     *
+     * @return the size in bytes, or -1 for an unknown message type
+     */
+    public static int sizeOf(byte type) {
+        return switch (type) {
+            case START -> START_SIZE;
+            case INPUT -> INPUT_SIZE;
+            case TICK -> TICK_SIZE;
+            default -> -1;
+        };
+    }
+
+    static void putStart(ByteBuffer buffer, int matchId, long seed, int player, int inputDelay) {
+        buffer.put(START).putInt(matchId).putLong(seed).put((byte) player).put((byte) inputDelay);
+    }
+
+    static void putInput(ByteBuffer buffer, int tick, byte frame) {
+        buffer.put(INPUT).putInt(tick).put(frame);
+    }
+
+    static void putTick(ByteBuffer buffer, int tick, byte frame1, byte frame2) {
+        buffer.put(TICK).putInt(tick).put(frame1).put(frame2);
+    }
+}
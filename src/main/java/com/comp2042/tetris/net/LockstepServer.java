@@ -0,0 +1,367 @@
+package com.comp2042.tetris.net;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pairs clients into lockstep matches and relays their inputs.
+ *
+ * <p>The server never simulates. It waits for two connections, sends
+ * each a START with the match's seed, and from then on collects both
+ * players' INPUT frames and sends every tick's pair to both clients as
+ * soon as it is complete (see {@link LockstepProtocol}). That is a few
+ * bytes per player per tick, so one selector thread carries thousands
+ * of matches.</p>
+ *
+ * <h2>Threads</h2>
+ * <p>Everything runs on one thread. Replies made while reading are
+ * buffered per connection and written once the selector's batch is
+ * done, so a busy connection costs one write per wakeup, not one per
+ * message. The counters can be read from any thread.</p>
+ *
+ * <h2>Failures</h2>
+ * <p>A client that disconnects, breaks the protocol or falls
+ * {@value #WINDOW} ticks behind its opponent ends its match, and the
+ * other client is disconnected too.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-11
+ */
+public final class LockstepServer implements AutoCloseable {
+
+    /* ticks one client may run ahead of the other; a power of two */
+    static final int WINDOW = 256;
+    private static final int WINDOW_MASK = WINDOW - 1;
+
+    private static final String THREAD_NAME = "lockstep-server";
+    private static final int READ_CAPACITY = 1024;
+    /* a few seconds of ticks for a client that reads slowly */
+    private static final int WRITE_CAPACITY = 64 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final Thread thread;
+    private final long baseSeed;
+    private final int inputDelay;
+
+    /* owned by the server thread */
+    private final List<Peer> unflushed = new ArrayList<>();
+    private Peer waiting;
+    private int nextMatchId;
+
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final AtomicLong bytesOut = new AtomicLong();
+    private final AtomicLong ticksRelayed = new AtomicLong();
+    private final AtomicInteger activeMatches = new AtomicInteger();
+    private volatile boolean running;
+
+    /**
+     * Opens the listening socket.
+     *
+     * @param address where to listen; port 0 picks a free one
+     * @param baseSeed match {@code n} is dealt from {@code baseSeed + n}
+     * @param inputDelay ticks between a key press and the tick it lands on,
+     *                   told to every client
+     * @throws IOException if the socket cannot be opened
+     */
+    public LockstepServer(InetSocketAddress address, long baseSeed, int inputDelay) throws IOException {
+        if (inputDelay < 0 || inputDelay >= WINDOW / 2) {
+            throw new IllegalArgumentException("Input delay must be 0 to " + (WINDOW / 2 - 1) + ": " + inputDelay);
+        }
+        this.baseSeed = baseSeed;
+        this.inputDelay = inputDelay;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 4096);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting and relaying on the server thread.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        if (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Peer peer = (Peer) key.attachment();
+                        if (key.isWritable()) {
+                            flush(peer);
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            read(peer);
+                        }
+                    }
+                }
+                for (Peer peer : unflushed) {
+                    flush(peer);
+                }
+                unflushed.clear();
+            }
+        } catch (IOException e) {
+            if (running) {
+                throw new IllegalStateException("Lockstep server failed", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            /* every message is a handful of bytes that should leave at once */
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Peer peer = new Peer(channel);
+            peer.key = channel.register(selector, SelectionKey.OP_READ, peer);
+            if (waiting == null) {
+                waiting = peer;
+            } else {
+                startMatch(waiting, peer);
+                waiting = null;
+            }
+        }
+    }
+
+    private void startMatch(Peer first, Peer second) {
+        int id = nextMatchId++;
+        Match match = new Match(first, second);
+        first.match = match;
+        first.player = 0;
+        second.match = match;
+        second.player = 1;
+        activeMatches.incrementAndGet();
+        for (Peer peer : match.peers) {
+            LockstepProtocol.putStart(peer.out, id, baseSeed + id, peer.player + 1, inputDelay);
+            dirty(peer);
+        }
+    }
+
+    private void read(Peer peer) {
+        int count;
+        try {
+            count = peer.channel.read(peer.in);
+        } catch (IOException e) {
+            count = -1;
+        }
+        if (count < 0) {
+            drop(peer);
+            return;
+        }
+        bytesIn.addAndGet(count);
+        ByteBuffer in = peer.in.flip();
+        while (in.hasRemaining()) {
+            int size = LockstepProtocol.sizeOf(in.get(in.position()));
+            if (size != LockstepProtocol.INPUT_SIZE || peer.match == null) {
+                /* clients only ever send inputs, and only once matched */
+                drop(peer);
+                return;
+            }
+            if (in.remaining() < size) {
+                break;
+            }
+            in.get();
+            int tick = in.getInt();
+            byte frame = in.get();
+            if (!peer.match.onInput(peer.player, tick, frame)) {
+                drop(peer);
+                return;
+            }
+        }
+        in.compact();
+    }
+
+    private void dirty(Peer peer) {
+        if (!peer.dirty) {
+            peer.dirty = true;
+            unflushed.add(peer);
+        }
+    }
+
+    private void flush(Peer peer) {
+        peer.dirty = false;
+        if (!peer.key.isValid()) {
+            return;
+        }
+        ByteBuffer out = peer.out.flip();
+        try {
+            bytesOut.addAndGet(peer.channel.write(out));
+        } catch (IOException e) {
+            out.clear();
+            drop(peer);
+            return;
+        }
+        out.compact();
+        /* whatever did not fit goes when the socket drains */
+        peer.key.interestOps(out.position() > 0
+            ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+            : SelectionKey.OP_READ);
+    }
+
+    private void drop(Peer peer) {
+        if (peer == waiting) {
+            waiting = null;
+        }
+        close(peer);
+        Match match = peer.match;
+        if (match != null && !match.over) {
+            match.over = true;
+            activeMatches.decrementAndGet();
+            for (Peer other : match.peers) {
+                close(other);
+            }
+        }
+    }
+
+    private void close(Peer peer) {
+        peer.key.cancel();
+        try {
+            peer.channel.close();
+        } catch (IOException e) {
+            /* already gone */
+        }
+    }
+
+    /**
+     * Gets the port the server listens on.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the bytes received from every client so far.
+     */
+    public long getBytesIn() {
+        return bytesIn.get();
+    }
+
+    /**
+     * Gets the bytes sent to every client so far.
+     */
+    public long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    /**
+     * Gets how many ticks have been confirmed across every match.
+     */
+    public long getTicksRelayed() {
+        return ticksRelayed.get();
+    }
+
+    public int getActiveMatches() {
+        return activeMatches.get();
+    }
+
+    /**
+     * Gets the CPU time the server thread has used, for cost per match.
+     *
+     * @return nanoseconds, or -1 if the JVM cannot measure thread CPU time
+     */
+    public long getCpuNanos() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isThreadCpuTimeSupported() ? threads.getThreadCpuTime(thread.threadId()) : -1;
+    }
+
+    /* one client connection */
+    private static final class Peer {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_CAPACITY);
+        private final ByteBuffer out = ByteBuffer.allocate(WRITE_CAPACITY);
+        private SelectionKey key;
+        private Match match;
+        private int player;
+        private boolean dirty;
+
+        Peer(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /* both players' frames until each tick is complete and sent */
+    private final class Match {
+
+        private final Peer[] peers;
+        private final byte[][] frames = new byte[LockstepProtocol.PLAYERS][WINDOW];
+        private final int[] received = new int[LockstepProtocol.PLAYERS];
+        private int relayed;
+        private boolean over;
+
+        Match(Peer first, Peer second) {
+            this.peers = new Peer[]{first, second};
+        }
+
+        /* false if the input is out of order or too far ahead */
+        boolean onInput(int player, int tick, byte frame) {
+            if (tick != received[player] || tick - relayed >= WINDOW) {
+                return false;
+            }
+            frames[player][tick & WINDOW_MASK] = frame;
+            received[player]++;
+            int complete = Math.min(received[0], received[1]);
+            while (relayed < complete) {
+                int slot = relayed & WINDOW_MASK;
+                for (Peer peer : peers) {
+                    if (peer.out.remaining() < LockstepProtocol.TICK_SIZE) {
+                        /* that client has stopped reading */
+                        return false;
+                    }
+                    LockstepProtocol.putTick(peer.out, relayed, frames[0][slot], frames[1][slot]);
+                    dirty(peer);
+                }
+                relayed++;
+                ticksRelayed.incrementAndGet();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.metrics.LatencyHistogram;
+
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Plays a rollback match between two sessions in one thread, over a
+ * fake network with latency and jitter, and reports what rollback did.
+ *
+ * <p>Time is simulated: every {@value GameClock#TICKS_PER_SECOND}th of
+ * a second each session delivers the inputs that have arrived by then
+ * and tries to advance a tick with a random, human-paced frame, and the
+ * frame is sent to the other session to arrive after the latency plus
+ * a uniform random jitter. Jitter larger than a tick reorders inputs,
+ * as a real network does. A minute of play runs in well under a second,
+ * so the numbers come from the simulation, not from waiting. Random
+ * presses top a board out within a few seconds, so the match has
+ * rematches on (see {@link LockstepMatch}) and keeps playing.</p>
+ *
+ * <p>Rollbacks are timed for real, with {@link System#nanoTime()}. The
+ * report gives:</p>
+ * <ul>
+ *   <li>how often a guess was wrong and how often the match rolled back</li>
+ *   <li>how many ticks each rollback ran again, on average and at most</li>
+ *   <li>how long a rollback took, which has to fit in a frame</li>
+ *   <li>stalls, when the latency outruns the rollback limit</li>
+ *   <li>whether both sessions settled on the match a plain lockstep
+ *   replay of the same inputs gives</li>
+ * </ul>
+ *
+ * <h2>Running</h2>
+ * <pre>
+ * java -cp target/classes com.comp2042.tetris.net.RollbackHarness [latency ms] [jitter ms] [seconds] [max rollback]
+ * </pre>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-12
+ */
+public final class RollbackHarness {
+
+    private static final double DEFAULT_LATENCY_MILLIS = 40;
+    private static final double DEFAULT_JITTER_MILLIS = 20;
+    private static final int DEFAULT_SECONDS = 60;
+    private static final int WARMUP_TICKS = 60 * GameClock.TICKS_PER_SECOND;
+    /* the same press rate as the lockstep load test, about 15 a second */
+    private static final int IDLE_ODDS = 4;
+
+    private final long seed;
+    private final int maxRollback;
+    private final long latencyNanos;
+    private final long jitterNanos;
+
+    /**
+     * Creates a harness.
+     *
+     * @param seed seed for the match, the inputs and the jitter
+     * @param maxRollback each session's rollback limit in ticks
+     * @param latencyMillis one-way delay every input has
+     * @param jitterMillis most extra delay added at random to each input
+     */
+    public RollbackHarness(long seed, int maxRollback, double latencyMillis, double jitterMillis) {
+        if (latencyMillis < 0 || jitterMillis < 0) {
+            throw new IllegalArgumentException("Latency and jitter cannot be negative");
+        }
+        this.seed = seed;
+        this.maxRollback = maxRollback;
+        this.latencyNanos = (long) (latencyMillis * 1e6);
+        this.jitterNanos = (long) (jitterMillis * 1e6);
+    }
+
+    /**
+     * Plays both sessions to a number of ticks and lets them settle.
+     *
+     * @param ticks ticks each session plays
+     * @return the measurements
+     */
+    public Result run(int ticks) {
+        LatencyHistogram rollbackTimes = new LatencyHistogram();
+        RollbackSession[] sessions = {
+            new RollbackSession(new LockstepMatch(seed, true), 1, maxRollback, rollbackTimes),
+            new RollbackSession(new LockstepMatch(seed, true), 2, maxRollback, rollbackTimes)
+        };
+        /* packets in flight towards each session */
+        PriorityQueue<Packet> network = new PriorityQueue<>();
+        SplittableRandom jitter = new SplittableRandom(seed);
+        SplittableRandom[] players = {new SplittableRandom(seed + 1), new SplittableRandom(seed + 2)};
+        byte[][] played = new byte[2][ticks];
+        int[] drawn = new int[2];
+        long now = 0;
+        long frames = 0;
+
+        while (sessions[0].getTick() < ticks || sessions[1].getTick() < ticks) {
+            deliver(network, sessions, now);
+            for (int side = 0; side < 2; side++) {
+                RollbackSession session = sessions[side];
+                int tick = session.getTick();
+                if (tick == ticks) {
+                    continue;
+                }
+                /* a frame refused by a stall is offered again, not drawn again */
+                if (drawn[side] == tick) {
+                    played[side][tick] = nextFrame(players[side]);
+                    drawn[side]++;
+                }
+                if (session.advance(played[side][tick])) {
+                    long delay = latencyNanos + (jitterNanos == 0 ? 0 : jitter.nextLong(jitterNanos + 1));
+                    network.add(new Packet(now + delay, 1 - side, tick, played[side][tick]));
+                }
+            }
+            now += GameClock.TICK_NANOS;
+            frames++;
+        }
+        /* the last inputs land and both sides settle */
+        deliver(network, sessions, Long.MAX_VALUE);
+        for (RollbackSession session : sessions) {
+            session.correct();
+        }
+
+        LockstepMatch reference = new LockstepMatch(seed, true);
+        int games = 0;
+        boolean playing = true;
+        for (int tick = 0; tick < ticks; tick++) {
+            reference.step(played[0][tick], played[1][tick]);
+            if (playing && !reference.getMatch().isGameInProgress()) {
+                games++;
+            }
+            playing = reference.getMatch().isGameInProgress();
+        }
+        return new Result(ticks, frames, games, sessions, rollbackTimes.summarize(), reference.checksum());
+    }
+
+    private static byte nextFrame(SplittableRandom random) {
+        return random.nextInt(IDLE_ODDS) != 0 ? 0
+            : LockstepProtocol.add((byte) 0,
+                LockstepProtocol.APPLY_ORDER[random.nextInt(LockstepProtocol.APPLY_ORDER.length)]);
+    }
+
+    private static void deliver(PriorityQueue<Packet> network, RollbackSession[] sessions, long now) {
+        while (!network.isEmpty() && network.peek().arrival <= now) {
+            Packet packet = network.poll();
+            sessions[packet.to].addRemoteInput(packet.tick, packet.frame);
+        }
+    }
+
+    /* one input on its way to a session */
+    private static final class Packet implements Comparable<Packet> {
+
+        private final long arrival;
+        private final int to;
+        private final int tick;
+        private final byte frame;
+
+        Packet(long arrival, int to, int tick, byte frame) {
+            this.arrival = arrival;
+            this.to = to;
+            this.tick = tick;
+            this.frame = frame;
+        }
+
+        @Override
+        public int compareTo(Packet other) {
+            return Long.compare(arrival, other.arrival);
+        }
+    }
+
+    /**
+     * What a harness run measured.
+     */
+    public static final class Result {
+
+        private final int ticks;
+        private final int games;
+        private final double stallShare;
+        private final long mispredictions;
+        private final long rollbacks;
+        private final double meanDepth;
+        private final int maxDepth;
+        private final LatencyHistogram.Summary rollbackTimes;
+        private final boolean settled;
+        private final boolean inSync;
+
+        Result(int ticks, long frames, int games, RollbackSession[] sessions,
+               LatencyHistogram.Summary rollbackTimes, long referenceChecksum) {
+            this.ticks = ticks;
+            this.games = games;
+            long stalls = 0;
+            long wrong = 0;
+            long rolledBack = 0;
+            long resimulated = 0;
+            int deepest = 0;
+            boolean allSettled = true;
+            boolean agree = true;
+            for (RollbackSession session : sessions) {
+                stalls += session.getStalls();
+                wrong += session.getMispredictions();
+                rolledBack += session.getRollbacks();
+                resimulated += session.getResimulatedTicks();
+                deepest = Math.max(deepest, session.getMaxDepth());
+                allSettled &= session.isSettled();
+                agree &= session.checksum() == referenceChecksum;
+            }
+            this.stallShare = stalls / (double) (sessions.length * frames);
+            this.mispredictions = wrong;
+            this.rollbacks = rolledBack;
+            this.meanDepth = rolledBack == 0 ? 0 : resimulated / (double) rolledBack;
+            this.maxDepth = deepest;
+            this.rollbackTimes = rollbackTimes;
+            this.settled = allSettled;
+            this.inSync = agree;
+        }
+
+        /**
+         * Gets how many games were won; a won game is followed by a rematch.
+         */
+        public int getGames() {
+            return games;
+        }
+
+        /**
+         * Gets the share of frames a session spent stalled.
+         */
+        public double getStallShare() {
+            return stallShare;
+        }
+
+        public long getMispredictions() {
+            return mispredictions;
+        }
+
+        /**
+         * Gets the rollbacks of both sessions together.
+         */
+        public long getRollbacks() {
+            return rollbacks;
+        }
+
+        /**
+         * Gets the ticks a rollback ran again, on average.
+         */
+        public double getMeanDepth() {
+            return meanDepth;
+        }
+
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+        /**
+         * Gets how long rollbacks took, restore and re-runs together.
+         */
+        public LatencyHistogram.Summary getRollbackTimes() {
+            return rollbackTimes;
+        }
+
+        /**
+         * Checks whether both sessions ended on real inputs only and on the
+         * match a lockstep replay of those inputs gives.
+         */
+        public boolean isInSync() {
+            return settled && inSync;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = ticks / (double) GameClock.TICKS_PER_SECOND;
+            return String.format(Locale.ROOT,
+                "%d ticks (%.0f s of play, %d games) per session%n"
+                    + "wrong guesses: %d, rollbacks: %d (%.1f a second per session)%n"
+                    + "ticks re-run per rollback: %.1f on average, %d at most%n"
+                    + "rollback time: p50 %.1f p99 %.1f max %.1f us%n"
+                    + "stalled frames: %.2f%%%n"
+                    + "in sync with a lockstep replay: %s",
+                ticks, seconds, games, mispredictions, rollbacks, rollbacks / 2.0 / seconds, meanDepth, maxDepth,
+                rollbackTimes.getP50() / 1e3, rollbackTimes.getP99() / 1e3, rollbackTimes.getMax() / 1e3,
+                stallShare * 100, isInSync() ? "yes" : "NO");
+        }
+    }
+
+    public static void main(String[] args) {
+        double latency = args.length > 0 ? Double.parseDouble(args[0]) : DEFAULT_LATENCY_MILLIS;
+        double jitter = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_JITTER_MILLIS;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SECONDS;
+        int maxRollback = args.length > 3 ? Integer.parseInt(args[3]) : RollbackSession.DEFAULT_MAX_ROLLBACK;
+
+        /* a first run gets the JIT through the rollback path, so the timings are the steady state */
+        new RollbackHarness(0L, maxRollback, latency, jitter).run(WARMUP_TICKS);
+        System.out.println("Latency " + latency + " ms one way, jitter up to " + jitter
+            + " ms, rollback limit " + maxRollback + " ticks");
+        System.out.println(new RollbackHarness(1L, maxRollback, latency, jitter)
+            .run(seconds * GameClock.TICKS_PER_SECOND));
+    }
+}
@@ -0,0 +1,301 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.metrics.LatencyHistogram;
+import com.comp2042.tetris.multiplayer.MatchState;
+
+import java.util.Arrays;
+
+/**
+ * One player's copy of a versus match that never waits for the other
+ * player's input, GGPO style.
+ *
+ * <p>Lockstep holds every tick until both inputs are in, so a press
+ * lands a round trip late. Here the local player's input lands on the
+ * tick it is made, and the remote player's input for that tick, which
+ * is still on its way, is guessed. When the real input arrives and the
+ * guess was wrong, the match is wound back to that tick and played
+ * forward again with the right input, all inside one call, so the
+ * screen only ever sees the corrected present.</p>
+ *
+ * <h2>Ticks</h2>
+ * <ul>
+ *   <li>{@link #advance} saves the match into a reusable
+ *   {@link MatchState} and runs the next tick with the local frame and
+ *   the guess. The frame should then go to the other player.</li>
+ *   <li>{@link #addRemoteInput} takes the other player's frame for a
+ *   tick, in any order. It only notes a wrong guess.</li>
+ *   <li>{@link #correct()} restores the state saved before the earliest
+ *   wrong tick and re-runs every tick since, saving each again.
+ *   {@link #advance} calls it first, so the rollback happens once per
+ *   frame however many late inputs arrived.</li>
+ * </ul>
+ *
+ * <h2>Guessing</h2>
+ * <p>GGPO repeats the last input it got, which suits fighting games
+ * whose inputs are held buttons. A frame here is a set of presses (see
+ * {@link LockstepProtocol}), and repeating one would replay a hard drop
+ * or a rotation, so the guess is an idle frame. Most ticks are idle,
+ * so most guesses are right and most late inputs cost nothing.</p>
+ *
+ * <h2>Limits</h2>
+ * <p>The session runs at most {@code maxRollback} ticks past the last
+ * tick whose remote input it has. Beyond that {@link #advance} refuses
+ * and counts a stall, so a rollback never re-runs more than
+ * {@code maxRollback} ticks, and a correction always fits in a frame.</p>
+ *
+ * <p>Not thread-safe: one thread runs the session.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-12
+ */
+public final class RollbackSession {
+
+    /* 133 ms of prediction; past that a stall is kinder than a big correction */
+    public static final int DEFAULT_MAX_ROLLBACK = 8;
+
+    private static final byte PREDICTED = 0;
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final LockstepMatch match;
+    private final int localPlayer;
+    private final int maxRollback;
+    private final int mask;
+    /* slot t & mask holds the match as it was before tick t */
+    private final MatchState[] states;
+    private final byte[] localFrames;
+    private final byte[] remoteFrames;
+    /* the tick whose real remote frame is in the slot, -1 while it holds a guess */
+    private final int[] remoteTicks;
+    private final LatencyHistogram rollbackTimes;
+
+    private int tick;
+    private int confirmed;
+    private int firstWrong = NONE;
+
+    private long stalls;
+    private long mispredictions;
+    private long rollbacks;
+    private long resimulated;
+    private int maxDepth;
+
+    /**
+     * Creates a session with the default rollback limit.
+     *
+     * @param match a new match, made from the seed both players were given
+     * @param localPlayer the player on this machine, 1 or 2
+     * @param rollbackTimes records how long each correction takes; may be shared
+     */
+    public RollbackSession(LockstepMatch match, int localPlayer, LatencyHistogram rollbackTimes) {
+        this(match, localPlayer, DEFAULT_MAX_ROLLBACK, rollbackTimes);
+    }
+
+    /**
+     * Creates a session.
+     *
+     * @param match a new match, made from the seed both players were given
+     * @param localPlayer the player on this machine, 1 or 2
+     * @param maxRollback ticks the session may run ahead of the remote input
+     * @param rollbackTimes records how long each correction takes; may be shared
+     */
+    public RollbackSession(LockstepMatch match, int localPlayer, int maxRollback, LatencyHistogram rollbackTimes) {
+        if (localPlayer != 1 && localPlayer != 2) {
+            throw new IllegalArgumentException("Player must be 1 or 2: " + localPlayer);
+        }
+        if (maxRollback < 1) {
+            throw new IllegalArgumentException("Rollback must be at least one tick: " + maxRollback);
+        }
+        if (match.getTicks() != 0) {
+            throw new IllegalArgumentException("Match has already run " + match.getTicks() + " ticks");
+        }
+        this.match = match;
+        this.localPlayer = localPlayer;
+        this.maxRollback = maxRollback;
+        this.rollbackTimes = rollbackTimes;
+        /* remote frames can arrive up to maxRollback ticks past our own, which
+         * may itself be maxRollback past the confirmed tick
+         */
+        int window = Integer.highestOneBit(2 * maxRollback + 1) << 1;
+        this.mask = window - 1;
+        this.states = new MatchState[window];
+        for (int slot = 0; slot < window; slot++) {
+            states[slot] = match.newState();
+        }
+        this.localFrames = new byte[window];
+        this.remoteFrames = new byte[window];
+        this.remoteTicks = new int[window];
+        Arrays.fill(remoteTicks, -1);
+    }
+
+    /**
+     * Corrects any wrong guess, then runs the next tick.
+     *
+     * @param localFrame this player's frame for the tick
+     * @return true if the tick ran; false if the session is
+     *         {@code maxRollback} ticks ahead of the remote input and
+     *         stalled, in which case the frame was not used and should
+     *         be offered again
+     */
+    public boolean advance(byte localFrame) {
+        correct();
+        if (tick - confirmed >= maxRollback) {
+            stalls++;
+            return false;
+        }
+        int slot = tick & mask;
+        localFrames[slot] = localFrame;
+        if (remoteTicks[slot] != tick) {
+            remoteFrames[slot] = PREDICTED;
+        }
+        match.snapshot(states[slot]);
+        step(slot);
+        tick++;
+        return true;
+    }
+
+    /**
+     * Takes the other player's frame for a tick.
+     *
+     * <p>Frames may come late, early, out of order or twice. A frame for a
+     * tick that already ran with a different guess is noted, and the next
+     * {@link #advance} or {@link #correct()} rolls back to it.</p>
+     *
+     * @param remoteTick the tick the frame is for
+     * @param frame the frame
+     * @throws IllegalArgumentException if the tick is further ahead than
+     *         the other player could legally have run
+     */
+    public void addRemoteInput(int remoteTick, byte frame) {
+        if (remoteTick < confirmed || remoteTicks[remoteTick & mask] == remoteTick) {
+            return;
+        }
+        if (remoteTick > confirmed + mask) {
+            throw new IllegalArgumentException("Input for tick " + remoteTick
+                + " is too far ahead of tick " + confirmed);
+        }
+        int slot = remoteTick & mask;
+        if (remoteTick < tick && remoteFrames[slot] != frame) {
+            mispredictions++;
+            firstWrong = Math.min(firstWrong, remoteTick);
+        }
+        remoteFrames[slot] = frame;
+        remoteTicks[slot] = remoteTick;
+        while (remoteTicks[confirmed & mask] == confirmed) {
+            confirmed++;
+        }
+    }
+
+    /**
+     * Rolls back to the earliest wrong guess and re-runs up to the
+     * present, if any guess was wrong.
+     *
+     * <p>{@link #advance} calls this first. Call it directly to settle the
+     * match once the last inputs are in.</p>
+     */
+    public void correct() {
+        if (firstWrong == NONE) {
+            return;
+        }
+        long start = System.nanoTime();
+        int from = firstWrong;
+        firstWrong = NONE;
+        match.restore(states[from & mask], from);
+        step(from & mask);
+        for (int replay = from + 1; replay < tick; replay++) {
+            int slot = replay & mask;
+            match.snapshot(states[slot]);
+            step(slot);
+        }
+        rollbackTimes.record(System.nanoTime() - start);
+        int depth = tick - from;
+        rollbacks++;
+        resimulated += depth;
+        maxDepth = Math.max(maxDepth, depth);
+    }
+
+    private void step(int slot) {
+        if (localPlayer == 1) {
+            match.step(localFrames[slot], remoteFrames[slot]);
+        } else {
+            match.step(remoteFrames[slot], localFrames[slot]);
+        }
+    }
+
+    /**
+     * Sums up the match as it stands, guesses included.
+     *
+     * <p>Two sessions agree once both have {@link #isSettled() settled}
+     * on the same tick.</p>
+     */
+    public long checksum() {
+        return match.checksum();
+    }
+
+    /**
+     * Checks whether every tick that has run used real inputs only.
+     */
+    public boolean isSettled() {
+        return firstWrong == NONE && confirmed >= tick;
+    }
+
+    /**
+     * Gets how many ticks have run.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the first tick whose remote input has not arrived yet.
+     */
+    public int getConfirmedTick() {
+        return confirmed;
+    }
+
+    public int getLocalPlayer() {
+        return localPlayer;
+    }
+
+    public int getMaxRollback() {
+        return maxRollback;
+    }
+
+    public LockstepMatch getMatch() {
+        return match;
+    }
+
+    /**
+     * Gets how many times {@link #advance} refused to run ahead.
+     */
+    public long getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Gets how many remote inputs differed from the guess.
+     */
+    public long getMispredictions() {
+        return mispredictions;
+    }
+
+    /**
+     * Gets how many times the match was wound back.
+     */
+    public long getRollbacks() {
+        return rollbacks;
+    }
+
+    /**
+     * Gets how many ticks were run again across every rollback.
+     */
+    public long getResimulatedTicks() {
+        return resimulated;
+    }
+
+    /**
+     * Gets the most ticks a single rollback ran again.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+}
@@ -1,9 +1,18 @@
 package com.comp2042.tetris.patterns;
 
+import com.comp2042.tetris.core.Gravity;
+
 public interface DifficultyStrategy {
 
     int getDropSpeed();
 
+    /* starting gravity in cells per GameClock tick
+     * a difficulty can override this to go past one row per frame
+     */
+    default double getGravity() {
+        return Gravity.fromDropInterval(getDropSpeed());
+    }
+
     int getScoreMultiplier();
 
     String getDifficultyName();
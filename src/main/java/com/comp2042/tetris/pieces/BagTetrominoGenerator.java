@@ -0,0 +1,58 @@
+package com.comp2042.tetris.pieces;
+
+/**
+ * Deals pieces from shuffled bags, the modern guideline randomiser.
+ *
+ * <p>A bag holds every piece type the same number of times. It is
+ * shuffled, dealt out in full, then refilled. With one copy of each (the
+ * 7-bag) a player never waits more than 12 pieces for any type. Two
+ * copies (the 14-bag) loosen that a little while keeping the counts
+ * fair.</p>
+ *
+ * <p>The bag array is allocated once and shuffled in place with
+ * Fisher-Yates.</p>
+ */
+public class BagTetrominoGenerator extends QueuedTetrominoGenerator {
+
+    private final TetrominoType[] bag;
+
+    /**
+     * Creates a bag generator.
+     *
+     * @param seed random seed
+     * @param copies how many of each piece go in a bag, 1 for a 7-bag
+     * @param previewSize how many upcoming pieces can be peeked
+     */
+    public BagTetrominoGenerator(long seed, int copies, int previewSize) {
+        super(seed, previewSize, bagSize(copies));
+        TetrominoType[] types = TetrominoType.values();
+        bag = new TetrominoType[types.length * copies];
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = types[i % types.length];
+        }
+    }
+
+    public BagTetrominoGenerator(long seed, int copies) {
+        this(seed, copies, DEFAULT_PREVIEW_SIZE);
+    }
+
+    @Override
+    protected void refill() {
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            TetrominoType swap = bag[i];
+            bag[i] = bag[j];
+            bag[j] = swap;
+        }
+        for (TetrominoType type : bag) {
+            push(type);
+        }
+    }
+
+    private static int bagSize(int copies) {
+        if (copies < 1) {
+            throw new IllegalArgumentException("A bag needs at least one copy of each piece: " + copies);
+        }
+        return TetrominoType.values().length * copies;
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.tetris.pieces;
+
+/**
+ * Selects how the sequence of pieces is dealt.
+ *
+ * <p>Every type is seeded, so the same type and seed always deal the same
+ * game. {@link #RANDOM} is the original behaviour; {@link #BAG_7} is
+ * what modern guideline games use.</p>
+ */
+public enum GeneratorType {
+    RANDOM,
+    BAG_7,
+    BAG_14,
+    TGM;
+
+    /**
+     * Creates a generator with the standard five-piece preview.
+     *
+     * @param seed random seed
+     * @return a new generator
+     */
+    public QueuedTetrominoGenerator create(long seed) {
+        return create(seed, QueuedTetrominoGenerator.DEFAULT_PREVIEW_SIZE);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed random seed
+     * @param previewSize how many upcoming pieces can be peeked
+     * @return a new generator
+     */
+    public QueuedTetrominoGenerator create(long seed, int previewSize) {
+        return switch (this) {
+            case RANDOM -> new RandomTetrominoGenerator(seed, previewSize);
+            case BAG_7 -> new BagTetrominoGenerator(seed, 1, previewSize);
+            case BAG_14 -> new BagTetrominoGenerator(seed, 2, previewSize);
+            case TGM -> new HistoryTetrominoGenerator(seed, HistoryTetrominoGenerator.DEFAULT_ROLLS, previewSize);
+        };
+    }
+}
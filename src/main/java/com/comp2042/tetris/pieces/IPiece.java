@@ -1,32 +1,36 @@
 package com.comp2042.tetris.pieces;
 
-import com.comp2042.tetris.utils.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 public final class IPiece implements Tetromino {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final RotationTable ROTATIONS = RotationTable.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    );
 
-    public IPiece() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ROTATIONS.copyShapes();
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
     }
 
+    @Override
+    public TetrominoType getType() {
+        return TetrominoType.I_PIECE;
+    }
 }
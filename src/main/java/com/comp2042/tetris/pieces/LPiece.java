@@ -1,43 +1,48 @@
 package com.comp2042.tetris.pieces;
 
-import com.comp2042.tetris.utils.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class LPiece implements Tetromino {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final RotationTable ROTATIONS = RotationTable.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 3},
+                    {0, 3, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 3, 0},
+                    {0, 0, 3, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 0, 3, 0},
+                    {3, 3, 3, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
-    public LPiece() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 3},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 3, 0},
-                {0, 0, 3, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ROTATIONS.copyShapes();
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
+
+    @Override
+    public TetrominoType getType() {
+        return TetrominoType.L_PIECE;
     }
 }
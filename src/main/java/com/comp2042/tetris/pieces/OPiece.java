@@ -1,26 +1,30 @@
 package com.comp2042.tetris.pieces;
 
-import com.comp2042.tetris.utils.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 public final class OPiece implements Tetromino {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final RotationTable ROTATIONS = RotationTable.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
-    public OPiece() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ROTATIONS.copyShapes();
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
     }
 
+    @Override
+    public TetrominoType getType() {
+        return TetrominoType.O_PIECE;
+    }
 }
@@ -0,0 +1,221 @@
+package com.comp2042.tetris.pieces;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Base for seeded generators that keep a queue of upcoming pieces.
+ *
+ * <p>Upcoming piece types sit in a fixed ring buffer. When the queue
+ * runs down to the preview size, the subclass refills it a whole batch
+ * at a time, for example a full shuffled bag. Drawing and peeking only
+ * move an index and hand out the shared piece from
+ * {@link TetrominoFactory#getShared}, so nothing is allocated per
+ * piece.</p>
+ *
+ * <h2>Determinism</h2>
+ * <p>All randomness comes from one {@link SplittableRandom}, which is
+ * SplitMix64, seeded in the constructor. The same seed always gives the
+ * same pieces in the same order, on any machine. Replays, fair
+ * multiplayer and bot benchmarks all depend on that.</p>
+ *
+ * <h2>Rewinding</h2>
+ * <p>Every type a refill produces is also appended to a log, one byte
+ * per piece. {@link #restoreDrawCount} moves the draw position back
+ * (or forward) and the queue is then topped up from the log before any
+ * new randomness is used, so board snapshots only need to remember a
+ * single count. A ten hour game deals well under 100k pieces, so the
+ * log stays small.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-30
+ */
+public abstract class QueuedTetrominoGenerator implements TetrominoGenerator {
+
+    /* the guideline preview length */
+    public static final int DEFAULT_PREVIEW_SIZE = 5;
+
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+
+    private final long seed;
+    private final int previewSize;
+    private final TetrominoType[] queue;
+    private final int mask;
+    private int head;
+    private int size;
+    private long drawCount;
+
+    /* every type refill has produced, and how many went into the queue */
+    private byte[] dealt = new byte[64];
+    private long generated;
+    private long queued;
+
+    /* only subclasses draw from it, and only inside refill */
+    protected final SplittableRandom random;
+
+    /**
+     * Sets up the queue.
+     *
+     * @param seed random seed
+     * @param previewSize how many upcoming pieces {@link #peek} can see
+     * @param batchSize the most pieces a single {@link #refill()} pushes
+     */
+    protected QueuedTetrominoGenerator(long seed, int previewSize, int batchSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("Preview size must be at least 1: " + previewSize);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        this.seed = seed;
+        this.previewSize = previewSize;
+        this.random = new SplittableRandom(seed);
+
+        /* room for the preview, the piece being drawn and one more
+         * batch, rounded up so wrapping is a mask instead of a modulo
+         */
+        int capacity = Integer.highestOneBit(previewSize + batchSize) << 1;
+        this.queue = new TetrominoType[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Pushes the next batch of piece types with {@link #push}.
+     *
+     * <p>Called lazily, never from the constructor, so subclass fields
+     * are set up by the time it runs. Must push at least one piece and
+     * at most the batch size.</p>
+     */
+    protected abstract void refill();
+
+    /**
+     * Adds a piece type to the back of the queue.
+     *
+     * @param type next piece type
+     */
+    protected final void push(TetrominoType type) {
+        if (generated == dealt.length) {
+            dealt = Arrays.copyOf(dealt, 2 * dealt.length);
+        }
+        dealt[(int) generated++] = (byte) type.ordinal();
+        enqueue(type);
+    }
+
+    private void enqueue(TetrominoType type) {
+        queue[(head + size) & mask] = type;
+        size++;
+        queued++;
+    }
+
+    @Override
+    public Tetromino getTetromino() {
+        return TetrominoFactory.getShared(drawType());
+    }
+
+    @Override
+    public Tetromino getNextTetromino() {
+        return peek(0);
+    }
+
+    @Override
+    public Tetromino peek(int index) {
+        return TetrominoFactory.getShared(peekType(index));
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return previewSize;
+    }
+
+    /**
+     * Takes the next piece type off the queue.
+     *
+     * @return the type of the piece that spawns now
+     */
+    public TetrominoType drawType() {
+        fill();
+        TetrominoType type = queue[head];
+        head = (head + 1) & mask;
+        size--;
+        drawCount++;
+        return type;
+    }
+
+    /**
+     * Gets how many pieces have been drawn since the generator was made.
+     *
+     * <p>Together with the seed this pins down the whole queue: a fresh
+     * generator with the same seed that {@link #skip}s this many pieces
+     * deals exactly what this one deals next.</p>
+     *
+     * @return pieces drawn so far
+     */
+    @Override
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Moves the draw position to a count saved from {@link #getDrawCount()}.
+     *
+     * <p>Going back replays pieces from the log, so it costs nothing but
+     * the next few queue writes; going forward draws as {@link #skip}
+     * does.</p>
+     *
+     * @param draws the draw count to resume from
+     */
+    @Override
+    public void restoreDrawCount(long draws) {
+        if (draws < 0) {
+            throw new IllegalArgumentException("Draw count cannot be negative: " + draws);
+        }
+        long replayed = Math.min(draws, generated);
+        head = 0;
+        size = 0;
+        queued = replayed;
+        drawCount = replayed;
+        skip(draws - replayed);
+    }
+
+    /**
+     * Draws and throws away pieces.
+     *
+     * @param draws how many pieces to skip
+     */
+    public void skip(long draws) {
+        for (long i = 0; i < draws; i++) {
+            drawType();
+        }
+    }
+
+    /**
+     * Looks at an upcoming piece type without taking it.
+     *
+     * @param index 0 for the next piece, up to the preview size minus one
+     * @return the piece type at that position
+     * @throws IndexOutOfBoundsException if the index is outside the preview
+     */
+    public TetrominoType peekType(int index) {
+        if (index < 0 || index >= previewSize) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " outside 0.." + (previewSize - 1));
+        }
+        fill();
+        return queue[(head + index) & mask];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /* keeps the preview plus the next draw in the queue */
+    private void fill() {
+        while (size <= previewSize) {
+            if (queued < generated) {
+                enqueue(TYPES[dealt[(int) queued]]);
+            } else {
+                refill();
+            }
+        }
+    }
+}
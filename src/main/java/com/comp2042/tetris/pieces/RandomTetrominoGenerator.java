@@ -1,27 +1,35 @@
 package com.comp2042.tetris.pieces;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
 
-public class RandomTetrominoGenerator implements TetrominoGenerator {
+/**
+ * Every piece is drawn independently with equal odds.
+ *
+ * <p>The classic behaviour, which allows long droughts and floods of the
+ * same piece. With no seed given, a fresh random one is picked, so
+ * normal play is still different every game.</p>
+ */
+public class RandomTetrominoGenerator extends QueuedTetrominoGenerator {
 
-    private final Deque<Tetromino> nextTetrominos = new ArrayDeque<>();
+    private static final int BATCH_SIZE = 8;
+    private static final TetrominoType[] TYPES = TetrominoType.values();
 
     public RandomTetrominoGenerator() {
-        nextTetrominos.add(TetrominoFactory.createRandomTetromino());
-        nextTetrominos.add(TetrominoFactory.createRandomTetromino());
+        this(ThreadLocalRandom.current().nextLong());
     }
 
-    @Override
-    public Tetromino getTetromino() {
-        if (nextTetrominos.size() <= 1) {
-            nextTetrominos.add(TetrominoFactory.createRandomTetromino());
-        }
-        return nextTetrominos.poll();
+    public RandomTetrominoGenerator(long seed) {
+        this(seed, DEFAULT_PREVIEW_SIZE);
+    }
+
+    public RandomTetrominoGenerator(long seed, int previewSize) {
+        super(seed, previewSize, BATCH_SIZE);
     }
 
     @Override
-    public Tetromino getNextTetromino() {
-        return nextTetrominos.peek();
+    protected void refill() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            push(TYPES[random.nextInt(TYPES.length)]);
+        }
     }
 }
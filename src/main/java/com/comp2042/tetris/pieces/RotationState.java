@@ -0,0 +1,179 @@
+package com.comp2042.tetris.pieces;
+
+import java.util.Arrays;
+
+/**
+ * One precomputed rotation of a tetromino.
+ *
+ * <p>Besides the shape matrix itself this carries everything the engine
+ * keeps recomputing from it: the occupied cell offsets, the bounding box
+ * of those cells, a bitmask per shape row and the bottom profile. All of it is worked out
+ * once when the piece class loads.</p>
+ *
+ * <h2>Read-Only</h2>
+ * <p>Arrays returned from this class are shared by every game on the
+ * JVM and are handed out without copying. Callers must treat them as
+ * read-only; anything that needs to modify a shape should copy it first
+ * with {@code MatrixOperations.copy}.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-25
+ */
+public final class RotationState {
+
+    private final int index;
+    private final int[][] shape;
+    private final int[] cellRows;
+    private final int[] cellCols;
+    private final int[] rowMasks;
+    private final int[] columnBottoms;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+    private final int colorId;
+
+    RotationState(int index, int[][] shape) {
+        this.index = index;
+        this.shape = shape;
+
+        int cellCount = 0;
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    cellCount++;
+                }
+            }
+        }
+
+        this.cellRows = new int[cellCount];
+        this.cellCols = new int[cellCount];
+        this.rowMasks = new int[shape.length];
+        this.columnBottoms = new int[shape[0].length];
+        Arrays.fill(columnBottoms, -1);
+
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int color = 0;
+        int cell = 0;
+
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    cellRows[cell] = row;
+                    cellCols[cell] = col;
+                    cell++;
+                    rowMasks[row] |= 1 << col;
+                    columnBottoms[col] = Math.max(columnBottoms[col], row);
+                    top = Math.min(top, row);
+                    bottom = Math.max(bottom, row);
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                    color = shape[row][col];
+                }
+            }
+        }
+
+        this.minRow = top;
+        this.maxRow = bottom;
+        this.minCol = left;
+        this.maxCol = right;
+        this.colorId = color;
+    }
+
+    /**
+     * Gets this rotation's position in its table.
+     *
+     * @return rotation index starting at 0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the shared shape matrix, structured as [row][col].
+     *
+     * @return the shape matrix (read-only, not a copy)
+     */
+    public int[][] getShape() {
+        return shape;
+    }
+
+    /**
+     * Gets the number of occupied cells (always 4 for tetrominoes).
+     *
+     * @return occupied cell count
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the row offset of every occupied cell.
+     *
+     * @return row offsets, parallel to {@link #getCellCols()} (read-only)
+     */
+    public int[] getCellRows() {
+        return cellRows;
+    }
+
+    /**
+     * Gets the column offset of every occupied cell.
+     *
+     * @return column offsets, parallel to {@link #getCellRows()} (read-only)
+     */
+    public int[] getCellCols() {
+        return cellCols;
+    }
+
+    /**
+     * Gets one bitmask per shape row, with bit {@code c} set when
+     * local column {@code c} is occupied.
+     *
+     * @return row masks indexed by shape row (read-only)
+     */
+    public int[] getRowMasks() {
+        return rowMasks;
+    }
+
+    /**
+     * Gets the bottom profile of the piece: for each local column, the
+     * lowest occupied shape row, or -1 when the column is empty.
+     *
+     * <p>Together with the board's column heights this gives the landing
+     * row without stepping the piece down.</p>
+     *
+     * @return lowest occupied row per local column (read-only)
+     */
+    public int[] getColumnBottoms() {
+        return columnBottoms;
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    public int getMinCol() {
+        return minCol;
+    }
+
+    public int getMaxCol() {
+        return maxCol;
+    }
+
+    /**
+     * Gets the colour code written to the board when this piece locks.
+     *
+     * @return colour code used by {@code ColorPalette}
+     */
+    public int getColorId() {
+        return colorId;
+    }
+}
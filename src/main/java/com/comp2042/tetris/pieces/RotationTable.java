@@ -0,0 +1,89 @@
+package com.comp2042.tetris.pieces;
+
+import com.comp2042.tetris.utils.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable table of every rotation of one tetromino.
+ *
+ * <p>Each piece class builds its table once in a static initialiser, so
+ * all pieces of the same type share one table no matter how many games
+ * are running. {@code TetrominoRotator} reads shapes straight from here
+ * instead of asking the piece for a fresh deep copy on every move.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-25
+ */
+public final class RotationTable {
+
+    private final RotationState[] states;
+
+    private RotationTable(RotationState[] states) {
+        this.states = states;
+    }
+
+    /**
+     * Builds a table from shape matrices listed in rotation order.
+     *
+     * @param shapes one [row][col] matrix per rotation
+     * @return the precomputed table
+     */
+    static RotationTable of(int[][]... shapes) {
+        if (shapes.length == 0) {
+            throw new IllegalArgumentException("A piece needs at least one rotation");
+        }
+        RotationState[] states = new RotationState[shapes.length];
+        for (int i = 0; i < shapes.length; i++) {
+            states[i] = new RotationState(i, shapes[i]);
+        }
+        return new RotationTable(states);
+    }
+
+    /**
+     * Gets the number of distinct rotations.
+     *
+     * @return rotation count (1, 2 or 4)
+     */
+    public int size() {
+        return states.length;
+    }
+
+    /**
+     * Gets a rotation by index.
+     *
+     * @param rotationIndex index between 0 and {@code size() - 1}
+     * @return the shared rotation state
+     */
+    public RotationState get(int rotationIndex) {
+        return states[rotationIndex];
+    }
+
+    /**
+     * Gets the rotation that follows the given one, wrapping around.
+     *
+     * @param rotationIndex current rotation index
+     * @return the next rotation state
+     */
+    public RotationState next(int rotationIndex) {
+        return states[(rotationIndex + 1) % states.length];
+    }
+
+    /**
+     * Builds the old-style list of shape matrices as deep copies.
+     *
+     * <p>Only used to keep {@link Tetromino#getShapeMatrix()} working for
+     * callers that want their own mutable copies.</p>
+     *
+     * @return fresh copies of every rotation's shape
+     */
+    List<int[][]> copyShapes() {
+        List<int[][]> shapes = new ArrayList<>(states.length);
+        for (RotationState state : states) {
+            shapes.add(MatrixOperations.copy(state.getShape()));
+        }
+        return shapes;
+    }
+}
@@ -4,5 +4,16 @@ import java.util.List;
 
 public interface Tetromino {
 
+    /* returns fresh deep copies, safe to modify
+     * prefer getRotationTable() anywhere performance matters
+     */
     List<int[][]> getShapeMatrix();
+
+    /* shared precomputed rotations, built once per piece type
+     * the arrays inside are read-only and never copied
+     */
+    RotationTable getRotationTable();
+
+    /* which of the seven pieces this is, for queues and replays */
+    TetrominoType getType();
 }
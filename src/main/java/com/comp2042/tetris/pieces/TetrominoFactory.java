@@ -2,6 +2,11 @@ package com.comp2042.tetris.pieces;
 
 public class TetrominoFactory {
 
+    /* pieces carry no state of their own, only a shared rotation table
+     * so one instance per type can be handed out for every draw
+     */
+    private static final Tetromino[] SHARED = createAll();
+
     public static Tetromino createTetromino(TetrominoType type) {
         return switch (type) {
             case I_PIECE -> new IPiece();
@@ -17,4 +22,26 @@ public class TetrominoFactory {
     public static Tetromino createRandomTetromino() {
         return createTetromino(TetrominoType.random());
     }
+
+    /**
+     * Gets the shared instance of a piece type.
+     *
+     * <p>Generators draw thousands of pieces per game; handing out the
+     * same immutable instance keeps drawing allocation-free.</p>
+     *
+     * @param type piece type
+     * @return the one shared piece of that type
+     */
+    public static Tetromino getShared(TetrominoType type) {
+        return SHARED[type.ordinal()];
+    }
+
+    private static Tetromino[] createAll() {
+        TetrominoType[] types = TetrominoType.values();
+        Tetromino[] pieces = new Tetromino[types.length];
+        for (TetrominoType type : types) {
+            pieces[type.ordinal()] = createTetromino(type);
+        }
+        return pieces;
+    }
 }
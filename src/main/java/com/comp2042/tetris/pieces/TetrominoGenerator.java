@@ -5,4 +5,19 @@ public interface TetrominoGenerator {
     Tetromino getTetromino();
 
     Tetromino getNextTetromino();
+
+    /* looks further down the queue without drawing
+     * index 0 is the same piece getNextTetromino returns
+     */
+    Tetromino peek(int index);
+
+    /* how far peek can look */
+    int getPreviewSize();
+
+    /* how many pieces getTetromino has dealt; with restoreDrawCount
+     * this is all a board snapshot needs to put the queue back
+     */
+    long getDrawCount();
+
+    void restoreDrawCount(long draws);
 }
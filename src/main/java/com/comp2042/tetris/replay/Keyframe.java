@@ -0,0 +1,146 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controllers.GameSession;
+import com.comp2042.tetris.core.BoardState;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.Tetromino;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Everything needed to pick a recorded game up part way through.
+ *
+ * <p>A replay is just inputs, so reaching minute ninety normally means
+ * replaying the first eighty-nine. Every so often the recorder also
+ * stores one of these: a {@link BoardState} snapshot of the board plus
+ * whether the game was already lost. Playback loads the nearest one
+ * and only replays the inputs after it.</p>
+ *
+ * <h2>Generator Position</h2>
+ * <p>The random state itself is not saved. Generators are seeded, so a
+ * fresh one with the header's seed that is moved on by the snapshot's
+ * draw count deals exactly what the recorded one dealt next.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-02
+ */
+public final class Keyframe {
+
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+
+    private static final int CAN_HOLD = 1;
+    private static final int GAME_OVER = 2;
+
+    private final BoardState state;
+    private final boolean gameOver;
+
+    private Keyframe(BoardState state, boolean gameOver) {
+        this.state = state;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Copies the state of a running game.
+     *
+     * @param session the game, on a board with a seeded generator
+     * @return a keyframe that owns its own copy of the cells
+     */
+    public static Keyframe capture(GameSession session) {
+        return new Keyframe(session.getBoard().snapshot(), session.isGameOver());
+    }
+
+    /**
+     * Loads this state onto a board.
+     *
+     * @param board a board with a fresh generator seeded like the recorded one
+     */
+    void applyTo(TetrisBoard board) {
+        board.restore(state);
+    }
+
+    /* the most bytes writeTo can need for a board of this size */
+    static int maxEncodedSize(int rows, int columns) {
+        return (rows * BoardState.wordsPerRow(columns) + 8) * ReplayFormat.MAX_VARINT_BYTES;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        ReplayFormat.putVarLong(buffer, state.getDrawCount());
+        ReplayFormat.putVarLong(buffer, state.getScore());
+        ReplayFormat.putVarLong(buffer, state.getLinesCleared());
+        ReplayFormat.putVarLong(buffer, state.getCombo() + 1L);
+        buffer.put((byte) state.getPiece().getType().ordinal());
+        buffer.put((byte) state.getRotation());
+        ReplayFormat.putVarLong(buffer, zigZag(state.getX()) & 0xFFFFFFFFL);
+        ReplayFormat.putVarLong(buffer, zigZag(state.getY()) & 0xFFFFFFFFL);
+        Tetromino held = state.getHeldPiece();
+        buffer.put((byte) (held == null ? 0 : held.getType().ordinal() + 1));
+        buffer.put((byte) ((state.canHold() ? CAN_HOLD : 0) | (gameOver ? GAME_OVER : 0)));
+
+        /* the packed words go out as they are, 4-bit colours with the
+         * lowest column lowest, so empty rows cost a single byte
+         */
+        for (int word = 0; word < state.getPackedWordCount(); word++) {
+            ReplayFormat.putVarLong(buffer, state.getPackedWord(word));
+        }
+    }
+
+    static Keyframe readFrom(ByteBuffer buffer, int rows, int columns) {
+        long drawCount = ReplayFormat.getVarLong(buffer);
+        int score = ReplayFormat.getVarInt(buffer);
+        int linesCleared = ReplayFormat.getVarInt(buffer);
+        int combo = ReplayFormat.getVarInt(buffer) - 1;
+        TetrominoType piece = TYPES[buffer.get()];
+        int rotation = buffer.get();
+        int x = unZigZag((int) ReplayFormat.getVarLong(buffer));
+        int y = unZigZag((int) ReplayFormat.getVarLong(buffer));
+        int held = buffer.get();
+        int flags = buffer.get();
+
+        long[] packedRows = new long[rows * BoardState.wordsPerRow(columns)];
+        for (int word = 0; word < packedRows.length; word++) {
+            packedRows[word] = ReplayFormat.getVarLong(buffer);
+        }
+
+        BoardState state = new BoardState(columns, packedRows, TetrominoFactory.getShared(piece), rotation, x, y,
+            held == 0 ? null : TetrominoFactory.getShared(TYPES[held - 1]), (flags & CAN_HOLD) != 0,
+            combo, linesCleared, score, drawCount);
+        return new Keyframe(state, (flags & GAME_OVER) != 0);
+    }
+
+    public BoardState getState() {
+        return state;
+    }
+
+    /**
+     * Gets how many pieces the generator had dealt.
+     *
+     * @return draw count of the saved generator
+     */
+    public long getDrawCount() {
+        return state.getDrawCount();
+    }
+
+    public int getScore() {
+        return state.getScore();
+    }
+
+    public int getLinesCleared() {
+        return state.getLinesCleared();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /* small negatives, like an I piece against the left wall, stay one byte */
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,132 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controllers.GameSession;
+import com.comp2042.tetris.events.InputEventListener;
+import com.comp2042.tetris.events.MoveEvent;
+import com.comp2042.tetris.models.DownData;
+import com.comp2042.tetris.models.ViewData;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Passes input events through to the game while recording them.
+ *
+ * <p>Sits between the view and the controller, so neither needs to know
+ * a replay is being made. Each event is recorded before it is handled,
+ * stamped with the current game clock tick.</p>
+ *
+ * <p>Given the {@link GameSession} being played, it also saves a
+ * {@link Keyframe} every so many locked pieces, right after the input
+ * that locked the piece, so playback can seek.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public class RecordingInputListener implements InputEventListener {
+
+    /* a keyframe is ~150 bytes; at a piece a second this is one
+     * every couple of minutes and a seek replays under 100 pieces
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    private final InputEventListener delegate;
+    private final ReplayWriter writer;
+    private final LongSupplier ticks;
+    private final GameSession session;
+    private final int keyframeInterval;
+    private int piecesSinceKeyframe;
+
+    /**
+     * Wraps a listener.
+     *
+     * @param delegate the listener that plays the game
+     * @param writer where to record
+     * @param ticks reads the current game clock tick
+     */
+    public RecordingInputListener(InputEventListener delegate, ReplayWriter writer, LongSupplier ticks) {
+        this(delegate, writer, ticks, null, 0);
+    }
+
+    /**
+     * Wraps a listener and saves keyframes of its game.
+     *
+     * @param delegate the listener that plays the game
+     * @param writer where to record
+     * @param ticks reads the current game clock tick
+     * @param session the game the delegate plays, or null for no keyframes
+     * @param keyframeInterval locked pieces between keyframes
+     */
+    public RecordingInputListener(InputEventListener delegate, ReplayWriter writer, LongSupplier ticks,
+                                  GameSession session, int keyframeInterval) {
+        if (session != null && keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1: " + keyframeInterval);
+        }
+        this.delegate = delegate;
+        this.writer = writer;
+        this.ticks = ticks;
+        this.session = session;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        long tick = record(event);
+        DownData downData = delegate.onDownEvent(event);
+        if (downData.getClearRow() != null) {
+            onPieceLocked(tick);
+        }
+        return downData;
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        long tick = record(event);
+        DownData downData = delegate.onHardDropEvent(event);
+        onPieceLocked(tick);
+        return downData;
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(event);
+        return delegate.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRightEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRotateEvent(event);
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        record(event);
+        return delegate.onHoldEvent(event);
+    }
+
+    @Override
+    public void createNewGame() {
+        writer.recordNewGame(ticks.getAsLong());
+        delegate.createNewGame();
+    }
+
+    private long record(MoveEvent event) {
+        long tick = ticks.getAsLong();
+        writer.record(tick, event.getEventType(), event.getEventSource());
+        return tick;
+    }
+
+    private void onPieceLocked(long tick) {
+        if (session != null && ++piecesSinceKeyframe >= keyframeInterval) {
+            writer.recordKeyframe(tick, Keyframe.capture(session));
+            piecesSinceKeyframe = 0;
+        }
+    }
+}
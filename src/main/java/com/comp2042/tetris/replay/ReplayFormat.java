@@ -0,0 +1,75 @@
+package com.comp2042.tetris.replay;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and varint helpers shared by the replay writer and reader.
+ *
+ * <h2>Layout</h2>
+ * <pre>
+ * magic "TRPL"  int
+ * version       byte
+ * header        see {@link ReplayHeader}
+ * records       one varint each, keyframes carry a payload
+ * index         per keyframe: varint tick, offset and event deltas
+ * trailer       long index offset, int keyframe count, int "TIDX"
+ * </pre>
+ *
+ * <p>A record packs the ticks since the previous record and a 4-bit
+ * event code into one unsigned varint: {@code delta << 4 | code}. An
+ * event is {@code type << 1 | source}; code 15 marks a new game. Inputs
+ * a few ticks apart and every gravity step fit in a single byte, so a
+ * long game stays in the tens of kilobytes.</p>
+ *
+ * <h2>Keyframes</h2>
+ * <p>Code 14 is a {@link Keyframe}: the record is followed by a varint
+ * payload length and the payload, so a reader that does not care can
+ * skip it. The index and trailer are written on close. A file whose
+ * writer died before closing has no trailer; it still plays, just
+ * without seeking. Version 1 files have neither and read the same
+ * way.</p>
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x5452504C;
+    static final byte VERSION = 2;
+    static final byte FIRST_VERSION = 1;
+    static final int INDEX_MAGIC = 0x54494458;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    static final int CODE_BITS = 4;
+    static final int CODE_MASK = (1 << CODE_BITS) - 1;
+    static final int NEW_GAME_CODE = CODE_MASK;
+    static final int KEYFRAME_CODE = CODE_MASK - 1;
+
+    /* a long needs at most ten 7-bit groups */
+    static final int MAX_VARINT_BYTES = 10;
+
+    private ReplayFormat() {
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new BufferUnderflowException();
+    }
+
+    static int getVarInt(ByteBuffer buffer) {
+        return Math.toIntExact(getVarLong(buffer));
+    }
+}
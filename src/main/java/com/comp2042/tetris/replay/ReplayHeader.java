@@ -0,0 +1,125 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+import com.comp2042.tetris.pieces.GeneratorType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Everything needed to set a game up again before its inputs are replayed.
+ *
+ * <p>The piece sequence is not stored, only the generator and its seed;
+ * the same seed deals the same pieces. The difficulty is stored by value
+ * so a replay still plays back if the difficulty classes change.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public final class ReplayHeader {
+
+    private final int rows;
+    private final int columns;
+    private final GeneratorType generatorType;
+    private final long seed;
+    private final String difficultyName;
+    private final int dropSpeed;
+    private final int scoreMultiplier;
+
+    public ReplayHeader(int rows, int columns, GeneratorType generatorType, long seed,
+                        String difficultyName, int dropSpeed, int scoreMultiplier) {
+        this.rows = rows;
+        this.columns = columns;
+        this.generatorType = generatorType;
+        this.seed = seed;
+        this.difficultyName = difficultyName;
+        this.dropSpeed = dropSpeed;
+        this.scoreMultiplier = scoreMultiplier;
+    }
+
+    /**
+     * Describes a game about to be recorded.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     * @param generatorType how pieces are dealt
+     * @param seed the generator's seed
+     * @param difficulty the difficulty being played
+     * @return the header
+     */
+    public static ReplayHeader of(int rows, int columns, GeneratorType generatorType, long seed,
+                                  DifficultyStrategy difficulty) {
+        return new ReplayHeader(rows, columns, generatorType, seed, difficulty.getDifficultyName(),
+            difficulty.getDropSpeed(), difficulty.getScoreMultiplier());
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public GeneratorType getGeneratorType() {
+        return generatorType;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getDifficultyName() {
+        return difficultyName;
+    }
+
+    /**
+     * Rebuilds the recorded difficulty.
+     *
+     * @return a difficulty with the recorded name, speed and multiplier
+     */
+    public DifficultyStrategy toDifficulty() {
+        return new DifficultyStrategy() {
+            @Override
+            public int getDropSpeed() {
+                return dropSpeed;
+            }
+
+            @Override
+            public int getScoreMultiplier() {
+                return scoreMultiplier;
+            }
+
+            @Override
+            public String getDifficultyName() {
+                return difficultyName;
+            }
+        };
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        byte[] name = difficultyName.getBytes(StandardCharsets.UTF_8);
+        ReplayFormat.putVarLong(buffer, rows);
+        ReplayFormat.putVarLong(buffer, columns);
+        buffer.put((byte) generatorType.ordinal());
+        buffer.putLong(seed);
+        ReplayFormat.putVarLong(buffer, name.length);
+        buffer.put(name);
+        ReplayFormat.putVarLong(buffer, dropSpeed);
+        ReplayFormat.putVarLong(buffer, scoreMultiplier);
+    }
+
+    static ReplayHeader readFrom(ByteBuffer buffer) {
+        int rows = ReplayFormat.getVarInt(buffer);
+        int columns = ReplayFormat.getVarInt(buffer);
+        GeneratorType generatorType = GeneratorType.values()[buffer.get()];
+        long seed = buffer.getLong();
+        byte[] name = new byte[ReplayFormat.getVarInt(buffer)];
+        buffer.get(name);
+        int dropSpeed = ReplayFormat.getVarInt(buffer);
+        int scoreMultiplier = ReplayFormat.getVarInt(buffer);
+        return new ReplayHeader(rows, columns, generatorType, seed,
+            new String(name, StandardCharsets.UTF_8), dropSpeed, scoreMultiplier);
+    }
+}
@@ -0,0 +1,159 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controllers.GameSession;
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.events.MoveEvent;
+
+/**
+ * Plays a replay back on a headless board.
+ *
+ * <p>Rebuilds the board from the header, with the same generator and
+ * seed, then feeds every recorded input through a {@link GameSession}.
+ * Gravity steps were recorded as inputs, so nothing is timed; a replay
+ * runs as fast as the board can take the moves, thousands of times
+ * faster than it was played.</p>
+ *
+ * <h2>Seeking</h2>
+ * <p>{@link #seek} jumps to any tick, forwards or backwards. It builds a
+ * fresh board, loads the last keyframe before the tick onto it and
+ * plays only the inputs in between, so scrubbing through a long replay
+ * costs at most one keyframe interval of moves per jump.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public class ReplayPlayer {
+
+    /* one shared event per type and source, so playback allocates nothing */
+    private static final MoveEvent[][] EVENTS = createEvents();
+
+    private final ReplayReader reader;
+    private final BoardEngine engine;
+    private GameSession session;
+    private long eventCount;
+
+    /**
+     * Sets up playback.
+     *
+     * @param reader replay to play, positioned before the first record
+     * @param engine board engine to play on
+     */
+    public ReplayPlayer(ReplayReader reader, BoardEngine engine) {
+        this.reader = reader;
+        this.engine = engine;
+        this.session = new GameSession(createBoard(), reader.getHeader().toDifficulty());
+    }
+
+    /**
+     * Applies the next record.
+     *
+     * @return false at the end of the replay
+     */
+    public boolean step() {
+        if (!reader.next()) {
+            return false;
+        }
+        if (reader.isKeyframe()) {
+            /* the inputs around it already rebuild this state */
+            return true;
+        }
+        if (reader.isNewGame()) {
+            session.createNewGame();
+        } else {
+            session.apply(EVENTS[reader.getEventType().ordinal()][reader.getEventSource().ordinal()]);
+        }
+        eventCount++;
+        return true;
+    }
+
+    /**
+     * Plays up to and including the last record on or before a tick.
+     *
+     * @param tick game clock tick to stop at
+     */
+    public void playUntil(long tick) {
+        while (reader.peekTick() <= tick && step()) {
+            /* step does the work */
+        }
+    }
+
+    /**
+     * Jumps to the state after the last record on or before a tick.
+     *
+     * <p>Starts from the nearest keyframe at or before the tick, or from
+     * the beginning when there is none, and plays forward from there.
+     * The board and session are replaced, so fetch them again after
+     * seeking.</p>
+     *
+     * @param tick game clock tick to land on
+     */
+    public void seek(long tick) {
+        int keyframe = reader.findKeyframe(tick);
+        if (keyframe < 0) {
+            reader.rewind();
+            session = new GameSession(createBoard(), reader.getHeader().toDifficulty());
+            eventCount = 0;
+        } else {
+            reader.seekKeyframe(keyframe);
+            Keyframe state = reader.getKeyframe();
+            TetrisBoard board = createBoard();
+            state.applyTo(board);
+            session = GameSession.resume(board, reader.getHeader().toDifficulty(), state.isGameOver());
+            eventCount = reader.getKeyframeEventCount(keyframe);
+        }
+        playUntil(tick);
+    }
+
+    /**
+     * Plays the rest of the replay.
+     */
+    public void playToEnd() {
+        while (step()) {
+            /* step does the work */
+        }
+    }
+
+    public GameSession getSession() {
+        return session;
+    }
+
+    public TetrisBoard getBoard() {
+        return (TetrisBoard) session.getBoard();
+    }
+
+    /**
+     * Gets the tick of the last record played.
+     *
+     * @return game clock tick, 0 before the first record
+     */
+    public long getTick() {
+        return reader.getTick();
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    /* a board dealing the recorded piece sequence from the start */
+    private TetrisBoard createBoard() {
+        ReplayHeader header = reader.getHeader();
+        return engine.create(header.getRows(), header.getColumns(),
+            header.getGeneratorType().create(header.getSeed()));
+    }
+
+    private static MoveEvent[][] createEvents() {
+        EventType[] types = EventType.values();
+        EventSource[] sources = EventSource.values();
+        MoveEvent[][] events = new MoveEvent[types.length][sources.length];
+        for (EventType type : types) {
+            for (EventSource source : sources) {
+                events[type.ordinal()][source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+        return events;
+    }
+}
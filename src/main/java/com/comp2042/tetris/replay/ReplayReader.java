@@ -0,0 +1,293 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the records of a replay file one at a time.
+ *
+ * <p>A cursor rather than an iterator: {@link #next()} moves to the next
+ * record and the getters describe it, so stepping through a long replay
+ * creates no objects.</p>
+ *
+ * <h2>Seeking</h2>
+ * <p>Files are memory-mapped rather than read in, so opening a replay
+ * hours long costs nothing up front and only the pages actually played
+ * are ever loaded. The keyframe index from the footer is read at open;
+ * {@link #seekKeyframe} jumps the cursor straight to one of them.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public class ReplayReader {
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    private static final long[] NO_KEYFRAMES = new long[0];
+
+    private final ByteBuffer buffer;
+    private final ReplayHeader header;
+    private final int start;
+    private final int recordsStart;
+    private final long[] keyframeTicks;
+    private final long[] keyframeOffsets;
+    private final long[] keyframeEvents;
+
+    private long tick;
+    private int code = -1;
+    private int keyframePosition;
+
+    /**
+     * Opens a replay file by mapping it into memory.
+     *
+     * <p>The mapping stays valid after the channel is closed and is
+     * released when the reader is garbage collected.</p>
+     *
+     * @param path file to read
+     * @return a reader positioned before the first record
+     * @throws IOException if the file cannot be read or is not a replay
+     */
+    public static ReplayReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            /* a single mapping tops out at 2GB, which at a byte or two
+             * per input is weeks of play
+             */
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Replay too large to map: " + path);
+            }
+            return new ReplayReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Reads a replay held in memory.
+     *
+     * @param buffer the replay bytes from the start of the file; not modified
+     * @throws IOException if the bytes are not a replay
+     */
+    public ReplayReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.duplicate();
+        this.start = buffer.position();
+        if (this.buffer.remaining() < Integer.BYTES + 1 || this.buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        byte version = this.buffer.get();
+        if (version != ReplayFormat.VERSION && version != ReplayFormat.FIRST_VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        this.header = ReplayHeader.readFrom(this.buffer);
+        this.recordsStart = this.buffer.position();
+
+        int end = this.buffer.limit();
+        int keyframes = version == ReplayFormat.VERSION ? readTrailer() : 0;
+        this.keyframeTicks = keyframes == 0 ? NO_KEYFRAMES : new long[keyframes];
+        this.keyframeOffsets = keyframes == 0 ? NO_KEYFRAMES : new long[keyframes];
+        this.keyframeEvents = keyframes == 0 ? NO_KEYFRAMES : new long[keyframes];
+        if (keyframes > 0) {
+            readIndex(end);
+        }
+    }
+
+    /* finds the footer and stops the records where the index starts
+     * returns 0 when there is no footer, as after a crash
+     */
+    private int readTrailer() {
+        int end = buffer.limit();
+        if (end - buffer.position() < ReplayFormat.TRAILER_BYTES
+                || buffer.getInt(end - Integer.BYTES) != ReplayFormat.INDEX_MAGIC) {
+            return 0;
+        }
+        long indexOffset = buffer.getLong(end - ReplayFormat.TRAILER_BYTES);
+        int count = buffer.getInt(end - ReplayFormat.TRAILER_BYTES + Long.BYTES);
+        if (indexOffset < buffer.position() - start || start + indexOffset > end - ReplayFormat.TRAILER_BYTES
+                || count < 0) {
+            return 0;
+        }
+        buffer.limit((int) (start + indexOffset));
+        return count;
+    }
+
+    private void readIndex(int end) {
+        ByteBuffer index = buffer.duplicate();
+        index.limit(end).position(buffer.limit());
+        long previousTick = 0;
+        long previousOffset = 0;
+        long previousEvents = 0;
+        for (int i = 0; i < keyframeTicks.length; i++) {
+            previousTick += ReplayFormat.getVarLong(index);
+            previousOffset += ReplayFormat.getVarLong(index);
+            previousEvents += ReplayFormat.getVarLong(index);
+            keyframeTicks[i] = previousTick;
+            keyframeOffsets[i] = previousOffset;
+            keyframeEvents[i] = previousEvents;
+        }
+    }
+
+    public ReplayHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false at the end of the replay
+     */
+    public boolean next() {
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        long record = ReplayFormat.getVarLong(buffer);
+        tick += record >>> ReplayFormat.CODE_BITS;
+        code = (int) (record & ReplayFormat.CODE_MASK);
+        if (code == ReplayFormat.KEYFRAME_CODE) {
+            /* note where the payload is and step over it;
+             * it is only decoded if someone asks
+             */
+            int length = ReplayFormat.getVarInt(buffer);
+            keyframePosition = buffer.position();
+            buffer.position(keyframePosition + length);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the cursor back to before the first record.
+     */
+    public void rewind() {
+        buffer.position(recordsStart);
+        tick = 0;
+        code = -1;
+    }
+
+    /**
+     * Gets how many keyframes the index lists.
+     *
+     * @return keyframe count, 0 for files without an index
+     */
+    public int getKeyframeCount() {
+        return keyframeTicks.length;
+    }
+
+    public long getKeyframeTick(int keyframe) {
+        return keyframeTicks[keyframe];
+    }
+
+    /**
+     * Gets how many input records come before a keyframe.
+     *
+     * @param keyframe keyframe number
+     * @return inputs and new-game markers before it
+     */
+    public long getKeyframeEventCount(int keyframe) {
+        return keyframeEvents[keyframe];
+    }
+
+    /**
+     * Finds the last keyframe at or before a tick.
+     *
+     * @param targetTick game clock tick
+     * @return keyframe number, or -1 if none is that early
+     */
+    public int findKeyframe(long targetTick) {
+        int found = Arrays.binarySearch(keyframeTicks, targetTick);
+        if (found < 0) {
+            return -(found + 1) - 1;
+        }
+        /* several keyframes can share a tick; take the last */
+        while (found + 1 < keyframeTicks.length && keyframeTicks[found + 1] == targetTick) {
+            found++;
+        }
+        return found;
+    }
+
+    /**
+     * Moves the cursor onto a keyframe record, forwards or backwards.
+     *
+     * @param keyframe keyframe number
+     */
+    public void seekKeyframe(int keyframe) {
+        buffer.position((int) (start + keyframeOffsets[keyframe]));
+        next();
+        tick = keyframeTicks[keyframe];
+    }
+
+    /**
+     * Whether the current record is a keyframe instead of an input.
+     *
+     * @return true for a keyframe
+     */
+    public boolean isKeyframe() {
+        return code == ReplayFormat.KEYFRAME_CODE;
+    }
+
+    /**
+     * Decodes the keyframe at the cursor.
+     *
+     * @return the saved game state
+     * @throws IllegalStateException if the current record is not a keyframe
+     */
+    public Keyframe getKeyframe() {
+        if (!isKeyframe()) {
+            throw new IllegalStateException("Current record is not a keyframe");
+        }
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(keyframePosition);
+        return Keyframe.readFrom(payload, header.getRows(), header.getColumns());
+    }
+
+    /**
+     * Gets the tick of the next record without moving to it.
+     *
+     * @return tick of the next record, or {@code Long.MAX_VALUE} at the end
+     */
+    public long peekTick() {
+        if (!buffer.hasRemaining()) {
+            return Long.MAX_VALUE;
+        }
+        int position = buffer.position();
+        long record = ReplayFormat.getVarLong(buffer);
+        buffer.position(position);
+        return tick + (record >>> ReplayFormat.CODE_BITS);
+    }
+
+    /**
+     * Gets the game clock tick of the current record.
+     *
+     * @return tick the input happened on
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Whether the current record starts a new game instead of being an input.
+     *
+     * @return true for a new-game marker
+     */
+    public boolean isNewGame() {
+        return code == ReplayFormat.NEW_GAME_CODE;
+    }
+
+    /**
+     * Gets the input of the current record.
+     *
+     * @return the event type; undefined for a new-game marker or keyframe
+     */
+    public EventType getEventType() {
+        return TYPES[code >>> 1];
+    }
+
+    public EventSource getEventSource() {
+        return SOURCES[code & 1];
+    }
+}
@@ -0,0 +1,273 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records a game's inputs to a replay file without blocking the caller.
+ *
+ * <p>{@link #record} is called from the FX thread for every input and
+ * every gravity step, so it must never touch the disk. It packs the
+ * tick and event into a {@code long} and drops it into a ring buffer,
+ * and that is all. A daemon thread drains the ring, varint-encodes the
+ * records into a direct buffer and writes them to a {@link FileChannel}
+ * each time it catches up. The file is opened and the header written on
+ * that thread too.</p>
+ *
+ * <h2>Threads</h2>
+ * <p>The ring has one producer and one consumer. All {@code record}
+ * calls for a writer must come from the same thread, which is how the
+ * game loop and the self-play games already work. If the disk falls
+ * so far behind that the ring fills, {@code record} spins until there
+ * is room rather than dropping inputs; at 64k entries that is minutes
+ * of play.</p>
+ *
+ * <h2>Keyframes</h2>
+ * <p>{@link #recordKeyframe} hands over a {@link Keyframe} the caller
+ * already copied, through a side queue, and publishes a marker in the
+ * ring so it lands between the right two inputs. The writer thread
+ * encodes it and notes where it went; on close the offsets are written
+ * as an index footer so a reader can jump straight to any of them.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-01
+ */
+public class ReplayWriter implements AutoCloseable {
+
+    private static final int RING_SIZE = 1 << 16;
+    private static final int RING_MASK = RING_SIZE - 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private final Path path;
+    private final ReplayHeader header;
+    private final long[] ring = new long[RING_SIZE];
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final Queue<Keyframe> keyframes = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    /* owned by the writer thread */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private FileChannel channel;
+    private long lastTick;
+    private long eventCount;
+    private final ByteBuffer keyframeBuffer;
+
+    /* tick, file offset and events before it, per keyframe */
+    private long[] index = new long[3 * 16];
+    private int keyframeCount;
+
+    /* the thread starts in open(), once every field is set */
+    private ReplayWriter(Path path, ReplayHeader header) {
+        this.path = path;
+        this.header = header;
+        this.keyframeBuffer = ByteBuffer.allocate(Keyframe.maxEncodedSize(header.getRows(), header.getColumns()));
+        this.thread = new Thread(this::run, "replay-writer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts recording to a file, replacing it if it exists.
+     *
+     * @param path file to write
+     * @param header how the game was set up
+     * @return the writer, already running
+     */
+    public static ReplayWriter open(Path path, ReplayHeader header) {
+        ReplayWriter writer = new ReplayWriter(path, header);
+        writer.thread.start();
+        return writer;
+    }
+
+    /**
+     * Records one input.
+     *
+     * @param tick game clock tick the input happened on
+     * @param type what the input was
+     * @param source whether the player or gravity sent it
+     */
+    public void record(long tick, EventType type, EventSource source) {
+        publish(tick, type.ordinal() << 1 | source.ordinal());
+    }
+
+    /**
+     * Records that the board was cleared for a new game.
+     *
+     * @param tick game clock tick the new game started on
+     */
+    public void recordNewGame(long tick) {
+        publish(tick, ReplayFormat.NEW_GAME_CODE);
+    }
+
+    /**
+     * Records the state of the game so playback can start from here.
+     *
+     * <p>Call it right after the input that produced the state, with the
+     * same tick, from the thread that records inputs.</p>
+     *
+     * @param tick game clock tick of the state
+     * @param keyframe the state, which must not change afterwards
+     */
+    public void recordKeyframe(long tick, Keyframe keyframe) {
+        keyframes.add(keyframe);
+        publish(tick, ReplayFormat.KEYFRAME_CODE);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Writes out everything recorded so far and closes the file.
+     *
+     * @throws IOException if the writer thread failed to write
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing replay " + path, e);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void publish(long tick, int code) {
+        long sequence = published.get();
+        while (sequence - consumed.get() >= RING_SIZE) {
+            Thread.onSpinWait();
+        }
+        ring[(int) sequence & RING_MASK] = tick << ReplayFormat.CODE_BITS | code;
+        published.lazySet(sequence + 1);
+    }
+
+    private void run() {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel = out;
+            buffer.putInt(ReplayFormat.MAGIC);
+            buffer.put(ReplayFormat.VERSION);
+            header.writeTo(buffer);
+
+            while (true) {
+                boolean finishing = closed;
+                drain();
+                flush();
+                if (finishing) {
+                    break;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writeIndex();
+            flush();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /* encodes every published record; reads published once per pass so
+     * a busy producer cannot keep the writer from flushing
+     */
+    private void drain() throws IOException {
+        long end = published.get();
+        for (long sequence = consumed.get(); sequence < end; sequence++) {
+            long entry = ring[(int) sequence & RING_MASK];
+            long tick = entry >>> ReplayFormat.CODE_BITS;
+            int code = (int) (entry & ReplayFormat.CODE_MASK);
+
+            /* the clock never runs backwards, but a clamp keeps a bad
+             * caller from writing a huge unsigned delta
+             */
+            long delta = Math.max(0, tick - lastTick);
+            lastTick = Math.max(lastTick, tick);
+
+            if (buffer.remaining() < ReplayFormat.MAX_VARINT_BYTES) {
+                flush();
+            }
+            if (code == ReplayFormat.KEYFRAME_CODE) {
+                writeKeyframe(delta, lastTick);
+            } else {
+                ReplayFormat.putVarLong(buffer, delta << ReplayFormat.CODE_BITS | code);
+                eventCount++;
+            }
+            consumed.lazySet(sequence + 1);
+        }
+    }
+
+    private void writeKeyframe(long delta, long tick) throws IOException {
+        keyframeBuffer.clear();
+        keyframes.remove().writeTo(keyframeBuffer);
+        keyframeBuffer.flip();
+
+        if (buffer.remaining() < 2 * ReplayFormat.MAX_VARINT_BYTES + keyframeBuffer.remaining()) {
+            flush();
+        }
+        long offset = channel.position() + buffer.position();
+        ReplayFormat.putVarLong(buffer, delta << ReplayFormat.CODE_BITS | ReplayFormat.KEYFRAME_CODE);
+        ReplayFormat.putVarLong(buffer, keyframeBuffer.remaining());
+        buffer.put(keyframeBuffer);
+
+        if (3 * keyframeCount == index.length) {
+            index = Arrays.copyOf(index, 2 * index.length);
+        }
+        index[3 * keyframeCount] = tick;
+        index[3 * keyframeCount + 1] = offset;
+        index[3 * keyframeCount + 2] = eventCount;
+        keyframeCount++;
+    }
+
+    /* all three columns only grow, so deltas keep entries to a few bytes */
+    private void writeIndex() throws IOException {
+        flush();
+        long indexOffset = channel.position();
+        long previousTick = 0;
+        long previousOffset = 0;
+        long previousEvents = 0;
+        for (int i = 0; i < keyframeCount; i++) {
+            if (buffer.remaining() < 3 * ReplayFormat.MAX_VARINT_BYTES) {
+                flush();
+            }
+            ReplayFormat.putVarLong(buffer, index[3 * i] - previousTick);
+            ReplayFormat.putVarLong(buffer, index[3 * i + 1] - previousOffset);
+            ReplayFormat.putVarLong(buffer, index[3 * i + 2] - previousEvents);
+            previousTick = index[3 * i];
+            previousOffset = index[3 * i + 1];
+            previousEvents = index[3 * i + 2];
+        }
+        if (buffer.remaining() < ReplayFormat.TRAILER_BYTES) {
+            flush();
+        }
+        buffer.putLong(indexOffset);
+        buffer.putInt(keyframeCount);
+        buffer.putInt(ReplayFormat.INDEX_MAGIC);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
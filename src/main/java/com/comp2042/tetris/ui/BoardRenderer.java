@@ -0,0 +1,44 @@
+package com.comp2042.tetris.ui;
+
+import com.comp2042.tetris.models.ViewData;
+
+/**
+ * Draws one player's playfield: locked cells, the falling piece and its
+ * ghost.
+ *
+ * <p>The controllers only talk to this interface, so the original
+ * {@code Rectangle} grid and the {@code Canvas} version can be swapped
+ * with {@link RendererType} without touching any game logic.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+public interface BoardRenderer {
+
+    /**
+     * Draws the locked cells of the board.
+     *
+     * @param boardMatrix board colours in [row][col], hidden rows included
+     */
+    void drawBoard(int[][] boardMatrix);
+
+    /**
+     * Draws the falling piece and, if enabled, its ghost.
+     *
+     * @param piece current piece data from the board
+     */
+    void drawPiece(ViewData piece);
+
+    /**
+     * Draws new locked cells and a new piece together, painting once.
+     *
+     * <p>For boards copied from another thread: drawing them one at a
+     * time would paint the new cells with the last piece's dirty region,
+     * which the copy it came with no longer owns.</p>
+     *
+     * @param boardMatrix board colours in [row][col], hidden rows included
+     * @param piece current piece data, whose dirty region covers both
+     */
+    void draw(int[][] boardMatrix, ViewData piece);
+}
@@ -0,0 +1,154 @@
+package com.comp2042.tetris.ui;
+
+import com.comp2042.tetris.models.DirtyRegion;
+import com.comp2042.tetris.models.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+/**
+ * Draws a whole playfield onto one {@code Canvas}.
+ *
+ * <p>The grid renderer keeps a node per cell, and every refresh sends
+ * fill changes through CSS and layout for all of them. This renderer
+ * adds a single node to the scene no matter the board size. It paints
+ * the board, ghost and falling piece by copying tiles out of a
+ * {@link TileAtlas}.</p>
+ *
+ * <h2>Placement</h2>
+ * <p>The canvas goes into the same parent pane as the layout's board
+ * grid, at the same position and with the same cell spacing, so the
+ * FXML layouts do not change. The board grid itself is left empty but
+ * stays in the scene because the controllers use it for keyboard
+ * focus.</p>
+ *
+ * <h2>Repainting</h2>
+ * <p>Each cell is painted on its own: clear the tile, then draw the
+ * locked block, the falling piece or the ghost, whichever is on top.
+ * Only cells in the board's {@link DirtyRegion} are painted, so a
+ * normal move redraws the old and new piece and ghost and nothing
+ * else. The first draw, and any update without a region, paints every
+ * cell.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+final class CanvasBoardRenderer implements BoardRenderer {
+
+    private static final int HIDDEN_ROWS = 2;
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final TileAtlas atlas;
+    private final int rows;
+    private final int columns;
+    private final int brickSize;
+    private final double cellSize;
+    private final boolean showGhost;
+
+    private int[][] boardMatrix;
+    private int[][] pieceShape;
+    private int pieceX;
+    private int pieceY;
+    private int ghostY;
+    private DirtyRegion dirtyRegion;
+    private boolean painted;
+
+    CanvasBoardRenderer(GridPane boardPanel, int rows, int columns, int brickSize, double arc, boolean showGhost) {
+        this.rows = rows;
+        this.columns = columns;
+        this.brickSize = brickSize;
+        this.cellSize = brickSize + boardPanel.getHgap();
+        this.showGhost = showGhost;
+        this.atlas = TileAtlas.of(brickSize, arc);
+
+        /* last cell has no trailing gap, same as the grid pane */
+        canvas = new Canvas(columns * cellSize - boardPanel.getHgap(),
+                (rows - HIDDEN_ROWS) * cellSize - boardPanel.getVgap());
+        canvas.setLayoutX(boardPanel.getLayoutX());
+        canvas.setLayoutY(boardPanel.getLayoutY());
+        canvas.setMouseTransparent(true);
+        ((Pane) boardPanel.getParent()).getChildren().add(canvas);
+        graphics = canvas.getGraphicsContext2D();
+    }
+
+    @Override
+    public void drawBoard(int[][] boardMatrix) {
+        this.boardMatrix = boardMatrix;
+        repaint();
+    }
+
+    @Override
+    public void drawPiece(ViewData piece) {
+        takePiece(piece);
+        repaint();
+    }
+
+    @Override
+    public void draw(int[][] boardMatrix, ViewData piece) {
+        this.boardMatrix = boardMatrix;
+        takePiece(piece);
+        repaint();
+    }
+
+    private void takePiece(ViewData piece) {
+        pieceShape = piece.getBrickData();
+        pieceX = piece.getxPosition();
+        pieceY = piece.getyPosition();
+        ghostY = piece.getGhostYPosition();
+        dirtyRegion = piece.getDirtyRegion();
+    }
+
+    private void repaint() {
+        if (!painted || dirtyRegion == null) {
+            graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            for (int row = HIDDEN_ROWS; row < rows; row++) {
+                for (int col = 0; col < columns; col++) {
+                    paintCell(row, col);
+                }
+            }
+            painted = true;
+        } else {
+            dirtyRegion.forEach(this::paintCell);
+        }
+        if (dirtyRegion != null) {
+            dirtyRegion.clear();
+        }
+    }
+
+    private void paintCell(int row, int col) {
+        if (row < HIDDEN_ROWS || row >= rows || col >= columns) {
+            return;
+        }
+        double x = col * cellSize;
+        double y = (row - HIDDEN_ROWS) * cellSize;
+        graphics.clearRect(x, y, brickSize, brickSize);
+
+        int colour = boardMatrix != null ? boardMatrix[row][col] : 0;
+        if (colour != 0) {
+            atlas.draw(graphics, colour, false, x, y);
+            return;
+        }
+        int pieceColour = shapeColourAt(pieceY, row, col);
+        if (pieceColour != 0) {
+            atlas.draw(graphics, pieceColour, false, x, y);
+        } else if (showGhost && ghostY != pieceY) {
+            atlas.draw(graphics, shapeColourAt(ghostY, row, col), true, x, y);
+        }
+    }
+
+    /* colour of the piece shape placed with its top at shapeTop, 0 when outside it */
+    private int shapeColourAt(int shapeTop, int row, int col) {
+        if (pieceShape == null) {
+            return 0;
+        }
+        int shapeRow = row - shapeTop;
+        int shapeCol = col - pieceX;
+        if (shapeRow < 0 || shapeRow >= pieceShape.length || shapeCol < 0 || shapeCol >= pieceShape[shapeRow].length) {
+            return 0;
+        }
+        return pieceShape[shapeRow][shapeCol];
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.tetris.ui;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Piece preview drawn onto a single {@code Canvas} from the tile atlas.
+ *
+ * <p>The canvas sits in the layout's preview grid pane as its only
+ * child, sized to match the cells and gaps the grid version would
+ * take up.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+final class CanvasPreviewRenderer implements PreviewRenderer {
+
+    private final Canvas canvas;
+    private final TileAtlas atlas;
+    private final int cells;
+    private final double step;
+
+    CanvasPreviewRenderer(GridPane panel, int cells, int cellSize, double arc) {
+        this.cells = cells;
+        this.step = cellSize + panel.getHgap();
+        this.atlas = TileAtlas.of(cellSize, arc);
+        this.canvas = new Canvas(cells * step - panel.getHgap(), cells * step - panel.getHgap());
+        panel.add(canvas, 0, 0);
+    }
+
+    @Override
+    public void drawShape(int[][] shape) {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (shape == null) {
+            return;
+        }
+        for (int i = 0; i < cells && i < shape.length; i++) {
+            for (int j = 0; j < cells && j < shape[i].length; j++) {
+                atlas.draw(g, shape[i][j], false, j * step, i * step);
+            }
+        }
+    }
+}
@@ -13,9 +13,19 @@ public class ColorPalette {
         Color.YELLOW,       // 4 - O piece
         Color.RED,          // 5 - S piece
         Color.BEIGE,        // 6 - T piece
-        Color.BURLYWOOD     // 7 - Z piece
+        Color.BURLYWOOD,    // 7 - Z piece
+        Color.DIMGRAY       // 8 - garbage
     };
 
+    /**
+     * Number of colour codes the palette knows, including 0 for empty.
+     *
+     * @return palette size
+     */
+    public static int size() {
+        return COLORS.length;
+    }
+
     public static Paint getColor(int colorCode) {
         if (colorCode >= 0 && colorCode < COLORS.length) {
             return COLORS[colorCode];
@@ -0,0 +1,98 @@
+package com.comp2042.tetris.ui;
+
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.metrics.LatencyMonitor;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Drives a {@link GameClock} from the JavaFX pulse and renders once per
+ * frame.
+ *
+ * <p>Each pulse first runs whatever logic ticks are due, then calls the
+ * frame callback once. That way input and gravity can change the game
+ * state as often as they like, and the scene is still only redrawn once
+ * per frame.</p>
+ *
+ * <p>The loop also tells a {@link LatencyMonitor} when each pulse
+ * starts and when its frame has been drawn.</p>
+ *
+ * <p>A loop built without a clock only renders, for screens whose logic
+ * ticks on a thread of its own, such as
+ * {@link com.comp2042.tetris.multiplayer.MatchSimulation}.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-28
+ */
+final class FxGameLoop {
+
+    private final GameClock clock;
+    private final AnimationTimer timer;
+    private boolean ticking;
+
+    /**
+     * Creates a loop that only renders.
+     */
+    FxGameLoop(Runnable frame, LatencyMonitor latencyMonitor) {
+        this(null, frame, latencyMonitor);
+    }
+
+    FxGameLoop(GameClock clock, Runnable frame, LatencyMonitor latencyMonitor) {
+        this.clock = clock;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                /* the pulse timestamp is System.nanoTime based */
+                latencyMonitor.pulse(now);
+                if (ticking && clock != null) {
+                    clock.advance(now);
+                }
+                frame.run();
+                latencyMonitor.frameRendered(System.nanoTime());
+            }
+        };
+    }
+
+    /**
+     * Starts the pulse and the logic ticks.
+     */
+    void start() {
+        resync();
+        ticking = true;
+        timer.start();
+    }
+
+    /**
+     * Stops the logic ticks but keeps rendering, so the paused or
+     * finished board stays on screen and keeps up with menu actions.
+     */
+    void pause() {
+        ticking = false;
+    }
+
+    /**
+     * Resumes the logic ticks without replaying the paused time.
+     */
+    void resume() {
+        resync();
+        ticking = true;
+    }
+
+    /**
+     * Stops everything, for leaving the screen.
+     */
+    void stop() {
+        ticking = false;
+        timer.stop();
+    }
+
+    private void resync() {
+        if (clock != null) {
+            clock.resync();
+        }
+    }
+
+    GameClock getClock() {
+        return clock;
+    }
+}
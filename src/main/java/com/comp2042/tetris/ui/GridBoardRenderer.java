@@ -0,0 +1,185 @@
+package com.comp2042.tetris.ui;
+
+import com.comp2042.tetris.models.DirtyRegion;
+import com.comp2042.tetris.models.ViewData;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * The original renderer: one {@code Rectangle} node per board cell.
+ *
+ * <p>Locked cells live in the board grid pane. The falling piece is a
+ * small grid pane of its own that gets moved around on top of the
+ * board. The ghost is painted straight into empty board cells as faded
+ * rectangles.</p>
+ *
+ * <h2>Repainting</h2>
+ * <p>Only the cells in the board's {@link DirtyRegion} are touched, so a
+ * normal move refills the eight cells of the old and new ghost rather
+ * than every rectangle on the board. The very first draw, and any
+ * update that arrives without a region, repaints everything.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+final class GridBoardRenderer implements BoardRenderer {
+
+    /* the top two rows are spawn space and never shown */
+    private static final int HIDDEN_ROWS = 2;
+
+    private final GridPane piecePanel;
+    private final Rectangle[][] displayMatrix;
+    private final Paint[] ghostPaints;
+    private final int brickSize;
+    private final double arc;
+    private final boolean showGhost;
+    private final double cellSize;
+
+    private Rectangle[][] pieceRectangles;
+    private int[][] shownShape;
+
+    private int[][] boardMatrix;
+    private int[][] pieceShape;
+    private int pieceX;
+    private int pieceY;
+    private int ghostY;
+    private DirtyRegion dirtyRegion;
+    private boolean painted;
+
+    GridBoardRenderer(GridPane boardPanel, GridPane piecePanel, int rows, int columns,
+                      int brickSize, double arc, boolean showGhost) {
+        this.piecePanel = piecePanel;
+        this.brickSize = brickSize;
+        this.arc = arc;
+        this.showGhost = showGhost;
+        this.cellSize = brickSize + boardPanel.getHgap();
+
+        displayMatrix = new Rectangle[rows][columns];
+        for (int row = HIDDEN_ROWS; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                Rectangle rect = new Rectangle(brickSize, brickSize);
+                rect.setFill(Color.TRANSPARENT);
+                rect.setArcHeight(arc);
+                rect.setArcWidth(arc);
+                displayMatrix[row][col] = rect;
+                boardPanel.add(rect, col, row - HIDDEN_ROWS);
+            }
+        }
+
+        /* derived once rather than on every ghost cell */
+        ghostPaints = new Paint[ColorPalette.size() + 1];
+        for (int colour = 0; colour < ghostPaints.length; colour++) {
+            Paint base = ColorPalette.getColor(colour);
+            ghostPaints[colour] = base instanceof Color solid ? solid.deriveColor(0, 0.5, 0.5, 0.4) : base;
+        }
+    }
+
+    @Override
+    public void drawBoard(int[][] boardMatrix) {
+        this.boardMatrix = boardMatrix;
+        repaint();
+    }
+
+    @Override
+    public void drawPiece(ViewData piece) {
+        takePiece(piece);
+        repaint();
+    }
+
+    @Override
+    public void draw(int[][] boardMatrix, ViewData piece) {
+        this.boardMatrix = boardMatrix;
+        takePiece(piece);
+        repaint();
+    }
+
+    private void takePiece(ViewData piece) {
+        pieceShape = piece.getBrickData();
+        pieceX = piece.getxPosition();
+        pieceY = piece.getyPosition();
+        ghostY = piece.getGhostYPosition();
+        dirtyRegion = piece.getDirtyRegion();
+
+        /* piecePanel is a sibling of the board in the same Pane
+         * so it can be positioned directly with layoutX/layoutY
+         */
+        piecePanel.setLayoutX(pieceX * cellSize);
+        piecePanel.setLayoutY((pieceY - HIDDEN_ROWS) * cellSize);
+
+        if (!Arrays.deepEquals(pieceShape, shownShape)) {
+            fillPieceRectangles(pieceShape);
+        }
+    }
+
+    private void fillPieceRectangles(int[][] shape) {
+        if (pieceRectangles == null) {
+            piecePanel.getChildren().clear();
+            pieceRectangles = new Rectangle[shape.length][shape[0].length];
+            for (int i = 0; i < shape.length; i++) {
+                for (int j = 0; j < shape[i].length; j++) {
+                    Rectangle rect = new Rectangle(brickSize, brickSize);
+                    rect.setArcHeight(arc);
+                    rect.setArcWidth(arc);
+                    pieceRectangles[i][j] = rect;
+                    piecePanel.add(rect, j, i);
+                }
+            }
+        }
+        for (int i = 0; i < shape.length && i < pieceRectangles.length; i++) {
+            for (int j = 0; j < shape[i].length && j < pieceRectangles[i].length; j++) {
+                pieceRectangles[i][j].setFill(ColorPalette.getColor(shape[i][j]));
+            }
+        }
+        shownShape = shape;
+    }
+
+    private void repaint() {
+        if (!painted || dirtyRegion == null) {
+            for (int row = HIDDEN_ROWS; row < displayMatrix.length; row++) {
+                for (int col = 0; col < displayMatrix[row].length; col++) {
+                    paintCell(row, col);
+                }
+            }
+            painted = true;
+        } else {
+            dirtyRegion.forEach(this::paintCell);
+        }
+        if (dirtyRegion != null) {
+            dirtyRegion.clear();
+        }
+    }
+
+    private void paintCell(int row, int col) {
+        if (row < HIDDEN_ROWS || row >= displayMatrix.length || col >= displayMatrix[row].length) {
+            return;
+        }
+        int colour = boardMatrix != null ? boardMatrix[row][col] : 0;
+
+        /* the ghost only shows through empty cells */
+        Paint fill;
+        if (colour == 0 && ghostCovers(row, col)) {
+            int pieceColour = pieceShape[row - ghostY][col - pieceX];
+            fill = ghostPaints[Math.min(pieceColour, ghostPaints.length - 1)];
+        } else {
+            fill = ColorPalette.getColor(colour);
+        }
+        displayMatrix[row][col].setFill(fill);
+    }
+
+    private boolean ghostCovers(int row, int col) {
+        /* no ghost when the piece is already resting on its landing row */
+        if (!showGhost || pieceShape == null || ghostY == pieceY) {
+            return false;
+        }
+        int shapeRow = row - ghostY;
+        int shapeCol = col - pieceX;
+        return shapeRow >= 0 && shapeRow < pieceShape.length
+            && shapeCol >= 0 && shapeCol < pieceShape[shapeRow].length
+            && pieceShape[shapeRow][shapeCol] != 0;
+    }
+}
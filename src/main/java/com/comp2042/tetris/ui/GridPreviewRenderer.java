@@ -0,0 +1,41 @@
+package com.comp2042.tetris.ui;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Piece preview built from one {@code Rectangle} per cell.
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+final class GridPreviewRenderer implements PreviewRenderer {
+
+    private final Rectangle[][] rectangles;
+
+    GridPreviewRenderer(GridPane panel, int cells, int cellSize, double arc) {
+        rectangles = new Rectangle[cells][cells];
+        for (int i = 0; i < cells; i++) {
+            for (int j = 0; j < cells; j++) {
+                Rectangle rect = new Rectangle(cellSize, cellSize);
+                rect.setFill(Color.TRANSPARENT);
+                rect.setArcHeight(arc);
+                rect.setArcWidth(arc);
+                rectangles[i][j] = rect;
+                panel.add(rect, j, i);
+            }
+        }
+    }
+
+    @Override
+    public void drawShape(int[][] shape) {
+        for (int i = 0; i < rectangles.length; i++) {
+            for (int j = 0; j < rectangles[i].length; j++) {
+                int colour = shape != null && i < shape.length && j < shape[i].length ? shape[i][j] : 0;
+                rectangles[i][j].setFill(ColorPalette.getColor(colour));
+            }
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.comp2042.tetris.ui;
 
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.core.Gravity;
+import com.comp2042.tetris.core.Score;
 import com.comp2042.tetris.events.*;
+import com.comp2042.tetris.metrics.LatencyMonitor;
 import com.comp2042.tetris.models.*;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -16,10 +17,6 @@ import javafx.scene.control.Label;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 
 import java.net.URL;
 import java.util.ResourceBundle;
@@ -32,6 +29,10 @@ public class GuiController implements Initializable {
 
     private static final int BRICK_SIZE = 20;
     private static final int PREVIEW_BRICK_SIZE = 15;
+    private static final double BRICK_ARC = 9;
+    private static final double PREVIEW_ARC = 5;
+    /* twice a second at 60 Hz; text layout every frame would show up in the frame times */
+    private static final int OVERLAY_REFRESH_FRAMES = 30;
 
     @FXML private GridPane gamePanel;
     @FXML private Group groupNotification;
@@ -44,24 +45,42 @@ public class GuiController implements Initializable {
     @FXML private Label linesLabel;
     @FXML private Label comboLabel;
 
+    /* latency percentiles, toggled with F3 */
+    @FXML private Label latencyLabel;
+
     /* Preview panels */
     @FXML private GridPane nextPiecePanel;
     @FXML private GridPane holdPiecePanel;
 
-    private Rectangle[][] displayMatrix;
     private InputEventListener eventListener;
-    private Rectangle[][] rectangles;
-
-    /* Current view data for ghost piece rendering */
-    private ViewData currentViewData;
-
-    /* Next piece preview rectangles */
-    private Rectangle[][] nextPieceRectangles;
 
-    /* Hold piece preview rectangles */
-    private Rectangle[][] holdPieceRectangles;
-
-    private Timeline timeLine;
+    /* grid or canvas, picked before initGameView builds the renderers */
+    private RendererType rendererType = RendererType.fromSystemProperty();
+    private BoardRenderer boardRenderer;
+    private PreviewRenderer nextPieceRenderer;
+    private PreviewRenderer holdPieceRenderer;
+
+    /* one fixed-rate clock for gravity, rendering once per frame
+     * the first drop speed matches the old 400ms timeline until
+     * GameController applies the difficulty
+     */
+    private final GameClock gameClock = new GameClock();
+    private final Gravity gravity = new Gravity(Gravity.fromDropInterval(400));
+    private FxGameLoop gameLoop;
+    private final LatencyMonitor latencyMonitor = new LatencyMonitor();
+    private int framesSinceOverlay;
+
+    /* held keys repeat on the logic tick, not at the OS repeat rate */
+    private final AutoShift autoShift = new AutoShift(AutoShiftConfig.fromSystemProperties(), this::applyMove);
+
+    /* run once when the player leaves the game screen */
+    private Runnable onLeaveGame;
+
+    /* latest state waiting for the next frame */
+    private int[][] pendingBoard;
+    private ViewData pendingView;
+    /* the piece after the last move, to tell whether a shift moved it */
+    private ViewData currentView;
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
 
@@ -75,38 +94,37 @@ public class GuiController implements Initializable {
         gamePanel.setFocusTraversable(true);
         gamePanel.requestFocus();
         gamePanel.setOnKeyPressed(this::handleKeyPress);
+        gamePanel.setOnKeyReleased(this::handleKeyRelease);
+        /* releases that happen elsewhere never arrive, so forget held keys */
+        gamePanel.focusedProperty().addListener((observable, was, focused) -> {
+            if (!focused) {
+                autoShift.releaseAll();
+            }
+        });
         gameOverPanel.setVisible(false);
-
-        /* Initialize preview panels */
-        initializePreviewPanel(nextPiecePanel, 4, 4);
-        initializePreviewPanel(holdPiecePanel, 4, 4);
     }
 
-    private void initializePreviewPanel(GridPane panel, int rows, int cols) {
-        if (panel == null) return;
-
-        Rectangle[][] rects = new Rectangle[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Rectangle rect = new Rectangle(PREVIEW_BRICK_SIZE, PREVIEW_BRICK_SIZE);
-                rect.setFill(Color.TRANSPARENT);
-                rect.setArcHeight(5);
-                rect.setArcWidth(5);
-                rects[i][j] = rect;
-                panel.add(rect, j, i);
-            }
-        }
-
-        if (panel == nextPiecePanel) {
-            nextPieceRectangles = rects;
-        } else if (panel == holdPiecePanel) {
-            holdPieceRectangles = rects;
-        }
+    /**
+     * Chooses how the board and previews are drawn.
+     *
+     * <p>Must be called before {@link #initGameView}; defaults to the
+     * {@value RendererType#PROPERTY} system property.</p>
+     *
+     * @param rendererType renderer to build
+     */
+    public void setRendererType(RendererType rendererType) {
+        this.rendererType = rendererType;
     }
 
     private void handleKeyPress(KeyEvent keyEvent) {
+        /* stamped first, so the latency includes all our own handling */
+        long inputNanos = System.nanoTime();
         if (!isPause.getValue() && !isGameOver.getValue()) {
-            handleGameplayKeys(keyEvent);
+            handleGameplayKeys(keyEvent, inputNanos);
+        }
+        if (keyEvent.getCode() == KeyCode.F3 && latencyLabel != null) {
+            latencyLabel.setVisible(!latencyLabel.isVisible());
+            framesSinceOverlay = OVERLAY_REFRESH_FRAMES;
         }
         if (keyEvent.getCode() == KeyCode.N) {
             newGame(null);
@@ -160,6 +178,7 @@ public class GuiController implements Initializable {
     }
 
     private void returnToMainMenu() {
+        stopGameLoop();
         try {
             java.net.URL menuLocation = getClass().getClassLoader().getResource("mainMenu.fxml");
             javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(menuLocation);
@@ -221,7 +240,7 @@ public class GuiController implements Initializable {
             stage.setMinHeight(500);
 
             root.requestFocus();
-            new com.comp2042.tetris.controllers.GameController(c, difficulty);
+            new com.comp2042.tetris.controllers.GameController(c, difficulty).start();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -245,43 +264,81 @@ public class GuiController implements Initializable {
     }
 
     private void startMultiplayerMode() {
+        stopGameLoop();
         startMultiplayerFromMenu((javafx.stage.Stage) gamePanel.getScene().getWindow());
     }
 
-    private void handleGameplayKeys(KeyEvent keyEvent) {
-        KeyCode code = keyEvent.getCode();
-
-        if (code == KeyCode.LEFT || code == KeyCode.A) {
-            refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-            refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.UP || code == KeyCode.W) {
-            refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.DOWN || code == KeyCode.S) {
-            moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-            keyEvent.consume();
-        } else if (code == KeyCode.C || code == KeyCode.SHIFT) {
-            refreshBrick(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.SPACE) {
-            /* Hard drop */
-            hardDrop();
+    private void handleKeyRelease(KeyEvent keyEvent) {
+        EventType type = gameplayEventFor(keyEvent.getCode());
+        if (type != null) {
+            autoShift.release(type);
             keyEvent.consume();
         }
     }
 
-    private void hardDrop() {
-        /* Keep moving down until piece locks */
-        while (!isPause.getValue() && !isGameOver.getValue()) {
-            DownData downData = eventListener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
-            if (downData.getClearRow() != null) {
-                showScoreNotification(downData);
-                refreshBrick(downData.getViewData());
-                break;
+    private void handleGameplayKeys(KeyEvent keyEvent, long inputNanos) {
+        EventType type = gameplayEventFor(keyEvent.getCode());
+        if (type == null) {
+            return;
+        }
+        /* OS repeats of a held key are swallowed; AutoShift repeats it itself */
+        if (autoShift.press(type, inputNanos)) {
+            latencyMonitor.inputApplied(inputNanos);
+        }
+        keyEvent.consume();
+    }
+
+    /**
+     * Maps a key to the move it makes during play.
+     *
+     * @param code the key
+     * @return the move, or null if the key is not a gameplay key
+     */
+    static EventType gameplayEventFor(KeyCode code) {
+        return switch (code) {
+            case LEFT, A -> EventType.LEFT;
+            case RIGHT, D -> EventType.RIGHT;
+            case UP, W -> EventType.ROTATE;
+            case DOWN, S -> EventType.DOWN;
+            case C, SHIFT -> EventType.HOLD;
+            case SPACE -> EventType.HARD_DROP;
+            default -> null;
+        };
+    }
+
+    /* the AutoShift sink: applies one move and says whether the piece moved */
+    private boolean applyMove(EventType type, long inputNanos) {
+        if (isPause.getValue() || isGameOver.getValue()) {
+            return false;
+        }
+        MoveEvent event = new MoveEvent(type, EventSource.USER);
+        switch (type) {
+            case LEFT, RIGHT -> {
+                int before = currentView.getxPosition();
+                ViewData view = type == EventType.LEFT
+                    ? eventListener.onLeftEvent(event) : eventListener.onRightEvent(event);
+                refreshBrick(view);
+                return view.getxPosition() != before;
             }
+            case DOWN -> {
+                return moveDown(event);
+            }
+            case ROTATE -> refreshBrick(eventListener.onRotateEvent(event));
+            case HOLD -> refreshBrick(eventListener.onHoldEvent(event));
+            case HARD_DROP -> hardDrop();
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void hardDrop() {
+        /* the board drops, locks and clears in one call */
+        if (!isPause.getValue() && !isGameOver.getValue()) {
+            DownData downData = eventListener.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            gravity.reset();
+            showScoreNotification(downData);
             refreshBrick(downData.getViewData());
         }
     }
@@ -289,195 +346,118 @@ public class GuiController implements Initializable {
     private void togglePause() {
         isPause.setValue(!isPause.getValue());
         if (isPause.getValue()) {
-            timeLine.pause();
+            autoShift.releaseAll();
+            gameLoop.pause();
         } else {
-            timeLine.play();
+            gameLoop.resume();
             gamePanel.requestFocus();
         }
     }
 
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
+        boardRenderer = rendererType.createBoardRenderer(gamePanel, brickPanel,
+                boardMatrix.length, boardMatrix[0].length, BRICK_SIZE, BRICK_ARC, true);
+        if (nextPiecePanel != null) {
+            nextPieceRenderer = rendererType.createPreviewRenderer(nextPiecePanel, 4, PREVIEW_BRICK_SIZE, PREVIEW_ARC);
         }
-
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+        if (holdPiecePanel != null) {
+            holdPieceRenderer = rendererType.createPreviewRenderer(holdPiecePanel, 4, PREVIEW_BRICK_SIZE, PREVIEW_ARC);
         }
 
-        // initializeGhostPanel(brick); // Ghost panel disabled
-        updateBrickPanelPosition(brick);
+        boardRenderer.drawBoard(boardMatrix);
+        boardRenderer.drawPiece(brick);
+        currentView = brick;
 
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        /* held keys before gravity, so a slide lands on the tick it was due */
+        gameClock.addListener(latencyMonitor.timeTicks(tick -> {
+            autoShift.tick();
+            applyGravity();
+        }));
+        gameLoop = new FxGameLoop(gameClock, this::renderFrame, latencyMonitor);
+        gameLoop.start();
+        latencyMonitor.startLoggingIfEnabled(System.out::println);
 
         /* Update next piece display */
         updateNextPieceDisplay(brick.getNextBrickData());
     }
 
-    /* Ghost panel removed - now rendering ghost piece directly on board in refreshGameBackground */
-
-    private Paint getFillColor(int colorCode) {
-        return ColorPalette.getColor(colorCode);
-    }
-
-    private void updateBrickPanelPosition(ViewData brick) {
-        /* brickPanel is now a sibling of gamePanel in the same Pane
-         * so we can position it directly using layoutX/layoutY
-         */
-        double cellSize = BRICK_SIZE + 1; /* brick size plus gap */
-
-        /* piece position on the grid (subtract 2 to align with visible rows) */
-        double x = brick.getxPosition() * cellSize;
-        double y = (brick.getyPosition() - 2) * cellSize;
-
-        brickPanel.setLayoutX(x);
-        brickPanel.setLayoutY(y);
-    }
-
     private void refreshBrick(ViewData brick) {
+        currentView = brick;
         if (!isPause.getValue()) {
-            /* Clear previous ghost before updating */
-            clearGhostPiece();
-
-            currentViewData = brick; /* Store for ghost piece rendering */
-            updateBrickPanelPosition(brick);
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
-
-            /* Render ghost piece at landing position */
-            renderGhostPiece();
-
-            /* Update next piece display */
-            updateNextPieceDisplay(brick.getNextBrickData());
+            pendingView = brick;
         }
     }
 
-    private void clearGhostPiece() {
-        /* Clear any ghost cells by resetting to transparent
-         * This ensures ghost doesn't persist when piece moves
-         */
-        if (displayMatrix == null) return;
-
-        for (int i = 2; i < displayMatrix.length; i++) {
-            for (int j = 0; j < displayMatrix[i].length; j++) {
-                Rectangle rect = displayMatrix[i][j];
-                if (rect != null && rect.getFill() != null) {
-                    /* Check if this is a ghost cell (semi-transparent) */
-                    Paint fill = rect.getFill();
-                    if (fill instanceof Color c && c.getOpacity() < 0.5 && c.getOpacity() > 0) {
-                        rect.setFill(Color.TRANSPARENT);
-                    }
-                }
-            }
+    /* called once per frame after the logic ticks
+     * however many moves happened, the board is drawn once
+     */
+    private void renderFrame() {
+        if (pendingBoard != null) {
+            boardRenderer.drawBoard(pendingBoard);
+            pendingBoard = null;
+        }
+        if (pendingView != null) {
+            boardRenderer.drawPiece(pendingView);
+            updateNextPieceDisplay(pendingView.getNextBrickData());
+            pendingView = null;
+        }
+        if (latencyLabel != null && latencyLabel.isVisible() && ++framesSinceOverlay >= OVERLAY_REFRESH_FRAMES) {
+            latencyLabel.setText(latencyMonitor.summary("\n"));
+            framesSinceOverlay = 0;
         }
     }
 
-    private void updateNextPieceDisplay(int[][] nextBrickData) {
-        if (nextPieceRectangles == null || nextBrickData == null) return;
-
-        for (int i = 0; i < nextPieceRectangles.length && i < nextBrickData.length; i++) {
-            for (int j = 0; j < nextPieceRectangles[i].length && j < nextBrickData[i].length; j++) {
-                Paint color = nextBrickData[i][j] != 0 ? getFillColor(nextBrickData[i][j]) : Color.TRANSPARENT;
-                nextPieceRectangles[i][j].setFill(color);
+    /* one logic tick of gravity, possibly several rows at high levels
+     * stops at a lock so the new piece does not inherit the leftover rows
+     */
+    private void applyGravity() {
+        for (int rows = gravity.tick(); rows > 0 && !isPause.getValue() && !isGameOver.getValue(); rows--) {
+            DownData downData = eventListener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            showScoreNotification(downData);
+            refreshBrick(downData.getViewData());
+            if (downData.getClearRow() != null) {
+                gravity.reset();
+                break;
             }
         }
     }
 
-    public void updateHoldPieceDisplay(int[][] holdBrickData) {
-        if (holdPieceRectangles == null) return;
-
-        for (int i = 0; i < holdPieceRectangles.length; i++) {
-            for (int j = 0; j < holdPieceRectangles[i].length; j++) {
-                Paint color = Color.TRANSPARENT;
-                if (holdBrickData != null && i < holdBrickData.length && j < holdBrickData[i].length) {
-                    color = holdBrickData[i][j] != 0 ? getFillColor(holdBrickData[i][j]) : Color.TRANSPARENT;
-                }
-                holdPieceRectangles[i][j].setFill(color);
-            }
+    private void stopGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        latencyMonitor.stopLogging();
+        if (onLeaveGame != null) {
+            onLeaveGame.run();
+            onLeaveGame = null;
         }
     }
 
-    public void refreshGameBackground(int[][] board) {
-        /* First render the board state */
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
+    private void updateNextPieceDisplay(int[][] nextBrickData) {
+        if (nextPieceRenderer != null && nextBrickData != null) {
+            nextPieceRenderer.drawShape(nextBrickData);
         }
-
-        /* Render ghost piece on top of board */
-        renderGhostPiece();
     }
 
-    private void renderGhostPiece() {
-        if (currentViewData == null) return;
-
-        int ghostY = currentViewData.getGhostYPosition();
-        int pieceX = currentViewData.getxPosition();
-        int[][] pieceData = currentViewData.getBrickData();
-
-        /* Only render ghost if it's different from current position */
-        if (ghostY == currentViewData.getyPosition()) return;
-
-        /* Render ghost piece as semi-transparent on the board */
-        for (int row = 0; row < pieceData.length; row++) {
-            for (int col = 0; col < pieceData[row].length; col++) {
-                if (pieceData[row][col] != 0) {
-                    int boardRow = ghostY + row;
-                    int boardCol = pieceX + col;
-
-                    /* Make sure we're in visible area and displayMatrix bounds */
-                    if (boardRow >= 2 && boardRow < displayMatrix.length &&
-                        boardCol >= 0 && boardCol < displayMatrix[boardRow].length) {
-
-                        /* Only render if cell is empty (no existing block) */
-                        Rectangle rect = displayMatrix[boardRow][boardCol];
-                        if (rect.getFill() == Color.TRANSPARENT ||
-                            rect.getFill().equals(ColorPalette.getColor(0))) {
-                            Paint baseColor = getFillColor(pieceData[row][col]);
-                            if (baseColor instanceof Color colorValue) {
-                                rect.setFill(colorValue.deriveColor(0, 0.5, 0.5, 0.4));
-                            }
-                        }
-                    }
-                }
-            }
+    public void updateHoldPieceDisplay(int[][] holdBrickData) {
+        if (holdPieceRenderer != null) {
+            holdPieceRenderer.drawShape(holdBrickData);
         }
     }
 
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+    public void refreshGameBackground(int[][] board) {
+        pendingBoard = board;
     }
 
-    private void moveDown(MoveEvent event) {
-        if (!isPause.getValue()) {
-            DownData downData = eventListener.onDownEvent(event);
-            showScoreNotification(downData);
-            refreshBrick(downData.getViewData());
+    /* true if the piece moved down, false if it locked instead */
+    private boolean moveDown(MoveEvent event) {
+        DownData downData = eventListener.onDownEvent(event);
+        if (downData.getClearRow() != null) {
+            gravity.reset();
         }
-        gamePanel.requestFocus();
+        showScoreNotification(downData);
+        refreshBrick(downData.getViewData());
+        return downData.getClearRow() == null;
     }
 
     private void showScoreNotification(DownData downData) {
@@ -489,12 +469,25 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Gets how many logic ticks the game clock has run.
+     *
+     * @return ticks since this view started
+     */
+    public long getTickCount() {
+        return gameClock.getTickCount();
+    }
+
+    public void setOnLeaveGame(Runnable onLeaveGame) {
+        this.onLeaveGame = onLeaveGame;
+    }
+
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
-    public void bindScore(IntegerProperty integerProperty) {
-        integerProperty.addListener((obs, oldVal, newVal) -> {
+    public void bindScore(Score score) {
+        ModelProperties.scoreProperty(score).addListener((obs, oldVal, newVal) -> {
             currentScore = newVal.intValue();
             if (scoreLabel != null) {
                 scoreLabel.setText(String.valueOf(currentScore));
@@ -530,21 +523,22 @@ public class GuiController implements Initializable {
     }
 
     public void gameOver() {
-        timeLine.stop();
+        autoShift.releaseAll();
+        gameLoop.pause();
         gameOverPanel.setVisible(true);
         isGameOver.setValue(true);
     }
 
     @FXML
     public void newGame(ActionEvent actionEvent) {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
         gameOverPanel.setVisible(false);
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        if (timeLine != null) {
-            timeLine.play();
+        gravity.reset();
+        latencyMonitor.reset();
+        autoShift.releaseAll();
+        if (gameLoop != null) {
+            gameLoop.resume();
         }
         isPause.setValue(false);
         isGameOver.setValue(false);
@@ -564,17 +558,15 @@ public class GuiController implements Initializable {
         togglePause();
     }
 
-    public void updateDropSpeed(int newSpeed) {
-        if (timeLine != null) {
-            timeLine.stop();
-            timeLine = new Timeline(new KeyFrame(
-                Duration.millis(newSpeed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            timeLine.setCycleCount(Timeline.INDEFINITE);
-            if (!isPause.getValue()) {
-                timeLine.play();
-            }
-        }
+    /**
+     * Sets how fast pieces fall.
+     *
+     * <p>Only the gravity changes; the clock keeps running, so a level up
+     * never resets or stutters the current drop.</p>
+     *
+     * @param cellsPerTick gravity in cells per {@link GameClock} tick
+     */
+    public void updateGravity(double cellsPerTick) {
+        gravity.setCellsPerTick(cellsPerTick);
     }
 }
@@ -0,0 +1,75 @@
+package com.comp2042.tetris.ui;
+
+import com.comp2042.tetris.events.GameEventListener;
+import com.comp2042.tetris.events.GameEventType;
+
+import javafx.application.Platform;
+
+/**
+ * Keeps the level, lines and combo labels in step with the game, from a
+ * {@link com.comp2042.tetris.events.GameEventBus} thread.
+ *
+ * <p>Only the latest values matter on screen, so each batch of events
+ * is folded into them and handed to the FX thread as one
+ * {@link Platform#runLater} at the end of the batch, however many
+ * pieces locked in between.</p>
+ *
+ * <p>This only draws. Gravity changes with the level on the game tick,
+ * in the controller, so a speed-up never waits on this thread.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-05
+ */
+public class HudEventListener implements GameEventListener {
+
+    private final GuiController guiController;
+
+    /* owned by the bus thread */
+    private int level = -1;
+    private int lines = -1;
+    private int combo = Integer.MIN_VALUE;
+    private boolean changed;
+
+    public HudEventListener(GuiController guiController) {
+        this.guiController = guiController;
+    }
+
+    @Override
+    public void onEvent(GameEventType type, int player, int value, int detail, long tick) {
+        switch (type) {
+            case LINES_CLEARED -> lines = detail;
+            case LEVEL_CHANGED -> {
+                level = value;
+                lines = detail;
+            }
+            case COMBO -> combo = value;
+            default -> {
+                return;
+            }
+        }
+        changed = true;
+    }
+
+    @Override
+    public void onBatchEnd() {
+        if (!changed) {
+            return;
+        }
+        changed = false;
+        int newLevel = level;
+        int newLines = lines;
+        int newCombo = combo;
+        Platform.runLater(() -> {
+            if (newLevel > 0) {
+                guiController.updateLevel(newLevel);
+            }
+            if (newLines >= 0) {
+                guiController.updateLines(newLines);
+            }
+            if (newCombo != Integer.MIN_VALUE) {
+                guiController.updateCombo(newCombo);
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.tetris.ui;
+
+import com.comp2042.tetris.core.Score;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+/**
+ * Adapts the plain-int game model to JavaFX properties.
+ *
+ * <p>The model classes only offer listeners so they can run without
+ * JavaFX. This is the one place that turns them into observable
+ * properties, and only the UI controllers call it.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-25
+ */
+final class ModelProperties {
+
+    private ModelProperties() {
+    }
+
+    /**
+     * Creates a property that mirrors a score.
+     *
+     * @param score score to follow
+     * @return read-only property kept in sync with the score
+     */
+    static ReadOnlyIntegerProperty scoreProperty(Score score) {
+        ReadOnlyIntegerWrapper property = new ReadOnlyIntegerWrapper(score.getValue());
+        score.addListener((oldValue, newValue) -> property.set(newValue));
+        return property.getReadOnlyProperty();
+    }
+}
@@ -1,17 +1,19 @@
 package com.comp2042.tetris.ui;
 
 import com.comp2042.tetris.controllers.GameController;
-import com.comp2042.tetris.core.TetrisBoard;
-import com.comp2042.tetris.events.*;
-import com.comp2042.tetris.models.*;
-import com.comp2042.tetris.multiplayer.AttackCalculator;
-import com.comp2042.tetris.multiplayer.PlayerHealth;
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.events.AutoShiftConfig;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.metrics.LatencyMonitor;
+import com.comp2042.tetris.models.ViewData;
+import com.comp2042.tetris.multiplayer.MatchFrame;
+import com.comp2042.tetris.multiplayer.MatchSimulation;
+import com.comp2042.tetris.multiplayer.MultiplayerGameManager;
+import com.comp2042.tetris.patterns.MediumDifficulty;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -24,23 +26,36 @@ import javafx.scene.control.ProgressBar;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.net.URL;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 /**
  * Controller for multiplayer Tetris with two side-by-side boards.
+ *
+ * <p>The match itself runs on a {@link MatchSimulation} thread with the
+ * same rules as {@link com.comp2042.tetris.multiplayer.MultiplayerController}:
+ * scoring, attacks, garbage and knockouts all come from the
+ * {@link MultiplayerGameManager}. This controller only forwards keys to
+ * that thread and draws the newest {@link MatchFrame} once per pulse, so
+ * a slow frame here never delays gravity or input.</p>
  */
 public class MultiplayerGuiController implements Initializable {
 
     private static final int BRICK_SIZE = 20;
     private static final int PREVIEW_SIZE = 12;
+    private static final double BRICK_ARC = 5;
+    private static final int OVERLAY_REFRESH_FRAMES = 30;
+    /* Player 1: WASD + C for hold, Player 2: Arrows + / for hold */
+    private static final Map<KeyCode, EventType> PLAYER1_KEYS = Map.of(
+        KeyCode.A, EventType.LEFT, KeyCode.D, EventType.RIGHT, KeyCode.W, EventType.ROTATE,
+        KeyCode.S, EventType.DOWN, KeyCode.C, EventType.HOLD, KeyCode.SPACE, EventType.HARD_DROP);
+    private static final Map<KeyCode, EventType> PLAYER2_KEYS = Map.of(
+        KeyCode.LEFT, EventType.LEFT, KeyCode.RIGHT, EventType.RIGHT, KeyCode.UP, EventType.ROTATE,
+        KeyCode.DOWN, EventType.DOWN, KeyCode.SLASH, EventType.HOLD, KeyCode.ENTER, EventType.HARD_DROP);
 
     /* Player 1 components */
     @FXML private GridPane gamePanel1;
@@ -64,323 +79,152 @@ public class MultiplayerGuiController implements Initializable {
     @FXML private Group groupNotification;
     @FXML private Label winnerLabel;
     @FXML private Label attackLabel;
-
-    /* Game state */
-    private Rectangle[][] displayMatrix1;
-    private Rectangle[][] displayMatrix2;
-    private Rectangle[][] rectangles1;
-    private Rectangle[][] rectangles2;
-    private Rectangle[][] nextPieceRects1;
-    private Rectangle[][] nextPieceRects2;
-
-    private TetrisBoard board1;
-    private TetrisBoard board2;
-    private Timeline timeline1;
-    private Timeline timeline2;
-
-    private PlayerHealth player1Health;
-    private PlayerHealth player2Health;
-
-    private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
-    private int score1 = 0;
-    private int score2 = 0;
-    private int lines1 = 0;
-    private int lines2 = 0;
+    @FXML private Label latencyLabel;
+
+    /* View state, indexed by player number like the match */
+    private final RendererType rendererType = RendererType.fromSystemProperty();
+    private final BoardRenderer[] boardRenderers = new BoardRenderer[3];
+    private final PreviewRenderer[] nextPieceRenderers = new PreviewRenderer[3];
+    private final Label[] scoreLabels = new Label[3];
+    private final Label[] linesLabels = new Label[3];
+    private final ProgressBar[] hpBars = new ProgressBar[3];
+    private final Label[] hpTexts = new Label[3];
+    /* what the labels show, so they only change when the frame does */
+    private final int[] shownScore = new int[3];
+    private final int[] shownLines = new int[3];
+    private final int[] shownHp = new int[3];
+
+    /* the simulation thread owns the boards; this side only renders */
+    private MatchSimulation simulation;
+    private FxGameLoop gameLoop;
+    /* both players' inputs share one monitor, they share the frames too */
+    private final LatencyMonitor latencyMonitor = new LatencyMonitor();
+    private int framesSinceOverlay;
+
+    private boolean isGameOver;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        /* Initialize HP - 25 HP for faster games */
-        player1Health = new PlayerHealth(25);
-        player2Health = new PlayerHealth(25);
-
-        /* Setup boards */
-        setupBoard(gamePanel1, 1);
-        setupBoard(gamePanel2, 2);
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.MATRIX);
+        simulation = new MatchSimulation(match, new MediumDifficulty(), AutoShiftConfig.fromSystemProperties(),
+            latencyMonitor);
+        int[][] cells = match.getBoard(1).getBoardMatrix();
 
-        /* Setup next piece previews */
-        setupPreview(nextPiecePanel1, 1);
-        setupPreview(nextPiecePanel2, 2);
-
-        /* Initialize game boards */
-        board1 = new TetrisBoard(24, 10);
-        board2 = new TetrisBoard(24, 10);
+        setUpPlayer(1, gamePanel1, brickPanel1, nextPiecePanel1, cells, scoreLabel1, linesLabel1,
+            player1HpBar, player1HpText);
+        setUpPlayer(2, gamePanel2, brickPanel2, nextPiecePanel2, cells, scoreLabel2, linesLabel2,
+            player2HpBar, player2HpText);
 
         /* Setup keyboard input */
         Platform.runLater(() -> {
             gamePanel1.getScene().setOnKeyPressed(this::handleKeyPress);
+            gamePanel1.getScene().setOnKeyReleased(this::handleKeyRelease);
+            /* releases made in another window never arrive */
+            gamePanel1.getScene().getWindow().focusedProperty().addListener((observable, was, focused) -> {
+                if (!focused) {
+                    simulation.releaseAll();
+                }
+            });
             gamePanel1.getScene().getRoot().requestFocus();
         });
 
-        /* Start games */
-        startGame(1);
-        startGame(2);
-
-        updateHpDisplay();
+        gameLoop = new FxGameLoop(this::renderFrame, latencyMonitor);
+        gameLoop.start();
+        simulation.start();
+        latencyMonitor.startLoggingIfEnabled(System.out::println);
     }
 
-    private void setupBoard(GridPane panel, int playerNum) {
-        Rectangle[][] matrix = new Rectangle[24][10];
-
-        for (int row = 2; row < 24; row++) {
-            for (int col = 0; col < 10; col++) {
-                Rectangle rect = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rect.setFill(Color.TRANSPARENT);
-                rect.setArcHeight(5);
-                rect.setArcWidth(5);
-                matrix[row][col] = rect;
-                panel.add(rect, col, row - 2);
-            }
-        }
-
-        if (playerNum == 1) {
-            displayMatrix1 = matrix;
-        } else {
-            displayMatrix2 = matrix;
-        }
-    }
-
-    private void setupPreview(GridPane panel, int playerNum) {
-        Rectangle[][] rects = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle rect = new Rectangle(PREVIEW_SIZE, PREVIEW_SIZE);
-                rect.setFill(Color.TRANSPARENT);
-                rects[i][j] = rect;
-                panel.add(rect, j, i);
-            }
-        }
-
-        if (playerNum == 1) {
-            nextPieceRects1 = rects;
-        } else {
-            nextPieceRects2 = rects;
-        }
-    }
-
-    private void startGame(int playerNum) {
-        TetrisBoard board = playerNum == 1 ? board1 : board2;
-        GridPane brickPanel = playerNum == 1 ? brickPanel1 : brickPanel2;
-
-        /* Create new brick */
-        board.createNewBrick();
-        ViewData viewData = board.getViewData();
-
-        /* Setup brick panel */
-        Rectangle[][] rects = new Rectangle[4][4];
-        brickPanel.getChildren().clear();
-        for (int i = 0; i < viewData.getBrickData().length; i++) {
-            for (int j = 0; j < viewData.getBrickData()[i].length; j++) {
-                Rectangle rect = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rect.setFill(ColorPalette.getColor(viewData.getBrickData()[i][j]));
-                rect.setArcHeight(5);
-                rect.setArcWidth(5);
-                rects[i][j] = rect;
-                brickPanel.add(rect, j, i);
-            }
-        }
-
-        if (playerNum == 1) {
-            rectangles1 = rects;
-        } else {
-            rectangles2 = rects;
-        }
-
-        updateBrickPosition(playerNum, viewData);
-        updateNextPiece(playerNum, viewData.getNextBrickData());
-
-        /* Start timeline */
-        Timeline timeline = new Timeline(new KeyFrame(
-            Duration.millis(500),
-            e -> moveDown(playerNum)
-        ));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
-
-        if (playerNum == 1) {
-            timeline1 = timeline;
-        } else {
-            timeline2 = timeline;
-        }
+    private void setUpPlayer(int player, GridPane gamePanel, GridPane brickPanel, GridPane nextPiecePanel,
+                             int[][] cells, Label scoreLabel, Label linesLabel, ProgressBar hpBar, Label hpText) {
+        boardRenderers[player] = rendererType.createBoardRenderer(gamePanel, brickPanel,
+            cells.length, cells[0].length, BRICK_SIZE, BRICK_ARC, false);
+        nextPieceRenderers[player] = rendererType.createPreviewRenderer(nextPiecePanel, 4, PREVIEW_SIZE, 0);
+        scoreLabels[player] = scoreLabel;
+        linesLabels[player] = linesLabel;
+        hpBars[player] = hpBar;
+        hpTexts[player] = hpText;
+        shownScore[player] = -1;
+        shownLines[player] = -1;
+        shownHp[player] = -1;
     }
 
     private void handleKeyPress(KeyEvent event) {
-        if (isGameOver.get()) return;
-
+        long inputNanos = System.nanoTime();
         KeyCode code = event.getCode();
-
-        /* Player 1: WASD + C for hold */
-        if (code == KeyCode.A) moveLeft(1);
-        else if (code == KeyCode.D) moveRight(1);
-        else if (code == KeyCode.W) rotate(1);
-        else if (code == KeyCode.S) moveDown(1);
-        else if (code == KeyCode.C) hold(1);
-        else if (code == KeyCode.SPACE) hardDrop(1);
-
-        /* Player 2: Arrows + / for hold */
-        else if (code == KeyCode.LEFT) moveLeft(2);
-        else if (code == KeyCode.RIGHT) moveRight(2);
-        else if (code == KeyCode.UP) rotate(2);
-        else if (code == KeyCode.DOWN) moveDown(2);
-        else if (code == KeyCode.SLASH) hold(2);
-        else if (code == KeyCode.ENTER) hardDrop(2);
-
-        event.consume();
-    }
-
-    private void moveLeft(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-        if (board.moveBrickLeft()) {
-            refreshBrick(player, board.getViewData());
-        }
-    }
-
-    private void moveRight(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-        if (board.moveBrickRight()) {
-            refreshBrick(player, board.getViewData());
-        }
-    }
-
-    private void rotate(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-        if (board.rotateLeftBrick()) {
-            refreshBrick(player, board.getViewData());
+        if (code == KeyCode.F3) {
+            latencyLabel.setVisible(!latencyLabel.isVisible());
+            latencyLabel.setManaged(latencyLabel.isVisible());
+            framesSinceOverlay = OVERLAY_REFRESH_FRAMES;
+            return;
         }
-    }
-
-    private void hold(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-        if (board.holdCurrentPiece()) {
-            refreshBrick(player, board.getViewData());
+        if (isGameOver) return;
+
+        /* OS repeats go through too; the simulation's auto shift ignores them */
+        EventType type1 = PLAYER1_KEYS.get(code);
+        EventType type2 = PLAYER2_KEYS.get(code);
+        if (type1 != null) {
+            simulation.press(1, type1, inputNanos);
+        } else if (type2 != null) {
+            simulation.press(2, type2, inputNanos);
         }
+        event.consume();
     }
 
-    private void hardDrop(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-        while (board.moveBrickDown()) {
-            /* Keep moving down */
-        }
-        handlePieceLocked(player);
-    }
-
-    private void moveDown(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-
-        if (!board.moveBrickDown()) {
-            handlePieceLocked(player);
-        } else {
-            refreshBrick(player, board.getViewData());
+    private void handleKeyRelease(KeyEvent event) {
+        EventType type1 = PLAYER1_KEYS.get(event.getCode());
+        EventType type2 = PLAYER2_KEYS.get(event.getCode());
+        if (type1 != null) {
+            simulation.release(1, type1);
+        } else if (type2 != null) {
+            simulation.release(2, type2);
         }
+        event.consume();
     }
 
-    private void handlePieceLocked(int player) {
-        TetrisBoard board = player == 1 ? board1 : board2;
-        PlayerHealth opponentHealth = player == 1 ? player2Health : player1Health;
-
-        /* Merge brick to board */
-        board.mergeBrickToBackground();
-
-        /* Check for line clears */
-        ClearRow clearResult = board.clearRows();
-        int linesCleared = clearResult.getLinesRemoved();
-
-        /* Update score and lines */
-        int scoreGain = linesCleared * 100 + clearResult.getScoreBonus();
-        if (player == 1) {
-            score1 += scoreGain;
-            lines1 += linesCleared;
-            scoreLabel1.setText(String.valueOf(score1));
-            linesLabel1.setText(String.valueOf(lines1));
-        } else {
-            score2 += scoreGain;
-            lines2 += linesCleared;
-            scoreLabel2.setText(String.valueOf(score2));
-            linesLabel2.setText(String.valueOf(lines2));
-        }
-
-        /* Calculate and apply attack damage */
-        if (linesCleared > 0) {
-            int damage = AttackCalculator.calculateDamage(linesCleared, 0);
-            opponentHealth.takeDamage(damage);
-
-            /* Show attack notification */
-            String attacker = player == 1 ? "P1" : "P2";
-            showAttack(attacker + " → " + damage + " DMG!");
-
-            updateHpDisplay();
-
-            /* Check for win */
-            if (opponentHealth.isDefeated()) {
-                gameOver(player);
-                return;
+    /* called once per pulse; draws only when the simulation has moved on */
+    private void renderFrame() {
+        MatchFrame frame = simulation.pollFrame();
+        if (frame != null) {
+            renderPlayer(frame, 1);
+            renderPlayer(frame, 2);
+            if (!isGameOver && frame.getWinner() != 0) {
+                gameOver(frame.getWinner());
             }
         }
-
-        /* Refresh board display */
-        refreshBoard(player, board.getBoardMatrix());
-
-        /* Create new brick */
-        if (board.createNewBrick()) {
-            /* Game over - can't spawn new piece */
-            gameOver(player == 1 ? 2 : 1);
-            return;
+        if (latencyLabel.isVisible() && ++framesSinceOverlay >= OVERLAY_REFRESH_FRAMES) {
+            latencyLabel.setText(latencyMonitor.summary());
+            framesSinceOverlay = 0;
         }
-
-        refreshBrick(player, board.getViewData());
-        updateNextPiece(player, board.getViewData().getNextBrickData());
     }
 
-    private void refreshBrick(int player, ViewData viewData) {
-        Rectangle[][] rects = player == 1 ? rectangles1 : rectangles2;
-
-        updateBrickPosition(player, viewData);
-
-        for (int i = 0; i < viewData.getBrickData().length && i < rects.length; i++) {
-            for (int j = 0; j < viewData.getBrickData()[i].length && j < rects[i].length; j++) {
-                rects[i][j].setFill(ColorPalette.getColor(viewData.getBrickData()[i][j]));
-            }
+    private void renderPlayer(MatchFrame frame, int player) {
+        /* the frame is this thread's until the next poll, so the renderer
+         * is handed its cells and dirty region together, afresh every time
+         */
+        ViewData view = frame.getView(player);
+        boardRenderers[player].draw(frame.getCells(player), view);
+        nextPieceRenderers[player].drawShape(view.getNextBrickData());
+
+        if (frame.getScore(player) != shownScore[player]) {
+            shownScore[player] = frame.getScore(player);
+            scoreLabels[player].setText(String.valueOf(shownScore[player]));
         }
-    }
-
-    private void updateBrickPosition(int player, ViewData viewData) {
-        GridPane brickPanel = player == 1 ? brickPanel1 : brickPanel2;
-        double cellSize = BRICK_SIZE + 1;
-        double x = viewData.getxPosition() * cellSize;
-        double y = (viewData.getyPosition() - 2) * cellSize;
-        brickPanel.setLayoutX(x);
-        brickPanel.setLayoutY(y);
-    }
-
-    private void refreshBoard(int player, int[][] boardMatrix) {
-        Rectangle[][] matrix = player == 1 ? displayMatrix1 : displayMatrix2;
-
-        for (int row = 2; row < boardMatrix.length && row < matrix.length; row++) {
-            for (int col = 0; col < boardMatrix[row].length && col < matrix[row].length; col++) {
-                matrix[row][col].setFill(ColorPalette.getColor(boardMatrix[row][col]));
-            }
+        if (frame.getLines(player) != shownLines[player]) {
+            shownLines[player] = frame.getLines(player);
+            linesLabels[player].setText(String.valueOf(shownLines[player]));
         }
-    }
-
-    private void updateNextPiece(int player, int[][] nextData) {
-        Rectangle[][] rects = player == 1 ? nextPieceRects1 : nextPieceRects2;
-        if (rects == null || nextData == null) return;
-
-        for (int i = 0; i < rects.length && i < nextData.length; i++) {
-            for (int j = 0; j < rects[i].length && j < nextData[i].length; j++) {
-                Paint color = nextData[i][j] != 0 ? ColorPalette.getColor(nextData[i][j]) : Color.TRANSPARENT;
-                rects[i][j].setFill(color);
+        int hp = frame.getHp(player);
+        if (hp != shownHp[player]) {
+            if (shownHp[player] > hp && frame.getLastAttacker(player) != 0) {
+                /* Show attack notification */
+                showAttack("P" + frame.getLastAttacker(player) + " → " + (shownHp[player] - hp) + " DMG!");
             }
+            shownHp[player] = hp;
+            hpBars[player].setProgress(hp / (double) frame.getMaxHp(player));
+            hpTexts[player].setText(String.valueOf(hp));
         }
     }
 
-    private void updateHpDisplay() {
-        player1HpBar.setProgress(player1Health.getHpPercentage());
-        player1HpText.setText(String.valueOf(player1Health.getCurrentHp()));
-
-        player2HpBar.setProgress(player2Health.getHpPercentage());
-        player2HpText.setText(String.valueOf(player2Health.getCurrentHp()));
-    }
-
     private void showAttack(String message) {
         attackLabel.setText(message);
 
@@ -392,11 +236,10 @@ public class MultiplayerGuiController implements Initializable {
         clearTimeline.play();
     }
 
+    /* the board stays on screen; the simulation idles until we leave */
     private void gameOver(int winner) {
-        isGameOver.set(true);
-
-        if (timeline1 != null) timeline1.stop();
-        if (timeline2 != null) timeline2.stop();
+        isGameOver = true;
+        simulation.releaseAll();
 
         winnerLabel.setText("PLAYER " + winner + " WINS!");
         winnerLabel.setVisible(true);
@@ -406,8 +249,9 @@ public class MultiplayerGuiController implements Initializable {
     @FXML
     private void backToMenu(ActionEvent event) {
         try {
-            if (timeline1 != null) timeline1.stop();
-            if (timeline2 != null) timeline2.stop();
+            if (gameLoop != null) gameLoop.stop();
+            if (simulation != null) simulation.stop();
+            latencyMonitor.stopLogging();
 
             URL menuLocation = getClass().getClassLoader().getResource("mainMenu.fxml");
             FXMLLoader loader = new FXMLLoader(menuLocation);
@@ -440,7 +284,7 @@ public class MultiplayerGuiController implements Initializable {
             Scene scene = new Scene(root, 700, 600);
             stage.setScene(scene);
             root.requestFocus();
-            new GameController(c);
+            new GameController(c).start();
         } catch (Exception e) {
             e.printStackTrace();
         }
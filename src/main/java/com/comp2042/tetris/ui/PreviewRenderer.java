@@ -0,0 +1,18 @@
+package com.comp2042.tetris.ui;
+
+/**
+ * Draws a small piece preview such as the next or hold box.
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+public interface PreviewRenderer {
+
+    /**
+     * Draws a piece shape, replacing whatever was shown before.
+     *
+     * @param shape piece colours in [row][col], or null to show nothing
+     */
+    void drawShape(int[][] shape);
+}
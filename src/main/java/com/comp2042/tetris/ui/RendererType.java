@@ -0,0 +1,87 @@
+package com.comp2042.tetris.ui;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Chooses how boards and previews are drawn.
+ *
+ * <p>{@link #GRID} is the original scene graph of one {@code Rectangle}
+ * per cell. {@link #CANVAS} draws everything onto a single
+ * {@code Canvas} per board from a pre-rendered tile atlas, so the
+ * number of nodes JavaFX has to style and lay out stays the same no
+ * matter how big the board is. That is what you want on the two-board
+ * multiplayer screen and on slow machines.</p>
+ *
+ * <p>The default comes from the {@code tetris.renderer} system property
+ * ({@code -Dtetris.renderer=canvas}), which is the easiest switch on
+ * machines where nobody touches the menus.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+public enum RendererType {
+
+    GRID,
+    CANVAS;
+
+    /* system property read by fromSystemProperty */
+    public static final String PROPERTY = "tetris.renderer";
+
+    /**
+     * Reads the renderer from the {@value #PROPERTY} system property.
+     *
+     * @return the named renderer, or {@link #GRID} when unset or unknown
+     */
+    public static RendererType fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value != null) {
+            for (RendererType type : values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+        }
+        return GRID;
+    }
+
+    /**
+     * Creates a board renderer inside the board panels from the layout.
+     *
+     * <p>The grid renderer fills {@code boardPanel} and {@code piecePanel}
+     * with rectangles. The canvas renderer leaves them empty and adds its
+     * canvas to their parent pane instead.</p>
+     *
+     * @param boardPanel grid pane that holds the board cells
+     * @param piecePanel grid pane that holds the falling piece
+     * @param rows board rows including the two hidden ones
+     * @param columns board columns
+     * @param brickSize cell size in pixels
+     * @param arc corner arc of each cell
+     * @param showGhost whether to draw the landing ghost
+     * @return a renderer for this type
+     */
+    public BoardRenderer createBoardRenderer(GridPane boardPanel, GridPane piecePanel, int rows, int columns,
+                                             int brickSize, double arc, boolean showGhost) {
+        if (this == CANVAS) {
+            return new CanvasBoardRenderer(boardPanel, rows, columns, brickSize, arc, showGhost);
+        }
+        return new GridBoardRenderer(boardPanel, piecePanel, rows, columns, brickSize, arc, showGhost);
+    }
+
+    /**
+     * Creates a square preview renderer inside a grid pane.
+     *
+     * @param panel grid pane from the layout
+     * @param cells cells per side
+     * @param cellSize cell size in pixels
+     * @param arc corner arc of each cell
+     * @return a renderer for this type
+     */
+    public PreviewRenderer createPreviewRenderer(GridPane panel, int cells, int cellSize, double arc) {
+        if (this == CANVAS) {
+            return new CanvasPreviewRenderer(panel, cells, cellSize, arc);
+        }
+        return new GridPreviewRenderer(panel, cells, cellSize, arc);
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042.tetris.ui;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Every cell tile pre-rendered once into a single image.
+ *
+ * <p>Filling a rounded rectangle means building a path and rasterising
+ * it. Doing that for hundreds of cells per frame is exactly the cost
+ * the canvas renderer is trying to avoid, so each colour is drawn once
+ * here and the renderers just copy tiles out with {@code drawImage}.</p>
+ *
+ * <h2>Layout</h2>
+ * <p>One column per palette colour plus a last column for unknown codes
+ * (white, matching {@link ColorPalette}). The top row holds the solid
+ * tiles and the bottom row the faded ghost tiles.</p>
+ *
+ * <p>Atlases are cached per size and arc. Only touched from the JavaFX
+ * thread, like everything else in the UI.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-11-26
+ */
+final class TileAtlas {
+
+    private static final Map<String, TileAtlas> CACHE = new HashMap<>();
+
+    private final Image image;
+    private final int tileSize;
+    private final int fallbackColumn;
+
+    private TileAtlas(int tileSize, double arc) {
+        this.tileSize = tileSize;
+        this.fallbackColumn = ColorPalette.size();
+
+        Canvas canvas = new Canvas((fallbackColumn + 1) * tileSize, 2 * tileSize);
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        for (int colour = 1; colour <= fallbackColumn; colour++) {
+            Paint paint = ColorPalette.getColor(colour);
+            g.setFill(paint);
+            g.fillRoundRect(colour * tileSize, 0, tileSize, tileSize, arc, arc);
+
+            /* same fade the grid renderer applies to its ghost cells */
+            if (paint instanceof Color solid) {
+                g.setFill(solid.deriveColor(0, 0.5, 0.5, 0.4));
+                g.fillRoundRect(colour * tileSize, tileSize, tileSize, tileSize, arc, arc);
+            }
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        this.image = canvas.snapshot(parameters, null);
+    }
+
+    /**
+     * Gets the atlas for a tile size and corner arc, building it on first use.
+     *
+     * @param tileSize tile size in pixels
+     * @param arc corner arc of each tile
+     * @return the shared atlas
+     */
+    static TileAtlas of(int tileSize, double arc) {
+        return CACHE.computeIfAbsent(tileSize + "/" + arc, key -> new TileAtlas(tileSize, arc));
+    }
+
+    /**
+     * Copies one tile onto a canvas.
+     *
+     * @param g target graphics context
+     * @param colour colour code, 0 draws nothing
+     * @param ghost true for the faded ghost tile
+     * @param x target x in pixels
+     * @param y target y in pixels
+     */
+    void draw(GraphicsContext g, int colour, boolean ghost, double x, double y) {
+        if (colour == 0) {
+            return;
+        }
+        int column = colour > 0 && colour < fallbackColumn ? colour : fallbackColumn;
+        g.drawImage(image, column * tileSize, ghost ? tileSize : 0, tileSize, tileSize,
+                x, y, tileSize, tileSize);
+    }
+}
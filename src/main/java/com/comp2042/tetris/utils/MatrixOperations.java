@@ -4,6 +4,7 @@ package com.comp2042.tetris.utils;
 import com.comp2042.tetris.models.ClearRow;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -102,10 +103,140 @@ public class MatrixOperations {
                 break;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
+        int scoreBonus = ClearRow.scoreBonusFor(clearedRows.size());
         return new ClearRow(clearedRows.size(), tmp, scoreBonus);
     }
 
+    /**
+     * Merges a brick into the matrix without copying the matrix.
+     *
+     * <p>Same placement rules as {@link #merge}, but the cells are written
+     * straight into {@code matrix}. Cells outside the matrix are ignored.</p>
+     */
+    public static void mergeInPlace(int[][] matrix, int[][] brick, int x, int y) {
+        for (int pieceRow = 0; pieceRow < brick.length; pieceRow++) {
+            int boardRow = y + pieceRow;
+            if (boardRow < 0 || boardRow >= matrix.length) {
+                continue;
+            }
+            for (int pieceCol = 0; pieceCol < brick[pieceRow].length; pieceCol++) {
+                int boardCol = x + pieceCol;
+                if (brick[pieceRow][pieceCol] != 0 && boardCol >= 0 && boardCol < matrix[boardRow].length) {
+                    matrix[boardRow][boardCol] = brick[pieceRow][pieceCol];
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes full rows between {@code fromRow} and {@code toRow} in place.
+     *
+     * <p>Only the given range is checked for full rows, which is all a
+     * freshly locked piece can complete. Rows above are shifted down by
+     * moving row references and the cleared row arrays are zeroed and
+     * reused at the top, so nothing is allocated.</p>
+     *
+     * @param matrix board matrix structured as [row][col], modified in place
+     * @param fromRow first row to check (clamped to the matrix)
+     * @param toRow last row to check, inclusive (clamped to the matrix)
+     * @param clearedRows receives the indices of the cleared rows in ascending
+     *                    order, as they were before compaction; must be large
+     *                    enough for every row in the range
+     * @return number of rows cleared
+     */
+    public static int clearFullRows(int[][] matrix, int fromRow, int toRow, int[] clearedRows) {
+        int first = Math.max(0, fromRow);
+        int last = Math.min(matrix.length - 1, toRow);
+        int cleared = 0;
+
+        for (int row = first; row <= last; row++) {
+            if (isRowFull(matrix[row])) {
+                clearedRows[cleared++] = row;
+            }
+        }
+
+        if (cleared > 0) {
+            compactRows(matrix, clearedRows, cleared);
+        }
+        return cleared;
+    }
+
+    /**
+     * Drops the listed rows and shifts everything above them down in place.
+     *
+     * <p>Rows are swapped rather than copied, so the arrays of the dropped
+     * rows end up at the top of the matrix where they are zeroed.</p>
+     *
+     * @param matrix board matrix structured as [row][col], modified in place
+     * @param clearedRows row indices to drop, in ascending order
+     * @param count number of valid entries in {@code clearedRows}
+     */
+    public static void compactRows(int[][] matrix, int[] clearedRows, int count) {
+        int writeRow = clearedRows[count - 1];
+        int nextCleared = count - 1;
+
+        for (int readRow = writeRow; readRow >= 0; readRow--) {
+            if (nextCleared >= 0 && readRow == clearedRows[nextCleared]) {
+                nextCleared--;
+                continue;
+            }
+            if (readRow != writeRow) {
+                int[] swap = matrix[writeRow];
+                matrix[writeRow] = matrix[readRow];
+                matrix[readRow] = swap;
+            }
+            writeRow--;
+        }
+
+        for (int row = writeRow; row >= 0; row--) {
+            Arrays.fill(matrix[row], 0);
+        }
+    }
+
+    /**
+     * Pushes every row up and fills the freed rows at the bottom.
+     *
+     * <p>Like {@link #compactRows}, the row arrays are moved rather than
+     * their cells: the top {@code count} arrays, which fall off the
+     * board, are reused as the new bottom rows. Only those rows are
+     * written, so the cell work is {@code count} rows whatever the stack
+     * looks like. The arrays are rotated in place by three reversals,
+     * so nothing is allocated.</p>
+     *
+     * @param matrix board matrix structured as [row][col], modified in place
+     * @param count number of rows to insert, at most the matrix height
+     * @param holeColumn the one column left empty in each new row
+     * @param colour colour id of the new rows' cells
+     */
+    public static void insertRowsAtBottom(int[][] matrix, int count, int holeColumn, int colour) {
+        int rows = matrix.length;
+        /* rotating left by count moves the top count rows to the bottom */
+        reverseRows(matrix, 0, count - 1);
+        reverseRows(matrix, count, rows - 1);
+        reverseRows(matrix, 0, rows - 1);
+        for (int row = rows - count; row < rows; row++) {
+            Arrays.fill(matrix[row], colour);
+            matrix[row][holeColumn] = 0;
+        }
+    }
+
+    private static void reverseRows(int[][] matrix, int from, int to) {
+        for (; from < to; from++, to--) {
+            int[] swap = matrix[from];
+            matrix[from] = matrix[to];
+            matrix[to] = swap;
+        }
+    }
+
+    private static boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static List<int[][]> deepCopyList(List<int[][]> list){
         return list.stream().map(MatrixOperations::copy).collect(Collectors.toList());
     }
@@ -0,0 +1,50 @@
+package com.comp2042.tetris.utils;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A seeded random generator whose whole state is one long.
+ *
+ * <p>{@link java.util.SplittableRandom} uses the same mixing, but its
+ * state is hidden, so a match that draws from it cannot be wound back.
+ * Here {@link #getState()} and {@link #setState(long)} save and put back
+ * the position in the sequence, which is all a rollback needs to make
+ * the same draws again.</p>
+ *
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-12
+ */
+public final class SplitMix64 implements RandomGenerator {
+
+    /* the odd constant closest to 2^64 over the golden ratio */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = state += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the position in the sequence.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Moves back (or on) to a position saved with {@link #getState()}.
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.tetris.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands the newest of a stream of values from one thread to another
+ * without either of them ever waiting.
+ *
+ * <p>There are three buffers. The writer owns one and fills it, the
+ * reader owns one and reads it, and the third sits in the middle. When
+ * the writer is done it swaps its buffer with the middle one, and when
+ * the reader wants something newer it swaps its own with the middle
+ * one. A swap is a single atomic exchange, so a reader that stalls
+ * (a slow frame, a GC pause) never holds the writer up: the writer
+ * just keeps filling and swapping, and the reader picks up the latest
+ * buffer when it comes back. Values the reader was too slow for are
+ * skipped, never queued.</p>
+ *
+ * <h2>Ownership</h2>
+ * <p>A buffer belongs to exactly one side at a time, so the writer may
+ * fill it in place and the reader sees it as a finished, unchanging
+ * value until it swaps again. Nothing is allocated after construction.
+ * There must be one writer thread and one reader thread.</p>
+ *
+ * @param <T> the buffer type, usually a mutable snapshot
+ * @author Shahjalal
+ * @version 1.0
+ * @since 2025-12-10
+ */
+public final class TripleBuffer<T> {
+
+    /* the middle slot holds an index, with this bit set while it is newer than what the reader has */
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(2);
+
+    /* owned by the writer and the reader thread respectively */
+    private int back = 0;
+    private int front = 1;
+
+    /**
+     * Creates the three buffers.
+     *
+     * @param factory called three times, one buffer each
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the buffer the writer fills next. Writer thread only.
+     */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Makes the filled back buffer the newest value and hands the writer
+     * another to fill. Writer thread only.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the newest published value, if there is one the reader has
+     * not seen. Reader thread only.
+     *
+     * @return true if {@link #front()} now holds a newer value
+     */
+    public boolean update() {
+        if ((middle.get() & FRESH) == 0) {
+            return false;
+        }
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Gets the value the reader last took. Reader thread only; before
+     * the first {@link #update()} it is a buffer nothing has filled.
+     */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        return (T) buffers[front];
+    }
+}
@@ -0,0 +1,120 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.Tetromino;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the breadth-first placement search.
+ */
+class PlacementSearchTest {
+
+    private PlacementSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new PlacementSearch();
+    }
+
+    @Test
+    @DisplayName("Empty board gives one placement per rotation and column")
+    void testEmptyBoardCounts() {
+        SearchBoard board = SearchBoard.empty(24, 10);
+
+        assertEquals(9, enumerateFromSpawn(board, TetrominoFactory.createTetromino(TetrominoType.O_PIECE)).size());
+        assertEquals(34, enumerateFromSpawn(board, TetrominoFactory.createTetromino(TetrominoType.T_PIECE)).size());
+        assertEquals(17, enumerateFromSpawn(board, TetrominoFactory.createTetromino(TetrominoType.I_PIECE)).size());
+    }
+
+    @Test
+    @DisplayName("Every placement rests on something")
+    void testPlacementsAreResting() {
+        SearchBoard board = SearchBoard.empty(24, 10);
+        for (Placement placement : enumerateFromSpawn(board, TetrominoFactory.createTetromino(TetrominoType.T_PIECE))) {
+            assertTrue(board.fits(placement.getRotation(), placement.getX(), placement.getY()));
+            assertFalse(board.fits(placement.getRotation(), placement.getX(), placement.getY() + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Piece can slide under an overhang")
+    void testTuckUnderOverhang() {
+        int[][] matrix = new int[24][10];
+        for (int col = 0; col < 6; col++) {
+            matrix[22][col] = 1;
+        }
+        SearchBoard board = SearchBoard.of(matrix);
+
+        boolean tucked = enumerateFromSpawn(board, TetrominoFactory.createTetromino(TetrominoType.I_PIECE)).stream()
+            .anyMatch(p -> p.applyTo(board).getRowMask(23) == 0b1111);
+        assertTrue(tucked, "I piece should reach the leftmost cells under the roof");
+    }
+
+    @Test
+    @DisplayName("Sealed cavity is never reported")
+    void testSealedCavityUnreachable() {
+        int[][] matrix = new int[24][10];
+        for (int col = 0; col < 10; col++) {
+            matrix[21][col] = col == 0 ? 0 : 1;
+            matrix[22][col] = 1;
+        }
+        SearchBoard board = SearchBoard.of(matrix);
+
+        for (Placement placement : enumerateFromSpawn(board, TetrominoFactory.createTetromino(TetrominoType.I_PIECE))) {
+            assertEquals(0, placement.applyTo(board).getRowMask(23),
+                "Nothing should get below the sealed row: " + placement);
+        }
+    }
+
+    @Test
+    @DisplayName("Path leads from the start to the placement")
+    void testPathReachesPlacement() {
+        SearchBoard board = SearchBoard.empty(24, 10);
+        Tetromino piece = TetrominoFactory.createTetromino(TetrominoType.T_PIECE);
+
+        for (Placement target : enumerateFromSpawn(board, piece)) {
+            List<BotMove> path = search.findPath(board, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y, target);
+
+            int rotation = 0;
+            int x = TetrisBoard.SPAWN_X;
+            int y = TetrisBoard.SPAWN_Y;
+            for (BotMove move : path) {
+                switch (move) {
+                    case LEFT -> x--;
+                    case RIGHT -> x++;
+                    case DOWN -> y++;
+                    case ROTATE -> rotation = (rotation + 1) % piece.getRotationTable().size();
+                    default -> fail("Unexpected move " + move);
+                }
+                assertTrue(board.fits(piece.getRotationTable().get(rotation), x, y));
+            }
+            assertEquals(target.getRotation().getIndex(), rotation);
+            assertEquals(target.getX(), x);
+            assertEquals(target.getY(), y);
+        }
+    }
+
+    @Test
+    @DisplayName("Blocked start position has no placements")
+    void testBlockedStart() {
+        int[][] matrix = new int[24][10];
+        for (int row = 0; row < 24; row++) {
+            for (int col = 0; col < 10; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        assertTrue(enumerateFromSpawn(SearchBoard.of(matrix), TetrominoFactory.createTetromino(TetrominoType.O_PIECE)).isEmpty());
+    }
+
+    private List<Placement> enumerateFromSpawn(SearchBoard board, Tetromino piece) {
+        return search.enumerate(board, piece, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y);
+    }
+}
@@ -0,0 +1,172 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.RotationTable;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bot's immutable search board.
+ */
+class SearchBoardTest {
+
+    @Test
+    @DisplayName("Statistics match a cell-by-cell recount")
+    void testStatisticsMatchRecount() {
+        Random random = new Random(5);
+        int[][] matrix = new int[24][10];
+        for (int row = 12; row < 24; row++) {
+            for (int col = 0; col < 10; col++) {
+                matrix[row][col] = random.nextInt(3) == 0 ? 0 : 1;
+            }
+        }
+        SearchBoard board = SearchBoard.of(matrix);
+
+        int holes = 0;
+        int aggregate = 0;
+        int bumpiness = 0;
+        int tallest = 0;
+        int filled = 0;
+        int previous = -1;
+        for (int col = 0; col < 10; col++) {
+            int height = 0;
+            for (int row = 0; row < 24; row++) {
+                if (matrix[row][col] != 0) {
+                    filled++;
+                    if (height == 0) {
+                        height = 24 - row;
+                    }
+                } else if (height != 0) {
+                    holes++;
+                }
+            }
+            assertEquals(height, board.getColumnHeight(col));
+            aggregate += height;
+            tallest = Math.max(tallest, height);
+            if (previous >= 0) {
+                bumpiness += Math.abs(height - previous);
+            }
+            previous = height;
+        }
+
+        assertEquals(holes, board.getHoleCount());
+        assertEquals(aggregate, board.getAggregateHeight());
+        assertEquals(bumpiness, board.getBumpiness());
+        assertEquals(tallest, board.getMaxHeight());
+        assertEquals(filled, board.getFilledCellCount());
+    }
+
+    @Test
+    @DisplayName("Placing a piece clears completed rows and leaves the original alone")
+    void testPlaceClearsLines() {
+        int[][] matrix = new int[24][10];
+        for (int col = 0; col < 9; col++) {
+            matrix[23][col] = 1;
+            matrix[22][col] = 1;
+        }
+        matrix[21][0] = 1;
+        SearchBoard board = SearchBoard.of(matrix);
+
+        /* vertical I in the last column */
+        RotationState vertical = verticalI();
+        int x = 9 - vertical.getMinCol();
+        int y = 23 - vertical.getMaxRow();
+        assertTrue(board.fits(vertical, x, y));
+
+        SearchBoard after = board.place(vertical, x, y);
+        assertEquals(2, after.getLinesCleared());
+        assertEquals(0b1000000001, after.getRowMask(23));
+        assertEquals(0b1000000000, after.getRowMask(22));
+        assertEquals(0b0111111111, board.getRowMask(23));
+    }
+
+    @Test
+    @DisplayName("Incremental hash matches a rehash through placements and clears")
+    void testHashTracksPlacements() {
+        assertEquals(0L, SearchBoard.empty(24, 10).getZobristHash());
+        Random random = new Random(12);
+        SearchBoard board = SearchBoard.of(nearlyFullRows(random));
+        int cleared = 0;
+        for (int piece = 0; piece < 200; piece++) {
+            RotationTable rotations = TetrominoFactory.createTetromino(TetrominoType.values()[random.nextInt(7)])
+                .getRotationTable();
+            RotationState rotation = rotations.get(random.nextInt(rotations.size()));
+            int x = random.nextInt(10) - 1;
+            if (!board.fits(rotation, x, 0)) {
+                board = SearchBoard.of(nearlyFullRows(random));
+                continue;
+            }
+            int y = 0;
+            while (board.fits(rotation, x, y + 1)) {
+                y++;
+            }
+            board = board.place(rotation, x, y);
+            cleared += board.getLinesCleared();
+
+            int[][] matrix = new int[24][10];
+            for (int row = 0; row < 24; row++) {
+                for (int col = 0; col < 10; col++) {
+                    matrix[row][col] = (board.getRowMask(row) >>> col) & 1;
+                }
+            }
+            assertEquals(SearchBoard.of(matrix).getZobristHash(), board.getZobristHash(), "piece " + piece);
+        }
+        assertTrue(cleared > 0, "no line was cleared, so the rehash path went untested");
+    }
+
+    @Test
+    @DisplayName("The same cells hash the same whichever order they were filled in")
+    void testHashIgnoresOrder() {
+        RotationState o = TetrominoFactory.createTetromino(TetrominoType.O_PIECE).getRotationTable().get(0);
+        SearchBoard empty = SearchBoard.empty(24, 10);
+        SearchBoard leftFirst = empty.place(o, 0, 20).place(o, 4, 20);
+        SearchBoard rightFirst = empty.place(o, 4, 20).place(o, 0, 20);
+        assertEquals(leftFirst.getZobristHash(), rightFirst.getZobristHash());
+        assertNotEquals(leftFirst.getZobristHash(), empty.place(o, 0, 20).getZobristHash());
+    }
+
+    @Test
+    @DisplayName("Pieces outside the walls do not fit")
+    void testWalls() {
+        SearchBoard board = SearchBoard.empty(24, 10);
+        RotationState vertical = verticalI();
+
+        assertTrue(board.fits(vertical, -vertical.getMinCol(), 0));
+        assertFalse(board.fits(vertical, -vertical.getMinCol() - 1, 0));
+        assertFalse(board.fits(vertical, 10 - vertical.getMinCol(), 0));
+        assertFalse(board.fits(vertical, 0, 24 - vertical.getMaxRow()));
+    }
+
+    @Test
+    @DisplayName("Boards wider than 31 columns are rejected")
+    void testTooWide() {
+        assertThrows(IllegalArgumentException.class, () -> SearchBoard.empty(20, 32));
+    }
+
+    private static RotationState verticalI() {
+        for (int i = 0; i < TetrominoFactory.createTetromino(TetrominoType.I_PIECE).getRotationTable().size(); i++) {
+            RotationState state = TetrominoFactory.createTetromino(TetrominoType.I_PIECE).getRotationTable().get(i);
+            if (state.getMinCol() == state.getMaxCol()) {
+                return state;
+            }
+        }
+        throw new AssertionError("I piece has no vertical rotation");
+    }
+
+    /* the bottom rows each miss one cell, so random drops clear often */
+    private static int[][] nearlyFullRows(Random random) {
+        int[][] matrix = new int[24][10];
+        for (int row = 12; row < 24; row++) {
+            Arrays.fill(matrix[row], 1);
+            matrix[row][random.nextInt(10)] = 0;
+        }
+        return matrix;
+    }
+}
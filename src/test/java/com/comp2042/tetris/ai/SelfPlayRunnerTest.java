@@ -0,0 +1,160 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.Gravity;
+import com.comp2042.tetris.core.LevelManager;
+import com.comp2042.tetris.patterns.DifficultyStrategy;
+import com.comp2042.tetris.patterns.HardDifficulty;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for headless self-play games and the parallel runner.
+ */
+class SelfPlayRunnerTest {
+
+    private TetrisBot bot;
+
+    @BeforeEach
+    void setUp() {
+        bot = new TetrisBot(new HeuristicEvaluator());
+    }
+
+    @Test
+    @DisplayName("Game without gravity runs to its piece limit")
+    void testRunsToPieceLimit() {
+        GameResult result = new SelfPlayGame(bot, fixedGravity(0), BoardEngine.BITBOARD, 200, 3).play();
+
+        assertFalse(result.isToppedOut());
+        assertEquals(200, result.getPieces());
+        assertTrue(result.getLines() > 0);
+        assertTrue(result.getScore() > 0);
+        assertTrue(result.getPiecesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("20G with slow inputs tops out early")
+    void testMaxGravityTopsOut() {
+        GameResult result = new SelfPlayGame(bot, fixedGravity(Gravity.MAX_CELLS_PER_TICK),
+            BoardEngine.MATRIX, 1000, 10).play();
+
+        assertTrue(result.isToppedOut());
+        assertTrue(result.getPieces() < 1000);
+    }
+
+    @Test
+    @DisplayName("Topping out on the last allowed piece still counts as a top-out")
+    void testTopOutOnLastPiece() {
+        GameResult full = new SelfPlayGame(bot, fixedGravity(Gravity.MAX_CELLS_PER_TICK), BoardEngine.MATRIX,
+            GeneratorType.BAG_7.create(4L), 1000, 10).play();
+        assertTrue(full.isToppedOut());
+
+        GameResult capped = new SelfPlayGame(bot, fixedGravity(Gravity.MAX_CELLS_PER_TICK), BoardEngine.MATRIX,
+            GeneratorType.BAG_7.create(4L), full.getPieces(), 10).play();
+        assertEquals(full.getPieces(), capped.getPieces());
+        assertTrue(capped.isToppedOut());
+    }
+
+    @Test
+    @DisplayName("Clears below the first level up keep the difficulty's speed")
+    void testGravityKeptBelowLevelUp() {
+        DifficultyStrategy hard = new HardDifficulty();
+        GameResult result = new SelfPlayGame(bot, hard, BoardEngine.MATRIX,
+            GeneratorType.BAG_7.create(9L), 15, 3).play();
+        assertTrue(result.getLines() > 0 && result.getLevel() == 1, result.toString());
+        assertEquals(hard.getGravity(), result.getGravity());
+
+        /* past it, the level sets the speed */
+        GameResult longer = new SelfPlayGame(bot, hard, BoardEngine.MATRIX,
+            GeneratorType.BAG_7.create(9L), 60, 3).play();
+        assertTrue(longer.getLevel() > 1, longer.toString());
+        assertEquals(LevelManager.gravityForLevel(longer.getLevel()), longer.getGravity());
+    }
+
+    @Test
+    @DisplayName("Same seed plays the same game")
+    void testSeededGamesRepeat() {
+        GameResult first = new SelfPlayGame(bot, new MediumDifficulty(), BoardEngine.BITBOARD,
+            GeneratorType.BAG_7.create(9L), 150, 3).play();
+        GameResult second = new SelfPlayGame(bot, new MediumDifficulty(), BoardEngine.MATRIX,
+            GeneratorType.BAG_7.create(9L), 150, 3).play();
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getLines(), second.getLines());
+        assertEquals(first.getTicks(), second.getTicks());
+    }
+
+    @Test
+    @DisplayName("Invalid limits are rejected")
+    void testInvalidArguments() {
+        DifficultyStrategy difficulty = new MediumDifficulty();
+        assertThrows(IllegalArgumentException.class,
+            () -> new SelfPlayGame(bot, difficulty, BoardEngine.MATRIX, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SelfPlayGame(bot, difficulty, BoardEngine.MATRIX, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlayRunner(WorkerPool.FIXED, 0));
+    }
+
+    @Test
+    @DisplayName("Fixed and virtual pools both play every game")
+    void testRunnerPlaysAllGames() {
+        for (WorkerPool pool : WorkerPool.values()) {
+            TournamentResult result = new SelfPlayRunner(pool, 2).run(6,
+                () -> new SelfPlayGame(bot, new MediumDifficulty(), BoardEngine.BITBOARD, 50, 3));
+
+            assertEquals(6, result.getGameCount());
+            assertEquals(300, result.getTotalPieces());
+            assertTrue(result.getGamesPerSecond() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Tournament averages and top-out counts")
+    void testAggregation() {
+        TournamentResult result = new TournamentResult(List.of(
+            new GameResult(100, 10, 2, 50, 600, true, 0.05),
+            new GameResult(300, 30, 4, 150, 1800, false, 0.05),
+            new GameResult(200, 20, 3, 70, 700, true, 0.05)
+        ), 2_000_000_000L, 4);
+
+        assertEquals(200.0, result.getMeanScore(), 1e-9);
+        assertEquals(300, result.getMaxScore());
+        assertEquals(20.0, result.getMeanLines(), 1e-9);
+        assertEquals(270, result.getTotalPieces());
+        assertEquals(2, result.getTopOutCount());
+        assertEquals(60.0, result.getMeanTopOutPieces(), 1e-9);
+        assertEquals(1.5, result.getGamesPerSecond(), 1e-9);
+        assertEquals((5.0 + 5.0 + 6.0) / 3, result.getMeanPiecesPerSecond(), 1e-9);
+    }
+
+    private static DifficultyStrategy fixedGravity(double cellsPerTick) {
+        return new DifficultyStrategy() {
+            @Override
+            public int getDropSpeed() {
+                return 1000;
+            }
+
+            @Override
+            public double getGravity() {
+                return cellsPerTick;
+            }
+
+            @Override
+            public int getScoreMultiplier() {
+                return 1;
+            }
+
+            @Override
+            public String getDifficultyName() {
+                return "Test";
+            }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.Tetromino;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the headless bot.
+ */
+class TetrisBotTest {
+
+    private TetrisBot bot;
+
+    @BeforeEach
+    void setUp() {
+        bot = new TetrisBot(new HeuristicEvaluator());
+    }
+
+    @Test
+    @DisplayName("Bot takes a line clear when one is there")
+    void testClearsAvailableLine() {
+        int[][] matrix = new int[24][10];
+        for (int col = 0; col < 9; col++) {
+            matrix[23][col] = 1;
+        }
+        BotState state = spawnState(SearchBoard.of(matrix), TetrominoFactory.createTetromino(TetrominoType.I_PIECE), null, false, List.of());
+
+        BotDecision decision = bot.decide(state).orElseThrow();
+        assertEquals(1, decision.getPlacement().applyTo(state.getBoard()).getLinesCleared());
+        assertFalse(decision.isUseHold());
+    }
+
+    @Test
+    @DisplayName("Bot swaps to the held piece when it is the better fit")
+    void testUsesHold() {
+        int[][] matrix = new int[24][10];
+        for (int row = 20; row < 24; row++) {
+            for (int col = 0; col < 9; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        BotState state = spawnState(SearchBoard.of(matrix), TetrominoFactory.createTetromino(TetrominoType.S_PIECE), TetrominoFactory.createTetromino(TetrominoType.I_PIECE), true, List.of());
+
+        BotDecision decision = bot.decide(state).orElseThrow();
+        assertTrue(decision.isUseHold());
+        assertEquals(BotMove.HOLD, decision.getPath().get(0));
+        assertEquals(4, decision.getPlacement().applyTo(state.getBoard()).getLinesCleared());
+    }
+
+    @Test
+    @DisplayName("Fork-join lookahead picks the same move as a sequential search")
+    void testPoolMatchesSequential() {
+        int[][] matrix = new int[24][10];
+        for (int col = 0; col < 10; col++) {
+            for (int row = 24 - (col * 7 % 5); row < 24; row++) {
+                matrix[row][col] = 1;
+            }
+        }
+        matrix[23][4] = 0;
+        BotState state = spawnState(SearchBoard.of(matrix), TetrominoFactory.createTetromino(TetrominoType.T_PIECE), null, true,
+            List.of(TetrominoFactory.createTetromino(TetrominoType.L_PIECE), TetrominoFactory.createTetromino(TetrominoType.I_PIECE)));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BotDecision parallel = new TetrisBot(new HeuristicEvaluator(), 1, pool).decide(state).orElseThrow();
+            BotDecision sequential = new TetrisBot(new HeuristicEvaluator(), 1, null).decide(state).orElseThrow();
+
+            assertEquals(sequential.getPlacement().toString(), parallel.getPlacement().toString());
+            assertEquals(sequential.isUseHold(), parallel.isUseHold());
+            assertEquals(sequential.getScore(), parallel.getScore());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Caching lookahead scores never changes the decision")
+    void testTableMatchesUncachedSearch() {
+        TranspositionTable table = new TranspositionTable(1 << 10);
+        TetrisBot cached = new TetrisBot(new HeuristicEvaluator(), 2, null, table);
+        TetrisBot uncached = new TetrisBot(new HeuristicEvaluator(), 2, null, null);
+        TetrominoType[] types = TetrominoType.values();
+
+        SearchBoard board = SearchBoard.empty(24, 10);
+        Random random = new Random(6);
+        for (int turn = 0; turn < 8; turn++) {
+            /* repeated types in the queue give the table something to find */
+            BotState state = spawnState(board, TetrominoFactory.createTetromino(types[random.nextInt(3)]), null, false,
+                List.of(TetrominoFactory.createTetromino(types[random.nextInt(3)]),
+                    TetrominoFactory.createTetromino(types[random.nextInt(3)])));
+            BotDecision expected = uncached.decide(state).orElseThrow();
+            BotDecision actual = cached.decide(state).orElseThrow();
+            assertEquals(expected.getPlacement().toString(), actual.getPlacement().toString());
+            assertEquals(expected.getScore(), actual.getScore());
+            board = expected.getPlacement().applyTo(board);
+        }
+        assertTrue(table.getHits() > 0, "No transpositions found in " + table.getProbes() + " probes");
+    }
+
+    @Test
+    @DisplayName("Bot returns nothing when the piece cannot spawn")
+    void testNoPlacement() {
+        int[][] matrix = new int[24][10];
+        for (int row = 0; row < 24; row++) {
+            for (int col = 0; col < 10; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        BotState state = spawnState(SearchBoard.of(matrix), TetrominoFactory.createTetromino(TetrominoType.T_PIECE), null, false, List.of());
+        assertTrue(bot.decide(state).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Bot paths play out on a real board")
+    void testPlaysRealBoard() {
+        TetrisBoard board = new TetrisBoard(24, 10);
+        board.newGame();
+
+        int lines = 0;
+        for (int piece = 0; piece < 200; piece++) {
+            Optional<BotDecision> decision = bot.play(board);
+            assertTrue(decision.isPresent(), "Bot topped out at piece " + piece);
+
+            Placement placement = decision.get().getPlacement();
+            assertEquals(placement.getX(), board.getPiecePosition().x);
+            assertEquals(placement.getY(), board.getPiecePosition().y);
+            assertEquals(placement.getRotation().getIndex(), board.getTetrominoRotator().getCurrentRotationIndex());
+
+            lines += board.hardDrop().getLinesRemoved();
+            assertEquals(0, board.getLastDropDistance(), "Path should end resting on the stack");
+            assertFalse(board.createNewBrick(), "Bot topped out at piece " + piece);
+        }
+        assertTrue(lines > 0);
+    }
+
+    private static BotState spawnState(SearchBoard board, Tetromino current, Tetromino held,
+                                       boolean canHold, List<Tetromino> preview) {
+        return new BotState(board, current, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y, held, canHold, preview);
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042.tetris.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bot's transposition table.
+ */
+class TranspositionTableTest {
+
+    /* keys that differ only above the low bits land in the same bucket */
+    private static final long BUCKET_STRIDE = 1L << 40;
+
+    private TranspositionTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new TranspositionTable(16);
+    }
+
+    @Test
+    @DisplayName("Stored scores come back and unknown keys miss")
+    void testPutAndGet() {
+        assertTrue(Double.isNaN(table.get(42L)));
+        table.put(42L, 1, -3.5);
+        table.put(43L, 1, Double.NEGATIVE_INFINITY);
+        assertEquals(-3.5, table.get(42L));
+        assertEquals(Double.NEGATIVE_INFINITY, table.get(43L));
+        assertEquals(2, table.getHits());
+        assertEquals(3, table.getProbes());
+    }
+
+    @Test
+    @DisplayName("A zero key and a zero score are not mistaken for an empty slot")
+    void testZeroEntries() {
+        assertTrue(Double.isNaN(table.get(0L)));
+        table.put(0L, 1, 0.0);
+        assertEquals(0.0, table.get(0L));
+    }
+
+    @Test
+    @DisplayName("The deeper entry survives when a bucket overflows")
+    void testDepthPreferredEviction() {
+        long deep = 5L;
+        table.put(deep, 3, 1.0);
+        for (int i = 1; i <= 10; i++) {
+            table.put(5L + i * BUCKET_STRIDE, 1, i);
+        }
+        assertEquals(1.0, table.get(deep));
+        /* the newest shallow entry still has the second slot */
+        assertEquals(10.0, table.get(5L + 10 * BUCKET_STRIDE));
+        assertTrue(Double.isNaN(table.get(5L + 9 * BUCKET_STRIDE)));
+    }
+
+    @Test
+    @DisplayName("A deeper result pushes the old one into the second slot")
+    void testDeeperReplacesAndDemotes() {
+        table.put(7L, 1, 1.0);
+        table.put(7L + BUCKET_STRIDE, 2, 2.0);
+        assertEquals(1.0, table.get(7L));
+        assertEquals(2.0, table.get(7L + BUCKET_STRIDE));
+    }
+
+    @Test
+    @DisplayName("Clearing forgets every entry")
+    void testClear() {
+        table.put(9L, 1, 4.0);
+        table.clear();
+        assertTrue(Double.isNaN(table.get(9L)));
+        assertEquals(1, table.getProbes());
+    }
+
+    @Test
+    @DisplayName("Bucket counts must be powers of two")
+    void testBucketCount() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(12));
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+        assertEquals(32, table.getCapacity());
+    }
+}
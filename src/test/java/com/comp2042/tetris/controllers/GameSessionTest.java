@@ -0,0 +1,136 @@
+package com.comp2042.tetris.controllers;
+
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.events.GameEventBus;
+import com.comp2042.tetris.events.GameEventListener;
+import com.comp2042.tetris.events.GameEventType;
+import com.comp2042.tetris.events.MoveEvent;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import com.comp2042.tetris.pieces.RotationState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the headless game rules.
+ */
+class GameSessionTest {
+
+    private TetrisBoard board;
+    private GameSession session;
+
+    @BeforeEach
+    void setUp() {
+        board = new TetrisBoard(24, 10, GeneratorType.BAG_7.create(1L));
+        session = new GameSession(board, new MediumDifficulty());
+    }
+
+    @Test
+    @DisplayName("User soft drop scores a point, gravity does not")
+    void testSoftDropScore() {
+        session.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        assertEquals(1, board.getScore().getValue());
+        session.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        assertEquals(1, board.getScore().getValue());
+    }
+
+    @Test
+    @DisplayName("Hard drop scores its distance and spawns the next piece")
+    void testHardDrop() {
+        var next = board.getNextTetromino();
+        var downData = session.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+
+        assertNotNull(downData.getClearRow());
+        assertEquals(board.getLastDropDistance(), board.getScore().getValue());
+        assertSame(next, board.getTetrominoRotator().getTetromino());
+        assertEquals(TetrisBoard.SPAWN_Y, board.getPiecePosition().y);
+    }
+
+    @Test
+    @DisplayName("Stacking to the top ends the game and a new game resets it")
+    void testGameOver() {
+        MoveEvent drop = new MoveEvent(EventType.HARD_DROP, EventSource.THREAD);
+        for (int i = 0; i < 100 && !session.isGameOver(); i++) {
+            session.apply(drop);
+        }
+        assertTrue(session.isGameOver());
+
+        session.createNewGame();
+        assertFalse(session.isGameOver());
+        assertEquals(0, board.getScore().getValue());
+    }
+
+    @Test
+    @DisplayName("Locks publish the piece, the clear and the combo change")
+    void testLockEvents() {
+        GameEventBus bus = new GameEventBus(64);
+        List<String> events = new ArrayList<>();
+        bus.subscribe("test", new GameEventListener() {
+            @Override
+            public void onEvent(GameEventType type, int player, int value, int detail, long tick) {
+                events.add(type + " " + player + " " + value + " " + detail + " @" + tick);
+            }
+        });
+        session.publishTo(bus, 2, () -> 7L);
+
+        /* the bottom row is full except under the piece's lowest cells,
+         * so dropping it straight down clears exactly that row
+         */
+        RotationState rotation = board.getTetrominoRotator().getCurrentRotation();
+        int x = board.getPiecePosition().x;
+        int[][] cells = new int[24][10];
+        Arrays.fill(cells[23], 1);
+        for (int cell = 0; cell < rotation.getCellRows().length; cell++) {
+            if (rotation.getCellRows()[cell] == rotation.getMaxRow()) {
+                cells[23][x + rotation.getCellCols()[cell]] = 0;
+            }
+        }
+        board.loadCells(cells);
+        int firstPiece = board.getTetrominoRotator().getTetromino().getType().ordinal();
+
+        MoveEvent drop = new MoveEvent(EventType.HARD_DROP, EventSource.THREAD);
+        session.apply(drop);
+        /* counted once, by the board */
+        assertEquals(1, board.getLevelManager().getTotalLinesCleared());
+        int secondPiece = board.getTetrominoRotator().getTetromino().getType().ordinal();
+        session.apply(drop);
+        bus.close();
+
+        assertEquals(List.of(
+            "PIECE_LOCKED 2 " + firstPiece + " 1 @7",
+            "LINES_CLEARED 2 1 1 @7",
+            "COMBO 2 0 0 @7",
+            "PIECE_LOCKED 2 " + secondPiece + " 0 @7",
+            "COMBO 2 -1 0 @7"), events);
+    }
+
+    @Test
+    @DisplayName("A new game publishes its level and combo after the last game's events")
+    void testNewGameEvents() {
+        GameEventBus bus = new GameEventBus(64);
+        List<String> events = new ArrayList<>();
+        bus.subscribe("test", new GameEventListener() {
+            @Override
+            public void onEvent(GameEventType type, int player, int value, int detail, long tick) {
+                events.add(type + " " + player + " " + value + " " + detail + " @" + tick);
+            }
+        });
+        session.publishTo(bus, 1, () -> 3L);
+        session.createNewGame();
+        bus.close();
+
+        int combo = board.getComboManager().getCurrentCombo();
+        assertEquals(List.of(
+            "LEVEL_CHANGED 1 1 0 @3",
+            "COMBO 1 " + combo + " " + board.getComboManager().getComboBonus() + " @3"), events);
+    }
+}
@@ -0,0 +1,154 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.collision.CollisionDetector;
+import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.pieces.RotationTable;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BitboardTetrisBoard.
+ *
+ * <p>The bitboard must give exactly the same answers as the matrix
+ * engine, so most tests compare it against CollisionDetector on
+ * boards built up by actually playing pieces.</p>
+ */
+class BitboardTetrisBoardTest {
+
+    private BitboardTetrisBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new BitboardTetrisBoard(24, 10);
+        board.newGame();
+    }
+
+    @Test
+    @DisplayName("Collision matches the matrix detector on played boards")
+    void testCollisionMatchesMatrixDetector() {
+        Random random = new Random(42);
+        for (int piece = 0; piece < 60; piece++) {
+            assertCollisionsMatch();
+            if (dropRandomly(random)) {
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Row masks mirror the colour plane after merges and clears")
+    void testRowMasksMirrorColourPlane() {
+        Random random = new Random(7);
+        for (int piece = 0; piece < 60; piece++) {
+            if (dropRandomly(random)) {
+                board.newGame();
+            }
+            int[][] colours = board.getBoardMatrix();
+            for (int row = 0; row < colours.length; row++) {
+                int expected = 0;
+                for (int col = 0; col < colours[row].length; col++) {
+                    if (colours[row][col] != 0) {
+                        expected |= 1 << col;
+                    }
+                }
+                assertEquals(expected, board.getRowMask(row), "row " + row);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Full rows are removed and rows above shift down")
+    void testFullRowIsCleared() {
+        int[][] colours = board.getBoardMatrix();
+        /* fill the bottom row except one cell, plus a marker above it */
+        for (int col = 0; col < 9; col++) {
+            colours[23][col] = 1;
+        }
+        colours[22][0] = 3;
+        BitboardTetrisBoard reference = rebuild(colours);
+
+        ClearRow none = reference.clearRows();
+        assertEquals(0, none.getLinesRemoved());
+
+        reference.getBoardMatrix()[23][9] = 1;
+        reference = rebuild(reference.getBoardMatrix());
+        ClearRow one = reference.clearRows();
+
+        assertEquals(1, one.getLinesRemoved());
+        assertEquals(50, one.getScoreBonus());
+        assertEquals(3, reference.getBoardMatrix()[23][0]);
+        assertEquals(1, reference.getRowMask(23));
+        assertEquals(0, reference.getRowMask(22));
+    }
+
+    @Test
+    @DisplayName("Engine selector builds the requested board type")
+    void testBoardEngineCreatesBitboard() {
+        assertInstanceOf(BitboardTetrisBoard.class, BoardEngine.BITBOARD.create(24, 10));
+        assertFalse(BoardEngine.MATRIX.create(24, 10) instanceof BitboardTetrisBoard);
+    }
+
+    @Test
+    @DisplayName("Boards wider than an int are rejected")
+    void testTooManyColumnsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardTetrisBoard(24, 40));
+    }
+
+    /* moves the current piece a random distance sideways, drops it and
+     * locks it; returns true when the next piece could not spawn
+     */
+    private boolean dropRandomly(Random random) {
+        int shift = random.nextInt(9) - 4;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+        }
+        if (random.nextBoolean()) {
+            board.rotateLeftBrick();
+        }
+        while (board.moveBrickDown()) {
+            /* keep dropping */
+        }
+        board.mergeBrickToBackground();
+        board.clearRows();
+        return board.createNewBrick();
+    }
+
+    private void assertCollisionsMatch() {
+        int[][] matrix = board.getBoardMatrix();
+        for (TetrominoType type : TetrominoType.values()) {
+            RotationTable rotations = TetrominoFactory.createTetromino(type).getRotationTable();
+            for (int r = 0; r < rotations.size(); r++) {
+                for (int y = -4; y < 27; y++) {
+                    for (int x = -5; x < 13; x++) {
+                        assertEquals(CollisionDetector.checkCollision(matrix, rotations.get(r).getShape(), x, y),
+                                board.collides(rotations.get(r), x, y),
+                                type + " at " + x + "," + y);
+                    }
+                }
+            }
+        }
+    }
+
+    /* builds a fresh bitboard whose cells match the given colour plane */
+    private static BitboardTetrisBoard rebuild(int[][] colours) {
+        BitboardTetrisBoard fresh = new BitboardTetrisBoard(colours.length, colours[0].length);
+        fresh.newGame();
+        int[][] target = fresh.getBoardMatrix();
+        for (int row = 0; row < colours.length; row++) {
+            System.arraycopy(colours[row], 0, target[row], 0, colours[row].length);
+        }
+        fresh.rebuildRowMasks();
+        return fresh;
+    }
+}
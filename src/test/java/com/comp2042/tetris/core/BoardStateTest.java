@@ -0,0 +1,204 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.pieces.GeneratorType;
+import com.comp2042.tetris.pieces.TetrominoType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for board snapshots and restore.
+ */
+class BoardStateTest {
+
+    @Test
+    @DisplayName("Packed rows stay in step with the matrix through locks and clears")
+    void testPackedRowsTrackMatrix() {
+        for (BoardEngine engine : BoardEngine.values()) {
+            TetrisBoard board = engine.create(24, 10, GeneratorType.BAG_7.create(5L));
+            board.newGame();
+            Random random = new Random(8);
+            BoardState state = new BoardState(24, 10);
+            for (int piece = 0; piece < 300; piece++) {
+                if (playRandomPiece(board, random)) {
+                    board.newGame();
+                }
+                board.snapshot(state);
+                assertCellsMatch(board.getBoardMatrix(), state, engine + " piece " + piece);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Restoring a snapshot puts back the position and the coming pieces")
+    void testRestoreReplaysSameGame() {
+        for (BoardEngine engine : BoardEngine.values()) {
+            TetrisBoard board = engine.create(24, 10, GeneratorType.TGM.create(11L));
+            board.newGame();
+            Random random = new Random(2);
+            for (int piece = 0; piece < 40; piece++) {
+                playRandomPiece(board, random);
+            }
+
+            BoardState saved = board.snapshot();
+            long moveSeed = 99L;
+            List<BoardState> firstRun = playAndRecord(board, new Random(moveSeed), 30);
+
+            board.restore(saved);
+            assertEquals(saved, board.snapshot(), engine.toString());
+            List<BoardState> secondRun = playAndRecord(board, new Random(moveSeed), 30);
+            assertEquals(firstRun, secondRun, engine.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Restore rebuilds statistics and the hold, combo and level state")
+    void testRestoreDerivedState() {
+        TetrisBoard board = new BitboardTetrisBoard(24, 10, GeneratorType.BAG_7.create(3L));
+        board.newGame();
+        board.holdCurrentPiece();
+        board.getComboManager().restore(2);
+        board.getLevelManager().restore(25);
+        board.getScore().add(1234);
+        Random random = new Random(4);
+        for (int piece = 0; piece < 10; piece++) {
+            playRandomPiece(board, random);
+        }
+        BoardState saved = board.snapshot();
+        int height = board.getStatistics().getAggregateHeight();
+        int holes = board.getStatistics().getHoleCount();
+        TetrominoType next = board.getNextTetromino().getType();
+
+        board.newGame();
+        board.restore(saved);
+
+        assertEquals(height, board.getStatistics().getAggregateHeight());
+        assertEquals(holes, board.getStatistics().getHoleCount());
+        assertEquals(saved.getScore(), board.getScore().getValue());
+        assertEquals(saved.getCombo(), board.getComboManager().getCurrentCombo());
+        assertEquals(saved.getLinesCleared() / 10 + 1, board.getLevelManager().getCurrentLevel());
+        assertEquals(saved.getHeldPiece().getType(), board.getHeldPiece().orElseThrow().getType());
+        assertEquals(next, board.getNextTetromino().getType());
+        for (int row = 0; row < 24; row++) {
+            assertEquals(rowMask(board.getBoardMatrix()[row]), ((BitboardTetrisBoard) board).getRowMask(row));
+        }
+    }
+
+    @Test
+    @DisplayName("Restore puts back the saved hash and statistics and rewrites only changed rows")
+    void testRestoreChangedRowsOnly() {
+        BitboardTetrisBoard board = new BitboardTetrisBoard(24, 10, GeneratorType.BAG_7.create(5L));
+        board.newGame();
+        Random random = new Random(6);
+        for (int piece = 0; piece < 12; piece++) {
+            playRandomPiece(board, random);
+        }
+        BoardState saved = board.snapshot();
+        for (int piece = 0; piece < 3; piece++) {
+            playRandomPiece(board, random);
+        }
+        board.getDirtyRegion().clear();
+        board.restore(saved);
+
+        /* a board recounted from the same cells must agree on everything */
+        TetrisBoard reference = new TetrisBoard(24, 10, GeneratorType.BAG_7.create(5L));
+        reference.newGame();
+        reference.loadCells(board.getBoardMatrix());
+        BoardStatistics expected = reference.getStatistics();
+        BoardStatistics actual = board.getStatistics();
+        assertEquals(reference.getZobristHash(), board.getZobristHash());
+        assertEquals(expected.getAggregateHeight(), actual.getAggregateHeight());
+        assertEquals(expected.getBumpiness(), actual.getBumpiness());
+        assertEquals(expected.getHoleCount(), actual.getHoleCount());
+        assertEquals(expected.getFilledCellCount(), actual.getFilledCellCount());
+        for (int col = 0; col < 10; col++) {
+            assertEquals(expected.getColumnHeight(col), actual.getColumnHeight(col), "column " + col);
+        }
+        for (int row = 0; row < 24; row++) {
+            assertEquals(expected.getRowFillCount(row), actual.getRowFillCount(row), "row " + row);
+            assertEquals(rowMask(board.getBoardMatrix()[row]), board.getRowMask(row), "row " + row);
+        }
+
+        /* only the rows the three pieces changed were rewritten */
+        assertFalse(board.getDirtyRegion().isEmpty());
+        assertFalse(board.getDirtyRegion().isDirty(0, 0));
+        assertTrue(board.getDirtyRegion().size() < 24 * 10, "dirty cells: " + board.getDirtyRegion().size());
+    }
+
+    @Test
+    @DisplayName("States for a different board size are rejected")
+    void testSizeMismatch() {
+        TetrisBoard board = new TetrisBoard(24, 10);
+        board.newGame();
+        assertThrows(IllegalArgumentException.class, () -> board.snapshot(new BoardState(20, 10)));
+        assertThrows(IllegalArgumentException.class, () -> board.restore(new BoardState(24, 12)));
+    }
+
+    @Test
+    @DisplayName("Wide boards pack more than one word per row")
+    void testWideRows() {
+        TetrisBoard board = new TetrisBoard(30, 20, GeneratorType.RANDOM.create(1L));
+        board.newGame();
+        board.getBoardMatrix()[29][19] = 7;
+        board.getBoardMatrix()[29][0] = 3;
+        board.rebuildStatistics();
+
+        BoardState state = board.snapshot();
+        assertEquals(60, state.getPackedWordCount());
+        assertEquals(7, state.getCell(29, 19));
+        assertEquals(3, state.getCell(29, 0));
+
+        board.newGame();
+        board.restore(state);
+        assertEquals(7, board.getBoardMatrix()[29][19]);
+        assertEquals(3, board.getBoardMatrix()[29][0]);
+    }
+
+    /* moves and rotates at random then hard drops; true on top out */
+    private static boolean playRandomPiece(TetrisBoard board, Random random) {
+        for (int move = random.nextInt(6); move > 0; move--) {
+            switch (random.nextInt(4)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateLeftBrick();
+                default -> board.holdCurrentPiece();
+            }
+        }
+        board.hardDrop();
+        return board.createNewBrick();
+    }
+
+    private static List<BoardState> playAndRecord(TetrisBoard board, Random random, int pieces) {
+        List<BoardState> states = new ArrayList<>();
+        for (int piece = 0; piece < pieces; piece++) {
+            if (playRandomPiece(board, random)) {
+                board.newGame();
+            }
+            states.add(board.snapshot());
+        }
+        return states;
+    }
+
+    private static void assertCellsMatch(int[][] matrix, BoardState state, String message) {
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                assertEquals(matrix[row][col], state.getCell(row, col), message + " at " + row + "," + col);
+            }
+        }
+    }
+
+    private static int rowMask(int[] row) {
+        int mask = 0;
+        for (int col = 0; col < row.length; col++) {
+            if (row[col] != 0) {
+                mask |= 1 << col;
+            }
+        }
+        return mask;
+    }
+}
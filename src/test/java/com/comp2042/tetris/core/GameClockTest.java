@@ -0,0 +1,71 @@
+package com.comp2042.tetris.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private GameClock clock;
+    private int ticks;
+
+    @BeforeEach
+    void setUp() {
+        clock = new GameClock();
+        ticks = 0;
+        clock.addListener(tick -> ticks++);
+    }
+
+    @Test
+    @DisplayName("The first timestamp only starts the clock")
+    void testFirstAdvanceFiresNothing() {
+        assertEquals(0, clock.advance(5_000_000_000L));
+        assertEquals(0, ticks);
+    }
+
+    @Test
+    @DisplayName("One second of uneven frames gives exactly 60 ticks")
+    void testUnevenFramesKeepRate() {
+        long now = 1_000L;
+        clock.advance(now);
+        /* alternate short and long frames, as a stuttering monitor would */
+        long[] frames = {7_000_000L, 13_000_000L, 4_000_000L, 16_000_000L};
+        long elapsed = 0;
+        for (int i = 0; elapsed + frames[i % frames.length] <= 1_000_000_000L; i++) {
+            long step = frames[i % frames.length];
+            elapsed += step;
+            clock.advance(now + elapsed);
+        }
+        clock.advance(now + 1_000_000_000L);
+
+        assertEquals(GameClock.TICKS_PER_SECOND, ticks);
+        assertEquals(GameClock.TICKS_PER_SECOND, clock.getTickCount());
+    }
+
+    @Test
+    @DisplayName("A long stall replays a bounded number of ticks")
+    void testStallIsCapped() {
+        clock.advance(0);
+
+        int fired = clock.advance(10_000_000_000L);
+
+        assertEquals(GameClock.MAX_TICKS_PER_ADVANCE, fired);
+        assertTrue(clock.getTickProgress() < 1.0);
+    }
+
+    @Test
+    @DisplayName("Resync skips the time spent paused")
+    void testResyncSkipsPause() {
+        clock.advance(0);
+        clock.advance(GameClock.TICK_NANOS);
+        assertEquals(1, ticks);
+
+        clock.resync();
+        clock.advance(60_000_000_000L);
+        clock.advance(60_000_000_000L + GameClock.TICK_NANOS);
+
+        assertEquals(2, ticks);
+    }
+}
@@ -1,5 +1,9 @@
 package com.comp2042.tetris.core;
 
+import com.comp2042.tetris.collision.CollisionDetector;
+import com.comp2042.tetris.pieces.RotationState;
+import com.comp2042.tetris.pieces.TetrominoFactory;
+import com.comp2042.tetris.pieces.TetrominoType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -80,4 +84,46 @@ class GhostPieceCalculatorTest {
         /* ghost should be at or very near bottom */
         assertTrue(ghostY >= currentPosition.getY(), "Ghost should be at or below current position");
     }
+
+    @Test
+    @DisplayName("Surface shortcut lands where stepping lands")
+    void testLandingFromHeightsMatchesStepping() {
+        TetrisBoard board = new TetrisBoard(25, 10);
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+        /* uneven floor: column c filled from row 24 - c up */
+        for (int col = 0; col < 10; col++) {
+            for (int row = 24 - (col % 5); row < 25; row++) {
+                matrix[row][col] = 1;
+            }
+        }
+        board.rebuildStatistics();
+
+        for (TetrominoType type : TetrominoType.values()) {
+            RotationState rotation = TetrominoFactory.createTetromino(type).getRotationTable().get(0);
+            for (int x = -1; x < 8; x++) {
+                Point start = new Point(x, 0);
+                if (CollisionDetector.checkCollision(matrix, rotation.getShape(), x, 0)) {
+                    continue;
+                }
+                int expected = GhostPieceCalculator.calculateGhostY(matrix, rotation.getShape(), start);
+                int actual = GhostPieceCalculator.calculateLandingY(board.getStatistics(), rotation, x, 0);
+                assertEquals(expected, actual, type + " at x=" + x);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Piece under an overhang needs stepping")
+    void testOverhangHasNoShortcut() {
+        TetrisBoard board = new TetrisBoard(25, 10);
+        board.newGame();
+        board.getBoardMatrix()[10][4] = 1;
+        board.rebuildStatistics();
+
+        RotationState oPiece = TetrominoFactory.createTetromino(TetrominoType.O_PIECE).getRotationTable().get(0);
+        /* O piece cells sit in columns 4-5, rows 12-13: below the block */
+        assertEquals(GhostPieceCalculator.NO_SHORTCUT,
+                GhostPieceCalculator.calculateLandingY(board.getStatistics(), oPiece, 3, 11));
+    }
 }
@@ -0,0 +1,64 @@
+package com.comp2042.tetris.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GravityTest {
+
+    @Test
+    @DisplayName("800ms per row releases one row every 48 ticks")
+    void testSlowGravityAccumulates() {
+        Gravity gravity = new Gravity(Gravity.fromDropInterval(800));
+
+        int rows = 0;
+        int firstDropTick = -1;
+        for (int tick = 1; tick <= 480; tick++) {
+            int fell = gravity.tick();
+            if (fell > 0 && firstDropTick < 0) {
+                firstDropTick = tick;
+            }
+            rows += fell;
+        }
+
+        assertEquals(48, firstDropTick);
+        assertEquals(10, rows);
+    }
+
+    @Test
+    @DisplayName("20G drops twenty rows every tick")
+    void testTwentyG() {
+        Gravity gravity = new Gravity(Gravity.MAX_CELLS_PER_TICK);
+
+        assertEquals(20, gravity.tick());
+        assertEquals(20, gravity.tick());
+    }
+
+    @Test
+    @DisplayName("Gravity is clamped to 20G and never negative")
+    void testClamped() {
+        assertEquals(Gravity.MAX_CELLS_PER_TICK, new Gravity(100).getCellsPerTick());
+        assertEquals(0.0, new Gravity(-1).getCellsPerTick());
+        assertEquals(Gravity.MAX_CELLS_PER_TICK, Gravity.fromDropInterval(0));
+    }
+
+    @Test
+    @DisplayName("Changing speed keeps the progress towards the next row")
+    void testSpeedChangeKeepsProgress() {
+        Gravity gravity = new Gravity(0.5);
+        assertEquals(0, gravity.tick());
+
+        gravity.setCellsPerTick(0.75);
+
+        assertEquals(1, gravity.tick());
+    }
+
+    @Test
+    @DisplayName("Level gravity follows the drop speed")
+    void testLevelManagerGravity() {
+        LevelManager levelManager = new LevelManager();
+
+        assertEquals(Gravity.fromDropInterval(levelManager.getDropSpeed()), levelManager.getGravity(), 1e-12);
+    }
+}
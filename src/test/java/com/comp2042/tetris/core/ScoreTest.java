@@ -15,13 +15,13 @@ class ScoreTest {
 
     @Test
     void testInitialScore_IsZero() {
-        assertEquals(0, score.scoreProperty().getValue());
+        assertEquals(0, score.getValue());
     }
 
     @Test
     void testAdd_PositiveValue() {
         score.add(100);
-        assertEquals(100, score.scoreProperty().getValue());
+        assertEquals(100, score.getValue());
     }
 
     @Test
@@ -29,21 +29,21 @@ class ScoreTest {
         score.add(50);
         score.add(75);
         score.add(25);
-        assertEquals(150, score.scoreProperty().getValue());
+        assertEquals(150, score.getValue());
     }
 
     @Test
     void testAdd_Zero() {
         score.add(100);
         score.add(0);
-        assertEquals(100, score.scoreProperty().getValue());
+        assertEquals(100, score.getValue());
     }
 
     @Test
     void testReset_ResetsToZero() {
         score.add(500);
         score.reset();
-        assertEquals(0, score.scoreProperty().getValue());
+        assertEquals(0, score.getValue());
     }
 
     @Test
@@ -52,18 +52,38 @@ class ScoreTest {
         score.reset();
         score.add(200);
         score.reset();
-        assertEquals(0, score.scoreProperty().getValue());
+        assertEquals(0, score.getValue());
     }
 
     @Test
-    void testScoreProperty_IsNotNull() {
-        assertNotNull(score.scoreProperty());
+    void testListener_ReceivesOldAndNewValue() {
+        int[] seen = new int[2];
+        score.addListener((oldValue, newValue) -> {
+            seen[0] = oldValue;
+            seen[1] = newValue;
+        });
+        score.add(40);
+        score.add(60);
+        assertArrayEquals(new int[] {40, 100}, seen);
     }
 
     @Test
-    void testScoreProperty_BindingWorks() {
-        score.add(100);
-        int value = score.scoreProperty().getValue();
-        assertEquals(100, value);
+    void testListener_NotCalledWhenUnchanged() {
+        int[] calls = new int[1];
+        score.addListener((oldValue, newValue) -> calls[0]++);
+        score.add(0);
+        score.reset();
+        assertEquals(0, calls[0]);
+    }
+
+    @Test
+    void testRemoveListener_StopsNotifications() {
+        int[] calls = new int[1];
+        IntValueListener listener = (oldValue, newValue) -> calls[0]++;
+        score.addListener(listener);
+        score.add(10);
+        score.removeListener(listener);
+        score.add(10);
+        assertEquals(1, calls[0]);
     }
 }
@@ -0,0 +1,131 @@
+package com.comp2042.tetris.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the incrementally maintained board statistics.
+ *
+ * <p>After every lock the live statistics are compared against a full
+ * recount of the board matrix, for both board engines.</p>
+ */
+class SurfaceTrackerTest {
+
+    @Test
+    @DisplayName("Empty board has flat surface and no holes")
+    void testEmptyBoard() {
+        TetrisBoard board = new TetrisBoard(24, 10);
+        board.newGame();
+        BoardStatistics stats = board.getStatistics();
+
+        assertEquals(0, stats.getAggregateHeight());
+        assertEquals(0, stats.getHoleCount());
+        assertEquals(0, stats.getBumpiness());
+        assertEquals(24, stats.getRowCount());
+        assertEquals(10, stats.getColumnCount());
+    }
+
+    @Test
+    @DisplayName("Matrix engine statistics match a full recount")
+    void testMatrixEngineMatchesRecount() {
+        playAndCompare(BoardEngine.MATRIX.create(24, 10), new Random(3));
+    }
+
+    @Test
+    @DisplayName("Bitboard engine statistics match a full recount")
+    void testBitboardEngineMatchesRecount() {
+        playAndCompare(BoardEngine.BITBOARD.create(24, 10), new Random(11));
+    }
+
+    @Test
+    @DisplayName("Rebuild after direct writes counts holes")
+    void testRebuildCountsHoles() {
+        TetrisBoard board = new TetrisBoard(24, 10);
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+        matrix[20][0] = 1;
+        matrix[23][1] = 1;
+        board.rebuildStatistics();
+
+        BoardStatistics stats = board.getStatistics();
+        assertEquals(4, stats.getColumnHeight(0));
+        assertEquals(1, stats.getColumnHeight(1));
+        assertEquals(3, stats.getHoleCount());
+        assertEquals(3 + 1, stats.getBumpiness());
+        assertEquals(1, stats.getRowFillCount(20));
+    }
+
+    private void playAndCompare(TetrisBoard board, Random random) {
+        board.newGame();
+        for (int piece = 0; piece < 300; piece++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            for (int r = random.nextInt(4); r > 0; r--) {
+                board.rotateLeftBrick();
+            }
+            while (board.moveBrickDown()) {
+                /* keep dropping */
+            }
+            board.mergeBrickToBackground();
+            board.clearRows();
+            assertMatchesRecount(board);
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+    }
+
+    private void assertMatchesRecount(TetrisBoard board) {
+        int[][] matrix = board.getBoardMatrix();
+        BoardStatistics stats = board.getStatistics();
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        int[] heights = new int[columns];
+        int holes = 0;
+        int filled = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int fill = 0;
+            for (int col = 0; col < columns; col++) {
+                if (matrix[row][col] != 0) {
+                    fill++;
+                    if (heights[col] == 0) {
+                        heights[col] = rows - row;
+                    }
+                } else if (heights[col] != 0) {
+                    holes++;
+                }
+            }
+            filled += fill;
+            assertEquals(fill, stats.getRowFillCount(row), "row " + row);
+        }
+
+        int aggregate = 0;
+        int bumpiness = 0;
+        int max = 0;
+        for (int col = 0; col < columns; col++) {
+            assertEquals(heights[col], stats.getColumnHeight(col), "column " + col);
+            aggregate += heights[col];
+            max = Math.max(max, heights[col]);
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+        }
+
+        assertEquals(holes, stats.getHoleCount());
+        assertEquals(aggregate, stats.getAggregateHeight());
+        assertEquals(bumpiness, stats.getBumpiness());
+        assertEquals(max, stats.getMaxHeight());
+        assertEquals(filled, stats.getFilledCellCount());
+    }
+}
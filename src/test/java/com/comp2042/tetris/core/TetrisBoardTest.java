@@ -0,0 +1,245 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.models.ClearRow;
+import com.comp2042.tetris.models.DirtyRegion;
+import com.comp2042.tetris.models.ViewData;
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TetrisBoardTest {
+
+    private TetrisBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new TetrisBoard(24, 10);
+        board.newGame();
+    }
+
+    @Test
+    @DisplayName("Hard drop locks the piece at the ghost position")
+    void testHardDropLocksAtGhost() {
+        ViewData before = board.getViewData();
+
+        ClearRow result = board.hardDrop();
+
+        assertEquals(0, result.getLinesRemoved());
+        assertEquals(before.getGhostYPosition() - before.getyPosition(), board.getLastDropDistance());
+        int[][] brick = before.getBrickData();
+        for (int row = 0; row < brick.length; row++) {
+            for (int col = 0; col < brick[row].length; col++) {
+                if (brick[row][col] != 0) {
+                    int boardRow = before.getGhostYPosition() + row;
+                    int boardCol = before.getxPosition() + col;
+                    assertEquals(brick[row][col], board.getBoardMatrix()[boardRow][boardCol]);
+                }
+            }
+        }
+        assertEquals(4, board.getStatistics().getFilledCellCount());
+    }
+
+    @Test
+    @DisplayName("Hard drop clears the rows it completes")
+    void testHardDropClearsRows() {
+        ViewData before = board.getViewData();
+        int[][] brick = before.getBrickData();
+        int bottomRow = 0;
+        for (int row = 0; row < brick.length; row++) {
+            for (int cell : brick[row]) {
+                if (cell != 0) {
+                    bottomRow = row;
+                }
+            }
+        }
+
+        /* fill the floor row except where the piece's bottom cells will land */
+        int[][] matrix = board.getBoardMatrix();
+        for (int col = 0; col < 10; col++) {
+            int pieceCol = col - before.getxPosition();
+            boolean pieceLandsHere = pieceCol >= 0 && pieceCol < brick[bottomRow].length
+                    && brick[bottomRow][pieceCol] != 0;
+            matrix[23][col] = pieceLandsHere ? 0 : 1;
+        }
+        board.rebuildStatistics();
+        board.getDirtyRegion().clear();
+
+        ClearRow result = board.hardDrop();
+
+        assertEquals(1, result.getLinesRemoved());
+        /* every row down to the cleared one shifted */
+        assertEquals(24 * 10, board.getDirtyRegion().size());
+        assertEquals(1, board.getLastClearedRowCount());
+        assertEquals(23, board.getLastClearedRow(0));
+        assertEquals(4 - countCells(brick[bottomRow]), countFilled(board.getBoardMatrix()));
+        assertEquals(board.getStatistics().getFilledCellCount(), countFilled(board.getBoardMatrix()));
+    }
+
+    @Test
+    @DisplayName("A new game marks every cell dirty")
+    void testNewGameMarksEverything() {
+        assertEquals(24 * 10, board.getDirtyRegion().size());
+    }
+
+    @Test
+    @DisplayName("A sideways move marks only the old and new piece and ghost cells")
+    void testMoveMarksFootprintOnly() {
+        ViewData before = board.getViewData();
+        DirtyRegion dirty = before.getDirtyRegion();
+        assertSame(board.getDirtyRegion(), dirty);
+        dirty.clear();
+
+        assertTrue(board.moveBrickLeft());
+        ViewData after = board.getViewData();
+
+        boolean[][] expected = new boolean[24][10];
+        markShape(expected, before, before.getyPosition());
+        markShape(expected, before, before.getGhostYPosition());
+        markShape(expected, after, after.getyPosition());
+        markShape(expected, after, after.getGhostYPosition());
+
+        assertTrue(dirty.size() <= 16, "dirty cells: " + dirty.size());
+        for (int row = 0; row < 24; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(expected[row][col], dirty.isDirty(row, col), "cell " + row + "," + col);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Locking a piece marks the merged cells")
+    void testLockMarksMergedCells() {
+        ViewData before = board.getViewData();
+        board.getDirtyRegion().clear();
+
+        board.hardDrop();
+
+        int[][] brick = before.getBrickData();
+        for (int row = 0; row < brick.length; row++) {
+            for (int col = 0; col < brick[row].length; col++) {
+                if (brick[row][col] != 0) {
+                    assertTrue(board.getDirtyRegion().isDirty(before.getGhostYPosition() + row, before.getxPosition() + col));
+                }
+            }
+        }
+        assertEquals(4, board.getDirtyRegion().size());
+    }
+
+    private static void markShape(boolean[][] cells, ViewData view, int top) {
+        int[][] brick = view.getBrickData();
+        for (int row = 0; row < brick.length; row++) {
+            for (int col = 0; col < brick[row].length; col++) {
+                if (brick[row][col] != 0) {
+                    cells[top + row][view.getxPosition() + col] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Garbage pushes the stack up and keeps statistics, hash and masks in step")
+    void testGarbageRows() {
+        for (BoardEngine engine : BoardEngine.values()) {
+            TetrisBoard garbage = engine.create(24, 10, GeneratorType.BAG_7.create(3L));
+            garbage.newGame();
+            Random random = new Random(4);
+            for (int piece = 0; piece < 60; piece++) {
+                for (int move = random.nextInt(6); move > 0; move--) {
+                    if (random.nextBoolean()) {
+                        garbage.moveBrickLeft();
+                    } else {
+                        garbage.moveBrickRight();
+                    }
+                }
+                garbage.hardDrop();
+                if (garbage.createNewBrick()) {
+                    garbage.newGame();
+                }
+                if (piece % 5 == 4) {
+                    int[] bottomBefore = garbage.getBoardMatrix()[23].clone();
+                    int count = 1 + random.nextInt(3);
+                    int hole = random.nextInt(10);
+                    if (garbage.addGarbageRows(count, hole)) {
+                        garbage.newGame();
+                        continue;
+                    }
+                    int[][] matrix = garbage.getBoardMatrix();
+                    assertArrayEquals(bottomBefore, matrix[23 - count], engine + " piece " + piece);
+                    assertEquals(0, matrix[23][hole]);
+                    assertEquals(9, countCells(matrix[23]));
+                    assertEquals(TetrisBoard.GARBAGE_COLOR, matrix[23][(hole + 1) % 10]);
+                    assertSameAsRebuilt(engine, garbage);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Garbage lifts an overlapping piece and reports a top out")
+    void testGarbageLiftsPieceAndTopsOut() {
+        TetrisBoard seeded = new TetrisBoard(24, 10, GeneratorType.BAG_7.create(2L));
+        seeded.newGame();
+        ViewData before = seeded.getViewData();
+        /* garbage up to the spawn row, with the hole at the far wall */
+        assertFalse(seeded.addGarbageRows(24 - TetrisBoard.SPAWN_Y - 1, 9));
+        ViewData lifted = seeded.getViewData();
+        assertTrue(lifted.getyPosition() < before.getyPosition());
+
+        /* the next rows push the stack out of the top */
+        assertTrue(seeded.addGarbageRows(3, 9));
+    }
+
+    private static void assertSameAsRebuilt(BoardEngine engine, TetrisBoard board) {
+        TetrisBoard rebuilt = engine.create(24, 10);
+        rebuilt.newGame();
+        int[][] copy = new int[24][];
+        for (int row = 0; row < 24; row++) {
+            copy[row] = board.getBoardMatrix()[row].clone();
+        }
+        rebuilt.loadCells(copy);
+        BoardStatistics expected = rebuilt.getStatistics();
+        BoardStatistics actual = board.getStatistics();
+        for (int col = 0; col < 10; col++) {
+            assertEquals(expected.getColumnHeight(col), actual.getColumnHeight(col), engine + " column " + col);
+        }
+        for (int row = 0; row < 24; row++) {
+            assertEquals(expected.getRowFillCount(row), actual.getRowFillCount(row), engine + " row " + row);
+        }
+        assertEquals(expected.getHoleCount(), actual.getHoleCount());
+        assertEquals(expected.getBumpiness(), actual.getBumpiness());
+        assertEquals(expected.getFilledCellCount(), actual.getFilledCellCount());
+        assertEquals(rebuilt.getZobristHash(), board.getZobristHash(), engine + " hash");
+        if (board instanceof BitboardTetrisBoard bitboard) {
+            for (int row = 0; row < 24; row++) {
+                assertEquals(((BitboardTetrisBoard) rebuilt).getRowMask(row), bitboard.getRowMask(row));
+            }
+        }
+    }
+
+    private static int countCells(int[] row) {
+        int filled = 0;
+        for (int cell : row) {
+            if (cell != 0) {
+                filled++;
+            }
+        }
+        return filled;
+    }
+
+    private static int countFilled(int[][] matrix) {
+        int filled = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042.tetris.core;
+
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Zobrist keys and the board's running hash.
+ */
+class ZobristTest {
+
+    @Test
+    @DisplayName("The running hash matches a full rehash through locks and clears")
+    void testBoardHashTracksMatrix() {
+        for (BoardEngine engine : BoardEngine.values()) {
+            TetrisBoard board = engine.create(24, 10, GeneratorType.BAG_7.create(5L));
+            board.newGame();
+            assertEquals(0L, board.getZobristHash());
+            Random random = new Random(8);
+            board.loadCells(nearlyFullRows(random));
+            int cleared = 0;
+            for (int piece = 0; piece < 300; piece++) {
+                for (int move = random.nextInt(8); move > 0; move--) {
+                    switch (random.nextInt(3)) {
+                        case 0 -> board.moveBrickLeft();
+                        case 1 -> board.moveBrickRight();
+                        default -> board.rotateLeftBrick();
+                    }
+                }
+                cleared += board.hardDrop().getLinesRemoved();
+                if (board.createNewBrick()) {
+                    assertEquals(hashOf(board.getBoardMatrix()), board.getZobristHash(), engine + " top out");
+                    board.newGame();
+                    board.loadCells(nearlyFullRows(random));
+                }
+                assertEquals(hashOf(board.getBoardMatrix()), board.getZobristHash(), engine + " piece " + piece);
+            }
+            assertTrue(cleared > 0, engine + " never cleared a line");
+        }
+    }
+
+    @Test
+    @DisplayName("Restoring a snapshot restores the hash")
+    void testRestoreRehashes() {
+        TetrisBoard board = new BitboardTetrisBoard(24, 10, GeneratorType.TGM.create(2L));
+        board.newGame();
+        for (int piece = 0; piece < 12; piece++) {
+            board.hardDrop();
+            board.createNewBrick();
+        }
+        long hash = board.getZobristHash();
+        BoardState saved = board.snapshot();
+
+        board.newGame();
+        board.restore(saved);
+        assertEquals(hash, board.getZobristHash());
+    }
+
+    @Test
+    @DisplayName("Cell and piece keys are all distinct")
+    void testKeysDistinct() {
+        Set<Long> keys = new HashSet<>();
+        for (int row = 0; row < 40; row++) {
+            for (int col = 0; col < 32; col++) {
+                assertTrue(keys.add(Zobrist.cell(row, col)));
+                assertTrue(keys.add(Zobrist.piece(row - 20, col)));
+            }
+        }
+    }
+
+    /* the bottom rows each miss one cell, so random drops clear often */
+    private static int[][] nearlyFullRows(Random random) {
+        int[][] matrix = new int[24][10];
+        for (int row = 12; row < 24; row++) {
+            Arrays.fill(matrix[row], 1);
+            matrix[row][random.nextInt(10)] = 0;
+        }
+        return matrix;
+    }
+
+    private static long hashOf(int[][] matrix) {
+        int[] masks = new int[matrix.length];
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    masks[row] |= 1 << col;
+                }
+            }
+        }
+        return Zobrist.of(masks);
+    }
+}
@@ -0,0 +1,164 @@
+package com.comp2042.tetris.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for held-key repeats.
+ */
+class AutoShiftTest {
+
+    @Test
+    @DisplayName("A press moves at once, then waits DAS and repeats every ARR ticks")
+    void testDasThenArr() {
+        FakeBoard board = new FakeBoard(4);
+        AutoShift shift = new AutoShift(new AutoShiftConfig(3, 2, 1), board);
+
+        assertTrue(shift.press(EventType.RIGHT, 123L));
+        assertEquals(5, board.x);
+        assertEquals(123L, board.lastInputNanos);
+
+        int[] expected = {5, 5, 6, 6, 7, 7, 8};
+        for (int tick = 0; tick < expected.length; tick++) {
+            shift.tick();
+            assertEquals(expected[tick], board.x, "tick " + tick);
+        }
+        assertEquals(0L, board.lastInputNanos);
+    }
+
+    @Test
+    @DisplayName("OS key repeats of a held key are ignored")
+    void testOsRepeatIgnored() {
+        FakeBoard board = new FakeBoard(4);
+        AutoShift shift = new AutoShift(AutoShiftConfig.standard(), board);
+
+        assertTrue(shift.press(EventType.LEFT, 1L));
+        assertTrue(shift.press(EventType.ROTATE, 1L));
+        for (int i = 0; i < 20; i++) {
+            assertFalse(shift.press(EventType.LEFT, 2L));
+            assertFalse(shift.press(EventType.ROTATE, 2L));
+        }
+        assertEquals(3, board.x);
+        assertEquals(1, board.count(EventType.ROTATE));
+
+        shift.release(EventType.ROTATE);
+        assertTrue(shift.press(EventType.ROTATE, 3L));
+        assertEquals(2, board.count(EventType.ROTATE));
+    }
+
+    @Test
+    @DisplayName("ARR 0 slides to the wall on the tick DAS charges")
+    void testInstantSlide() {
+        FakeBoard board = new FakeBoard(4);
+        AutoShift shift = new AutoShift(new AutoShiftConfig(2, 0, 1), board);
+
+        shift.press(EventType.LEFT, 1L);
+        shift.tick();
+        assertEquals(3, board.x);
+        shift.tick();
+        assertEquals(0, board.x);
+
+        /* a piece that moves back out still slides every tick */
+        board.x = 6;
+        shift.tick();
+        assertEquals(0, board.x);
+    }
+
+    @Test
+    @DisplayName("The newest direction wins and releasing it hands back with a fresh DAS")
+    void testDirectionPriority() {
+        FakeBoard board = new FakeBoard(4);
+        AutoShift shift = new AutoShift(new AutoShiftConfig(2, 1, 1), board);
+
+        shift.press(EventType.LEFT, 1L);
+        shift.press(EventType.RIGHT, 2L);
+        assertEquals(4, board.x);
+        shift.tick();
+        shift.tick();
+        assertEquals(5, board.x);
+
+        shift.release(EventType.RIGHT);
+        assertTrue(shift.isHeld(EventType.LEFT));
+        shift.tick();
+        assertEquals(5, board.x);
+        shift.tick();
+        assertEquals(4, board.x);
+
+        shift.release(EventType.LEFT);
+        shift.tick();
+        assertEquals(4, board.x);
+    }
+
+    @Test
+    @DisplayName("Soft drop repeats at its own interval and release all stops everything")
+    void testSoftDropAndReleaseAll() {
+        FakeBoard board = new FakeBoard(4);
+        AutoShift shift = new AutoShift(new AutoShiftConfig(0, 1, 3), board);
+
+        shift.press(EventType.DOWN, 1L);
+        for (int i = 0; i < 6; i++) {
+            shift.tick();
+        }
+        assertEquals(3, board.count(EventType.DOWN));
+
+        shift.press(EventType.RIGHT, 1L);
+        shift.releaseAll();
+        int moves = board.moves.size();
+        shift.tick();
+        shift.tick();
+        assertEquals(moves, board.moves.size());
+        assertFalse(shift.isHeld(EventType.DOWN));
+    }
+
+    @Test
+    @DisplayName("Config rejects bad timings and reads system properties")
+    void testConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new AutoShiftConfig(-1, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AutoShiftConfig(10, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AutoShiftConfig(10, 2, 0));
+
+        System.setProperty(AutoShiftConfig.ARR_PROPERTY, "0");
+        System.setProperty(AutoShiftConfig.DAS_PROPERTY, "fast");
+        try {
+            AutoShiftConfig config = AutoShiftConfig.fromSystemProperties();
+            assertEquals(0, config.getArr());
+            assertEquals(AutoShiftConfig.DEFAULT_DAS, config.getDas());
+            assertEquals(AutoShiftConfig.DEFAULT_SOFT_DROP, config.getSoftDrop());
+        } finally {
+            System.clearProperty(AutoShiftConfig.ARR_PROPERTY);
+            System.clearProperty(AutoShiftConfig.DAS_PROPERTY);
+        }
+    }
+
+    /* a one-cell-wide piece on a ten-column floorless board */
+    private static class FakeBoard implements AutoShift.MoveSink {
+        final List<EventType> moves = new ArrayList<>();
+        int x;
+        long lastInputNanos;
+
+        FakeBoard(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean apply(EventType type, long inputNanos) {
+            moves.add(type);
+            lastInputNanos = inputNanos;
+            int target = x + (type == EventType.LEFT ? -1 : type == EventType.RIGHT ? 1 : 0);
+            if (target < 0 || target > 9) {
+                return false;
+            }
+            x = target;
+            return true;
+        }
+
+        int count(EventType type) {
+            return (int) moves.stream().filter(type::equals).count();
+        }
+    }
+}
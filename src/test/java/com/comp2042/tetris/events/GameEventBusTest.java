@@ -0,0 +1,142 @@
+package com.comp2042.tetris.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the game event ring buffer.
+ */
+class GameEventBusTest {
+
+    @Test
+    @DisplayName("Every listener sees every event in order with its fields intact")
+    void testAllListenersSeeAllEvents() {
+        GameEventBus bus = new GameEventBus(64);
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        bus.subscribe("first", first);
+        bus.subscribe("second", second);
+
+        for (int i = 0; i < 1000; i++) {
+            bus.publish(GameEventType.fromOrdinal(i % 5), i % 3, -i, i * 7, 1L << 40 | i);
+            if (i % 50 == 0) {
+                /* give the listeners a chance to keep up, so nothing is lapped */
+                waitUntilRead(first, i + 1);
+                waitUntilRead(second, i + 1);
+            }
+        }
+        bus.close();
+
+        for (RecordingListener listener : List.of(first, second)) {
+            assertEquals(0, listener.missed);
+            assertEquals(1000, listener.events.size());
+            for (int i = 0; i < 1000; i++) {
+                long[] event = listener.events.get(i);
+                assertArrayEquals(new long[] {i % 5, i % 3, -i, i * 7, 1L << 40 | i}, event, "event " + i);
+            }
+            assertTrue(listener.batches > 0 && listener.batches <= 1000);
+        }
+    }
+
+    @Test
+    @DisplayName("A stalled listener never holds up the publisher and is told what it missed")
+    void testSlowListenerIsLapped() throws InterruptedException {
+        GameEventBus bus = new GameEventBus(16);
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener() {
+            @Override
+            public void onEvent(GameEventType type, int player, int value, int detail, long tick) {
+                super.onEvent(type, player, value, detail, tick);
+                if (events.size() == 1) {
+                    stalled.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        bus.subscribe("slow", slow);
+
+        bus.publish(GameEventType.PIECE_LOCKED, 1, 0, 0, 0);
+        assertTrue(stalled.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 1000; i++) {
+            bus.publish(GameEventType.PIECE_LOCKED, 1, i, 0, i);
+        }
+        assertEquals(1000, bus.getPublishedCount());
+        release.countDown();
+        bus.close();
+
+        assertTrue(slow.missed > 0);
+        assertEquals(1000, slow.events.size() + slow.missed);
+        /* whatever survived is still in order and ends at the last event */
+        for (int i = 1; i < slow.events.size(); i++) {
+            assertTrue(slow.events.get(i)[2] > slow.events.get(i - 1)[2]);
+        }
+        assertEquals(999, slow.events.get(slow.events.size() - 1)[2]);
+    }
+
+    @Test
+    @DisplayName("Closing delivers what was published, and late listeners start from now")
+    void testCloseDrainsAndLateSubscribe() {
+        GameEventBus bus = new GameEventBus(8);
+        bus.publish(GameEventType.ATTACK, 2, 4, 1, 10);
+        RecordingListener late = new RecordingListener();
+        bus.subscribe("late", late);
+        bus.publish(GameEventType.COMBO, 1, 3, 150, 11);
+        bus.close();
+
+        assertEquals(1, late.events.size());
+        assertEquals(GameEventType.COMBO.ordinal(), late.events.get(0)[0]);
+        assertThrows(IllegalStateException.class, () -> bus.subscribe("closed", new RecordingListener()));
+    }
+
+    @Test
+    @DisplayName("Capacity must be a power of two")
+    void testCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(12));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(1));
+        assertEquals(GameEventBus.DEFAULT_CAPACITY, new GameEventBus().getCapacity());
+    }
+
+    private static void waitUntilRead(RecordingListener listener, long count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (listener.read.get() < count && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /* the bus thread writes, the test reads after close() joins it */
+    private static class RecordingListener implements GameEventListener {
+        final List<long[]> events = new ArrayList<>();
+        final AtomicLong read = new AtomicLong();
+        long missed;
+        int batches;
+
+        @Override
+        public void onEvent(GameEventType type, int player, int value, int detail, long tick) {
+            events.add(new long[] {type.ordinal(), player, value, detail, tick});
+            read.incrementAndGet();
+        }
+
+        @Override
+        public void onBatchEnd() {
+            batches++;
+        }
+
+        @Override
+        public void onEventsMissed(long count) {
+            missed += count;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.tetris.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the log-linear latency histogram.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Percentiles land within a bucket's width of the real value")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        /* 1 ms to 100 ms in 1 ms steps */
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        LatencyHistogram.Summary summary = histogram.summarize();
+        assertEquals(100, summary.getCount());
+        assertEquals(100_000_000L, summary.getMax());
+        assertEquals(50_000_000L, summary.getP50(), 50_000_000L / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(99_000_000L, summary.getP99(), 99_000_000L / LatencyHistogram.SUB_BUCKETS);
+        assertTrue(summary.getP50() >= 50_000_000L, "percentiles report the bucket's upper bound");
+    }
+
+    @Test
+    @DisplayName("Bucket bounds are continuous and contain their values")
+    void testBuckets() {
+        for (int bucket = 0; bucket < 900; bucket++) {
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(upper), "bucket " + bucket);
+            assertEquals(bucket + 1, LatencyHistogram.bucketOf(upper + 1), "bucket " + bucket);
+        }
+        long[] samples = {0, 1, 15, 16, 17, 31, 32, 1000, 16_666_667L, 1L << 40, (1L << 50) + 12345};
+        for (long value : samples) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "value " + value);
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1), "value " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent recording loses no samples")
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i * 100L + offset);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LatencyHistogram.Summary summary = histogram.summarize();
+        assertEquals(40_000, summary.getCount());
+        assertEquals(9_999 * 100L + 3, summary.getMax());
+    }
+
+    @Test
+    @DisplayName("An empty or reset histogram reports zeros")
+    void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.summarize().getP99());
+        histogram.record(5_000_000L);
+        histogram.record(-3);
+        assertEquals(2, histogram.summarize().getCount());
+        histogram.reset();
+        LatencyHistogram.Summary summary = histogram.summarize();
+        assertEquals(0, summary.getCount());
+        assertEquals(0, summary.getMax());
+        assertEquals("p50 0.0 p99 0.0 max 0.0 ms (n=0)", summary.toString());
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.tetris.metrics;
+
+import com.comp2042.tetris.core.GameClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for input, frame and tick latency tracking.
+ */
+class LatencyMonitorTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("Each applied input is timed to the end of the next frame")
+    void testInputToRender() {
+        LatencyMonitor monitor = new LatencyMonitor();
+        monitor.inputApplied(100 * MS);
+        monitor.inputApplied(110 * MS);
+        /* gravity moves carry no key time */
+        monitor.inputApplied(0);
+        monitor.frameRendered(120 * MS);
+        monitor.frameRendered(140 * MS);
+
+        LatencyHistogram.Summary summary = monitor.getInputToRender().summarize();
+        assertEquals(2, summary.getCount());
+        assertEquals(20 * MS, summary.getMax());
+        assertEquals(10 * MS, summary.getP50(), MS);
+    }
+
+    @Test
+    @DisplayName("Frame time is the gap between pulses")
+    void testFrameTime() {
+        LatencyMonitor monitor = new LatencyMonitor();
+        long now = 0;
+        for (int frame = 0; frame < 10; frame++) {
+            now += frame == 5 ? 50 * MS : 16 * MS;
+            monitor.pulse(now);
+        }
+        LatencyHistogram.Summary summary = monitor.getFrameTime().summarize();
+        assertEquals(9, summary.getCount());
+        assertEquals(50 * MS, summary.getMax());
+        assertEquals(16 * MS, summary.getP50(), MS);
+
+        monitor.reset();
+        monitor.pulse(now + 16 * MS);
+        assertEquals(0, monitor.getFrameTime().summarize().getCount(), "the first pulse after a reset has no gap");
+    }
+
+    @Test
+    @DisplayName("Timed tick listeners still run and record every tick")
+    void testTickTiming() {
+        LatencyMonitor monitor = new LatencyMonitor();
+        GameClock clock = new GameClock();
+        long[] ticks = new long[1];
+        clock.addListener(monitor.timeTicks(tick -> ticks[0]++));
+        clock.advance(0);
+        clock.advance(5 * GameClock.TICK_NANOS);
+
+        assertEquals(5, ticks[0]);
+        assertEquals(5, monitor.getTickTime().summarize().getCount());
+        assertTrue(monitor.summary().startsWith("input p50"));
+        assertEquals(3, monitor.summary("\n").split("\n").length);
+    }
+
+    @Test
+    @DisplayName("The periodic log prints the summary until stopped")
+    void testLogging() throws InterruptedException {
+        LatencyMonitor monitor = new LatencyMonitor();
+        CountDownLatch lines = new CountDownLatch(1);
+        monitor.startLogging(1, line -> {
+            assertTrue(line.contains("frame"));
+            lines.countDown();
+        });
+        try {
+            assertTrue(lines.await(5, TimeUnit.SECONDS));
+        } finally {
+            monitor.stopLogging();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.tetris.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyRegionTest {
+
+    private DirtyRegion region;
+
+    @BeforeEach
+    void setUp() {
+        region = new DirtyRegion(4, 3);
+    }
+
+    @Test
+    @DisplayName("Cells outside the board are ignored")
+    void testMarkIgnoresOutOfBounds() {
+        region.mark(-1, 0);
+        region.mark(0, 3);
+        region.mark(4, 0);
+
+        assertTrue(region.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Row ranges are clamped to the board")
+    void testMarkRowsClamps() {
+        region.markRows(2, 10);
+
+        assertEquals(6, region.size());
+        assertFalse(region.isDirty(1, 2));
+        assertTrue(region.isDirty(3, 0));
+    }
+
+    @Test
+    @DisplayName("forEach visits dirty cells in row-major order")
+    void testForEachOrder() {
+        region.mark(2, 1);
+        region.mark(0, 2);
+        region.mark(2, 1);
+
+        List<String> visited = new ArrayList<>();
+        region.forEach((row, col) -> visited.add(row + "," + col));
+
+        assertEquals(List.of("0,2", "2,1"), visited);
+    }
+
+    @Test
+    @DisplayName("Clear forgets everything")
+    void testClear() {
+        region.markAll();
+        assertEquals(12, region.size());
+
+        region.clear();
+
+        assertTrue(region.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Another region's marks can be copied or added")
+    void testCopyAndAdd() {
+        DirtyRegion other = new DirtyRegion(4, 3);
+        other.mark(1, 1);
+        region.mark(3, 2);
+
+        region.add(other);
+        assertTrue(region.isDirty(1, 1));
+        assertTrue(region.isDirty(3, 2));
+
+        region.copyFrom(other);
+        assertEquals(1, region.size());
+        assertTrue(region.isDirty(1, 1));
+        assertEquals(1, other.size());
+    }
+}
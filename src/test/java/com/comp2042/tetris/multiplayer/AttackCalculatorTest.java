@@ -76,4 +76,16 @@ class AttackCalculatorTest {
         assertEquals(0, AttackCalculator.calculateDamage(-1, 0));
         assertEquals(0, AttackCalculator.calculateDamage(5, 0));
     }
+
+    @Test
+    @DisplayName("Garbage rows follow the guideline table plus combo rows")
+    void testGarbageLines() {
+        assertEquals(0, AttackCalculator.calculateGarbageLines(1, 0));
+        assertEquals(1, AttackCalculator.calculateGarbageLines(2, 0));
+        assertEquals(2, AttackCalculator.calculateGarbageLines(3, 0));
+        assertEquals(4, AttackCalculator.calculateGarbageLines(4, 0));
+        assertEquals(6, AttackCalculator.calculateGarbageLines(4, 3));
+        assertEquals(5, AttackCalculator.calculateGarbageLines(1, 50));
+        assertEquals(0, AttackCalculator.calculateGarbageLines(0, 5));
+    }
 }
@@ -0,0 +1,183 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.ai.BotPilot;
+import com.comp2042.tetris.ai.HeuristicEvaluator;
+import com.comp2042.tetris.ai.TetrisBot;
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.patterns.HardDifficulty;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import com.comp2042.tetris.pieces.RotationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shared battle tick.
+ */
+class BattleSchedulerTest {
+
+    private static final TetrisBot BOT = new TetrisBot(new HeuristicEvaluator());
+
+    @Test
+    @DisplayName("A seeded bot match plays out the same way every time")
+    void testDeterministicMatch() {
+        long[] first = playMatch(6, 7L);
+        long[] second = playMatch(6, 7L);
+        assertArrayEquals(first, second);
+        assertTrue(first[1] > 0, "someone should lock pieces");
+    }
+
+    @Test
+    @DisplayName("A hundred boards all advance on every tick")
+    void testHundredBoards() {
+        BattleScheduler scheduler = botMatch(MultiplayerGameManager.MAX_PLAYERS, 11L);
+        for (long tick = 1; tick <= 600; tick++) {
+            scheduler.onTick(tick);
+        }
+        MultiplayerGameManager match = scheduler.getMatch();
+        assertEquals(600, scheduler.getTicks());
+        /* ten seconds at a few ticks a move is dozens of pieces per board */
+        assertTrue(scheduler.getLocks() > 100L * 10, "locks: " + scheduler.getLocks());
+        for (int player = 1; player <= match.getPlayerCount(); player++) {
+            assertTrue(match.getBoard(player).getScore().getValue() > 0 || !match.isAlive(player));
+        }
+    }
+
+    @Test
+    @DisplayName("Human input and gravity share the tick, and a finished match stops")
+    void testHumanInputAndEnd() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.MATRIX, 2, GeneratorType.BAG_7, 5L);
+        BattleScheduler scheduler = new BattleScheduler(match, new MediumDifficulty());
+
+        int y = match.getBoard(1).getViewData().getyPosition();
+        assertTrue(scheduler.apply(1, EventType.DOWN));
+        assertEquals(y + 1, match.getBoard(1).getViewData().getyPosition());
+        assertFalse(scheduler.apply(1, EventType.HARD_DROP));
+        assertEquals(1, scheduler.getLocks());
+
+        match.eliminate(2);
+        scheduler.onTick(1);
+        assertEquals(0, scheduler.getTicks());
+        assertFalse(scheduler.apply(1, EventType.LEFT));
+    }
+
+    @Test
+    @DisplayName("Restoring a snapshot plays the rest of the match out the same way")
+    void testSnapshotRestore() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, 4, GeneratorType.BAG_7, 9L);
+        BattleScheduler scheduler = new BattleScheduler(match, new MediumDifficulty());
+        playRandomly(scheduler, new SplittableRandom(1L), 60);
+        MatchState state = new MatchState(match);
+        scheduler.snapshot(state);
+        long locksAtSnapshot = scheduler.getLocks();
+
+        playRandomly(scheduler, new SplittableRandom(2L), 3000);
+        long[] first = summarize(scheduler);
+        assertTrue(scheduler.getLocks() > locksAtSnapshot + 20, "locks: " + scheduler.getLocks());
+        assertNotEquals(0, match.getWinner());
+
+        scheduler.restore(state);
+        assertEquals(locksAtSnapshot, scheduler.getLocks());
+        assertTrue(match.isGameInProgress());
+        playRandomly(scheduler, new SplittableRandom(2L), 3000);
+        assertArrayEquals(first, summarize(scheduler));
+    }
+
+    @Test
+    @DisplayName("A single at level 1 keeps the difficulty's starting speed")
+    void testGravityKeptBelowLevelUp() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.MATRIX, 2, GeneratorType.BAG_7, 5L);
+        HardDifficulty hard = new HardDifficulty();
+        BattleScheduler scheduler = new BattleScheduler(match, hard);
+        TetrisBoard board = match.getBoard(1);
+
+        /* the bottom row is full except under the piece's lowest cells,
+         * so dropping it straight down clears exactly that row
+         */
+        RotationState rotation = board.getTetrominoRotator().getCurrentRotation();
+        int x = board.getPiecePosition().x;
+        int[][] matrix = board.getBoardMatrix();
+        int[][] cells = new int[matrix.length][matrix[0].length];
+        int bottom = cells.length - 1;
+        Arrays.fill(cells[bottom], 1);
+        for (int cell = 0; cell < rotation.getCellRows().length; cell++) {
+            if (rotation.getCellRows()[cell] == rotation.getMaxRow()) {
+                cells[bottom][x + rotation.getCellCols()[cell]] = 0;
+            }
+        }
+        board.loadCells(cells);
+
+        scheduler.apply(1, EventType.HARD_DROP);
+        assertEquals(1, board.getLevelManager().getTotalLinesCleared());
+        assertEquals(1, board.getLevelManager().getCurrentLevel());
+        assertEquals(hard.getGravity(), scheduler.getCellsPerTick(1));
+    }
+
+    /* presses a random key on a third of the ticks, as fast humans would */
+    private static void playRandomly(BattleScheduler scheduler, SplittableRandom random, int ticks) {
+        EventType[] types = EventType.values();
+        MultiplayerGameManager match = scheduler.getMatch();
+        for (int tick = 0; tick < ticks && match.isGameInProgress(); tick++) {
+            for (int player = 1; player <= match.getPlayerCount(); player++) {
+                if (random.nextInt(3) == 0) {
+                    scheduler.apply(player, types[random.nextInt(types.length)]);
+                }
+            }
+            scheduler.onTick(scheduler.getTicks() + 1);
+        }
+    }
+
+    /* everything a rewound match must get back to */
+    private static long[] summarize(BattleScheduler scheduler) {
+        MultiplayerGameManager match = scheduler.getMatch();
+        int players = match.getPlayerCount();
+        long[] result = new long[3 + 5 * players];
+        result[0] = scheduler.getTicks();
+        result[1] = scheduler.getLocks();
+        result[2] = match.getWinner();
+        for (int player = 1; player <= players; player++) {
+            int base = 3 + 5 * (player - 1);
+            result[base] = match.getBoard(player).getZobristHash();
+            result[base + 1] = match.getBoard(player).getScore().getValue();
+            result[base + 2] = match.getHealth(player).getCurrentHp();
+            result[base + 3] = match.getGarbage(player).getPending();
+            result[base + 4] = match.getKnockouts(player);
+        }
+        return result;
+    }
+
+    /* returns the ticks, locks, winner and every player's score */
+    private static long[] playMatch(int players, long seed) {
+        BattleScheduler scheduler = botMatch(players, seed);
+        MultiplayerGameManager match = scheduler.getMatch();
+        for (long tick = 1; tick <= 3000 && match.isGameInProgress(); tick++) {
+            scheduler.onTick(tick);
+        }
+        long[] result = new long[players + 3];
+        result[0] = scheduler.getTicks();
+        result[1] = scheduler.getLocks();
+        result[2] = match.getWinner();
+        for (int player = 1; player <= players; player++) {
+            result[player + 2] = match.getBoard(player).getScore().getValue();
+        }
+        return result;
+    }
+
+    private static BattleScheduler botMatch(int players, long seed) {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, players, GeneratorType.BAG_7, seed);
+        BattleScheduler scheduler = new BattleScheduler(match, new MediumDifficulty());
+        TargetingMode[] modes = TargetingMode.values();
+        for (int player = 1; player <= players; player++) {
+            match.setTargetingMode(player, modes[player % modes.length]);
+            scheduler.setPilot(player, new BotPilot(BOT, 2 + player % 3));
+        }
+        return scheduler;
+    }
+}
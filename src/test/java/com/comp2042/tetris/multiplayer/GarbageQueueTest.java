@@ -0,0 +1,88 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for pending garbage and cancelling.
+ */
+class GarbageQueueTest {
+
+    @Test
+    @DisplayName("Outgoing attacks cancel the oldest waiting rows first")
+    void testCancel() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(2, 3);
+        queue.add(4, 7);
+        assertEquals(6, queue.getPending());
+
+        assertEquals(0, queue.cancel(3));
+        assertEquals(3, queue.getPending());
+        assertEquals(2, queue.cancel(5));
+        assertEquals(0, queue.getPending());
+    }
+
+    @Test
+    @DisplayName("Landing is capped per lock and keeps each attack's hole")
+    void testLandOn() {
+        TetrisBoard board = BoardEngine.MATRIX.create(24, 10, GeneratorType.BAG_7.create(1L));
+        board.newGame();
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(3, 2);
+        queue.add(4, 8);
+
+        assertFalse(queue.landOn(board, 5));
+        assertEquals(2, queue.getPending());
+        int[][] cells = board.getBoardMatrix();
+        /* oldest attack lands first, so it ends up on top */
+        for (int row = 19; row <= 21; row++) {
+            assertEquals(0, cells[row][2], "row " + row);
+        }
+        for (int row = 22; row <= 23; row++) {
+            assertEquals(0, cells[row][8], "row " + row);
+            assertNotEquals(0, cells[row][2]);
+        }
+
+        assertFalse(queue.landOn(board, 8));
+        assertEquals(0, queue.getPending());
+        assertEquals(0, board.getBoardMatrix()[16][2]);
+    }
+
+    @Test
+    @DisplayName("A full queue folds new rows into the newest attack")
+    void testOverflow() {
+        GarbageQueue queue = new GarbageQueue();
+        for (int i = 0; i < 100; i++) {
+            queue.add(1, i % 10);
+        }
+        assertEquals(100, queue.getPending());
+        assertEquals(0, queue.cancel(100));
+        queue.clear();
+        assertEquals(0, queue.getPending());
+    }
+
+    @Test
+    @DisplayName("A match sends garbage that the target can cancel or take")
+    void testMatchGarbage() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, 2, GeneratorType.BAG_7, 9L);
+        match.startNewGame();
+
+        match.onLinesClear(1, 4, 0);
+        assertEquals(4, match.getGarbage(2).getPending());
+
+        /* player 2's double cancels one row and sends nothing */
+        match.onLinesClear(2, 2, 0);
+        assertEquals(3, match.getGarbage(2).getPending());
+        assertEquals(0, match.getGarbage(1).getPending());
+
+        /* a lock that clears nothing lets the rest in */
+        assertFalse(match.onPieceLocked(2, 0));
+        assertEquals(0, match.getGarbage(2).getPending());
+        assertEquals(3, match.getBoard(2).getStatistics().getMaxHeight());
+    }
+}
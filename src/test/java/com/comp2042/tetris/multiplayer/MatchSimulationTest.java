@@ -0,0 +1,162 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.GameClock;
+import com.comp2042.tetris.events.AutoShiftConfig;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.metrics.LatencyMonitor;
+import com.comp2042.tetris.models.DirtyRegion;
+import com.comp2042.tetris.models.ViewData;
+import com.comp2042.tetris.patterns.MediumDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the match simulation thread and its frames.
+ */
+class MatchSimulationTest {
+
+    @Test
+    @DisplayName("A press is applied at once and its latency is counted once")
+    void testPressShowsInNextFrame() {
+        LatencyMonitor monitor = new LatencyMonitor();
+        MatchSimulation simulation = simulation(monitor);
+        MatchFrame first = simulation.pollFrame();
+        assertNotNull(first);
+        int x1 = first.getView(1).getxPosition();
+        int x2 = first.getView(2).getxPosition();
+        assertNull(simulation.pollFrame());
+
+        assertTrue(simulation.press(1, EventType.LEFT, 1L));
+        /* the first advance only starts the clock, so no tick runs */
+        assertEquals(0, simulation.advance(0));
+        MatchFrame moved = simulation.pollFrame();
+        assertNotNull(moved);
+        assertEquals(x1 - 1, moved.getView(1).getxPosition());
+        assertEquals(x2, moved.getView(2).getxPosition());
+        monitor.frameRendered(2L);
+
+        simulation.advance(GameClock.TICK_NANOS);
+        assertNotNull(simulation.pollFrame());
+        monitor.frameRendered(3L);
+        assertEquals(1, monitor.getInputToRender().summarize().getCount());
+    }
+
+    @Test
+    @DisplayName("Held keys repeat and gravity falls on the simulation's own ticks")
+    void testHeldKeyAndGravity() {
+        MatchSimulation simulation = simulation(null);
+        int y = simulation.pollFrame().getView(1).getyPosition();
+
+        simulation.press(2, EventType.RIGHT, 1L);
+        simulation.advance(0);
+        for (int tick = 1; tick <= 45; tick++) {
+            simulation.advance(tick * GameClock.TICK_NANOS);
+        }
+        MatchFrame frame = simulation.pollFrame();
+        assertEquals(45, frame.getTick());
+        assertTrue(frame.getView(1).getyPosition() > y, "gravity should pull player 1 down");
+        /* three quarters of a second of a held key slides the piece to the wall */
+        int[][] shape = frame.getView(2).getBrickData();
+        int right = frame.getView(2).getxPosition() + lastFilledColumn(shape);
+        assertEquals(frame.getCells(2)[0].length - 1, right);
+    }
+
+    @Test
+    @DisplayName("A frame marks only what changed since the reader's last frame, skipped frames included")
+    void testFramesCarryDirtyCells() {
+        MatchSimulation simulation = simulation(null);
+        MatchFrame first = simulation.pollFrame();
+        int x = first.getView(1).getxPosition();
+        int y = first.getView(1).getyPosition();
+        /* as the renderers do once they have painted */
+        first.getView(1).getDirtyRegion().clear();
+        first.getView(2).getDirtyRegion().clear();
+
+        /* the reader misses the frame with player 1's move */
+        simulation.press(1, EventType.LEFT, 1L);
+        simulation.advance(0);
+        simulation.press(2, EventType.LEFT, 2L);
+        simulation.advance(0);
+        MatchFrame frame = simulation.pollFrame();
+        assertEquals(3, frame.getSequence());
+
+        ViewData view = frame.getView(1);
+        DirtyRegion region = view.getDirtyRegion();
+        int[][] shape = view.getBrickData();
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    assertTrue(region.isDirty(y + row, x - 1 + col), "new cell " + row + "," + col);
+                    assertTrue(region.isDirty(y + row, x + col), "old cell " + row + "," + col);
+                }
+            }
+        }
+        /* piece and ghost, before and after */
+        assertTrue(region.size() <= 16, "dirty cells: " + region.size());
+        assertFalse(frame.getView(2).getDirtyRegion().isEmpty());
+    }
+
+    @Test
+    @DisplayName("The thread keeps ticking while the reader stalls, and stops cleanly")
+    void testThreadRunsWithoutReader() throws InterruptedException {
+        MatchSimulation simulation = simulation(null);
+        simulation.pollFrame();
+        simulation.start();
+        try {
+            /* nobody reads for a while; the game must not wait for us */
+            Thread.sleep(250);
+            MatchFrame frame = simulation.pollFrame();
+            assertNotNull(frame);
+            assertTrue(frame.getTick() >= 5, "ticks: " + frame.getTick());
+
+            simulation.press(1, EventType.HARD_DROP, System.nanoTime());
+            long deadline = System.nanoTime() + 2_000_000_000L;
+            boolean landed = false;
+            while (!landed && System.nanoTime() < deadline) {
+                frame = simulation.pollFrame();
+                landed = frame != null && countCells(frame.getCells(1)) == 4;
+                Thread.sleep(1);
+            }
+            assertTrue(landed, "the hard drop should reach a frame");
+        } finally {
+            simulation.stop();
+        }
+        assertFalse(simulation.isRunning());
+        long ticks = simulation.getScheduler().getTicks();
+        Thread.sleep(50);
+        assertEquals(ticks, simulation.getScheduler().getTicks());
+    }
+
+    private static MatchSimulation simulation(LatencyMonitor monitor) {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, 2, GeneratorType.BAG_7, 3L);
+        return new MatchSimulation(match, new MediumDifficulty(), AutoShiftConfig.standard(), monitor);
+    }
+
+    private static int lastFilledColumn(int[][] shape) {
+        int last = -1;
+        for (int[] row : shape) {
+            for (int col = 0; col < row.length; col++) {
+                if (row[col] != 0) {
+                    last = Math.max(last, col);
+                }
+            }
+        }
+        return last;
+    }
+
+    private static int countCells(int[][] cells) {
+        int count = 0;
+        for (int[] row : cells) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.tetris.multiplayer;
+
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.pieces.GeneratorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for N-player matches and attack targeting.
+ */
+class MultiplayerGameManagerTest {
+
+    @Test
+    @DisplayName("Two players keep the original head-to-head rules")
+    void testTwoPlayers() {
+        MultiplayerGameManager match = new MultiplayerGameManager();
+        match.startNewGame();
+
+        for (TargetingMode mode : TargetingMode.values()) {
+            match.setTargetingMode(1, mode);
+            assertEquals(2, match.onLinesClear(1, 1, 0));
+        }
+        assertEquals(97, match.getPlayer2Health().getCurrentHp());
+
+        match.eliminate(2);
+        assertFalse(match.isGameInProgress());
+        assertEquals(1, match.getWinner());
+        assertEquals(1, match.getKnockouts(1));
+    }
+
+    @Test
+    @DisplayName("Random targeting spreads over living opponents only")
+    void testRandomTargeting() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, 5, GeneratorType.BAG_7, 1L);
+        match.startNewGame();
+        match.eliminate(3);
+
+        Set<Integer> hit = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            hit.add(match.onLinesClear(1, 1, 0));
+        }
+        assertEquals(Set.of(2, 4, 5), hit);
+        assertEquals(4, match.getAliveCount());
+    }
+
+    @Test
+    @DisplayName("KO targeting hits the weakest opponent and attacker targeting hits back")
+    void testKoAndAttackerTargeting() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, 4, GeneratorType.BAG_7, 2L);
+        match.startNewGame();
+        match.getHealth(3).takeDamage(40);
+
+        match.setTargetingMode(1, TargetingMode.KO);
+        assertEquals(3, match.onLinesClear(1, 4, 0));
+
+        match.setTargetingMode(4, TargetingMode.ATTACKER);
+        match.setTargetingMode(2, TargetingMode.KO);
+        match.getHealth(4).takeDamage(70);
+        assertEquals(4, match.onLinesClear(2, 1, 0));
+        assertEquals(2, match.getLastAttacker(4));
+        assertEquals(2, match.onLinesClear(4, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Knockouts are credited and the last player standing wins")
+    void testLastStanding() {
+        MultiplayerGameManager match = new MultiplayerGameManager(BoardEngine.BITBOARD, 3, GeneratorType.BAG_7, 3L);
+        match.startNewGame();
+        match.setTargetingMode(1, TargetingMode.KO);
+        match.getHealth(2).takeDamage(99);
+
+        assertEquals(2, match.onLinesClear(1, 1, 0));
+        assertFalse(match.isAlive(2));
+        assertEquals(1, match.getKnockouts(1));
+        assertTrue(match.isGameInProgress());
+        assertEquals(0, match.onLinesClear(2, 4, 0));
+
+        match.eliminate(1);
+        assertFalse(match.isGameInProgress());
+        assertEquals(3, match.getWinner());
+    }
+
+    @Test
+    @DisplayName("Player count is bounded")
+    void testPlayerCount() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiplayerGameManager(BoardEngine.BITBOARD, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MultiplayerGameManager(BoardEngine.BITBOARD, MultiplayerGameManager.MAX_PLAYERS + 1));
+        assertEquals(TargetingMode.KO, TargetingMode.fromName(" ko "));
+    }
+}
@@ -100,4 +100,17 @@ class PlayerHealthTest {
         assertEquals(50, customHealth.getMaxHp());
         assertEquals(50, customHealth.getCurrentHp());
     }
+
+    @Test
+    @DisplayName("Listeners see every HP change")
+    void testListenerSeesChanges() {
+        StringBuilder changes = new StringBuilder();
+        health.addListener((oldHp, newHp) -> changes.append(oldHp).append("->").append(newHp).append(' '));
+
+        health.takeDamage(30);
+        health.heal(10);
+        health.reset();
+
+        assertEquals("100->70 70->80 80->100 ", changes.toString());
+    }
 }
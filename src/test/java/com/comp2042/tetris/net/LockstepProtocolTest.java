@@ -0,0 +1,53 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.multiplayer.PlayerInputHandler.PlayerAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the lockstep wire format.
+ */
+class LockstepProtocolTest {
+
+    @Test
+    @DisplayName("Every action packs into its own bit of a frame, and NONE into none")
+    void testFramePacking() {
+        byte frame = 0;
+        for (PlayerAction action : LockstepProtocol.APPLY_ORDER) {
+            assertFalse(LockstepProtocol.contains(frame, action));
+            frame = LockstepProtocol.add(frame, action);
+            assertTrue(LockstepProtocol.contains(frame, action));
+        }
+        assertEquals(LockstepProtocol.APPLY_ORDER.length, Integer.bitCount(frame & 0xFF));
+        assertEquals(PlayerAction.values().length - 1, LockstepProtocol.APPLY_ORDER.length);
+
+        assertEquals(0, LockstepProtocol.add((byte) 0, PlayerAction.NONE));
+        assertFalse(LockstepProtocol.contains((byte) -1, PlayerAction.NONE));
+    }
+
+    @Test
+    @DisplayName("Messages are the size their first byte says")
+    void testMessageSizes() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        LockstepProtocol.putStart(buffer, 7, -3L, 2, 3);
+        assertEquals(LockstepProtocol.sizeOf(buffer.get(0)), buffer.position());
+
+        buffer.clear();
+        LockstepProtocol.putInput(buffer, 1 << 20, (byte) 5);
+        assertEquals(LockstepProtocol.sizeOf(buffer.get(0)), buffer.position());
+
+        buffer.clear();
+        LockstepProtocol.putTick(buffer, 9, (byte) 1, (byte) 2);
+        assertEquals(LockstepProtocol.sizeOf(buffer.get(0)), buffer.position());
+        buffer.flip().get();
+        assertEquals(9, buffer.getInt());
+        assertEquals(1, buffer.get());
+        assertEquals(2, buffer.get());
+
+        assertEquals(-1, LockstepProtocol.sizeOf((byte) 0));
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.metrics.LatencyHistogram;
+import com.comp2042.tetris.multiplayer.PlayerInputHandler.PlayerAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loopback tests for the lockstep server and client.
+ */
+class LockstepServerTest {
+
+    /* a millisecond tick keeps the tests quick */
+    private static final long TICK_NANOS = 1_000_000L;
+    private static final int TICKS = 400;
+    private static final int DELAY = 3;
+
+    @Test
+    @DisplayName("Both clients play the same match, which a local replay of the inputs reproduces")
+    void testClientsAgree() throws Exception {
+        byte[][] pressed = new byte[3][TICKS];
+        LatencyHistogram roundTrip = new LatencyHistogram();
+        try (LockstepServer server = new LockstepServer(loopback(0), 42L, DELAY);
+             LockstepClient client = new LockstepClient(TICK_NANOS, roundTrip)) {
+            server.start();
+            client.start();
+            LockstepClient.Session first = client.connect(loopback(server.getPort()), recording(1L, pressed), TICKS);
+            LockstepClient.Session second = client.connect(loopback(server.getPort()), recording(2L, pressed), TICKS);
+            awaitFinished(first, second);
+
+            assertEquals(first.getMatchId(), second.getMatchId());
+            assertEquals(3, first.getPlayer() + second.getPlayer());
+            assertEquals(42L, first.getSeed());
+            assertEquals(first.getChecksum(), second.getChecksum());
+
+            /* the same seed and the same frames give the same match */
+            LockstepMatch replay = new LockstepMatch(first.getSeed());
+            for (int tick = 0; tick < TICKS; tick++) {
+                replay.step(pressed[1][tick], pressed[2][tick]);
+            }
+            assertEquals(replay.checksum(), first.getChecksum());
+            assertTrue(replay.getMatch().getBoard(1).getScore().getValue() > 0);
+
+            /* one input per tick per player in, one pair per tick per player out */
+            assertEquals(TICKS, server.getTicksRelayed());
+            assertEquals(2L * TICKS * LockstepProtocol.INPUT_SIZE, server.getBytesIn());
+            assertEquals(2L * (LockstepProtocol.START_SIZE + TICKS * LockstepProtocol.TICK_SIZE),
+                server.getBytesOut());
+            assertEquals(2L * TICKS, roundTrip.summarize().getCount());
+        }
+    }
+
+    @Test
+    @DisplayName("A client that breaks the protocol ends the match for its opponent too")
+    void testDropEndsMatch() throws Exception {
+        try (LockstepServer server = new LockstepServer(loopback(0), 0L, DELAY);
+             LockstepClient client = new LockstepClient(TICK_NANOS, new LatencyHistogram());
+             SocketChannel rogue = SocketChannel.open()) {
+            server.start();
+            client.start();
+            LockstepClient.Session session = client.connect(loopback(server.getPort()), (player, tick) -> 0, TICKS);
+            rogue.connect(loopback(server.getPort()));
+            waitFor(() -> server.getActiveMatches() == 1);
+
+            /* a server-to-client message is not a valid input */
+            rogue.write(ByteBuffer.wrap(new byte[]{LockstepProtocol.TICK, 0, 0, 0, 0, 0, 0}));
+            waitFor(session::isClosed);
+            assertFalse(session.isFinished());
+            assertEquals(0, server.getActiveMatches());
+        }
+    }
+
+    /* player n's random presses, kept for the replay */
+    private static LockstepClient.InputSource recording(long seed, byte[][] pressed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return (player, tick) -> {
+            byte frame = random.nextInt(3) != 0 ? 0
+                : LockstepProtocol.add((byte) 0, PlayerAction.values()[random.nextInt(PlayerAction.values().length)]);
+            pressed[player][tick] = frame;
+            return frame;
+        };
+    }
+
+    private static void awaitFinished(LockstepClient.Session... sessions) throws InterruptedException {
+        for (LockstepClient.Session session : sessions) {
+            waitFor(() -> session.isFinished() || session.isClosed());
+            assertTrue(session.isFinished(), "session closed before it finished");
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(2);
+        }
+    }
+
+    private static InetSocketAddress loopback(int port) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    }
+}
@@ -0,0 +1,130 @@
+package com.comp2042.tetris.net;
+
+import com.comp2042.tetris.metrics.LatencyHistogram;
+import com.comp2042.tetris.multiplayer.PlayerInputHandler.PlayerAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for rollback: prediction, correction, the limit and the
+ * latency harness.
+ */
+class RollbackSessionTest {
+
+    private static final int TICKS = 600;
+
+    @Test
+    @DisplayName("Late remote inputs are corrected and the match ends where lockstep does")
+    void testLateInputsCorrected() {
+        byte[][] frames = randomFrames(3L);
+        LatencyHistogram times = new LatencyHistogram();
+        RollbackSession session = new RollbackSession(new LockstepMatch(3L, true), 2, times);
+
+        /* player 1's input always turns up five ticks late */
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick >= 5) {
+                session.addRemoteInput(tick - 5, frames[0][tick - 5]);
+            }
+            assertTrue(session.advance(frames[1][tick]));
+        }
+        assertFalse(session.isSettled());
+        for (int tick = TICKS - 5; tick < TICKS; tick++) {
+            session.addRemoteInput(tick, frames[0][tick]);
+        }
+        session.correct();
+
+        assertTrue(session.isSettled());
+        assertEquals(replay(3L, frames), session.checksum());
+        assertTrue(session.getMispredictions() > 0);
+        assertEquals(times.summarize().getCount(), session.getRollbacks());
+        assertEquals(5, session.getMaxDepth());
+        assertEquals(0, session.getStalls());
+    }
+
+    @Test
+    @DisplayName("The session stalls rather than run past its rollback limit")
+    void testStallsAtLimit() {
+        byte drop = LockstepProtocol.add((byte) 0, PlayerAction.HARD_DROP);
+        RollbackSession session = new RollbackSession(new LockstepMatch(4L), 1, 4, new LatencyHistogram());
+        for (int tick = 0; tick < 4; tick++) {
+            assertTrue(session.advance((byte) 0));
+        }
+        assertFalse(session.advance((byte) 0));
+        assertEquals(1, session.getStalls());
+        assertEquals(4, session.getTick());
+
+        /* the oldest guess was wrong: all four ticks run again */
+        session.addRemoteInput(0, drop);
+        assertTrue(session.advance((byte) 0));
+        assertEquals(1, session.getRollbacks());
+        assertEquals(4, session.getMaxDepth());
+        assertEquals(1, session.getConfirmedTick());
+
+        assertThrows(IllegalArgumentException.class, () -> session.addRemoteInput(1000, (byte) 0));
+    }
+
+    @Test
+    @DisplayName("Inputs that arrive early, out of order or twice are each taken once")
+    void testOutOfOrderInputs() {
+        byte[][] frames = randomFrames(5L);
+        RollbackSession session = new RollbackSession(new LockstepMatch(5L, true), 1, new LatencyHistogram());
+        for (int base = 0; base < TICKS; base += 4) {
+            /* a burst of four, newest first, with a duplicate */
+            for (int tick = Math.min(TICKS, base + 4) - 1; tick >= base; tick--) {
+                session.addRemoteInput(tick, frames[1][tick]);
+            }
+            session.addRemoteInput(base, frames[1][base]);
+            for (int tick = base; tick < base + 4; tick++) {
+                assertTrue(session.advance(frames[0][tick]));
+            }
+        }
+        /* every input was in before its tick ran, so nothing was guessed */
+        assertEquals(0, session.getRollbacks());
+        assertTrue(session.isSettled());
+        assertEquals(replay(5L, frames), session.checksum());
+    }
+
+    @Test
+    @DisplayName("Under latency and jitter both sessions settle on the lockstep result")
+    void testHarnessInSync() {
+        RollbackHarness.Result result = new RollbackHarness(8L, 8, 60, 40).run(1200);
+        assertTrue(result.isInSync(), result.toString());
+        assertTrue(result.getRollbacks() > 0);
+        assertTrue(result.getMaxDepth() <= 8);
+        assertTrue(result.getGames() > 1, "rematches: " + result.getGames());
+        assertEquals(0.0, result.getStallShare());
+
+        /* past the limit the sessions wait, but still agree */
+        RollbackHarness.Result slow = new RollbackHarness(8L, 4, 120, 20).run(600);
+        assertTrue(slow.isInSync(), slow.toString());
+        assertTrue(slow.getStallShare() > 0);
+        assertTrue(slow.getMaxDepth() <= 4);
+    }
+
+    /* frames for both players, a press on one tick in four */
+    private static byte[][] randomFrames(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        byte[][] frames = new byte[2][TICKS];
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (int side = 0; side < 2; side++) {
+                if (random.nextInt(4) == 0) {
+                    frames[side][tick] = LockstepProtocol.add((byte) 0,
+                        LockstepProtocol.APPLY_ORDER[random.nextInt(LockstepProtocol.APPLY_ORDER.length)]);
+                }
+            }
+        }
+        return frames;
+    }
+
+    private static long replay(long seed, byte[][] frames) {
+        LockstepMatch match = new LockstepMatch(seed, true);
+        for (int tick = 0; tick < TICKS; tick++) {
+            match.step(frames[0][tick], frames[1][tick]);
+        }
+        return match.checksum();
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.tetris.pieces;
+
+import com.comp2042.tetris.controllers.TetrominoRotator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationTableTest {
+
+    @Test
+    @DisplayName("Every rotation has four cells matching its shape")
+    void testCellsMatchShape() {
+        for (TetrominoType type : TetrominoType.values()) {
+            RotationTable table = TetrominoFactory.createTetromino(type).getRotationTable();
+            for (int r = 0; r < table.size(); r++) {
+                RotationState state = table.get(r);
+                int[][] shape = state.getShape();
+                assertEquals(4, state.getCellCount(), type + " rotation " + r);
+                for (int cell = 0; cell < state.getCellCount(); cell++) {
+                    int row = state.getCellRows()[cell];
+                    int col = state.getCellCols()[cell];
+                    assertEquals(state.getColorId(), shape[row][col]);
+                    assertTrue(row >= state.getMinRow() && row <= state.getMaxRow());
+                    assertTrue(col >= state.getMinCol() && col <= state.getMaxCol());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Row masks have a bit for every occupied cell")
+    void testRowMasksMatchShape() {
+        for (TetrominoType type : TetrominoType.values()) {
+            RotationTable table = TetrominoFactory.createTetromino(type).getRotationTable();
+            for (int r = 0; r < table.size(); r++) {
+                RotationState state = table.get(r);
+                int[][] shape = state.getShape();
+                for (int row = 0; row < shape.length; row++) {
+                    for (int col = 0; col < shape[row].length; col++) {
+                        boolean bit = (state.getRowMasks()[row] & (1 << col)) != 0;
+                        assertEquals(shape[row][col] != 0, bit);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Pieces of the same type share one table")
+    void testTableIsShared() {
+        Tetromino first = TetrominoFactory.createTetromino(TetrominoType.T_PIECE);
+        Tetromino second = TetrominoFactory.createTetromino(TetrominoType.T_PIECE);
+        assertSame(first.getRotationTable(), second.getRotationTable());
+    }
+
+    @Test
+    @DisplayName("Rotator hands out the shared shape without copying")
+    void testRotatorDoesNotCopy() {
+        TetrominoRotator rotator = new TetrominoRotator();
+        rotator.setBrick(TetrominoFactory.createTetromino(TetrominoType.L_PIECE));
+        assertSame(rotator.getCurrentShape(), rotator.getCurrentShape());
+        assertSame(rotator.getTetromino().getRotationTable().get(0).getShape(), rotator.getCurrentShape());
+    }
+
+    @Test
+    @DisplayName("getShapeMatrix still returns independent copies")
+    void testShapeMatrixReturnsCopies() {
+        Tetromino piece = TetrominoFactory.createTetromino(TetrominoType.I_PIECE);
+        List<int[][]> copy = piece.getShapeMatrix();
+        copy.get(0)[1][0] = 99;
+        assertEquals(1, piece.getRotationTable().get(0).getShape()[1][0]);
+        assertEquals(piece.getRotationTable().size(), copy.size());
+    }
+
+    @Test
+    @DisplayName("next() wraps around to the first rotation")
+    void testNextWrapsAround() {
+        RotationTable table = TetrominoFactory.createTetromino(TetrominoType.J_PIECE).getRotationTable();
+        assertEquals(0, table.next(table.size() - 1).getIndex());
+        assertEquals(1, table.next(0).getIndex());
+    }
+}
@@ -0,0 +1,170 @@
+package com.comp2042.tetris.pieces;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the seeded piece generators.
+ */
+class TetrominoGeneratorTest {
+
+    @Test
+    @DisplayName("Same seed deals the same pieces for every generator type")
+    void testSameSeedSameSequence() {
+        for (GeneratorType type : GeneratorType.values()) {
+            QueuedTetrominoGenerator first = type.create(42L);
+            QueuedTetrominoGenerator second = type.create(42L);
+            for (int i = 0; i < 500; i++) {
+                assertEquals(first.drawType(), second.drawType(), type + " differs at piece " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Skipping draws resumes the sequence where it was counted")
+    void testSkipResumesSequence() {
+        for (GeneratorType type : GeneratorType.values()) {
+            QueuedTetrominoGenerator played = type.create(9L);
+            for (int i = 0; i < 123; i++) {
+                played.drawType();
+            }
+            QueuedTetrominoGenerator resumed = type.create(9L);
+            resumed.skip(played.getDrawCount());
+            assertEquals(123, resumed.getDrawCount());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(played.drawType(), resumed.drawType(), type + " differs after skip at " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Restoring an earlier draw count deals the same pieces again")
+    void testRestoreDrawCount() {
+        for (GeneratorType type : GeneratorType.values()) {
+            QueuedTetrominoGenerator generator = type.create(21L);
+            for (int i = 0; i < 40; i++) {
+                generator.drawType();
+            }
+            TetrominoType[] expected = new TetrominoType[100];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = generator.drawType();
+            }
+
+            generator.restoreDrawCount(40);
+            assertEquals(40, generator.getDrawCount());
+            assertEquals(expected[0], generator.peekType(0));
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], generator.drawType(), type + " differs after rewind at " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Different seeds deal different sequences")
+    void testDifferentSeeds() {
+        QueuedTetrominoGenerator first = GeneratorType.BAG_7.create(1L);
+        QueuedTetrominoGenerator second = GeneratorType.BAG_7.create(2L);
+        boolean differs = false;
+        for (int i = 0; i < 70 && !differs; i++) {
+            differs = first.drawType() != second.drawType();
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    @DisplayName("7-bag deals every piece once per seven")
+    void testSevenBag() {
+        assertBagsAreFair(GeneratorType.BAG_7.create(7L), 1);
+    }
+
+    @Test
+    @DisplayName("14-bag deals every piece twice per fourteen")
+    void testFourteenBag() {
+        assertBagsAreFair(GeneratorType.BAG_14.create(7L), 2);
+    }
+
+    @Test
+    @DisplayName("History generator never opens on S, Z or O")
+    void testHistoryFirstPiece() {
+        for (long seed = 0; seed < 200; seed++) {
+            TetrominoType first = GeneratorType.TGM.create(seed).drawType();
+            assertNotEquals(TetrominoType.S_PIECE, first);
+            assertNotEquals(TetrominoType.Z_PIECE, first);
+            assertNotEquals(TetrominoType.O_PIECE, first);
+        }
+    }
+
+    @Test
+    @DisplayName("History generator repeats far less often than pure random")
+    void testHistoryAvoidsRepeats() {
+        assertTrue(countRepeats(GeneratorType.TGM.create(3L)) * 4 < countRepeats(GeneratorType.RANDOM.create(3L)));
+    }
+
+    @Test
+    @DisplayName("Peek shows exactly the pieces that are drawn next")
+    void testPeekMatchesDraws() {
+        QueuedTetrominoGenerator generator = GeneratorType.BAG_7.create(11L);
+        for (int round = 0; round < 50; round++) {
+            TetrominoType[] preview = new TetrominoType[generator.getPreviewSize()];
+            for (int i = 0; i < preview.length; i++) {
+                preview[i] = generator.peekType(i);
+            }
+            assertSame(generator.getNextTetromino(), generator.peek(0));
+            for (TetrominoType expected : preview) {
+                assertEquals(expected, generator.drawType());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Peeking past the preview is rejected")
+    void testPeekOutOfRange() {
+        QueuedTetrominoGenerator generator = GeneratorType.RANDOM.create(1L, 3);
+        assertEquals(3, generator.getPreviewSize());
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peek(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peek(-1));
+    }
+
+    @Test
+    @DisplayName("Drawn pieces are shared instances of the right type")
+    void testSharedPieces() {
+        QueuedTetrominoGenerator generator = GeneratorType.RANDOM.create(5L);
+        for (int i = 0; i < 100; i++) {
+            TetrominoType expected = generator.peekType(0);
+            Tetromino piece = generator.getTetromino();
+            assertEquals(expected, piece.getType());
+            assertSame(TetrominoFactory.getShared(expected), piece);
+        }
+    }
+
+    private static void assertBagsAreFair(QueuedTetrominoGenerator generator, int copies) {
+        int bagSize = TetrominoType.values().length * copies;
+        for (int bag = 0; bag < 50; bag++) {
+            Map<TetrominoType, Integer> counts = new EnumMap<>(TetrominoType.class);
+            for (int i = 0; i < bagSize; i++) {
+                counts.merge(generator.drawType(), 1, Integer::sum);
+            }
+            for (TetrominoType type : TetrominoType.values()) {
+                assertEquals(copies, counts.getOrDefault(type, 0), "Bag " + bag + " count of " + type);
+            }
+        }
+    }
+
+    private static int countRepeats(QueuedTetrominoGenerator generator) {
+        int repeats = 0;
+        TetrominoType previous = generator.drawType();
+        for (int i = 0; i < 2000; i++) {
+            TetrominoType next = generator.drawType();
+            if (next == previous) {
+                repeats++;
+            }
+            previous = next;
+        }
+        return repeats;
+    }
+}
@@ -0,0 +1,265 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controllers.GameSession;
+import com.comp2042.tetris.core.BoardEngine;
+import com.comp2042.tetris.core.TetrisBoard;
+import com.comp2042.tetris.events.EventSource;
+import com.comp2042.tetris.events.EventType;
+import com.comp2042.tetris.events.MoveEvent;
+import com.comp2042.tetris.patterns.HardDifficulty;
+import com.comp2042.tetris.pieces.GeneratorType;
+import com.comp2042.tetris.pieces.QueuedTetrominoGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for recording a game and playing it back.
+ */
+class ReplayTest {
+
+    private static final EventType[] INPUTS = {
+        EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.DOWN, EventType.HOLD, EventType.HARD_DROP
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Records read back with the same ticks and events")
+    void testRoundTrip() throws IOException {
+        Path file = directory.resolve("round-trip.trpl");
+        ReplayHeader header = ReplayHeader.of(24, 10, GeneratorType.BAG_7, -5L, new HardDifficulty());
+        try (ReplayWriter writer = ReplayWriter.open(file, header)) {
+            writer.record(0, EventType.LEFT, EventSource.USER);
+            writer.record(3, EventType.DOWN, EventSource.THREAD);
+            writer.recordNewGame(3);
+            writer.record(1_000_000, EventType.HARD_DROP, EventSource.USER);
+        }
+
+        ReplayReader reader = ReplayReader.open(file);
+        assertEquals(GeneratorType.BAG_7, reader.getHeader().getGeneratorType());
+        assertEquals(-5L, reader.getHeader().getSeed());
+        assertEquals("Hard", reader.getHeader().getDifficultyName());
+        assertEquals(new HardDifficulty().getScoreMultiplier(), reader.getHeader().toDifficulty().getScoreMultiplier());
+
+        assertTrue(reader.next());
+        assertEquals(0, reader.getTick());
+        assertEquals(EventType.LEFT, reader.getEventType());
+        assertEquals(EventSource.USER, reader.getEventSource());
+
+        assertEquals(3, reader.peekTick());
+        assertTrue(reader.next());
+        assertEquals(EventType.DOWN, reader.getEventType());
+        assertEquals(EventSource.THREAD, reader.getEventSource());
+
+        assertTrue(reader.next());
+        assertTrue(reader.isNewGame());
+        assertEquals(3, reader.getTick());
+
+        assertTrue(reader.next());
+        assertFalse(reader.isNewGame());
+        assertEquals(1_000_000, reader.getTick());
+        assertEquals(EventType.HARD_DROP, reader.getEventType());
+
+        assertFalse(reader.next());
+        assertEquals(Long.MAX_VALUE, reader.peekTick());
+    }
+
+    @Test
+    @DisplayName("Playback reproduces the recorded game exactly")
+    void testPlaybackMatchesGame() throws IOException {
+        Path file = directory.resolve("game.trpl");
+        GameSession live = recordRandomGame(file, 20_000);
+
+        ReplayPlayer player = new ReplayPlayer(ReplayReader.open(file), BoardEngine.BITBOARD);
+        player.playToEnd();
+
+        TetrisBoard expected = (TetrisBoard) live.getBoard();
+        assertArrayEquals(expected.getBoardMatrix(), player.getBoard().getBoardMatrix());
+        assertEquals(expected.getScore().getValue(), player.getBoard().getScore().getValue());
+        assertEquals(expected.getLevelManager().getTotalLinesCleared(),
+            player.getBoard().getLevelManager().getTotalLinesCleared());
+        assertEquals(expected.getPiecePosition(), player.getBoard().getPiecePosition());
+        assertEquals(20_000, player.getEventCount());
+    }
+
+    @Test
+    @DisplayName("Long games stay small on disk")
+    void testCompactEncoding() throws IOException {
+        Path file = directory.resolve("long.trpl");
+        recordRandomGame(file, 50_000);
+
+        /* mostly one byte per event plus a short header */
+        assertTrue(Files.size(file) < 80_000, "Replay was " + Files.size(file) + " bytes");
+    }
+
+    @Test
+    @DisplayName("Playing until a tick stops on the last record at or before it")
+    void testPlayUntil() throws IOException {
+        Path file = directory.resolve("until.trpl");
+        try (ReplayWriter writer = ReplayWriter.open(file,
+                ReplayHeader.of(24, 10, GeneratorType.RANDOM, 1L, new HardDifficulty()))) {
+            for (int tick = 0; tick < 100; tick += 10) {
+                writer.record(tick, EventType.LEFT, EventSource.USER);
+            }
+        }
+
+        ReplayPlayer player = new ReplayPlayer(ReplayReader.open(file), BoardEngine.MATRIX);
+        player.playUntil(35);
+        assertEquals(30, player.getTick());
+        assertEquals(4, player.getEventCount());
+        player.playUntil(40);
+        assertEquals(40, player.getTick());
+        assertEquals(5, player.getEventCount());
+    }
+
+    @Test
+    @DisplayName("Keyframes are indexed and restore the recorded state")
+    void testKeyframesIndexed() throws IOException {
+        Path file = directory.resolve("keyframes.trpl");
+        recordRandomGame(file, 20_000, 10);
+
+        ReplayReader reader = ReplayReader.open(file);
+        assertTrue(reader.getKeyframeCount() > 10, "Only " + reader.getKeyframeCount() + " keyframes");
+        for (int i = 1; i < reader.getKeyframeCount(); i++) {
+            assertTrue(reader.getKeyframeTick(i) >= reader.getKeyframeTick(i - 1));
+        }
+
+        /* a full playback passes over the same keyframes without applying them */
+        ReplayPlayer player = new ReplayPlayer(ReplayReader.open(file), BoardEngine.MATRIX);
+        player.playToEnd();
+        assertEquals(20_000, player.getEventCount());
+
+        int last = reader.getKeyframeCount() - 1;
+        reader.seekKeyframe(last);
+        assertTrue(reader.isKeyframe());
+        assertEquals(reader.getKeyframeTick(last), reader.getTick());
+        Keyframe keyframe = reader.getKeyframe();
+
+        /* the keyframe matches the game right after the inputs before it */
+        ReplayPlayer upTo = new ReplayPlayer(ReplayReader.open(file), BoardEngine.MATRIX);
+        while (upTo.getEventCount() < reader.getKeyframeEventCount(last)) {
+            upTo.step();
+        }
+        assertEquals(upTo.getBoard().getScore().getValue(), keyframe.getScore());
+        assertEquals(upTo.getBoard().getLevelManager().getTotalLinesCleared(), keyframe.getLinesCleared());
+        assertEquals(upTo.getBoard().getTetrominoGenerator() instanceof QueuedTetrominoGenerator generator
+            ? generator.getDrawCount() : -1, keyframe.getDrawCount());
+    }
+
+    @Test
+    @DisplayName("Seeking lands on the same state as playing from the start")
+    void testSeekMatchesPlayback() throws IOException {
+        Path file = directory.resolve("seek.trpl");
+        recordRandomGame(file, 20_000, 10);
+
+        ReplayPlayer seeker = new ReplayPlayer(ReplayReader.open(file), BoardEngine.BITBOARD);
+        long[] targets = {25_000, 3, 14_000, 14_000, 29_000, 0, 7_777};
+        for (long target : targets) {
+            ReplayPlayer reference = new ReplayPlayer(ReplayReader.open(file), BoardEngine.MATRIX);
+            reference.playUntil(target);
+            seeker.seek(target);
+            assertSameState(reference, seeker);
+        }
+
+        /* carrying on from a seek stays in step too */
+        ReplayPlayer reference = new ReplayPlayer(ReplayReader.open(file), BoardEngine.MATRIX);
+        reference.playToEnd();
+        seeker.seek(12_345);
+        seeker.playToEnd();
+        assertSameState(reference, seeker);
+    }
+
+    @Test
+    @DisplayName("A replay cut off before its footer still plays")
+    void testMissingFooter() throws IOException {
+        Path file = directory.resolve("cut.trpl");
+        recordRandomGame(file, 5_000, 10);
+        ReplayReader complete = ReplayReader.open(file);
+        assertTrue(complete.getKeyframeCount() > 0);
+
+        /* drop the trailer, as if the game crashed before close */
+        byte[] bytes = Files.readAllBytes(file);
+        ReplayReader cut = new ReplayReader(ByteBuffer.wrap(bytes, 0, bytes.length - ReplayFormat.TRAILER_BYTES));
+        assertEquals(0, cut.getKeyframeCount());
+
+        ReplayPlayer player = new ReplayPlayer(new ReplayReader(ByteBuffer.wrap(bytes)), BoardEngine.MATRIX);
+        player.playToEnd();
+        assertEquals(5_000, player.getEventCount());
+    }
+
+    @Test
+    @DisplayName("Files that are not replays are rejected")
+    void testBadMagic() {
+        assertThrows(IOException.class, () -> new ReplayReader(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})));
+        assertThrows(IOException.class, () -> new ReplayReader(ByteBuffer.wrap(new byte[0])));
+    }
+
+    /* plays seeded random inputs through a recorder, one tick apart
+     * with gravity steps mixed in, starting over on game over
+     */
+    private static GameSession recordRandomGame(Path file, int events) throws IOException {
+        return recordRandomGame(file, events, RecordingInputListener.DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    private static GameSession recordRandomGame(Path file, int events, int keyframeInterval) throws IOException {
+        long seed = 77L;
+        HardDifficulty difficulty = new HardDifficulty();
+        GameSession session = new GameSession(
+            BoardEngine.MATRIX.create(24, 10, GeneratorType.BAG_7.create(seed)), difficulty);
+        long[] tick = {0};
+        Random random = new Random(3);
+
+        try (ReplayWriter writer = ReplayWriter.open(file,
+                ReplayHeader.of(24, 10, GeneratorType.BAG_7, seed, difficulty))) {
+            RecordingInputListener recorder = new RecordingInputListener(session, writer, () -> tick[0],
+                session, keyframeInterval);
+            int recorded = 0;
+            while (recorded < events) {
+                tick[0] += random.nextInt(4);
+                if (session.isGameOver()) {
+                    recorder.createNewGame();
+                } else if (random.nextInt(3) == 0) {
+                    recorder.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+                } else {
+                    MoveEvent event = new MoveEvent(INPUTS[random.nextInt(INPUTS.length)], EventSource.USER);
+                    switch (event.getEventType()) {
+                        case LEFT -> recorder.onLeftEvent(event);
+                        case RIGHT -> recorder.onRightEvent(event);
+                        case ROTATE -> recorder.onRotateEvent(event);
+                        case DOWN -> recorder.onDownEvent(event);
+                        case HOLD -> recorder.onHoldEvent(event);
+                        case HARD_DROP -> recorder.onHardDropEvent(event);
+                    }
+                }
+                recorded++;
+            }
+        }
+        return session;
+    }
+
+    private static void assertSameState(ReplayPlayer expected, ReplayPlayer actual) {
+        assertEquals(expected.getTick(), actual.getTick());
+        assertEquals(expected.getEventCount(), actual.getEventCount());
+        assertArrayEquals(expected.getBoard().getBoardMatrix(), actual.getBoard().getBoardMatrix());
+        assertEquals(expected.getBoard().getScore().getValue(), actual.getBoard().getScore().getValue());
+        assertEquals(expected.getBoard().getLevelManager().getTotalLinesCleared(),
+            actual.getBoard().getLevelManager().getTotalLinesCleared());
+        assertEquals(expected.getBoard().getPiecePosition(), actual.getBoard().getPiecePosition());
+        assertEquals(expected.getBoard().getTetrominoRotator().getCurrentRotationIndex(),
+            actual.getBoard().getTetrominoRotator().getCurrentRotationIndex());
+        assertEquals(expected.getBoard().getHeldPiece().map(p -> p.getType()),
+            actual.getBoard().getHeldPiece().map(p -> p.getType()));
+        assertEquals(expected.getBoard().getNextTetromino().getType(), actual.getBoard().getNextTetromino().getType());
+        assertEquals(expected.getSession().isGameOver(), actual.getSession().isGameOver());
+    }
+}
@@ -0,0 +1,36 @@
+package com.comp2042.tetris.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RendererTypeTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(RendererType.PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Grid renderer is the default")
+    void testDefaultsToGrid() {
+        System.clearProperty(RendererType.PROPERTY);
+        assertEquals(RendererType.GRID, RendererType.fromSystemProperty());
+    }
+
+    @Test
+    @DisplayName("System property selects the canvas renderer, ignoring case")
+    void testPropertySelectsCanvas() {
+        System.setProperty(RendererType.PROPERTY, " Canvas ");
+        assertEquals(RendererType.CANVAS, RendererType.fromSystemProperty());
+    }
+
+    @Test
+    @DisplayName("Unknown renderer names fall back to the grid")
+    void testUnknownFallsBackToGrid() {
+        System.setProperty(RendererType.PROPERTY, "vulkan");
+        assertEquals(RendererType.GRID, RendererType.fromSystemProperty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.tetris.utils;
+
+import com.comp2042.tetris.models.ClearRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixOperationsTest {
+
+    private int[][] board;
+    private int[] cleared;
+
+    @BeforeEach
+    void setUp() {
+        /* board is [row][col] - 6 rows, 4 columns keeps the tests readable */
+        board = new int[6][4];
+        cleared = new int[6];
+    }
+
+    @Test
+    @DisplayName("In-place clear matches checkRemoving")
+    void testClearFullRowsMatchesCheckRemoving() {
+        board[1] = new int[]{0, 2, 0, 0};
+        board[2] = new int[]{1, 1, 1, 1};
+        board[3] = new int[]{3, 0, 3, 0};
+        board[5] = new int[]{4, 4, 4, 4};
+        int[][] expected = MatrixOperations.checkRemoving(board).getNewMatrix();
+
+        int count = MatrixOperations.clearFullRows(board, 0, 5, cleared);
+
+        assertEquals(2, count);
+        assertEquals(2, cleared[0]);
+        assertEquals(5, cleared[1]);
+        assertArrayEquals(expected, board);
+    }
+
+    @Test
+    @DisplayName("Only the requested row range is checked")
+    void testClearFullRowsRespectsRange() {
+        board[0] = new int[]{1, 1, 1, 1};
+        board[4] = new int[]{1, 1, 1, 1};
+
+        int count = MatrixOperations.clearFullRows(board, 3, 5, cleared);
+
+        assertEquals(1, count);
+        assertEquals(4, cleared[0]);
+        /* the full row outside the range shifted down untouched */
+        assertArrayEquals(new int[]{1, 1, 1, 1}, board[1]);
+    }
+
+    @Test
+    @DisplayName("Clearing reuses the existing row arrays")
+    void testClearFullRowsAllocatesNoRows() {
+        board[5] = new int[]{1, 1, 1, 1};
+        Set<int[]> before = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(before, board);
+
+        MatrixOperations.clearFullRows(board, 0, 5, cleared);
+
+        Set<int[]> after = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(after, board);
+        assertEquals(before, after);
+        assertArrayEquals(new int[4], board[0]);
+    }
+
+    @Test
+    @DisplayName("No full rows leaves the board alone")
+    void testClearFullRowsNothingToClear() {
+        board[5] = new int[]{1, 0, 1, 1};
+        int[] bottom = board[5];
+
+        assertEquals(0, MatrixOperations.clearFullRows(board, 0, 5, cleared));
+        assertSame(bottom, board[5]);
+    }
+
+    @Test
+    @DisplayName("Inserted rows push the stack up and reuse the rows pushed off")
+    void testInsertRowsAtBottom() {
+        board[0] = new int[]{5, 0, 0, 0};
+        board[4] = new int[]{0, 2, 0, 0};
+        board[5] = new int[]{1, 1, 0, 1};
+        int[] middle = board[4];
+        Set<int[]> before = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(before, board);
+
+        MatrixOperations.insertRowsAtBottom(board, 2, 3, 8);
+
+        Set<int[]> after = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(after, board);
+        assertEquals(before, after);
+        assertSame(middle, board[2]);
+        assertArrayEquals(new int[]{1, 1, 0, 1}, board[3]);
+        assertArrayEquals(new int[]{8, 8, 8, 0}, board[4]);
+        assertArrayEquals(new int[]{8, 8, 8, 0}, board[5]);
+        assertArrayEquals(new int[4], board[0]);
+    }
+
+    @Test
+    @DisplayName("mergeInPlace writes cells and skips out-of-bounds ones")
+    void testMergeInPlace() {
+        int[][] brick = {{0, 7}, {7, 7}};
+
+        MatrixOperations.mergeInPlace(board, brick, 3, 4);
+
+        assertEquals(7, board[5][3]);
+        assertEquals(0, board[4][3]);
+    }
+
+    @Test
+    @DisplayName("Shared clear results carry the usual score bonus")
+    void testSharedClearResults() {
+        assertSame(ClearRow.forLines(2), ClearRow.forLines(2));
+        assertEquals(800, ClearRow.forLines(4).getScoreBonus());
+        assertNull(ClearRow.forLines(1).getNewMatrix());
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.tetris.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the lock-free newest-value hand-off.
+ */
+class TripleBufferTest {
+
+    @Test
+    @DisplayName("The reader gets the newest published value and nothing twice")
+    void testNewestValue() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        assertFalse(buffer.update());
+
+        for (long value = 1; value <= 3; value++) {
+            buffer.back()[0] = value;
+            buffer.publish();
+        }
+        assertTrue(buffer.update());
+        assertEquals(3, buffer.front()[0]);
+        assertFalse(buffer.update());
+        assertEquals(3, buffer.front()[0]);
+
+        /* the writer never gets the buffer the reader holds */
+        buffer.back()[0] = 4;
+        assertNotSame(buffer.front(), buffer.back());
+        buffer.publish();
+        assertNotSame(buffer.front(), buffer.back());
+        assertTrue(buffer.update());
+        assertEquals(4, buffer.front()[0]);
+    }
+
+    @Test
+    @DisplayName("Across threads the reader never sees a half-written or older value")
+    void testConcurrentHandOff() throws InterruptedException {
+        /* every slot of a buffer holds the same number, so a torn read shows up */
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[16]);
+        long last = 200_000;
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (long value = 1; value <= last; value++) {
+                long[] values = buffer.back();
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = value;
+                }
+                buffer.publish();
+            }
+            done.set(true);
+        });
+        writer.start();
+
+        long seen = 0;
+        while (seen < last) {
+            boolean finished = done.get();
+            if (buffer.update()) {
+                long[] values = buffer.front();
+                for (long value : values) {
+                    assertEquals(values[0], value);
+                }
+                assertTrue(values[0] > seen, values[0] + " after " + seen);
+                seen = values[0];
+            } else if (finished) {
+                break;
+            }
+        }
+        writer.join();
+        assertEquals(last, seen);
+    }
+}